@@ -0,0 +1,106 @@
+#!/usr/bin/env bash
+# Đo thời gian tới request đầu tiên (time-to-first-request) và RSS của secretary ở từng chế độ chạy.
+#
+#   ./mvnw -Paot package -DskipTests               # jar có mã AOT (dùng cho jvm, aot, cds, aot-cds)
+#   ./mvnw -Pnative native:compile -DskipTests     # tùy chọn: target/secretary (GraalVM)
+#   scripts/startup-benchmark.sh [jvm] [aot] [cds] [aot-cds] [native]
+#
+# Biến môi trường:
+#   RUNS=3                    số lần chạy mỗi chế độ (báo cáo trung vị)
+#   URL=http://localhost:50080/actuator/health   request đầu tiên cần thành công
+#   APP_ARGS="..."            tham số thêm cho ứng dụng (datasource, profile, ...)
+#   TIMEOUT=120               số giây chờ tối đa mỗi lần chạy
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+RUNS=${RUNS:-3}
+URL=${URL:-http://localhost:50080/actuator/health}
+APP_ARGS=${APP_ARGS:-}
+TIMEOUT=${TIMEOUT:-120}
+JAR=$(ls target/secretary-*.jar 2>/dev/null | grep -v original | head -1 || true)
+CDS_DIR=target/cds
+MODES=("$@")
+[ ${#MODES[@]} -eq 0 ] && MODES=(jvm aot cds aot-cds native)
+
+now_ms() { date +%s%3N; }
+
+# Extract the jar once and record a CDS archive from a training run that stops after refresh
+prepare_cds() {
+    local archive=$1; shift
+    [ -f "$CDS_DIR/$archive" ] && return
+    if [ ! -d "$CDS_DIR" ]; then
+        java -Djarmode=tools -jar "$JAR" extract --destination "$CDS_DIR" >/dev/null
+    fi
+    java -XX:ArchiveClassesAtExit="$CDS_DIR/$archive" -Dspring.context.exit=onRefresh "$@" \
+        -jar "$CDS_DIR/$(basename "$JAR")" $APP_ARGS >/dev/null 2>&1 || true
+}
+
+command_for() {
+    case $1 in
+        jvm) echo "java -jar $JAR" ;;
+        aot) echo "java -Dspring.aot.enabled=true -jar $JAR" ;;
+        cds)
+            prepare_cds app.jsa
+            echo "java -XX:SharedArchiveFile=$CDS_DIR/app.jsa -jar $CDS_DIR/$(basename "$JAR")" ;;
+        aot-cds)
+            prepare_cds app-aot.jsa -Dspring.aot.enabled=true
+            echo "java -XX:SharedArchiveFile=$CDS_DIR/app-aot.jsa -Dspring.aot.enabled=true -jar $CDS_DIR/$(basename "$JAR")" ;;
+        native) echo "target/secretary" ;;
+        *) echo "" ;;
+    esac
+}
+
+# Prints "<ms> <rss-kb>" or "fail"
+run_once() {
+    local start pid elapsed rss
+    start=$(now_ms)
+    # shellcheck disable=SC2086
+    $1 $APP_ARGS >/tmp/secretary-benchmark.log 2>&1 &
+    pid=$!
+    while ! curl -sf -o /dev/null "$URL"; do
+        if ! kill -0 "$pid" 2>/dev/null || [ $(( $(now_ms) - start )) -gt $((TIMEOUT * 1000)) ]; then
+            kill "$pid" 2>/dev/null || true
+            echo fail
+            return
+        fi
+        sleep 0.05
+    done
+    elapsed=$(( $(now_ms) - start ))
+    rss=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    echo "$elapsed $rss"
+}
+
+median() { sort -n | awk '{a[NR]=$1} END {print (NR % 2) ? a[(NR+1)/2] : int((a[NR/2] + a[NR/2+1]) / 2)}'; }
+
+printf "%-10s %12s %10s\n" "mode" "first-req-ms" "rss-mb"
+for mode in "${MODES[@]}"; do
+    if [ "$mode" = native ] && [ ! -x target/secretary ]; then
+        printf "%-10s %12s %10s\n" "$mode" "-" "(chưa build)"
+        continue
+    fi
+    if [ "$mode" != native ] && [ -z "$JAR" ]; then
+        echo "Không tìm thấy jar trong target/, hãy chạy ./mvnw -Paot package" >&2
+        exit 1
+    fi
+    cmd=$(command_for "$mode")
+    if [ -z "$cmd" ]; then
+        echo "Chế độ không hợp lệ: $mode" >&2
+        exit 1
+    fi
+    times=()
+    rss=()
+    for _ in $(seq "$RUNS"); do
+        result=$(run_once "$cmd")
+        if [ "$result" = fail ]; then
+            echo "$mode: ứng dụng không khởi động được, xem /tmp/secretary-benchmark.log" >&2
+            continue 2
+        fi
+        times+=("${result% *}")
+        rss+=("${result#* }")
+    done
+    printf "%-10s %12s %10s\n" "$mode" \
+        "$(printf '%s\n' "${times[@]}" | median)" \
+        "$(( $(printf '%s\n' "${rss[@]}" | median) / 1024 ))"
+done
@@ -0,0 +1,136 @@
+package com.meeting.secretary.admission;
+
+import com.meeting.secretary.config.ClientKeys;
+import com.meeting.secretary.dto.ApiResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control in front of the controllers, so expensive requests cannot exhaust the
+ * JDBC pool and starve cheap lookups. Every request is classified ({@link EndpointClass});
+ * a client over its rate gets 429, a saturated class gets 503, both with Retry-After.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "admission.enabled", matchIfMissing = true)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private final ObjectMapper objectMapper;
+    private final Map<EndpointClass, AdmissionGate> gates = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> rateLimited = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> shed = new EnumMap<>(EndpointClass.class);
+    private final ScheduledExecutorService bucketCleaner;
+
+    public AdmissionControlFilter(ObjectMapper objectMapper, MeterRegistry registry, Environment environment) {
+        this.objectMapper = objectMapper;
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            String prefix = "admission." + endpointClass.name().toLowerCase() + ".";
+            AdmissionGate gate = new AdmissionGate(endpointClass,
+                    environment.getProperty(prefix + "max-concurrent", Integer.class, 8),
+                    environment.getProperty(prefix + "queue-size", Integer.class, 20),
+                    environment.getProperty(prefix + "max-wait-ms", Long.class, 1000L),
+                    environment.getProperty(prefix + "rate-per-second", Double.class, 20d),
+                    environment.getProperty(prefix + "burst", Double.class, 40d),
+                    environment.getProperty("admission.max-clients", Integer.class, 10_000));
+            gates.put(endpointClass, gate);
+
+            String tag = endpointClass.name();
+            rateLimited.put(endpointClass, Counter.builder("admission.rejected")
+                    .description("Requests rejected by admission control")
+                    .tags("class", tag, "reason", "rate_limited").register(registry));
+            shed.put(endpointClass, Counter.builder("admission.rejected")
+                    .description("Requests rejected by admission control")
+                    .tags("class", tag, "reason", "overloaded").register(registry));
+            Gauge.builder("admission.in_flight", gate, AdmissionGate::getInFlight)
+                    .description("Requests currently admitted").tags("class", tag).register(registry);
+            Gauge.builder("admission.waiting", gate, AdmissionGate::getWaiting)
+                    .description("Requests queued for admission").tags("class", tag).register(registry);
+        }
+        this.bucketCleaner = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("admission-cleaner").daemon().factory());
+        bucketCleaner.scheduleWithFixedDelay(() -> gates.values().forEach(AdmissionGate::purgeIdleBuckets),
+                1, 1, TimeUnit.MINUTES);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        EndpointClass endpointClass = EndpointClass.classify(request.getMethod(), request.getRequestURI());
+        if (endpointClass == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        AdmissionGate gate = gates.get(endpointClass);
+
+        long waitNanos = gate.checkRate(ClientKeys.verified(request));
+        if (waitNanos > 0) {
+            rateLimited.get(endpointClass).increment();
+            reject(request, response, HttpStatus.TOO_MANY_REQUESTS, Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L)),
+                    "Bạn gửi quá nhiều yêu cầu, vui lòng thử lại sau");
+            return;
+        }
+
+        boolean admitted;
+        try {
+            admitted = gate.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            shed.get(endpointClass).increment();
+            reject(request, response, HttpStatus.SERVICE_UNAVAILABLE, gate.getRetryAfterSeconds(),
+                    "Hệ thống đang bận, vui lòng thử lại sau");
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            gate.release();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        bucketCleaner.shutdownNow();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                        long retryAfterSeconds, String message) throws IOException {
+        response.setStatus(status.value());
+        if (request.getHeader(HttpHeaders.ORIGIN) != null) {
+            // Rejected before the controllers' @CrossOrigin applies; browsers still need to read Retry-After
+            response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, "*");
+            response.setHeader(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, HttpHeaders.RETRY_AFTER);
+        }
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(message));
+    }
+}
@@ -0,0 +1,115 @@
+package com.meeting.secretary.admission;
+
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admission for one endpoint class: a per-client rate limit, then a concurrency limit
+ * with a short bounded queue. Requests beyond the queue are rejected instead of waiting.
+ * At most maxClients buckets are kept; the least recently seen client is dropped first.
+ */
+class AdmissionGate {
+
+    @Getter
+    private final EndpointClass endpointClass;
+    private final int maxConcurrent;
+    private final int queueSize;
+    private final long maxWaitNanos;
+    private final double burst;
+    private final double ratePerSecond;
+
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    // Guarded by itself; access order makes the eldest entry the least recently seen client
+    private final LinkedHashMap<String, TokenBucket> buckets;
+
+    AdmissionGate(EndpointClass endpointClass, int maxConcurrent, int queueSize, long maxWaitMillis,
+                  double ratePerSecond, double burst, int maxClients) {
+        this.endpointClass = endpointClass;
+        this.maxConcurrent = maxConcurrent;
+        this.queueSize = queueSize;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.ratePerSecond = ratePerSecond;
+        this.burst = burst;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+                return size() > maxClients;
+            }
+        };
+    }
+
+    /**
+     * Per-client rate limit; returns 0 when admitted, otherwise nanoseconds until the client may retry
+     */
+    long checkRate(String clientKey) {
+        if (ratePerSecond <= 0) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        TokenBucket bucket;
+        synchronized (buckets) {
+            bucket = buckets.computeIfAbsent(clientKey, key -> new TokenBucket(burst, ratePerSecond, now));
+        }
+        return bucket.tryTake(now);
+    }
+
+    /**
+     * Wait for a concurrency permit; false when the queue is full or the wait timed out
+     */
+    boolean acquire() throws InterruptedException {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        if (waiting.incrementAndGet() > queueSize) {
+            waiting.decrementAndGet();
+            return false;
+        }
+        try {
+            return permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    void release() {
+        permits.release();
+    }
+
+    int getInFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    int getWaiting() {
+        return waiting.get();
+    }
+
+    /**
+     * Seconds a rejected client should wait before retrying when the gate is saturated
+     */
+    long getRetryAfterSeconds() {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(maxWaitNanos));
+    }
+
+    /**
+     * Drop buckets of clients that have been quiet long enough to be full again
+     */
+    void purgeIdleBuckets() {
+        long now = System.nanoTime();
+        synchronized (buckets) {
+            buckets.values().removeIf(bucket -> bucket.isIdle(now));
+        }
+    }
+
+    int getTrackedClients() {
+        synchronized (buckets) {
+            return buckets.size();
+        }
+    }
+}
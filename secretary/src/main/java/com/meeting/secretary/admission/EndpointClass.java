@@ -0,0 +1,63 @@
+package com.meeting.secretary.admission;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+
+/**
+ * Cost classes of API endpoints, each admitted through its own gate
+ */
+public enum EndpointClass {
+    /** Single-row reads, cached feeds and bounded change batches */
+    LOOKUP,
+    /** Unbounded list queries */
+    LIST,
+    /** Aggregations and analytics over many rows */
+    STATISTICS,
+    /** Anything that changes data */
+    WRITE;
+
+    private static final PathPatternParser PARSER = PathPatternParser.defaultInstance;
+
+    // Long-lived or real-time paths that must never be queued or shed
+    private static final List<PathPattern> EXCLUDED = List.of(
+            PARSER.parse("/api/meetings/{id}/transcript/**"),
+            PARSER.parse("/api/audio-relay/**"));
+
+    private static final List<PathPattern> LOOKUPS = List.of(
+            PARSER.parse("/api/{resource}/{id:\\d+}"),
+            PARSER.parse("/api/jobs/{id}/**"),
+            PARSER.parse("/api/meetings/{id}/minutes/{format}"),
+            PARSER.parse("/api/calendars/**"),
+            PARSER.parse("/api/changes"));
+
+    /**
+     * Classify a request, or return null when it is not subject to admission control
+     */
+    public static EndpointClass classify(String method, String path) {
+        if (!path.startsWith("/api/") || HttpMethod.OPTIONS.matches(method)) {
+            return null;
+        }
+        PathContainer container = PathContainer.parsePath(path);
+        for (PathPattern pattern : EXCLUDED) {
+            if (pattern.matches(container)) {
+                return null;
+            }
+        }
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+            return WRITE;
+        }
+        if (path.contains("/statistics") || path.startsWith("/api/analytics/")) {
+            return STATISTICS;
+        }
+        for (PathPattern pattern : LOOKUPS) {
+            if (pattern.matches(container)) {
+                return LOOKUP;
+            }
+        }
+        return LIST;
+    }
+}
@@ -0,0 +1,224 @@
+package com.meeting.secretary.allocation;
+
+import com.meeting.secretary.dto.AllocationOutcome;
+import com.meeting.secretary.dto.RoomAllocationRequestDTO;
+import com.meeting.secretary.dto.RoomAllocationResultDTO;
+import com.meeting.secretary.dto.RoomAssignmentDTO;
+import com.meeting.secretary.entity.Room;
+import com.meeting.secretary.repository.MeetingRepository;
+import com.meeting.secretary.repository.RoomRepository;
+import com.meeting.secretary.service.DirectorySyncService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Proposes rooms for a batch of meeting requests, e.g. the meetings of a new term.
+ * Rooms and the bookings in the covered range are loaded in one go; requests are then split into
+ * groups that overlap in time and the groups of each day are allocated in parallel by {@link RoomAllocator}.
+ * Nothing is booked: the result is a plan to create the meetings from.
+ */
+@Service
+public class RoomAllocationService {
+
+    private static final long MAX_DAYS = 400;
+    private static final Comparator<Object[]> BY_START = Comparator.comparing(row -> (LocalDateTime) row[1]);
+
+    private final MeetingRepository meetingRepository;
+    private final RoomRepository roomRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int maxRequests;
+    private final ForkJoinPool pool;
+
+    public RoomAllocationService(MeetingRepository meetingRepository,
+                                 RoomRepository roomRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${rooms.allocation.max-requests:2000}") int maxRequests,
+                                 @Value("${rooms.allocation.parallelism:0}") int parallelism) {
+        this.meetingRepository = meetingRepository;
+        this.roomRepository = roomRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxRequests = maxRequests;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * A conflict-free room for as many requests as possible
+     */
+    public RoomAllocationResultDTO allocate(List<RoomAllocationRequestDTO> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("Danh sách yêu cầu không được để trống");
+        }
+        if (requests.size() > maxRequests) {
+            throw new IllegalArgumentException("Tối đa " + maxRequests + " yêu cầu mỗi lần");
+        }
+        RoomAssignmentDTO[] items = new RoomAssignmentDTO[requests.size()];
+        List<RoomAllocator.Request> valid = new ArrayList<>();
+        LocalDateTime from = null;
+        LocalDateTime to = null;
+        for (int i = 0; i < requests.size(); i++) {
+            RoomAllocationRequestDTO request = requests.get(i);
+            String error = validate(request);
+            if (error != null) {
+                items[i] = item(i, request).outcome(AllocationOutcome.INVALID).message(error).build();
+                continue;
+            }
+            valid.add(new RoomAllocator.Request(i, epoch(request.getStartTime()), epoch(request.getEndTime()),
+                    seats(request), blankToNull(request.getLocation())));
+            from = from == null || request.getStartTime().isBefore(from) ? request.getStartTime() : from;
+            to = to == null || request.getEndTime().isAfter(to) ? request.getEndTime() : to;
+        }
+
+        if (!valid.isEmpty()) {
+            if (ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+                throw new IllegalArgumentException("Khoảng thời gian tối đa là " + MAX_DAYS + " ngày");
+            }
+            LocalDateTime start = from;
+            LocalDateTime end = to;
+            RoomAllocator allocator = new RoomAllocator(readOnlyTransaction.execute(tx -> load(start, end)));
+            for (RoomAllocator.Placement placement : allocateByDay(allocator, valid)) {
+                int index = placement.request().index();
+                items[index] = toItem(allocator, placement, requests.get(index));
+            }
+        }
+
+        List<RoomAssignmentDTO> result = List.of(items);
+        int assigned = (int) result.stream().filter(item -> item.getOutcome() == AllocationOutcome.ASSIGNED).count();
+        return RoomAllocationResultDTO.builder()
+                .requested(requests.size())
+                .assigned(assigned)
+                .unplaced(requests.size() - assigned)
+                .items(result)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    // Overlap groups never share a time, so they are independent; each day's groups form one task
+    private List<RoomAllocator.Placement> allocateByDay(RoomAllocator allocator, List<RoomAllocator.Request> requests) {
+        Map<LocalDate, List<List<RoomAllocator.Request>>> byDay = new TreeMap<>();
+        for (List<RoomAllocator.Request> component : RoomAllocator.components(requests)) {
+            LocalDate day = LocalDateTime.ofEpochSecond(component.get(0).start(), 0, ZoneOffset.UTC).toLocalDate();
+            byDay.computeIfAbsent(day, d -> new ArrayList<>()).add(component);
+        }
+        List<Callable<List<RoomAllocator.Placement>>> tasks = new ArrayList<>();
+        for (List<List<RoomAllocator.Request>> components : byDay.values()) {
+            tasks.add(() -> {
+                List<RoomAllocator.Placement> placements = new ArrayList<>();
+                components.forEach(component -> placements.addAll(allocator.allocate(component)));
+                return placements;
+            });
+        }
+        List<RoomAllocator.Placement> placements = new ArrayList<>(requests.size());
+        try {
+            for (Future<List<RoomAllocator.Placement>> day : pool.invokeAll(tasks)) {
+                placements.addAll(day.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Room allocation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Room allocation failed", e.getCause());
+        }
+        return placements;
+    }
+
+    private List<RoomAllocator.RoomSlots> load(LocalDateTime start, LocalDateTime end) {
+        // Meetings name their room in free text, matched to rooms the way room names are unique
+        Map<String, String> keys = new HashMap<>();
+        Map<String, List<Object[]>> bookings = new HashMap<>();
+        for (Object[] row : meetingRepository.findIntervalsOverlapping(start, end)) {
+            String key = keys.computeIfAbsent((String) row[0], DirectorySyncService::key);
+            bookings.computeIfAbsent(key, k -> new ArrayList<>()).add(row);
+        }
+        List<RoomAllocator.RoomSlots> rooms = new ArrayList<>();
+        for (Room room : roomRepository.findAll()) {
+            List<Object[]> rows = bookings.getOrDefault(DirectorySyncService.key(room.getName()), new ArrayList<>());
+            // Rows come ordered by room, then start; spellings of one room are merged back into start order
+            rows.sort(BY_START);
+            long[] starts = new long[rows.size()];
+            long[] ends = new long[rows.size()];
+            for (int i = 0; i < rows.size(); i++) {
+                starts[i] = epoch((LocalDateTime) rows.get(i)[1]);
+                ends[i] = epoch((LocalDateTime) rows.get(i)[2]);
+            }
+            rooms.add(new RoomAllocator.RoomSlots(room.getName(), room.getCapacity(), room.getLocation(), starts, ends));
+        }
+        return rooms;
+    }
+
+    private static RoomAssignmentDTO toItem(RoomAllocator allocator, RoomAllocator.Placement placement,
+                                            RoomAllocationRequestDTO request) {
+        RoomAssignmentDTO.RoomAssignmentDTOBuilder item = item(placement.request().index(), request);
+        if (placement.room() < 0) {
+            return allocator.fitsAnywhere(placement.request())
+                    ? item.outcome(AllocationOutcome.NO_FREE_ROOM)
+                            .message("Không còn phòng đủ chỗ trống trong khoảng thời gian này").build()
+                    : item.outcome(AllocationOutcome.NO_ROOM_LARGE_ENOUGH)
+                            .message("Không có phòng họp đủ " + placement.request().seats() + " chỗ").build();
+        }
+        RoomAllocator.RoomSlots room = allocator.room(placement.room());
+        String preferred = placement.request().location();
+        return item.outcome(AllocationOutcome.ASSIGNED)
+                .room(room.name())
+                .location(room.location())
+                .preferredLocation(preferred == null ? null : preferred.equalsIgnoreCase(room.location()))
+                .build();
+    }
+
+    private static RoomAssignmentDTO.RoomAssignmentDTOBuilder item(int index, RoomAllocationRequestDTO request) {
+        return RoomAssignmentDTO.builder()
+                .index(index)
+                .ref(request == null ? null : request.getRef())
+                .startTime(request == null ? null : request.getStartTime())
+                .endTime(request == null ? null : request.getEndTime());
+    }
+
+    private static String validate(RoomAllocationRequestDTO request) {
+        if (request == null || request.getStartTime() == null || request.getEndTime() == null) {
+            return "Thời gian bắt đầu và kết thúc không được để trống";
+        }
+        if (!request.getEndTime().isAfter(request.getStartTime())) {
+            return "Thời gian kết thúc phải sau thời gian bắt đầu";
+        }
+        if ((request.getAttendees() != null && request.getAttendees() < 0)
+                || (request.getCapacity() != null && request.getCapacity() < 0)) {
+            return "Số người tham dự và sức chứa không được âm";
+        }
+        return null;
+    }
+
+    private static int seats(RoomAllocationRequestDTO request) {
+        int attendees = request.getAttendees() == null ? 0 : request.getAttendees();
+        return request.getCapacity() == null ? attendees : Math.max(attendees, request.getCapacity());
+    }
+
+    private static long epoch(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.strip();
+    }
+}
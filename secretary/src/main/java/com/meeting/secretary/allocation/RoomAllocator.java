@@ -0,0 +1,222 @@
+package com.meeting.secretary.allocation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Places meeting requests into rooms without overlapping each other or existing bookings.
+ * Requests are taken in start order and given the smallest free room that is large enough,
+ * preferring the requested location (greedy interval coloring with capacities). A request left
+ * over is then repaired by moving the single request blocking it in some room to another free room.
+ * Requests only interact when their times overlap, so each overlap component is allocated on its
+ * own; an instance is immutable and components can be allocated concurrently.
+ */
+final class RoomAllocator {
+
+    /**
+     * One request, with times in epoch seconds and the seats it needs
+     */
+    record Request(int index, long start, long end, int seats, String location) {
+    }
+
+    /**
+     * A room and its existing bookings ordered by start, in epoch seconds; null capacity = unknown
+     */
+    record RoomSlots(String name, Integer capacity, String location, long[] starts, long[] ends) {
+    }
+
+    /**
+     * Index of the room a request got, or -1
+     */
+    record Placement(Request request, int room) {
+    }
+
+    private static final Comparator<Request> ORDER = Comparator.comparingLong(Request::start)
+            .thenComparing(Comparator.comparingInt(Request::seats).reversed())
+            .thenComparingInt(Request::index);
+
+    // Smallest rooms first, so best fit is the first free room
+    private final List<RoomSlots> rooms;
+    // Latest end among the first i + 1 bookings of each room
+    private final long[][] endsSoFar;
+
+    RoomAllocator(List<RoomSlots> rooms) {
+        this.rooms = rooms.stream()
+                .sorted(Comparator.comparing((RoomSlots room) -> room.capacity() == null ? 0 : room.capacity())
+                        .thenComparing(RoomSlots::name))
+                .toList();
+        this.endsSoFar = new long[this.rooms.size()][];
+        for (int i = 0; i < this.rooms.size(); i++) {
+            long[] ends = this.rooms.get(i).ends();
+            long[] max = new long[ends.length];
+            for (int j = 0; j < ends.length; j++) {
+                max[j] = j == 0 ? ends[j] : Math.max(max[j - 1], ends[j]);
+            }
+            endsSoFar[i] = max;
+        }
+    }
+
+    RoomSlots room(int index) {
+        return rooms.get(index);
+    }
+
+    /**
+     * Whether any room is large enough for the request
+     */
+    boolean fitsAnywhere(Request request) {
+        for (int i = 0; i < rooms.size(); i++) {
+            if (fits(i, request)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Groups of requests whose times chain into each other, in start order
+     */
+    static List<List<Request>> components(List<Request> requests) {
+        List<Request> sorted = new ArrayList<>(requests);
+        sorted.sort(ORDER);
+        List<List<Request>> components = new ArrayList<>();
+        List<Request> current = new ArrayList<>();
+        long end = Long.MIN_VALUE;
+        for (Request request : sorted) {
+            if (!current.isEmpty() && request.start() >= end) {
+                components.add(current);
+                current = new ArrayList<>();
+            }
+            current.add(request);
+            end = Math.max(end, request.end());
+        }
+        if (!current.isEmpty()) {
+            components.add(current);
+        }
+        return components;
+    }
+
+    /**
+     * Room of every request of one component (see {@link #components})
+     */
+    List<Placement> allocate(List<Request> component) {
+        List<List<Request>> assigned = new ArrayList<>(rooms.size());
+        for (int i = 0; i < rooms.size(); i++) {
+            assigned.add(new ArrayList<>());
+        }
+        List<Request> left = new ArrayList<>();
+        for (Request request : component) {
+            int room = bestFree(request, assigned, -1);
+            if (room < 0) {
+                left.add(request);
+            } else {
+                assigned.get(room).add(request);
+            }
+        }
+        for (Request request : left) {
+            repair(request, assigned);
+        }
+
+        List<Placement> placements = new ArrayList<>(component.size());
+        Set<Request> placed = new HashSet<>();
+        for (int i = 0; i < rooms.size(); i++) {
+            for (Request request : assigned.get(i)) {
+                placements.add(new Placement(request, i));
+                placed.add(request);
+            }
+        }
+        for (Request request : left) {
+            if (!placed.contains(request)) {
+                placements.add(new Placement(request, -1));
+            }
+        }
+        placements.sort(Comparator.comparing(Placement::request, ORDER));
+        return placements;
+    }
+
+    // Frees a room for the request by moving the one request in its way elsewhere
+    private void repair(Request request, List<List<Request>> assigned) {
+        for (int room : candidates(request)) {
+            if (booked(room, request)) {
+                continue;
+            }
+            List<Request> blocking = assigned.get(room).stream().filter(other -> overlaps(other, request)).toList();
+            if (blocking.size() != 1) {
+                continue;
+            }
+            Request moved = blocking.get(0);
+            assigned.get(room).remove(moved);
+            assigned.get(room).add(request);
+            int target = bestFree(moved, assigned, room);
+            if (target >= 0) {
+                assigned.get(target).add(moved);
+                return;
+            }
+            assigned.get(room).remove(request);
+            assigned.get(room).add(moved);
+        }
+    }
+
+    private int bestFree(Request request, List<List<Request>> assigned, int excluded) {
+        int fallback = -1;
+        for (int i = 0; i < rooms.size(); i++) {
+            if (i == excluded || !fits(i, request) || booked(i, request)
+                    || assigned.get(i).stream().anyMatch(other -> overlaps(other, request))) {
+                continue;
+            }
+            if (prefers(i, request)) {
+                return i;
+            }
+            if (fallback < 0) {
+                fallback = i;
+            }
+        }
+        return fallback;
+    }
+
+    // Large enough rooms, preferred location first
+    private List<Integer> candidates(Request request) {
+        List<Integer> preferred = new ArrayList<>();
+        List<Integer> others = new ArrayList<>();
+        for (int i = 0; i < rooms.size(); i++) {
+            if (fits(i, request)) {
+                (prefers(i, request) ? preferred : others).add(i);
+            }
+        }
+        preferred.addAll(others);
+        return preferred;
+    }
+
+    private boolean fits(int room, Request request) {
+        Integer capacity = rooms.get(room).capacity();
+        // A room of unknown size only takes requests that do not ask for seats
+        return capacity == null ? request.seats() == 0 : capacity >= request.seats();
+    }
+
+    private boolean prefers(int room, Request request) {
+        return request.location() == null || request.location().equalsIgnoreCase(rooms.get(room).location());
+    }
+
+    // Whether an existing booking overlaps the request
+    private boolean booked(int room, Request request) {
+        long[] starts = rooms.get(room).starts();
+        // Bookings starting before the request ends
+        int lo = 0;
+        int hi = starts.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (starts[mid] < request.end()) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo > 0 && endsSoFar[room][lo - 1] > request.start();
+    }
+
+    private static boolean overlaps(Request a, Request b) {
+        return a.start() < b.end() && b.start() < a.end();
+    }
+}
@@ -0,0 +1,7 @@
+package com.meeting.secretary.analytics;
+
+/**
+ * Booked intervals of one room in minutes, ordered by start
+ */
+record RoomIntervals(String room, Integer capacity, long[] starts, long[] ends) {
+}
@@ -0,0 +1,212 @@
+package com.meeting.secretary.analytics;
+
+import com.meeting.secretary.archive.MeetingArchive;
+import com.meeting.secretary.dto.RoomUtilizationDTO;
+import com.meeting.secretary.dto.StatisticsBucket;
+import com.meeting.secretary.dto.UtilizationReportDTO;
+import com.meeting.secretary.entity.Room;
+import com.meeting.secretary.repository.ArchivedMeetingRepository;
+import com.meeting.secretary.repository.MeetingRepository;
+import com.meeting.secretary.repository.RoomRepository;
+import com.meeting.secretary.service.DirectorySyncService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Room utilization measured against working hours.
+ * Intervals of all rooms are loaded in one query; each room is then swept independently,
+ * so rooms are split across a dedicated fork/join pool and never touch the database.
+ */
+@Service
+public class RoomUtilizationService {
+
+    private static final long MAX_DAYS = 400;
+    // Rooms swept by one task before it stops splitting
+    private static final int ROOMS_PER_TASK = 4;
+
+    private final MeetingRepository meetingRepository;
+    private final ArchivedMeetingRepository archivedMeetingRepository;
+    private final MeetingArchive meetingArchive;
+    private final RoomRepository roomRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final LocalTime dayStart;
+    private final LocalTime dayEnd;
+    private final Set<DayOfWeek> workingDays;
+    private final ForkJoinPool pool;
+
+    public RoomUtilizationService(MeetingRepository meetingRepository,
+                                  ArchivedMeetingRepository archivedMeetingRepository,
+                                  MeetingArchive meetingArchive,
+                                  RoomRepository roomRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${analytics.utilization.day-start:08:00}") LocalTime dayStart,
+                                  @Value("${analytics.utilization.day-end:18:00}") LocalTime dayEnd,
+                                  @Value("${analytics.utilization.working-days:MONDAY,TUESDAY,WEDNESDAY,THURSDAY,FRIDAY}")
+                                  List<DayOfWeek> workingDays,
+                                  @Value("${analytics.parallelism:0}") int parallelism) {
+        if (!dayEnd.isAfter(dayStart)) {
+            throw new IllegalArgumentException("analytics.utilization.day-end must be after day-start");
+        }
+        this.meetingRepository = meetingRepository;
+        this.archivedMeetingRepository = archivedMeetingRepository;
+        this.meetingArchive = meetingArchive;
+        this.roomRepository = roomRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.dayStart = dayStart;
+        this.dayEnd = dayEnd;
+        this.workingDays = workingDays.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(workingDays);
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Utilization of every room (or only {@code room}) between {@code from} and {@code to} inclusive
+     */
+    public UtilizationReportDTO getReport(LocalDate from, LocalDate to, StatisticsBucket period, String room) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Ngày kết thúc phải sau ngày bắt đầu");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+            throw new IllegalArgumentException("Khoảng thời gian tối đa là " + MAX_DAYS + " ngày");
+        }
+        WorkingWindows windows = WorkingWindows.of(from, to, period, dayStart, dayEnd, workingDays);
+        List<RoomIntervals> rooms = readOnlyTransaction.execute(tx -> load(from, to, room));
+
+        List<RoomUtilizationDTO> results = pool.invoke(new SweepTask(rooms, 0, rooms.size(), windows));
+        return summarize(from, to, period, results);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private List<RoomIntervals> load(LocalDate from, LocalDate to, String onlyRoom) {
+        // Meetings name their room in free text, matched to rooms the way room names are unique
+        Map<String, Room> directory = new HashMap<>();
+        for (Room room : roomRepository.findAll()) {
+            directory.put(DirectorySyncService.key(room.getName()), room);
+        }
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        List<Object[]> rows = new ArrayList<>(meetingRepository.findIntervalsOverlapping(start, end));
+        // Archived meetings started before the range only if they end inside it, so look a day further back
+        rows.addAll(meetingArchive.rows(start.minusDays(1),
+                () -> archivedMeetingRepository.findIntervalsOverlapping(start, end)));
+
+        Map<String, String> keys = new HashMap<>();
+        Map<String, List<Object[]>> runs = new HashMap<>();
+        for (Object[] row : rows) {
+            String key = keys.computeIfAbsent((String) row[0], DirectorySyncService::key);
+            runs.computeIfAbsent(key, k -> new ArrayList<>()).add(row);
+        }
+        Map<String, RoomIntervals> byRoom = new TreeMap<>();
+        runs.forEach((key, run) -> {
+            // Each spelling comes ordered by start; merged spellings and archived rows are put back in order
+            run.sort(Comparator.comparing(row -> (LocalDateTime) row[1]));
+            Room room = directory.get(key);
+            String name = room != null ? room.getName() : (String) run.get(0)[0];
+            long[] starts = new long[run.size()];
+            long[] ends = new long[run.size()];
+            for (int j = 0; j < run.size(); j++) {
+                starts[j] = WorkingWindows.toMinutes((LocalDateTime) run.get(j)[1]);
+                ends[j] = WorkingWindows.toMinutes((LocalDateTime) run.get(j)[2]);
+            }
+            byRoom.put(name, new RoomIntervals(name, room != null ? room.getCapacity() : null, starts, ends));
+        });
+        directory.forEach((key, room) -> byRoom.putIfAbsent(room.getName(),
+                new RoomIntervals(room.getName(), room.getCapacity(), new long[0], new long[0])));
+
+        if (onlyRoom != null && !onlyRoom.isBlank()) {
+            String wanted = DirectorySyncService.key(onlyRoom);
+            return byRoom.values().stream()
+                    .filter(intervals -> DirectorySyncService.key(intervals.room()).equals(wanted))
+                    .toList();
+        }
+        return new ArrayList<>(byRoom.values());
+    }
+
+    private UtilizationReportDTO summarize(LocalDate from, LocalDate to, StatisticsBucket period,
+                                           List<RoomUtilizationDTO> rooms) {
+        double booked = 0;
+        double available = 0;
+        double bookedSeats = 0;
+        double availableSeats = 0;
+        for (RoomUtilizationDTO room : rooms) {
+            booked += room.getBookedHours();
+            available += room.getAvailableHours();
+            if (room.getCapacity() != null && room.getCapacity() > 0) {
+                bookedSeats += room.getBookedSeatHours();
+                availableSeats += room.getAvailableHours() * room.getCapacity();
+            }
+        }
+        List<RoomUtilizationDTO> sorted = new ArrayList<>(rooms);
+        sorted.sort(Comparator.comparing(RoomUtilizationDTO::getRoom));
+        return UtilizationReportDTO.builder()
+                .from(from)
+                .to(to)
+                .period(period)
+                .dayStart(dayStart)
+                .dayEnd(dayEnd)
+                .utilization(available == 0 ? 0 : Math.round(booked / available * 10000) / 10000d)
+                .seatUtilization(availableSeats == 0 ? null : Math.round(bookedSeats / availableSeats * 10000) / 10000d)
+                .rooms(sorted)
+                .build();
+    }
+
+    /**
+     * Splits the room list in halves until few enough rooms remain to sweep directly
+     */
+    private static final class SweepTask extends RecursiveTask<List<RoomUtilizationDTO>> {
+
+        private final List<RoomIntervals> rooms;
+        private final int from;
+        private final int to;
+        private final WorkingWindows windows;
+
+        SweepTask(List<RoomIntervals> rooms, int from, int to, WorkingWindows windows) {
+            this.rooms = rooms;
+            this.from = from;
+            this.to = to;
+            this.windows = windows;
+        }
+
+        @Override
+        protected List<RoomUtilizationDTO> compute() {
+            if (to - from <= ROOMS_PER_TASK) {
+                RoomUtilizationDTO[] results = new RoomUtilizationDTO[to - from];
+                for (int i = from; i < to; i++) {
+                    results[i - from] = UtilizationSweep.compute(rooms.get(i), windows);
+                }
+                return Arrays.asList(results);
+            }
+            int middle = (from + to) >>> 1;
+            SweepTask left = new SweepTask(rooms, from, middle, windows);
+            left.fork();
+            List<RoomUtilizationDTO> right = new SweepTask(rooms, middle, to, windows).compute();
+            List<RoomUtilizationDTO> results = new ArrayList<>(left.join());
+            results.addAll(right);
+            return results;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.meeting.secretary.analytics;
+
+import com.meeting.secretary.dto.PeriodUtilizationDTO;
+import com.meeting.secretary.dto.RoomUtilizationDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Sweep-line over the booked intervals of one room.
+ * Intervals are clipped to working windows; each window is swept once in start order,
+ * merging overlaps for booked time and idle gaps and tracking open meetings for peak concurrency.
+ */
+final class UtilizationSweep {
+
+    private UtilizationSweep() {
+    }
+
+    static RoomUtilizationDTO compute(RoomIntervals room, WorkingWindows windows) {
+        long[][] segments = clip(room, windows);
+        int periodCount = windows.periodStarts.size();
+        long[] booked = new long[periodCount];
+        long[] available = new long[periodCount];
+        int[] peak = new int[periodCount];
+        int[] gaps = new int[periodCount];
+        long[] longestGap = new long[periodCount];
+
+        PriorityQueue<Long> openEnds = new PriorityQueue<>();
+        int next = 0;
+        for (int w = 0; w < windows.size(); w++) {
+            long windowStart = windows.starts[w];
+            long windowEnd = windows.ends[w];
+            int p = windows.periods[w];
+            available[p] += windowEnd - windowStart;
+
+            openEnds.clear();
+            long blockStart = -1;
+            long blockEnd = windowStart;
+            for (; next < segments.length && segments[next][2] == w; next++) {
+                long start = segments[next][0];
+                long end = segments[next][1];
+
+                while (!openEnds.isEmpty() && openEnds.peek() <= start) {
+                    openEnds.poll();
+                }
+                openEnds.add(end);
+                peak[p] = Math.max(peak[p], openEnds.size());
+
+                if (blockStart < 0 || start > blockEnd) {
+                    if (blockStart >= 0) {
+                        booked[p] += blockEnd - blockStart;
+                    }
+                    if (start > blockEnd) {
+                        gaps[p]++;
+                        longestGap[p] = Math.max(longestGap[p], start - blockEnd);
+                    }
+                    blockStart = start;
+                    blockEnd = end;
+                } else {
+                    blockEnd = Math.max(blockEnd, end);
+                }
+            }
+            if (blockStart >= 0) {
+                booked[p] += blockEnd - blockStart;
+            }
+            if (windowEnd > blockEnd) {
+                gaps[p]++;
+                longestGap[p] = Math.max(longestGap[p], windowEnd - blockEnd);
+            }
+        }
+
+        List<PeriodUtilizationDTO> periods = new ArrayList<>(periodCount);
+        long totalBooked = 0;
+        long totalAvailable = 0;
+        int totalPeak = 0;
+        int totalGaps = 0;
+        long totalLongest = 0;
+        for (int p = 0; p < periodCount; p++) {
+            periods.add(PeriodUtilizationDTO.builder()
+                    .periodStart(windows.periodStarts.get(p))
+                    .bookedHours(hours(booked[p]))
+                    .availableHours(hours(available[p]))
+                    .utilization(ratio(booked[p], available[p]))
+                    .peakConcurrency(peak[p])
+                    .idleGaps(gaps[p])
+                    .longestIdleGapMinutes(longestGap[p])
+                    .build());
+            totalBooked += booked[p];
+            totalAvailable += available[p];
+            totalPeak = Math.max(totalPeak, peak[p]);
+            totalGaps += gaps[p];
+            totalLongest = Math.max(totalLongest, longestGap[p]);
+        }
+        return RoomUtilizationDTO.builder()
+                .room(room.room())
+                .capacity(room.capacity())
+                .bookedHours(hours(totalBooked))
+                .availableHours(hours(totalAvailable))
+                .utilization(ratio(totalBooked, totalAvailable))
+                .peakConcurrency(totalPeak)
+                .idleGaps(totalGaps)
+                .longestIdleGapMinutes(totalLongest)
+                .bookedSeatHours(room.capacity() == null ? null : hours(totalBooked * room.capacity()))
+                .periods(periods)
+                .build();
+    }
+
+    /**
+     * Cut intervals at working-window boundaries: {start, end, window}, ordered by start
+     */
+    private static long[][] clip(RoomIntervals room, WorkingWindows windows) {
+        List<long[]> segments = new ArrayList<>(room.starts().length);
+        boolean sorted = true;
+        long lastStart = Long.MIN_VALUE;
+        for (int i = 0; i < room.starts().length; i++) {
+            long start = room.starts()[i];
+            long end = room.ends()[i];
+            for (int w = windows.firstEndingAfter(start); w < windows.size() && windows.starts[w] < end; w++) {
+                long clippedStart = Math.max(start, windows.starts[w]);
+                segments.add(new long[]{clippedStart, Math.min(end, windows.ends[w]), w});
+                sorted &= clippedStart >= lastStart;
+                lastStart = clippedStart;
+            }
+        }
+        long[][] result = segments.toArray(new long[0][]);
+        if (!sorted) {
+            // Only meetings spanning several windows break the order
+            Arrays.sort(result, Comparator.comparingLong(segment -> segment[0]));
+        }
+        return result;
+    }
+
+    private static double hours(long minutes) {
+        return Math.round(minutes / 60d * 100) / 100d;
+    }
+
+    private static double ratio(long part, long whole) {
+        return whole == 0 ? 0 : Math.round(part * 10000d / whole) / 10000d;
+    }
+}
@@ -0,0 +1,87 @@
+package com.meeting.secretary.analytics;
+
+import com.meeting.secretary.dto.StatisticsBucket;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The working-hour windows of a date range, in minutes, each assigned to a reporting period.
+ * Windows are disjoint and ascending, which is what the sweep relies on.
+ */
+final class WorkingWindows {
+
+    final long[] starts;
+    final long[] ends;
+    final int[] periods;
+    final List<LocalDate> periodStarts;
+
+    private WorkingWindows(long[] starts, long[] ends, int[] periods, List<LocalDate> periodStarts) {
+        this.starts = starts;
+        this.ends = ends;
+        this.periods = periods;
+        this.periodStarts = periodStarts;
+    }
+
+    static WorkingWindows of(LocalDate from, LocalDate to, StatisticsBucket period,
+                             LocalTime dayStart, LocalTime dayEnd, Set<DayOfWeek> workingDays) {
+        List<LocalDate> periodStarts = new ArrayList<>();
+        Map<LocalDate, Integer> periodIndex = new HashMap<>();
+        for (LocalDate start = period.startOf(from); !start.isAfter(to); start = period.next(start)) {
+            periodIndex.put(start, periodStarts.size());
+            periodStarts.add(start);
+        }
+
+        int days = (int) (to.toEpochDay() - from.toEpochDay() + 1);
+        long[] starts = new long[days];
+        long[] ends = new long[days];
+        int[] periods = new int[days];
+        int count = 0;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            if (!workingDays.contains(day.getDayOfWeek())) {
+                continue;
+            }
+            starts[count] = toMinutes(day.atTime(dayStart));
+            ends[count] = toMinutes(day.atTime(dayEnd));
+            periods[count] = periodIndex.get(period.startOf(day));
+            count++;
+        }
+        return new WorkingWindows(Arrays.copyOf(starts, count), Arrays.copyOf(ends, count),
+                Arrays.copyOf(periods, count), periodStarts);
+    }
+
+    int size() {
+        return starts.length;
+    }
+
+    /**
+     * Index of the first window ending after the given minute
+     */
+    int firstEndingAfter(long minute) {
+        int low = 0;
+        int high = ends.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ends[mid] <= minute) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    static long toMinutes(LocalDateTime time) {
+        // Meeting times are wall-clock times; UTC just gives a gap-free minute scale
+        return time.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+}
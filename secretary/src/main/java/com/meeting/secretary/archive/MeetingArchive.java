@@ -0,0 +1,186 @@
+package com.meeting.secretary.archive;
+
+import com.meeting.secretary.cache.CacheCoherence;
+import com.meeting.secretary.cache.CacheRegion;
+import com.meeting.secretary.dto.MeetingSearchCriteria;
+import com.meeting.secretary.dto.MeetingSummaryDTO;
+import com.meeting.secretary.entity.ArchivedMeeting;
+import com.meeting.secretary.entity.Meeting;
+import com.meeting.secretary.entity.MeetingStatus;
+import com.meeting.secretary.exception.ResourceNotFoundException;
+import com.meeting.secretary.repository.ArchivedMeetingRepository;
+import com.meeting.secretary.repository.MeetingSpecifications;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Read side of the cold tier. Every query first checks whether its range can reach archived
+ * meetings at all, so requests about recent and upcoming meetings never touch the archive table.
+ * Only FINISHED meetings are archived, which lets status-filtered queries skip it as well.
+ */
+@Component
+public class MeetingArchive {
+
+    private final ArchivedMeetingRepository archiveRepository;
+    private final CacheCoherence cacheCoherence;
+
+    // Start of the newest archived meeting; empty until the archive is first inspected
+    private final AtomicReference<Optional<LocalDateTime>> newestStart = new AtomicReference<>();
+
+    public MeetingArchive(ArchivedMeetingRepository archiveRepository, CacheCoherence cacheCoherence) {
+        this.archiveRepository = archiveRepository;
+        this.cacheCoherence = cacheCoherence;
+        // Archiving on another instance: inspect the table again on the next query
+        cacheCoherence.register(CacheRegion.ARCHIVE, key -> newestStart.set(null));
+    }
+
+    /**
+     * Whether meetings starting at or after {@code from} (null = any time) may be archived
+     */
+    public boolean reaches(LocalDateTime from) {
+        Optional<LocalDateTime> newest = newestStart.get();
+        if (newest == null) {
+            newest = Optional.ofNullable(archiveRepository.findNewestStartTime());
+            newestStart.compareAndSet(null, newest);
+        }
+        return newest.isPresent() && (from == null || !from.isAfter(newest.get()));
+    }
+
+    public boolean reaches(LocalDateTime from, MeetingStatus status) {
+        return (status == null || status == MeetingStatus.FINISHED) && reaches(from);
+    }
+
+    /**
+     * Called by the archiver after moving meetings, with the latest start time it moved
+     */
+    void recordArchived(LocalDateTime startTime) {
+        newestStart.updateAndGet(current -> current == null || current.isEmpty() || current.get().isBefore(startTime)
+                ? Optional.of(startTime) : current);
+        cacheCoherence.invalidateElsewhere(CacheRegion.ARCHIVE, null);
+    }
+
+    public Optional<Meeting> findById(Long id) {
+        if (!reaches(null)) {
+            return Optional.empty();
+        }
+        return archiveRepository.findById(id).map(ArchivedMeeting::toMeeting);
+    }
+
+    /**
+     * Error for a write to a meeting missing from the live table: archived meetings are read-only
+     */
+    public RuntimeException writeRejected(Long id) {
+        return findById(id).isPresent()
+                ? new IllegalArgumentException("Cuộc họp đã được lưu trữ, không thể chỉnh sửa")
+                : new ResourceNotFoundException("Cuộc họp", id);
+    }
+
+    public void deleteById(Long id) {
+        archiveRepository.deleteById(id);
+    }
+
+    public List<Meeting> findAll() {
+        return reaches(null) ? toMeetings(archiveRepository::findAll) : List.of();
+    }
+
+    public List<Meeting> findByStatus(MeetingStatus status) {
+        return status == MeetingStatus.FINISHED ? findAll() : List.of();
+    }
+
+    public List<Meeting> findByDepartment(String department) {
+        return reaches(null) ? toMeetings(() -> archiveRepository.findByDepartment(department)) : List.of();
+    }
+
+    public List<Meeting> findByRoom(String room) {
+        return reaches(null) ? toMeetings(() -> archiveRepository.findByRoom(room)) : List.of();
+    }
+
+    public List<Meeting> findByDateRange(LocalDateTime start, LocalDateTime end) {
+        return reaches(start) ? toMeetings(() -> archiveRepository.findByDateRange(start, end)) : List.of();
+    }
+
+    public long countByDateRange(LocalDateTime start, LocalDateTime end) {
+        return reaches(start) ? archiveRepository.countByDateRange(start, end) : 0;
+    }
+
+    public long count() {
+        return reaches(null) ? archiveRepository.count() : 0;
+    }
+
+    public List<Meeting> findByRoomFrom(String room, LocalDateTime from) {
+        return reaches(from)
+                ? toMeetings(() -> archiveRepository.findByRoomAndStartTimeGreaterThanEqualOrderByStartTimeAsc(room, from))
+                : List.of();
+    }
+
+    public List<Meeting> findByDepartmentFrom(String department, LocalDateTime from) {
+        return reaches(from)
+                ? toMeetings(() -> archiveRepository.findByDepartmentAndStartTimeGreaterThanEqualOrderByStartTimeAsc(department, from))
+                : List.of();
+    }
+
+    public List<Meeting> findByPersonFrom(String person, LocalDateTime from) {
+        return reaches(from) ? toMeetings(() -> archiveRepository.findByPersonFrom(person, from)) : List.of();
+    }
+
+    /**
+     * Archived meetings among the given ids, when any meeting from {@code from} on may be archived
+     */
+    public List<Meeting> findAllById(Collection<Long> ids, LocalDateTime from) {
+        return ids.isEmpty() || !reaches(from) ? List.of() : toMeetings(() -> archiveRepository.findAllById(ids));
+    }
+
+    /**
+     * Summaries of archived meetings among the given ids, when any meeting from {@code from} on may be archived
+     */
+    public List<MeetingSummaryDTO> findSummariesByIdIn(Collection<Long> ids, LocalDateTime from) {
+        return ids.isEmpty() || !reaches(from) ? List.of() : archiveRepository.findSummariesByIdIn(ids);
+    }
+
+    /**
+     * Up to {@code limit} archived summaries with ids above {@code afterId}, in id order
+     */
+    public List<MeetingSummaryDTO> findSummariesAfter(Long afterId, int limit) {
+        return reaches(null) ? archiveRepository.findSummariesAfter(afterId, Limit.of(limit)) : List.of();
+    }
+
+    /**
+     * The first {@code limit} archived summaries matching the criteria, in the given order
+     */
+    public List<MeetingSummaryDTO> searchSummaries(MeetingSearchCriteria criteria, Sort sort, int limit) {
+        if (!reaches(criteria.getFrom(), criteria.getStatus())) {
+            return List.of();
+        }
+        return archiveRepository.findAll(MeetingSpecifications.<ArchivedMeeting>matching(criteria),
+                        PageRequest.of(0, limit, sort.and(Sort.by("id"))))
+                .map(archived -> MeetingSummaryDTO.from(archived.toMeeting()))
+                .getContent();
+    }
+
+    public long countMatching(MeetingSearchCriteria criteria) {
+        if (!reaches(criteria.getFrom(), criteria.getStatus())) {
+            return 0;
+        }
+        return archiveRepository.count(MeetingSpecifications.<ArchivedMeeting>matching(criteria));
+    }
+
+    /**
+     * Rows of an archive aggregate query, or none when {@code from} is past the archive
+     */
+    public List<Object[]> rows(LocalDateTime from, Supplier<List<Object[]>> query) {
+        return reaches(from) ? query.get() : List.of();
+    }
+
+    private static List<Meeting> toMeetings(Supplier<List<ArchivedMeeting>> query) {
+        return query.get().stream().map(ArchivedMeeting::toMeeting).toList();
+    }
+}
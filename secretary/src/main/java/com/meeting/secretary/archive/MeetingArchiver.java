@@ -0,0 +1,127 @@
+package com.meeting.secretary.archive;
+
+import com.meeting.secretary.entity.ArchivedMeeting;
+import com.meeting.secretary.entity.Meeting;
+import com.meeting.secretary.entity.MeetingStatus;
+import com.meeting.secretary.repository.ArchivedMeetingRepository;
+import com.meeting.secretary.repository.MeetingRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Periodically moves FINISHED meetings that ended more than meetings.archive.after-days ago
+ * from the meetings table into meetings_archive. Each batch is copied and deleted in one
+ * transaction, so a meeting is always in exactly one of the two tables.
+ */
+@Slf4j
+@Component
+public class MeetingArchiver {
+
+    private final MeetingRepository meetingRepository;
+    private final ArchivedMeetingRepository archivedMeetingRepository;
+    private final MeetingArchive meetingArchive;
+    private final TransactionTemplate transactionTemplate;
+    private final int afterDays;
+    private final int batchSize;
+    private final Counter archived;
+    private ScheduledExecutorService scheduler;
+
+    public MeetingArchiver(MeetingRepository meetingRepository,
+                           ArchivedMeetingRepository archivedMeetingRepository,
+                           MeetingArchive meetingArchive,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry registry,
+                           @Value("${meetings.archive.enabled:true}") boolean enabled,
+                           @Value("${meetings.archive.after-days:365}") int afterDays,
+                           @Value("${meetings.archive.batch-size:500}") int batchSize,
+                           @Value("${meetings.archive.interval-minutes:60}") long intervalMinutes) {
+        this.meetingRepository = meetingRepository;
+        this.archivedMeetingRepository = archivedMeetingRepository;
+        this.meetingArchive = meetingArchive;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.afterDays = afterDays;
+        this.batchSize = batchSize;
+        this.archived = Counter.builder("meetings.archived")
+                .description("Finished meetings moved to the archive table").register(registry);
+
+        if (enabled) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("meeting-archiver").daemon().factory());
+            scheduler.scheduleWithFixedDelay(this::archiveQuietly, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+            log.info("Meeting archiving enabled (finished meetings older than {} days, every {} min)",
+                    afterDays, intervalMinutes);
+        }
+    }
+
+    /**
+     * Archive everything currently due, one batch per transaction
+     *
+     * @return number of meetings moved
+     */
+    public int archiveDue() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(afterDays);
+        int total = 0;
+        int moved;
+        do {
+            moved = transactionTemplate.execute(tx -> archiveBatch(cutoff));
+            total += moved;
+        } while (moved == batchSize);
+        if (total > 0) {
+            archived.increment(total);
+            log.info("Archived {} finished meeting(s) that ended before {}", total, cutoff);
+        }
+        return total;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Meeting> due = meetingRepository.findArchivable(MeetingStatus.FINISHED, cutoff,
+                PageRequest.of(0, batchSize));
+        if (due.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        // A copy that is already there, e.g. restored by hand, is kept rather than failing the batch
+        Set<Long> alreadyArchived = archivedMeetingRepository.findAllById(due.stream().map(Meeting::getId).toList())
+                .stream().map(ArchivedMeeting::getId).collect(Collectors.toSet());
+        archivedMeetingRepository.saveAll(due.stream()
+                .filter(meeting -> !alreadyArchived.contains(meeting.getId()))
+                .map(meeting -> ArchivedMeeting.from(meeting, now))
+                .toList());
+        archivedMeetingRepository.flush();
+        meetingRepository.deleteAllInBatch(due);
+        // Readers may look into the archive for this range from now on
+        meetingArchive.recordArchived(due.stream().map(Meeting::getStartTime).max(Comparator.naturalOrder()).get());
+        return due.size();
+    }
+
+    private void archiveQuietly() {
+        try {
+            archiveDue();
+        } catch (RuntimeException e) {
+            log.error("Archiving finished meetings failed", e);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.meeting.secretary.audio;
+
+import com.meeting.secretary.dto.AudioRelayStatsDTO;
+import com.meeting.secretary.service.TranscriptService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Relays browser PCM audio to the ASR (SimulStreaming) TCP server, one connection per meeting.
+ * Transcript text returned by the ASR server is stored and published to the transcript hub.
+ * A meeting's connection is closed when its last audio client leaves or the ASR server hangs up.
+ */
+@Slf4j
+@Service
+public class AsrRelayService {
+
+    private final TranscriptService transcriptService;
+    private final AudioRelayMetrics metrics;
+    private final InetSocketAddress asrAddress;
+    private final int coalesceBytes;
+    private final long maxDelayNanos;
+
+    private final Map<Long, AsrSession> sessions = new ConcurrentHashMap<>();
+    // Connected audio clients per meeting
+    private final Map<Long, Integer> clients = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("asr-relay-flusher").daemon().factory());
+
+    public AsrRelayService(TranscriptService transcriptService,
+                           AudioRelayMetrics metrics,
+                           @Value("${asr.host:127.0.0.1}") String asrHost,
+                           @Value("${asr.port:43001}") int asrPort,
+                           @Value("${asr.relay.coalesce-bytes:3200}") int coalesceBytes,
+                           @Value("${asr.relay.max-delay-ms:20}") long maxDelayMs) {
+        this.transcriptService = transcriptService;
+        this.metrics = metrics;
+        this.asrAddress = new InetSocketAddress(asrHost, asrPort);
+        this.coalesceBytes = coalesceBytes;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+        flusher.scheduleWithFixedDelay(this::flushStale, maxDelayMs, Math.max(1, maxDelayMs / 2),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Relay one PCM frame of a meeting, opening the ASR connection on first use
+     */
+    public void relay(Long meetingId, ByteBuffer frame) throws IOException {
+        AsrSession session = openSession(meetingId);
+        try {
+            session.relay(frame);
+        } catch (IOException e) {
+            closeSession(meetingId);
+            throw e;
+        }
+    }
+
+    /**
+     * Open (or return) the ASR connection of a meeting
+     */
+    public AsrSession openSession(Long meetingId) throws IOException {
+        try {
+            return sessions.computeIfAbsent(meetingId, id -> {
+                try {
+                    AsrSession session = new AsrSession(id, asrAddress, coalesceBytes, metrics);
+                    Thread.ofVirtual().name("asr-reader-" + id).start(() -> {
+                        try {
+                            session.readTranscripts(text -> transcriptService.append(id, text));
+                        } finally {
+                            // The ASR server hung up or the read failed; release the socket too
+                            sessions.remove(id, session);
+                            session.close();
+                        }
+                    });
+                    log.info("ASR connection opened for meeting {}", id);
+                    return session;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Count an audio client of a meeting
+     */
+    public void attach(Long meetingId) {
+        clients.merge(meetingId, 1, Integer::sum);
+    }
+
+    /**
+     * Forget an audio client of a meeting; the ASR connection is closed when the last one leaves
+     */
+    public void detach(Long meetingId) {
+        Integer left = clients.computeIfPresent(meetingId, (id, count) -> count > 1 ? count - 1 : null);
+        if (left == null) {
+            closeSession(meetingId);
+        }
+    }
+
+    /**
+     * Start over with a fresh ASR connection, which resets the recognizer buffer
+     */
+    public void resetSession(Long meetingId) throws IOException {
+        closeSession(meetingId);
+        openSession(meetingId);
+    }
+
+    /**
+     * Flush pending audio and close the ASR connection of a meeting
+     */
+    public void closeSession(Long meetingId) {
+        AsrSession session = sessions.remove(meetingId);
+        if (session != null) {
+            session.close();
+            log.info("ASR connection closed for meeting {}", meetingId);
+        }
+    }
+
+    public AudioRelayStatsDTO getStats(Long meetingId) {
+        AsrSession session = sessions.get(meetingId);
+        return session == null ? null : session.getStats();
+    }
+
+    public List<AudioRelayStatsDTO> getAllStats() {
+        return sessions.values().stream().map(AsrSession::getStats).toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdownNow();
+        sessions.keySet().forEach(this::closeSession);
+    }
+
+    private void flushStale() {
+        sessions.forEach((meetingId, session) -> {
+            try {
+                session.flushIfOlderThan(maxDelayNanos);
+            } catch (IOException e) {
+                log.warn("Flushing audio of meeting {} failed: {}", meetingId, e.getMessage());
+                closeSession(meetingId);
+            }
+        });
+    }
+}
@@ -0,0 +1,209 @@
+package com.meeting.secretary.audio;
+
+import com.meeting.secretary.dto.AudioRelayStatsDTO;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * One TCP connection to the ASR server for one meeting.
+ * Audio is s16le, 16 kHz, mono PCM. Small frames are coalesced into a direct buffer
+ * and written with a single syscall; frames at least as large as the flush threshold
+ * are written straight from the WebSocket payload without copying.
+ */
+@Slf4j
+public class AsrSession implements AutoCloseable {
+
+    /** 16 kHz * 2 bytes per sample */
+    private static final double BYTES_PER_NANO = 32_000d / TimeUnit.SECONDS.toNanos(1);
+
+    private final Long meetingId;
+    private final SocketChannel channel;
+    private final ByteBuffer pending;
+    private final int flushThreshold;
+    private final AudioRelayMetrics metrics;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private long oldestPendingNanos;
+    private long lastArrivalNanos;
+    private long lastFrameDurationNanos;
+    private double jitterNanos;
+    private long bytesRelayed;
+    private long framesRelayed;
+    private long writes;
+    private volatile boolean closed;
+
+    public AsrSession(Long meetingId, InetSocketAddress asrAddress, int coalesceBytes,
+                      AudioRelayMetrics metrics) throws IOException {
+        this.meetingId = meetingId;
+        this.channel = SocketChannel.open(asrAddress);
+        this.channel.socket().setTcpNoDelay(true);
+        this.pending = ByteBuffer.allocateDirect(coalesceBytes * 2);
+        this.flushThreshold = coalesceBytes;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Relay one audio frame to the ASR server
+     */
+    public void relay(ByteBuffer frame) throws IOException {
+        long now = System.nanoTime();
+        int length = frame.remaining();
+        writeLock.lock();
+        try {
+            trackArrival(now, length);
+            framesRelayed++;
+            bytesRelayed += length;
+
+            if (pending.position() == 0 && length >= flushThreshold) {
+                writeFully(frame);
+                metrics.recordLag(System.nanoTime() - now);
+                return;
+            }
+            if (length > pending.remaining()) {
+                flushLocked();
+                if (length > pending.capacity()) {
+                    writeFully(frame);
+                    metrics.recordLag(System.nanoTime() - now);
+                    return;
+                }
+            }
+            if (pending.position() == 0) {
+                oldestPendingNanos = now;
+            }
+            pending.put(frame);
+            if (pending.position() >= flushThreshold) {
+                flushLocked();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Flush coalesced audio that has been waiting longer than maxDelayNanos
+     */
+    public void flushIfOlderThan(long maxDelayNanos) throws IOException {
+        if (!writeLock.tryLock()) {
+            // A relay call is in progress and will flush on its own
+            return;
+        }
+        try {
+            if (pending.position() > 0 && System.nanoTime() - oldestPendingNanos >= maxDelayNanos) {
+                flushLocked();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Read transcript text from the ASR server until the connection closes.
+     * Runs on its own (virtual) thread.
+     */
+    public void readTranscripts(Consumer<String> consumer) {
+        ByteBuffer in = ByteBuffer.allocateDirect(4096);
+        CharBuffer out = CharBuffer.allocate(4096);
+        // Multi-byte UTF-8 characters may be split across reads; the decoder keeps the tail
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        try {
+            while (!closed && channel.read(in) >= 0) {
+                in.flip();
+                decoder.decode(in, out, false);
+                in.compact();
+                out.flip();
+                if (out.hasRemaining()) {
+                    consumer.accept(out.toString());
+                }
+                out.clear();
+            }
+        } catch (IOException e) {
+            if (!closed) {
+                log.warn("ASR connection of meeting {} failed: {}", meetingId, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        writeLock.lock();
+        try {
+            if (channel.isOpen() && pending.position() > 0) {
+                flushLocked();
+            }
+        } catch (IOException ignored) {
+            // Closing anyway
+        } finally {
+            writeLock.unlock();
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // Already closed
+            }
+        }
+    }
+
+    public AudioRelayStatsDTO getStats() {
+        writeLock.lock();
+        try {
+            return AudioRelayStatsDTO.builder()
+                    .meetingId(meetingId)
+                    .framesRelayed(framesRelayed)
+                    .bytesRelayed(bytesRelayed)
+                    .writes(writes)
+                    .pendingBytes(pending.position())
+                    .jitterMillis(jitterNanos / 1_000_000d)
+                    .build();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public boolean isOpen() {
+        return !closed && channel.isOpen();
+    }
+
+    /**
+     * Interarrival jitter (RFC 3550 estimator): deviation between the real gap since the
+     * previous frame and the playback duration of that frame, smoothed with gain 1/16.
+     */
+    private void trackArrival(long now, int length) {
+        if (lastArrivalNanos != 0) {
+            long deviation = Math.abs((now - lastArrivalNanos) - lastFrameDurationNanos);
+            jitterNanos += (deviation - jitterNanos) / 16d;
+            metrics.recordJitter(jitterNanos);
+        }
+        lastArrivalNanos = now;
+        lastFrameDurationNanos = (long) (length / BYTES_PER_NANO);
+    }
+
+    private void flushLocked() throws IOException {
+        if (pending.position() == 0) {
+            return;
+        }
+        pending.flip();
+        writeFully(pending);
+        pending.clear();
+        metrics.recordLag(System.nanoTime() - oldestPendingNanos);
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        writes++;
+    }
+}
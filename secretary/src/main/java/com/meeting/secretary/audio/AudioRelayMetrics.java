@@ -0,0 +1,37 @@
+package com.meeting.secretary.audio;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer meters of the audio relay
+ */
+@Component
+public class AudioRelayMetrics {
+
+    private final Timer lag;
+    private final DistributionSummary jitter;
+
+    public AudioRelayMetrics(MeterRegistry registry) {
+        this.lag = Timer.builder("audio.relay.lag")
+                .description("Time between receiving an audio frame and writing it to the ASR server")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+        this.jitter = DistributionSummary.builder("audio.relay.jitter")
+                .description("Interarrival jitter of audio frames")
+                .baseUnit("milliseconds")
+                .register(registry);
+    }
+
+    public void recordLag(long nanos) {
+        lag.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordJitter(double jitterNanos) {
+        jitter.record(jitterNanos / 1_000_000d);
+    }
+}
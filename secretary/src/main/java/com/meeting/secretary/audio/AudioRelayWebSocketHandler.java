@@ -0,0 +1,80 @@
+package com.meeting.secretary.audio;
+
+import com.meeting.secretary.transcript.TranscriptWebSocketHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+
+import java.io.IOException;
+
+/**
+ * WebSocket endpoint for meeting audio: /ws/meetings/{id}/audio
+ * Binary messages carry s16le 16 kHz mono PCM; text messages are the same commands
+ * as the Python websocket server (NEW_MEETING, END_MEETING).
+ * The meeting's ASR connection is closed when its last audio client disconnects.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AudioRelayWebSocketHandler extends AbstractWebSocketHandler {
+
+    private static final String MEETING_ATTRIBUTE = "meetingId";
+
+    private final AsrRelayService asrRelayService;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        Long meetingId = TranscriptWebSocketHandler.extractMeetingId(session.getUri());
+        if (meetingId == null) {
+            session.close(CloseStatus.BAD_DATA);
+            return;
+        }
+        session.getAttributes().put(MEETING_ATTRIBUTE, meetingId);
+        asrRelayService.attach(meetingId);
+        try {
+            asrRelayService.openSession(meetingId);
+        } catch (IOException e) {
+            log.error("Cannot connect to ASR server for meeting {}: {}", meetingId, e.getMessage());
+            session.sendMessage(new TextMessage("[ERROR] SimulStreaming server not connected"));
+            session.close(CloseStatus.SERVICE_RESTARTED);
+        }
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
+        Long meetingId = (Long) session.getAttributes().get(MEETING_ATTRIBUTE);
+        // The payload is relayed as-is, without copying it into a byte[]
+        asrRelayService.relay(meetingId, message.getPayload());
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        Long meetingId = (Long) session.getAttributes().get(MEETING_ATTRIBUTE);
+        switch (message.getPayload()) {
+            case "NEW_MEETING" -> asrRelayService.resetSession(meetingId);
+            case "END_MEETING" -> asrRelayService.closeSession(meetingId);
+            default -> log.debug("Ignoring audio command '{}' for meeting {}", message.getPayload(), meetingId);
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+        log.warn("Audio WebSocket error: {}", exception.getMessage());
+        if (session.isOpen()) {
+            session.close(CloseStatus.SERVER_ERROR);
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        Long meetingId = (Long) session.getAttributes().get(MEETING_ATTRIBUTE);
+        if (meetingId != null) {
+            asrRelayService.detach(meetingId);
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.meeting.secretary.cache;
+
+import com.meeting.secretary.service.MeetingChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Keeps the node-local caches of several instances coherent.
+ * Caches register an evictor per region; a write invalidates locally after its commit and publishes
+ * the same compact invalidation to the other nodes. Meeting changes are translated into the keys of
+ * the meeting-derived caches when the change commits.
+ * Staleness is bounded: while the transport has not synced for cache.coherence.max-staleness-ms,
+ * {@link #isFresh()} is false, caches must not serve cached values, and everything cached is dropped.
+ * An invalidation that fails to publish after its commit is kept and retried every
+ * cache.coherence.publish-retry-ms until it goes through; past cache.coherence.max-unpublished
+ * waiting keys, the waiting ones are folded into invalidations of their whole regions.
+ */
+@Slf4j
+@Component
+public class CacheCoherence implements AutoCloseable {
+
+    private final InvalidationTransport transport;
+    private final String nodeId;
+    private final long maxStalenessNanos;
+    private final Map<CacheRegion, List<Consumer<String>>> evictors = new ConcurrentHashMap<>();
+    private final Map<CacheRegion, Function<MeetingChangedEvent, Collection<String>>> meetingKeys =
+            new ConcurrentHashMap<>();
+    private final AtomicBoolean stale = new AtomicBoolean();
+    private final long retryMillis;
+    private final int maxUnpublished;
+    // Invalidations whose publishing failed, in order; guarded by itself
+    private final Set<Invalidation> unpublished = new LinkedHashSet<>();
+    private ScheduledExecutorService retrier;
+    private boolean retryScheduled;
+    private boolean closed;
+
+    private final Counter published;
+    private final Counter received;
+    private final Counter publishFailures;
+    private final Timer lag;
+
+    public CacheCoherence(InvalidationTransport transport,
+                          MeterRegistry registry,
+                          @Value("${cache.coherence.node-id:}") String nodeId,
+                          @Value("${cache.coherence.max-staleness-ms:5000}") long maxStalenessMillis,
+                          @Value("${cache.coherence.publish-retry-ms:1000}") long retryMillis,
+                          @Value("${cache.coherence.max-unpublished:1000}") int maxUnpublished) {
+        this.transport = transport;
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+        this.maxStalenessNanos = TimeUnit.MILLISECONDS.toNanos(maxStalenessMillis);
+        this.retryMillis = retryMillis;
+        this.maxUnpublished = maxUnpublished;
+
+        this.published = Counter.builder("cache.coherence.published")
+                .description("Invalidations published to other nodes").register(registry);
+        this.received = Counter.builder("cache.coherence.received")
+                .description("Invalidations received from other nodes").register(registry);
+        this.publishFailures = Counter.builder("cache.coherence.publish.failures")
+                .description("Invalidations that could not be published").register(registry);
+        this.lag = Timer.builder("cache.coherence.lag")
+                .description("Time from publishing an invalidation to applying it on this node").register(registry);
+        Gauge.builder("cache.coherence.sync.age", this, CacheCoherence::getSyncAgeSeconds)
+                .description("Seconds since the transport last synced").baseUnit("seconds").register(registry);
+        Gauge.builder("cache.coherence.fresh", this, coherence -> coherence.isFresh() ? 1 : 0)
+                .description("1 while local caches may be served").register(registry);
+        Gauge.builder("cache.coherence.unpublished", this, CacheCoherence::getUnpublished)
+                .description("Invalidations waiting to be published again").register(registry);
+
+        transport.subscribe(this.nodeId, this::onRemote);
+        log.info("Cache coherence for node {} over {}", this.nodeId, transport.getClass().getSimpleName());
+    }
+
+    /**
+     * Register how to evict a key (null = everything) of a region on this node
+     */
+    public void register(CacheRegion region, Consumer<String> evictor) {
+        evictors.computeIfAbsent(region, r -> new CopyOnWriteArrayList<>()).add(evictor);
+    }
+
+    /**
+     * Register a meeting-derived region; keysOf names the keys a meeting change makes stale
+     */
+    public void register(CacheRegion region, Consumer<String> evictor,
+                         Function<MeetingChangedEvent, Collection<String>> keysOf) {
+        register(region, evictor);
+        meetingKeys.put(region, keysOf);
+    }
+
+    /**
+     * Evict a key here and on every other node once the current transaction commits
+     */
+    public void invalidate(CacheRegion region, String key) {
+        invalidate(region, key, true);
+    }
+
+    /**
+     * Evict a key on the other nodes only, for caches this node has already updated itself
+     */
+    public void invalidateElsewhere(CacheRegion region, String key) {
+        invalidate(region, key, false);
+    }
+
+    /**
+     * Whether cached values may be served, i.e. the last sync is within the staleness bound
+     */
+    public boolean isFresh() {
+        boolean fresh = System.nanoTime() - transport.getLastSyncNanos() <= maxStalenessNanos;
+        if (fresh == stale.get() && stale.compareAndSet(fresh, !fresh)) {
+            // Entering or leaving the stale state: whatever is cached may have missed invalidations
+            evictAll();
+            if (fresh) {
+                log.info("Cache invalidations are in sync again; local caches re-enabled");
+            } else {
+                log.warn("No cache invalidation sync for over {} ms; local caches disabled",
+                        TimeUnit.NANOSECONDS.toMillis(maxStalenessNanos));
+            }
+        }
+        return fresh;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void close() {
+        synchronized (unpublished) {
+            closed = true;
+            if (retrier != null) {
+                retrier.shutdownNow();
+            }
+            if (!unpublished.isEmpty()) {
+                log.warn("{} cache invalidation(s) were never published", unpublished.size());
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        List<Invalidation> invalidations = new ArrayList<>();
+        meetingKeys.forEach((region, keysOf) -> keysOf.apply(event)
+                .forEach(key -> invalidations.add(new Invalidation(region, key))));
+        if (invalidations.isEmpty()) {
+            return;
+        }
+        // Local caches evict through their own listeners
+        if (transport.isTransactional() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(invalidations);
+        } else {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishQuietly(invalidations);
+                }
+            });
+        }
+    }
+
+    private void invalidate(CacheRegion region, String key, boolean local) {
+        List<Invalidation> invalidations = List.of(new Invalidation(region, key));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publishQuietly(invalidations);
+            if (local) {
+                evict(region, key);
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                if (transport.isTransactional()) {
+                    // Fails the write rather than losing the invalidation
+                    publish(invalidations);
+                }
+            }
+
+            @Override
+            public void afterCommit() {
+                if (!transport.isTransactional()) {
+                    publishQuietly(invalidations);
+                }
+                if (local) {
+                    evict(region, key);
+                }
+            }
+        });
+    }
+
+    private void publish(List<Invalidation> invalidations) {
+        transport.publish(nodeId, invalidations);
+        published.increment(invalidations.size());
+    }
+
+    // After the commit nothing else records the write, so other nodes keep the stale entries until this goes through
+    private void publishQuietly(List<Invalidation> invalidations) {
+        try {
+            publish(invalidations);
+        } catch (RuntimeException e) {
+            publishFailures.increment(invalidations.size());
+            log.error("Publishing {} cache invalidation(s) failed, retrying in {} ms",
+                    invalidations.size(), retryMillis, e);
+            keep(invalidations);
+        }
+    }
+
+    private void keep(Collection<Invalidation> invalidations) {
+        synchronized (unpublished) {
+            unpublished.addAll(invalidations);
+            if (unpublished.size() > maxUnpublished) {
+                // Fewer messages that still cover every waiting key
+                List<Invalidation> regions = unpublished.stream()
+                        .map(invalidation -> new Invalidation(invalidation.region(), null))
+                        .distinct()
+                        .toList();
+                unpublished.clear();
+                unpublished.addAll(regions);
+            }
+            if (!retryScheduled && !closed) {
+                if (retrier == null) {
+                    retrier = Executors.newSingleThreadScheduledExecutor(
+                            Thread.ofPlatform().name("cache-invalidation-retry").daemon().factory());
+                }
+                retrier.schedule(this::retry, retryMillis, TimeUnit.MILLISECONDS);
+                retryScheduled = true;
+            }
+        }
+    }
+
+    private void retry() {
+        List<Invalidation> invalidations;
+        synchronized (unpublished) {
+            retryScheduled = false;
+            invalidations = List.copyOf(unpublished);
+            unpublished.clear();
+        }
+        if (invalidations.isEmpty()) {
+            return;
+        }
+        try {
+            publish(invalidations);
+            log.info("Published {} cache invalidation(s) on retry", invalidations.size());
+        } catch (RuntimeException e) {
+            log.warn("Publishing {} cache invalidation(s) failed again: {}", invalidations.size(), e.getMessage());
+            keep(invalidations);
+        }
+    }
+
+    private void onRemote(Invalidation invalidation, Duration delay) {
+        received.increment();
+        lag.record(delay);
+        evict(invalidation.region(), invalidation.key());
+    }
+
+    private void evict(CacheRegion region, String key) {
+        for (Consumer<String> evictor : evictors.getOrDefault(region, List.of())) {
+            try {
+                evictor.accept(key);
+            } catch (RuntimeException e) {
+                log.error("Evicting {} {} failed", region, key, e);
+            }
+        }
+    }
+
+    private void evictAll() {
+        evictors.keySet().forEach(region -> evict(region, null));
+    }
+
+    private double getUnpublished() {
+        synchronized (unpublished) {
+            return unpublished.size();
+        }
+    }
+
+    private double getSyncAgeSeconds() {
+        return (System.nanoTime() - transport.getLastSyncNanos()) / 1e9;
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "node";
+        }
+        String id = host + "-" + UUID.randomUUID().toString().substring(0, 8);
+        return id.length() > 64 ? id.substring(id.length() - 64) : id;
+    }
+}
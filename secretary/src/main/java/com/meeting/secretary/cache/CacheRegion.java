@@ -0,0 +1,20 @@
+package com.meeting.secretary.cache;
+
+/**
+ * Node-local caches kept coherent across instances.
+ * Names are stored in the invalidation table, so existing values must not be renamed.
+ */
+public enum CacheRegion {
+    ROOMS,
+    DEPARTMENTS,
+    // Key: feed type and name, e.g. ROOM:P1
+    CALENDAR_FEEDS,
+    // Key: stored start time of a changed meeting
+    STATISTICS,
+    // Watermark of the newest archived meeting
+    ARCHIVE,
+    // Key: department moved to another shard
+    SHARD_ASSIGNMENTS,
+    // Key: id of a changed meeting
+    CALENDAR_INDEX
+}
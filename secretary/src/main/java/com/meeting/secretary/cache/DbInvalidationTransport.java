@@ -0,0 +1,126 @@
+package com.meeting.secretary.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Invalidations through the cache_invalidations table.
+ * Rows are inserted in the writing transaction, so they become visible exactly when the write does.
+ * Each node polls the table; every poll re-reads rows created within the commit slack before the
+ * previous one, so a row inserted early but committed late is not missed. Ids already seen are skipped.
+ * Timestamps all come from the database clock.
+ */
+@Slf4j
+public class DbInvalidationTransport implements InvalidationTransport, AutoCloseable {
+
+    private final JdbcTemplate jdbc;
+    private final long pollMillis;
+    private final long commitSlackMillis;
+    private final long retentionMillis;
+    private final ScheduledExecutorService poller;
+
+    private volatile long lastSyncNanos = System.nanoTime();
+    private String node;
+    private InvalidationListener listener;
+    // Poller thread only
+    private Timestamp since;
+    private final Map<Long, Timestamp> seen = new HashMap<>();
+    private long lastPrune;
+
+    public DbInvalidationTransport(JdbcTemplate jdbc, long pollMillis, long commitSlackMillis, long retentionMillis) {
+        this.jdbc = jdbc;
+        this.pollMillis = pollMillis;
+        this.commitSlackMillis = commitSlackMillis;
+        this.retentionMillis = retentionMillis;
+        this.poller = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("cache-invalidation-poller").daemon().factory());
+    }
+
+    @Override
+    public boolean isTransactional() {
+        return true;
+    }
+
+    @Override
+    public void publish(String node, List<Invalidation> invalidations) {
+        jdbc.batchUpdate("INSERT INTO cache_invalidations (node, region, cache_key, created_at) " +
+                        "VALUES (?, ?, ?, CURRENT_TIMESTAMP(3))",
+                invalidations.stream()
+                        .map(invalidation -> new Object[]{node, invalidation.region().name(), invalidation.key()})
+                        .toList());
+    }
+
+    @Override
+    public synchronized void subscribe(String node, InvalidationListener listener) {
+        if (this.listener != null) {
+            throw new IllegalStateException("Already subscribed as " + this.node);
+        }
+        this.node = node;
+        this.listener = listener;
+        poller.scheduleWithFixedDelay(this::pollQuietly, 0, pollMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public long getLastSyncNanos() {
+        return lastSyncNanos;
+    }
+
+    @Override
+    public void close() {
+        poller.shutdownNow();
+    }
+
+    void poll() {
+        long started = System.nanoTime();
+        Timestamp now = jdbc.queryForObject("SELECT CURRENT_TIMESTAMP(3)", Timestamp.class);
+        if (since == null) {
+            // Caches start empty, older invalidations do not matter
+            since = now;
+        }
+        jdbc.query("SELECT id, node, region, cache_key, created_at FROM cache_invalidations " +
+                "WHERE created_at >= ? ORDER BY id", rs -> {
+            long id = rs.getLong("id");
+            Timestamp createdAt = rs.getTimestamp("created_at");
+            if (seen.putIfAbsent(id, createdAt) != null || node.equals(rs.getString("node"))) {
+                return;
+            }
+            CacheRegion region;
+            try {
+                region = CacheRegion.valueOf(rs.getString("region"));
+            } catch (IllegalArgumentException e) {
+                // Published by a newer version
+                return;
+            }
+            Duration lag = Duration.ofMillis(Math.max(0, now.getTime() - createdAt.getTime()));
+            listener.onInvalidation(new Invalidation(region, rs.getString("cache_key")), lag);
+        }, since);
+
+        since = new Timestamp(now.getTime() - commitSlackMillis);
+        seen.values().removeIf(createdAt -> createdAt.before(since));
+        lastSyncNanos = started;
+
+        if (now.getTime() - lastPrune >= retentionMillis) {
+            lastPrune = now.getTime();
+            int pruned = jdbc.update("DELETE FROM cache_invalidations WHERE created_at < ?",
+                    new Timestamp(now.getTime() - retentionMillis));
+            log.debug("Pruned {} cache invalidation(s)", pruned);
+        }
+    }
+
+    private void pollQuietly() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            log.warn("Polling cache invalidations failed", e);
+        }
+    }
+}
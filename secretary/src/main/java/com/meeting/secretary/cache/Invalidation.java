@@ -0,0 +1,7 @@
+package com.meeting.secretary.cache;
+
+/**
+ * Compact invalidation message: a region and a key in it, null meaning the whole region
+ */
+public record Invalidation(CacheRegion region, String key) {
+}
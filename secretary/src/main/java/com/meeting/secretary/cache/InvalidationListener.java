@@ -0,0 +1,15 @@
+package com.meeting.secretary.cache;
+
+import java.time.Duration;
+
+/**
+ * Receives invalidations published by other nodes
+ */
+@FunctionalInterface
+public interface InvalidationListener {
+
+    /**
+     * @param lag time between publishing and delivery
+     */
+    void onInvalidation(Invalidation invalidation, Duration lag);
+}
@@ -0,0 +1,28 @@
+package com.meeting.secretary.cache;
+
+import java.util.List;
+
+/**
+ * Carries invalidations between nodes. Implementations: a polled database table
+ * ({@link DbInvalidationTransport}) and an in-process stand-in ({@link LocalInvalidationTransport});
+ * a message broker can be plugged in as another bean with cache.coherence.transport=custom.
+ */
+public interface InvalidationTransport {
+
+    /**
+     * Whether publish joins the writing transaction (and runs before its commit) instead of after it
+     */
+    boolean isTransactional();
+
+    void publish(String node, List<Invalidation> invalidations);
+
+    /**
+     * Start delivering invalidations published by other nodes
+     */
+    void subscribe(String node, InvalidationListener listener);
+
+    /**
+     * {@link System#nanoTime()} at which every invalidation published before was known to be delivered
+     */
+    long getLastSyncNanos();
+}
@@ -0,0 +1,39 @@
+package com.meeting.secretary.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process stand-in for a broker: delivers straight to the other subscribers of the same instance.
+ * Enough for a single node (which has nobody to tell) and for tests running several nodes in one JVM.
+ */
+public class LocalInvalidationTransport implements InvalidationTransport {
+
+    private final Map<String, InvalidationListener> subscribers = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean isTransactional() {
+        return false;
+    }
+
+    @Override
+    public void publish(String node, List<Invalidation> invalidations) {
+        subscribers.forEach((subscriber, listener) -> {
+            if (!subscriber.equals(node)) {
+                invalidations.forEach(invalidation -> listener.onInvalidation(invalidation, Duration.ZERO));
+            }
+        });
+    }
+
+    @Override
+    public void subscribe(String node, InvalidationListener listener) {
+        subscribers.put(node, listener);
+    }
+
+    @Override
+    public long getLastSyncNanos() {
+        return System.nanoTime();
+    }
+}
@@ -0,0 +1,46 @@
+package com.meeting.secretary.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Small node-local cache of one region. Any invalidation of the region clears it, so it suits
+ * little, read-mostly data such as rooms and departments. Values loaded across an invalidation
+ * are returned but not kept.
+ */
+public class NearCache<K, V> {
+
+    private final CacheCoherence coherence;
+    private final int maxEntries;
+    private final Map<K, V> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public NearCache(CacheRegion region, CacheCoherence coherence, int maxEntries) {
+        this.coherence = coherence;
+        this.maxEntries = maxEntries;
+        coherence.register(region, key -> clear());
+    }
+
+    public V get(K key, Supplier<V> loader) {
+        if (!coherence.isFresh()) {
+            return loader.get();
+        }
+        V cached = entries.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long loadedAt = generation.get();
+        V value = loader.get();
+        if (value != null && generation.get() == loadedAt && entries.size() < maxEntries) {
+            entries.putIfAbsent(key, value);
+        }
+        return value;
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+}
@@ -0,0 +1,18 @@
+package com.meeting.secretary.calendar;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * A rendered iCalendar feed, kept until a meeting in it changes or it reaches its maximum age
+ */
+@Getter
+@AllArgsConstructor
+public class CalendarFeed {
+
+    private final byte[] body;
+    private final String etag;
+    private final Instant lastModified;
+}
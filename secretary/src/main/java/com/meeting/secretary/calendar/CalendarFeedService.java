@@ -0,0 +1,227 @@
+package com.meeting.secretary.calendar;
+
+import com.meeting.secretary.archive.MeetingArchive;
+import com.meeting.secretary.cache.CacheCoherence;
+import com.meeting.secretary.cache.CacheRegion;
+import com.meeting.secretary.dto.MeetingSummaryDTO;
+import com.meeting.secretary.entity.Meeting;
+import com.meeting.secretary.entity.MeetingParticipant;
+import com.meeting.secretary.entity.RsvpStatus;
+import com.meeting.secretary.repository.MeetingParticipantRepository;
+import com.meeting.secretary.repository.MeetingRepository;
+import com.meeting.secretary.service.MeetingChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serves iCalendar feeds per room, department and person.
+ * Rendered bytes are cached per feed and dropped when a meeting that was or is in the feed
+ * changes, so client polls are answered without touching the database. A person's feed also
+ * holds the meetings they are invited to; invitations edited on their own and the daily move of
+ * the {@code pastDays} window show up once the feed is older than {@code maxAgeSeconds}.
+ * Changes made on other instances arrive as CALENDAR_FEEDS invalidations keyed "TYPE:name".
+ */
+@Slf4j
+@Service
+public class CalendarFeedService {
+
+    private final MeetingRepository meetingRepository;
+    private final MeetingArchive meetingArchive;
+    private final MeetingParticipantRepository participantRepository;
+    private final IcsWriter icsWriter;
+    private final CacheCoherence cacheCoherence;
+    private final int pastDays;
+    private final int maxCachedFeeds;
+    private final long maxAgeNanos;
+
+    private final Map<FeedKey, CachedFeed> feeds = new ConcurrentHashMap<>();
+    // Bumped on every invalidation; a feed rendered across a bump may be stale and is not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    public CalendarFeedService(MeetingRepository meetingRepository,
+                               MeetingArchive meetingArchive,
+                               MeetingParticipantRepository participantRepository,
+                               IcsWriter icsWriter,
+                               CacheCoherence cacheCoherence,
+                               @Value("${calendar.feed.past-days:90}") int pastDays,
+                               @Value("${calendar.feed.max-cached:2000}") int maxCachedFeeds,
+                               @Value("${calendar.feed.max-age-seconds:300}") long maxAgeSeconds) {
+        this.meetingRepository = meetingRepository;
+        this.meetingArchive = meetingArchive;
+        this.participantRepository = participantRepository;
+        this.icsWriter = icsWriter;
+        this.cacheCoherence = cacheCoherence;
+        this.pastDays = pastDays;
+        this.maxCachedFeeds = maxCachedFeeds;
+        this.maxAgeNanos = TimeUnit.SECONDS.toNanos(maxAgeSeconds);
+        cacheCoherence.register(CacheRegion.CALENDAR_FEEDS, this::evict, CalendarFeedService::feedKeysOf);
+    }
+
+    /**
+     * Get the feed of a room, department or person, rendering it if it is not cached
+     */
+    @Transactional(readOnly = true)
+    public CalendarFeed getFeed(CalendarFeedType type, String name) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Tên lịch không được để trống");
+        }
+        FeedKey key = new FeedKey(type, name.strip());
+        boolean fresh = cacheCoherence.isFresh();
+        LocalDate from = LocalDate.now().minusDays(pastDays);
+        CachedFeed cached = fresh ? feeds.get(key) : null;
+        if (cached != null && cached.isValid(from)) {
+            return cached.feed();
+        }
+
+        long renderedAt = generation.get();
+        CalendarFeed feed = render(key, from.atStartOfDay());
+        if (fresh && generation.get() == renderedAt && (cached != null || feeds.size() < maxCachedFeeds)) {
+            CachedFeed rendered = new CachedFeed(feed, from, System.nanoTime() + maxAgeNanos);
+            // A valid feed put meanwhile by another request wins; an outdated one is replaced
+            return feeds.merge(key, rendered, (current, mine) -> current.isValid(from) ? current : mine).feed();
+        }
+        return feed;
+    }
+
+    /**
+     * Number of feeds currently cached
+     */
+    public int getCachedFeedCount() {
+        return feeds.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        generation.incrementAndGet();
+        evictFeedsOf(event.before());
+        evictFeedsOf(event.after());
+        if (event.participants() != null) {
+            event.participants().forEach(participant ->
+                    feeds.remove(new FeedKey(CalendarFeedType.PERSON, participant.getPerson())));
+        }
+    }
+
+    private void evictFeedsOf(MeetingSummaryDTO meeting) {
+        if (meeting == null) {
+            return;
+        }
+        feeds.remove(new FeedKey(CalendarFeedType.ROOM, meeting.getRoom()));
+        feeds.remove(new FeedKey(CalendarFeedType.DEPARTMENT, meeting.getDepartment()));
+        feeds.remove(new FeedKey(CalendarFeedType.PERSON, meeting.getChairman()));
+        feeds.remove(new FeedKey(CalendarFeedType.PERSON, meeting.getSecretary()));
+    }
+
+    // Invalidation from another instance: "TYPE:name", or null for every feed
+    private void evict(String key) {
+        generation.incrementAndGet();
+        if (key == null) {
+            feeds.clear();
+            return;
+        }
+        int colon = key.indexOf(':');
+        feeds.remove(new FeedKey(CalendarFeedType.valueOf(key.substring(0, colon)), key.substring(colon + 1)));
+    }
+
+    private static Collection<String> feedKeysOf(MeetingChangedEvent event) {
+        Set<String> keys = new HashSet<>();
+        for (MeetingSummaryDTO meeting : new MeetingSummaryDTO[]{event.before(), event.after()}) {
+            if (meeting != null) {
+                keys.add(CalendarFeedType.ROOM + ":" + meeting.getRoom());
+                keys.add(CalendarFeedType.DEPARTMENT + ":" + meeting.getDepartment());
+                keys.add(CalendarFeedType.PERSON + ":" + meeting.getChairman());
+                keys.add(CalendarFeedType.PERSON + ":" + meeting.getSecretary());
+            }
+        }
+        if (event.participants() != null) {
+            event.participants().forEach(participant ->
+                    keys.add(CalendarFeedType.PERSON + ":" + participant.getPerson()));
+        }
+        return keys;
+    }
+
+    private CalendarFeed render(FeedKey key, LocalDateTime from) {
+        List<Meeting> meetings = switch (key.type()) {
+            case ROOM -> meetingRepository.findByRoomAndStartTimeGreaterThanEqualOrderByStartTimeAsc(key.name(), from);
+            case DEPARTMENT -> meetingRepository.findByDepartmentAndStartTimeGreaterThanEqualOrderByStartTimeAsc(key.name(), from);
+            case PERSON -> meetingRepository.findByPersonFrom(key.name(), from);
+        };
+        List<Meeting> archived = switch (key.type()) {
+            case ROOM -> meetingArchive.findByRoomFrom(key.name(), from);
+            case DEPARTMENT -> meetingArchive.findByDepartmentFrom(key.name(), from);
+            case PERSON -> meetingArchive.findByPersonFrom(key.name(), from);
+        };
+        List<Meeting> invited = key.type() == CalendarFeedType.PERSON
+                ? findInvited(key.name(), from, meetings, archived)
+                : List.of();
+        if (!archived.isEmpty() || !invited.isEmpty()) {
+            meetings = new ArrayList<>(meetings);
+            meetings.addAll(archived);
+            meetings.addAll(invited);
+            meetings.sort(Comparator.comparing(Meeting::getStartTime));
+        }
+        byte[] body = icsWriter.write(key.type().getDisplayName() + " " + key.name(), meetings);
+        log.debug("Rendered calendar feed {} {} ({} meetings, {} bytes)", key.type(), key.name(), meetings.size(), body.length);
+        return new CalendarFeed(body, etag(body), Instant.now().truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    // Meetings the person takes part in besides the ones they organize, declined invitations left out
+    private List<Meeting> findInvited(String person, LocalDateTime from, List<Meeting> live, List<Meeting> archived) {
+        Set<Long> organized = new HashSet<>();
+        live.forEach(meeting -> organized.add(meeting.getId()));
+        archived.forEach(meeting -> organized.add(meeting.getId()));
+        List<Long> ids = participantRepository.findByPersonAndStartTimeGreaterThanEqual(person, from).stream()
+                .filter(row -> row.getRsvp() != RsvpStatus.DECLINED && !organized.contains(row.getMeetingId()))
+                .map(MeetingParticipant::getMeetingId)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Meeting> invited = new ArrayList<>(meetingRepository.findAllById(ids));
+        Set<Long> found = new HashSet<>();
+        invited.forEach(meeting -> found.add(meeting.getId()));
+        invited.addAll(meetingArchive.findAllById(ids.stream().filter(id -> !found.contains(id)).toList(), from));
+        return invited;
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record FeedKey(CalendarFeedType type, String name) {
+    }
+
+    // A rendered feed with the first day of its window and the time it stops being served
+    private record CachedFeed(CalendarFeed feed, LocalDate from, long expiresAtNanos) {
+
+        boolean isValid(LocalDate currentFrom) {
+            return from.equals(currentFrom) && System.nanoTime() - expiresAtNanos < 0;
+        }
+    }
+}
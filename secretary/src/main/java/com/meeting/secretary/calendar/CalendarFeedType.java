@@ -0,0 +1,20 @@
+package com.meeting.secretary.calendar;
+
+/**
+ * Whose meetings a calendar feed contains
+ */
+public enum CalendarFeedType {
+    ROOM("Phòng họp"),
+    DEPARTMENT("Phòng ban"),
+    PERSON("Lịch họp của");
+
+    private final String displayName;
+
+    CalendarFeedType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
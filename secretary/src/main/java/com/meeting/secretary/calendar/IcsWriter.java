@@ -0,0 +1,108 @@
+package com.meeting.secretary.calendar;
+
+import com.meeting.secretary.entity.Meeting;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Renders meetings as an RFC 5545 calendar.
+ * Meeting times are local to {@code calendar.time-zone} and written in UTC, so no VTIMEZONE is needed.
+ * The output depends only on the meetings, which keeps the ETag stable across re-renders.
+ */
+@Component
+public class IcsWriter {
+
+    private static final DateTimeFormatter UTC_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private final ZoneId zone;
+
+    public IcsWriter(@Value("${calendar.time-zone:Asia/Ho_Chi_Minh}") String timeZone) {
+        this.zone = ZoneId.of(timeZone);
+    }
+
+    public byte[] write(String calendarName, List<Meeting> meetings) {
+        StringBuilder ics = new StringBuilder(512 + meetings.size() * 400);
+        line(ics, "BEGIN:VCALENDAR");
+        line(ics, "VERSION:2.0");
+        line(ics, "PRODID:-//Virtual Secretary//Meeting Calendar//VI");
+        line(ics, "CALSCALE:GREGORIAN");
+        line(ics, "METHOD:PUBLISH");
+        line(ics, "X-WR-CALNAME:" + escape(calendarName));
+        line(ics, "X-PUBLISHED-TTL:PT15M");
+        line(ics, "REFRESH-INTERVAL;VALUE=DURATION:PT15M");
+        for (Meeting meeting : meetings) {
+            LocalDateTime stamp = meeting.getUpdatedAt() != null ? meeting.getUpdatedAt() : meeting.getStartTime();
+            line(ics, "BEGIN:VEVENT");
+            line(ics, "UID:meeting-" + meeting.getId() + "@virtual-secretary");
+            line(ics, "DTSTAMP:" + utc(stamp));
+            line(ics, "SEQUENCE:" + stamp.toEpochSecond(ZoneOffset.UTC) / 60);
+            line(ics, "DTSTART:" + utc(meeting.getStartTime()));
+            line(ics, "DTEND:" + utc(meeting.getEndTime()));
+            line(ics, "SUMMARY:" + escape(meeting.getTitle()));
+            line(ics, "LOCATION:" + escape(meeting.getRoom()));
+            StringBuilder description = new StringBuilder()
+                    .append("Chủ tọa: ").append(meeting.getChairman())
+                    .append("\nThư ký: ").append(meeting.getSecretary())
+                    .append("\nPhòng ban: ").append(meeting.getDepartment())
+                    .append("\nTrạng thái: ").append(meeting.getStatus().getDisplayName());
+            if (meeting.getDescription() != null && !meeting.getDescription().isBlank()) {
+                description.append("\n\n").append(meeting.getDescription());
+            }
+            line(ics, "DESCRIPTION:" + escape(description.toString()));
+            line(ics, "END:VEVENT");
+        }
+        line(ics, "END:VCALENDAR");
+        return ics.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String utc(LocalDateTime time) {
+        return time.atZone(zone).withZoneSameInstant(ZoneOffset.UTC).format(UTC_FORMAT);
+    }
+
+    private static String escape(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\', ';', ',' -> escaped.append('\\').append(c);
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> {
+                    // Dropped, \n already marks the line break
+                }
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Append a content line folded at 75 octets, never splitting a UTF-8 sequence or surrogate pair
+     */
+    private static void line(StringBuilder ics, String content) {
+        int octets = 0;
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            int size = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (octets + size > MAX_LINE_OCTETS) {
+                ics.append("\r\n ");
+                // The leading space of a continuation line counts towards its length
+                octets = 1;
+            }
+            ics.appendCodePoint(codePoint);
+            octets += size;
+            i += Character.charCount(codePoint);
+        }
+        ics.append("\r\n");
+    }
+}
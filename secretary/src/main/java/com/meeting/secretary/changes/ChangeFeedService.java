@@ -0,0 +1,278 @@
+package com.meeting.secretary.changes;
+
+import com.meeting.secretary.dto.ChangeBatchDTO;
+import com.meeting.secretary.dto.ChangeDTO;
+import com.meeting.secretary.entity.ChangeEntityType;
+import com.meeting.secretary.entity.ChangeLogEntry;
+import com.meeting.secretary.entity.ChangeOperation;
+import com.meeting.secretary.repository.ChangeLogRepository;
+import com.meeting.secretary.service.MeetingChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Change feed of meetings, rooms and departments for incremental client sync.
+ * Writers record upserts and tombstones in the change_log table within their own transaction
+ * (one batched insert right before commit), so an entry exists exactly when its change committed.
+ * Readers page through entries by sequence number. Sequence numbers are taken before commit, so a
+ * recent gap may still be filled by a slower transaction: a batch stops in front of a gap younger
+ * than changes.gap-wait-ms instead of letting the cursor pass it.
+ * Old entries superseded by a newer one for the same record are compacted away, and entries past
+ * the retention period are dropped; cursors older than what is kept get a resync signal.
+ */
+@Slf4j
+@Service
+public class ChangeFeedService {
+
+    private static final String INSERT_SQL = "INSERT INTO change_log (entity_type, entity_id, operation, payload, " +
+            "changed_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final ChangeLogRepository changeLogRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxBatch;
+    private final long gapWaitMillis;
+    private final long compactAfterMinutes;
+    private final int retentionDays;
+    private final int compactionBatchSize;
+    private ScheduledExecutorService maintenance;
+
+    private final Counter recorded;
+    private final Counter compacted;
+    private final Counter expired;
+    private final Counter resyncs;
+
+    public ChangeFeedService(ChangeLogRepository changeLogRepository,
+                             JdbcTemplate jdbcTemplate,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry registry,
+                             @Value("${changes.max-batch:500}") int maxBatch,
+                             @Value("${changes.gap-wait-ms:5000}") long gapWaitMillis,
+                             @Value("${changes.compact-after-minutes:60}") long compactAfterMinutes,
+                             @Value("${changes.retention-days:30}") int retentionDays,
+                             @Value("${changes.compaction-batch-size:1000}") int compactionBatchSize,
+                             @Value("${changes.maintenance-interval-minutes:15}") long maintenanceMinutes) {
+        this.changeLogRepository = changeLogRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxBatch = maxBatch;
+        this.gapWaitMillis = gapWaitMillis;
+        this.compactAfterMinutes = compactAfterMinutes;
+        this.retentionDays = retentionDays;
+        this.compactionBatchSize = compactionBatchSize;
+
+        this.recorded = Counter.builder("changes.recorded")
+                .description("Change feed entries written").register(registry);
+        this.compacted = Counter.builder("changes.compacted")
+                .description("Change feed entries removed because a newer entry supersedes them").register(registry);
+        this.expired = Counter.builder("changes.expired")
+                .description("Change feed entries removed after the retention period").register(registry);
+        this.resyncs = Counter.builder("changes.resyncs")
+                .description("Sync requests answered with resync required").register(registry);
+
+        if (maintenanceMinutes > 0) {
+            maintenance = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("change-log-maintenance").daemon().factory());
+            maintenance.scheduleWithFixedDelay(this::maintainQuietly, maintenanceMinutes, maintenanceMinutes,
+                    TimeUnit.MINUTES);
+        }
+    }
+
+    /**
+     * Record the new state of a record as part of the current transaction
+     */
+    public void recordUpsert(ChangeEntityType type, Long id, Object state) {
+        record(new Change(type, id, ChangeOperation.UPSERT, objectMapper.writeValueAsString(state)));
+    }
+
+    /**
+     * Record a tombstone for a deleted record as part of the current transaction
+     */
+    public void recordDelete(ChangeEntityType type, Long id) {
+        record(new Change(type, id, ChangeOperation.DELETE, null));
+    }
+
+    // Published inside the writing transaction by every meeting write path
+    @EventListener
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        if (event.after() == null) {
+            recordDelete(ChangeEntityType.MEETING, event.meetingId());
+        } else {
+            recordUpsert(ChangeEntityType.MEETING, event.meetingId(), event.after());
+        }
+    }
+
+    /**
+     * Changes after {@code since}, at most {@code limit} (null = changes.max-batch).
+     * Not read-only so it runs on the primary: on a lagging replica a gap could outlast changes.gap-wait-ms
+     * and the cursor would move past entries already committed on the primary.
+     */
+    @Transactional
+    public ChangeBatchDTO getChanges(long since, Integer limit) {
+        if (since < 0) {
+            throw new IllegalArgumentException("Tham số since không được âm");
+        }
+        int size = limit == null ? maxBatch : Math.min(Math.max(limit, 1), maxBatch);
+        List<ChangeLogEntry> entries = changeLogRepository.findBySeqGreaterThanOrderBySeqAsc(since,
+                PageRequest.of(0, size + 1));
+
+        // Read after the entries: retention only removes a prefix, so a cursor covered now was covered then
+        Long first = changeLogRepository.findFirstSeq();
+        if (first != null && since < first - 1) {
+            resyncs.increment();
+            return ChangeBatchDTO.builder()
+                    .changes(List.of())
+                    .nextSince(changeLogRepository.findLastSeq())
+                    .resyncRequired(true)
+                    .build();
+        }
+
+        LocalDateTime settled = LocalDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(gapWaitMillis));
+        List<ChangeDTO> changes = new ArrayList<>();
+        long cursor = since;
+        boolean waiting = false;
+        for (ChangeLogEntry entry : entries.subList(0, Math.min(size, entries.size()))) {
+            if (entry.getSeq() != cursor + 1 && entry.getChangedAt().isAfter(settled)) {
+                // A transaction holding the missing number may still commit
+                waiting = true;
+                break;
+            }
+            changes.add(toDTO(entry));
+            cursor = entry.getSeq();
+        }
+        return ChangeBatchDTO.builder()
+                .changes(changes)
+                .nextSince(cursor)
+                .hasMore(!waiting && entries.size() > size)
+                .build();
+    }
+
+    /**
+     * Compact and expire old entries
+     */
+    public void maintain() {
+        int superseded = compact();
+        int dropped = expire();
+        if (superseded > 0 || dropped > 0) {
+            log.info("Change log maintenance: {} superseded and {} expired entries removed", superseded, dropped);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (maintenance != null) {
+            maintenance.shutdownNow();
+        }
+    }
+
+    private void record(Change change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            insert(List.of(change));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<Change> pending = (List<Change>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<Change> changes = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    // As late as possible, so sequence numbers are taken close to the commit
+                    insert(changes);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ChangeFeedService.this);
+                }
+            });
+            pending = changes;
+        }
+        pending.add(change);
+    }
+
+    private void insert(List<Change> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, changes.stream()
+                .map(change -> new Object[]{change.type().name(), change.id(), change.operation().name(),
+                        change.payload(), now})
+                .toList());
+        recorded.increment(changes.size());
+    }
+
+    private int compact() {
+        Long first = changeLogRepository.findFirstSeq();
+        Long upTo = changeLogRepository.findLastSeqBefore(LocalDateTime.now().minusMinutes(compactAfterMinutes));
+        if (first == null || upTo == null) {
+            return 0;
+        }
+        // The first entry stays, so the start of the retained feed is always known
+        int total = 0;
+        List<Long> superseded;
+        do {
+            superseded = changeLogRepository.findSuperseded(first, upTo, PageRequest.of(0, compactionBatchSize));
+            List<Long> batch = superseded;
+            transactionTemplate.executeWithoutResult(tx -> changeLogRepository.deleteAllByIdInBatch(batch));
+            total += batch.size();
+        } while (superseded.size() == compactionBatchSize);
+        compacted.increment(total);
+        return total;
+    }
+
+    private int expire() {
+        Long last = changeLogRepository.findLastSeq();
+        Long upTo = changeLogRepository.findLastSeqBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (last == null || upTo == null) {
+            return 0;
+        }
+        // The newest entry stays, so an idle feed still knows where it ends
+        long limit = Math.min(upTo, last - 1);
+        Integer dropped = transactionTemplate.execute(tx -> changeLogRepository.deleteUpTo(limit));
+        expired.increment(dropped);
+        return dropped;
+    }
+
+    private ChangeDTO toDTO(ChangeLogEntry entry) {
+        return new ChangeDTO(entry.getSeq(), entry.getEntityType(), entry.getEntityId(), entry.getOperation(),
+                entry.getPayload() == null ? null : objectMapper.readTree(entry.getPayload()));
+    }
+
+    private void maintainQuietly() {
+        try {
+            maintain();
+        } catch (RuntimeException e) {
+            log.error("Change log maintenance failed", e);
+        }
+    }
+
+    private record Change(ChangeEntityType type, Long id, ChangeOperation operation, String payload) {
+    }
+}
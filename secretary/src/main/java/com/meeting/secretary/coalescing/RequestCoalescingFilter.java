@@ -0,0 +1,235 @@
+package com.meeting.secretary.coalescing;
+
+import com.meeting.secretary.datasource.ReadYourWritesTracker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Single-flight coalescing of identical idempotent reads (coalescing.paths).
+ * The first GET for a method, path, query, Accept and Origin runs normally and its response is
+ * buffered; identical requests arriving meanwhile wait for it and get a copy of the same bytes
+ * instead of running the queries again. With coalescing.stale-ms set, a successful response is
+ * kept that long and handed out right away to identical requests arriving while the next
+ * computation is in flight, so only the request that started the refresh waits.
+ * Only complete 2xx responses are shared; after an error, a timeout or a response marked with
+ * {@link #PARTIAL_HEADER} waiters run the request themselves and nothing is kept.
+ * Clients that wrote recently (read-your-writes) always run their own request.
+ * Runs before admission control, so waiters do not take admission slots.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@ConditionalOnProperty(name = "coalescing.enabled", matchIfMissing = true)
+public class RequestCoalescingFilter extends OncePerRequestFilter {
+
+    /**
+     * Set by handlers whose 2xx response leaves out parts that failed or missed a deadline
+     */
+    public static final String PARTIAL_HEADER = "X-Partial-Response";
+
+    private static final PathPatternParser PARSER = PathPatternParser.defaultInstance;
+
+    private final List<PathPattern> paths;
+    private final long maxWaitMillis;
+    private final long staleNanos;
+    private final int maxStaleEntries;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    private final Map<String, CompletableFuture<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, SharedResponse> recent = new ConcurrentHashMap<>();
+
+    private final Counter executed;
+    private final Counter shared;
+    private final Counter stale;
+    private final Counter fallbacks;
+
+    public RequestCoalescingFilter(MeterRegistry registry,
+                                   ObjectProvider<ReadYourWritesTracker> readYourWritesTracker,
+                                   @Value("${coalescing.paths:/api/dashboard,/api/meetings/statistics/**,"
+                                           + "/api/meetings/date/**,/api/meetings/month/**,/api/meetings/year/**,"
+                                           + "/api/analytics/**}")
+                                   List<String> paths,
+                                   @Value("${coalescing.max-wait-ms:10000}") long maxWaitMillis,
+                                   @Value("${coalescing.stale-ms:0}") long staleMillis,
+                                   @Value("${coalescing.max-stale-entries:256}") int maxStaleEntries) {
+        this.paths = paths.stream().map(String::strip).filter(path -> !path.isEmpty()).map(PARSER::parse).toList();
+        this.maxWaitMillis = maxWaitMillis;
+        this.staleNanos = TimeUnit.MILLISECONDS.toNanos(staleMillis);
+        this.maxStaleEntries = maxStaleEntries;
+        this.readYourWritesTracker = readYourWritesTracker.getIfAvailable();
+
+        this.executed = counter(registry, "executed");
+        this.shared = counter(registry, "shared");
+        this.stale = counter(registry, "stale");
+        this.fallbacks = counter(registry, "fallback");
+        Gauge.builder("coalescing.in_flight", inFlight, Map::size)
+                .description("Reads currently computed on behalf of identical requests").register(registry);
+        Gauge.builder("coalescing.ratio", this, RequestCoalescingFilter::ratio)
+                .description("Share of coalescable reads answered without running them").register(registry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        return paths.stream().noneMatch(pattern -> pattern.matches(path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (readYourWritesTracker != null && readYourWritesTracker.mustReadPrimary()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        String key = key(request);
+        CompletableFuture<SharedResponse> mine = new CompletableFuture<>();
+        CompletableFuture<SharedResponse> flight = inFlight.putIfAbsent(key, mine);
+        if (flight == null) {
+            lead(key, mine, request, response, chain);
+            return;
+        }
+
+        SharedResponse previous = recent.get(key);
+        if (previous != null && System.nanoTime() - previous.completedAt() < staleNanos) {
+            stale.increment();
+            previous.writeTo(response);
+            return;
+        }
+        SharedResponse result = await(flight);
+        if (result == null) {
+            fallbacks.increment();
+            chain.doFilter(request, response);
+            return;
+        }
+        shared.increment();
+        result.writeTo(response);
+    }
+
+    private void lead(String key, CompletableFuture<SharedResponse> mine, HttpServletRequest request,
+                      HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
+        executed.increment();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        SharedResponse result = null;
+        try {
+            chain.doFilter(request, wrapper);
+            int status = wrapper.getStatus();
+            if (!request.isAsyncStarted() && status >= 200 && status < 300
+                    && wrapper.getHeader(PARTIAL_HEADER) == null) {
+                result = SharedResponse.of(wrapper);
+            }
+        } finally {
+            // Requests arriving from now on start a new computation
+            inFlight.remove(key, mine);
+            mine.complete(result);
+            if (result != null && staleNanos > 0) {
+                remember(key, result);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private SharedResponse await(CompletableFuture<SharedResponse> flight) {
+        try {
+            return flight.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+
+    private void remember(String key, SharedResponse response) {
+        if (recent.size() >= maxStaleEntries) {
+            long now = System.nanoTime();
+            recent.values().removeIf(entry -> now - entry.completedAt() >= staleNanos);
+        }
+        if (recent.size() < maxStaleEntries || recent.containsKey(key)) {
+            recent.put(key, response);
+        }
+    }
+
+    private double ratio() {
+        double answered = shared.count() + stale.count();
+        double total = answered + executed.count() + fallbacks.count();
+        return total == 0 ? 0 : answered / total;
+    }
+
+    // Everything that can change the response body or headers
+    private static String key(HttpServletRequest request) {
+        return request.getRequestURI() + '?' + nullToEmpty(request.getQueryString())
+                + '\n' + nullToEmpty(request.getHeader(HttpHeaders.ACCEPT))
+                + '\n' + nullToEmpty(request.getHeader(HttpHeaders.ORIGIN));
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("coalescing.requests")
+                .description("Coalescable reads by how they were answered")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * Status, headers and body of a completed response
+     */
+    record SharedResponse(int status, String contentType, Map<String, List<String>> headers, byte[] body,
+                          long completedAt) {
+
+        static SharedResponse of(ContentCachingResponseWrapper response) {
+            Map<String, List<String>> headers = new LinkedHashMap<>();
+            for (String name : response.getHeaderNames()) {
+                if (!HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name) && !HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)
+                        && !HttpHeaders.SET_COOKIE.equalsIgnoreCase(name)) {
+                    headers.put(name, new ArrayList<>(response.getHeaders(name)));
+                }
+            }
+            return new SharedResponse(response.getStatus(), response.getContentType(), headers,
+                    response.getContentAsByteArray(), System.nanoTime());
+        }
+
+        void writeTo(HttpServletResponse response) throws IOException {
+            response.setStatus(status);
+            headers.forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+            if (contentType != null) {
+                response.setContentType(contentType);
+            }
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.meeting.secretary.config;
+
+import com.meeting.secretary.cache.DbInvalidationTransport;
+import com.meeting.secretary.cache.LocalInvalidationTransport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Transport of cache invalidations between instances (cache.coherence.transport):
+ * db polls a shared table, local only serves a single instance.
+ * With any other value an InvalidationTransport bean (e.g. backed by a broker) must be provided.
+ */
+@Configuration
+public class CacheCoherenceConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "cache.coherence.transport", havingValue = "db", matchIfMissing = true)
+    public DbInvalidationTransport dbInvalidationTransport(
+            JdbcTemplate jdbcTemplate,
+            @Value("${cache.coherence.poll-interval-ms:1000}") long pollMillis,
+            @Value("${cache.coherence.commit-slack-ms:5000}") long commitSlackMillis,
+            @Value("${cache.coherence.retention-minutes:10}") long retentionMinutes) {
+        return new DbInvalidationTransport(jdbcTemplate, pollMillis, commitSlackMillis, retentionMinutes * 60_000);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.coherence.transport", havingValue = "local")
+    public LocalInvalidationTransport localInvalidationTransport() {
+        return new LocalInvalidationTransport();
+    }
+}
@@ -0,0 +1,32 @@
+package com.meeting.secretary.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.security.Principal;
+
+/**
+ * Identifies the client behind a request for per-client policies.
+ * {@link #of} trusts the X-Client-Id header and suits cooperative uses such as read-your-writes;
+ * limits a client must not escape use {@link #verified}, which the client cannot choose.
+ */
+public final class ClientKeys {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    private ClientKeys() {
+    }
+
+    public static String of(HttpServletRequest request) {
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        return clientId != null && !clientId.isBlank() ? "id:" + clientId.strip() : "ip:" + request.getRemoteAddr();
+    }
+
+    /**
+     * The authenticated user, otherwise the remote address (the proxy's client address when
+     * server.forward-headers-strategy is set)
+     */
+    public static String verified(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        return principal != null ? "user:" + principal.getName() : "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,64 @@
+package com.meeting.secretary.config;
+
+import com.meeting.secretary.dto.ApiResponse;
+import com.meeting.secretary.dto.MeetingSummaryDTO;
+import com.meeting.secretary.entity.Meeting;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reflection hints for the GraalVM native image (-Pnative) beyond what Spring AOT infers.
+ * Lombok only generates code at compile time and entities/repositories are covered by the
+ * JPA AOT processing; what is left are types only reached dynamically.
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeHintsConfig.SecretaryRuntimeHints.class)
+public class NativeHintsConfig {
+
+    static class SecretaryRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Instantiated by Hibernate from "SELECT new ..." queries
+            hints.reflection().registerType(MeetingSummaryDTO.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+            // Serialized behind wildcard return types (ApiResponse<?>, List<?>, Map), which AOT cannot follow;
+            // every type of the dto package is covered so a new DTO needs no entry here
+            List<Class<?>> types = new ArrayList<>(dtoTypes(classLoader));
+            types.add(Meeting.class);
+            new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                    types.toArray(Class<?>[]::new));
+
+            // Swagger UI assets served by springdoc
+            hints.resources().registerPattern("META-INF/resources/webjars/swagger-ui/**");
+            // Fonts of the PDF minutes
+            hints.resources().registerPattern("fonts/*.ttf");
+        }
+
+        static List<Class<?>> dtoTypes(ClassLoader classLoader) {
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+                @Override
+                protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                    return true;
+                }
+            };
+            scanner.addIncludeFilter((reader, factory) -> true);
+            List<Class<?>> types = new ArrayList<>();
+            for (BeanDefinition candidate : scanner.findCandidateComponents(ApiResponse.class.getPackageName())) {
+                types.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+            }
+            return types;
+        }
+    }
+}
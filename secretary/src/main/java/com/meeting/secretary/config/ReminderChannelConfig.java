@@ -0,0 +1,33 @@
+package com.meeting.secretary.config;
+
+import com.meeting.secretary.reminder.LogReminderChannel;
+import com.meeting.secretary.reminder.WebhookReminderChannel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Channel reminders are delivered through (reminders.channel):
+ * log writes them to the application log in place of mail, webhook posts them as JSON.
+ * With any other value a ReminderChannel bean (e.g. SMTP) must be provided.
+ */
+@Configuration
+public class ReminderChannelConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "reminders.channel", havingValue = "log", matchIfMissing = true)
+    public LogReminderChannel logReminderChannel() {
+        return new LogReminderChannel();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "reminders.channel", havingValue = "webhook")
+    public WebhookReminderChannel webhookReminderChannel(
+            ObjectMapper objectMapper,
+            @Value("${reminders.webhook.url:}") String url,
+            @Value("${reminders.webhook.timeout-ms:5000}") long timeoutMillis) {
+        return new WebhookReminderChannel(objectMapper, url, timeoutMillis);
+    }
+}
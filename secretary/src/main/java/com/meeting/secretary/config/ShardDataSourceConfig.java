@@ -0,0 +1,151 @@
+package com.meeting.secretary.config;
+
+import com.meeting.secretary.cache.CacheCoherence;
+import com.meeting.secretary.repository.ArchivedMeetingRepository;
+import com.meeting.secretary.repository.MeetingRepository;
+import com.meeting.secretary.repository.ShardAssignmentRepository;
+import com.meeting.secretary.sharding.MeetingShards;
+import com.meeting.secretary.sharding.ShardDirectory;
+import com.meeting.secretary.sharding.ShardMover;
+import com.meeting.secretary.sharding.ShardRoutingDataSource;
+import com.meeting.secretary.sharding.ShardSchemaInitializer;
+import com.meeting.secretary.sharding.ShardedRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Department-based sharding of meetings, enabled by setting datasource.shards.urls.
+ * spring.datasource.* is shard 0 and also keeps every other table; the listed databases are
+ * shards 1..n. Meeting repositories are replaced by routing proxies, so services are unchanged.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.shards.urls")
+public class ShardDataSourceConfig {
+
+    public ShardDataSourceConfig(Environment environment) {
+        if (environment.containsProperty("datasource.replica.urls")) {
+            throw new IllegalStateException("datasource.shards.urls and datasource.replica.urls cannot be combined");
+        }
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties,
+                                              @Value("${datasource.shards.urls}") String urls) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("shard-0");
+        if (ShardSchemaInitializer.isMysql(properties.determineUrl())) {
+            dataSource.setConnectionInitSql(ShardSchemaInitializer.mysqlSessionSql(0, shardUrls(urls).size() + 1));
+        }
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ShardRoutingDataSource shardRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            @Value("${datasource.shards.urls}") String urls,
+            @Value("${datasource.shards.username:}") String username,
+            @Value("${datasource.shards.password:}") String password,
+            @Value("${datasource.shards.pool-size:10}") int poolSize) {
+        List<String> shardUrls = shardUrls(urls);
+        List<HikariDataSource> shards = new ArrayList<>();
+        shards.add(primaryDataSource);
+        for (String url : shardUrls) {
+            HikariDataSource shard = new HikariDataSource();
+            shard.setPoolName("shard-" + shards.size());
+            shard.setJdbcUrl(url);
+            shard.setDriverClassName(properties.determineDriverClassName());
+            shard.setUsername(username.isEmpty() ? properties.determineUsername() : username);
+            shard.setPassword(password.isEmpty() ? properties.determinePassword() : password);
+            shard.setMaximumPoolSize(poolSize);
+            if (ShardSchemaInitializer.isMysql(url)) {
+                shard.setConnectionInitSql(ShardSchemaInitializer.mysqlSessionSql(shards.size(), shardUrls.size() + 1));
+            }
+            shards.add(shard);
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    @Bean(destroyMethod = "close")
+    public MeetingShards meetingShards(ShardRoutingDataSource shardRoutingDataSource,
+                                       PlatformTransactionManager transactionManager,
+                                       EntityManagerFactory entityManagerFactory) {
+        return new MeetingShards(shardRoutingDataSource, transactionManager, entityManagerFactory);
+    }
+
+    @Bean
+    public ShardSchemaInitializer shardSchemaInitializer(EntityManagerFactory entityManagerFactory,
+                                                         MeetingShards meetingShards) {
+        return new ShardSchemaInitializer(entityManagerFactory, meetingShards);
+    }
+
+    @Bean(destroyMethod = "close")
+    @DependsOn("shardSchemaInitializer")
+    public ShardDirectory shardDirectory(ShardAssignmentRepository shardAssignmentRepository,
+                                         MeetingShards meetingShards,
+                                         CacheCoherence cacheCoherence,
+                                         @Value("${datasource.shards.assignment-refresh-ms:30000}") long refreshMillis) {
+        return new ShardDirectory(shardAssignmentRepository, meetingShards, cacheCoherence, refreshMillis);
+    }
+
+    @Bean
+    public ShardMover shardMover(MeetingShards meetingShards, ShardDirectory shardDirectory,
+                                 @Value("${datasource.shards.move-batch-size:500}") int batchSize) {
+        return new ShardMover(meetingShards, shardDirectory, batchSize);
+    }
+
+    @Bean
+    @Primary
+    public MeetingRepository shardedMeetingRepository(@Qualifier("meetingRepository") MeetingRepository meetingRepository,
+                                                      MeetingShards meetingShards,
+                                                      ShardDirectory shardDirectory,
+                                                      ShardMover shardMover) {
+        return ShardedRepository.create(MeetingRepository.class, meetingRepository, ShardMover.MEETINGS,
+                meetingShards, shardDirectory, shardMover);
+    }
+
+    @Bean
+    @Primary
+    public ArchivedMeetingRepository shardedArchivedMeetingRepository(
+            @Qualifier("archivedMeetingRepository") ArchivedMeetingRepository archivedMeetingRepository,
+            MeetingShards meetingShards,
+            ShardDirectory shardDirectory,
+            ShardMover shardMover) {
+        return ShardedRepository.create(ArchivedMeetingRepository.class, archivedMeetingRepository, ShardMover.ARCHIVE,
+                meetingShards, shardDirectory, shardMover);
+    }
+
+    private static List<String> shardUrls(String urls) {
+        List<String> shardUrls = new ArrayList<>();
+        for (String url : StringUtils.commaDelimitedListToStringArray(urls)) {
+            if (!url.isBlank()) {
+                shardUrls.add(url.strip());
+            }
+        }
+        return shardUrls;
+    }
+}
@@ -0,0 +1,29 @@
+package com.meeting.secretary.config;
+
+import com.meeting.secretary.audio.AudioRelayWebSocketHandler;
+import com.meeting.secretary.transcript.TranscriptWebSocketHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * WebSocket endpoints configuration
+ */
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final TranscriptWebSocketHandler transcriptWebSocketHandler;
+    private final AudioRelayWebSocketHandler audioRelayWebSocketHandler;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(transcriptWebSocketHandler, "/ws/meetings/*/transcript")
+                .setAllowedOrigins("*");
+        registry.addHandler(audioRelayWebSocketHandler, "/ws/meetings/*/audio")
+                .setAllowedOrigins("*");
+    }
+}
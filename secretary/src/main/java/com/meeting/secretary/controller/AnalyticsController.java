@@ -0,0 +1,55 @@
+package com.meeting.secretary.controller;
+
+import com.meeting.secretary.analytics.RoomUtilizationService;
+import com.meeting.secretary.dto.ApiResponse;
+import com.meeting.secretary.dto.StatisticsBucket;
+import com.meeting.secretary.dto.UtilizationReportDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * REST Controller for analytics reports
+ */
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+@Tag(name = "Analytics", description = "API phân tích mức sử dụng phòng họp")
+@CrossOrigin(origins = "*")
+public class AnalyticsController {
+
+    private final RoomUtilizationService roomUtilizationService;
+
+    @Operation(summary = "Mức sử dụng phòng họp",
+            description = "Tỷ lệ giờ đã đặt trên giờ làm việc, số cuộc họp đồng thời tối đa và khoảng trống theo ngày/tuần/tháng")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Thành công"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Tham số không hợp lệ")
+    })
+    @GetMapping("/rooms/utilization")
+    public ResponseEntity<ApiResponse<UtilizationReportDTO>> getRoomUtilization(
+            @Parameter(description = "Ngày bắt đầu (yyyy-MM-dd)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Ngày kết thúc (yyyy-MM-dd, bao gồm)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Chu kỳ: day, week hoặc month")
+            @RequestParam(defaultValue = "week") String period,
+            @Parameter(description = "Chỉ tính cho một phòng họp")
+            @RequestParam(required = false) String room) {
+        StatisticsBucket bucket;
+        try {
+            bucket = StatisticsBucket.valueOf(period.strip().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Chu kỳ không hợp lệ: " + period);
+        }
+        UtilizationReportDTO report = roomUtilizationService.getReport(from, to, bucket, room);
+        return ResponseEntity.ok(ApiResponse.success("Lấy mức sử dụng phòng họp thành công", report));
+    }
+}
@@ -0,0 +1,44 @@
+package com.meeting.secretary.controller;
+
+import com.meeting.secretary.audio.AsrRelayService;
+import com.meeting.secretary.dto.ApiResponse;
+import com.meeting.secretary.dto.AudioRelayStatsDTO;
+import com.meeting.secretary.exception.ResourceNotFoundException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for audio relay monitoring
+ */
+@RestController
+@RequestMapping("/api/audio-relay")
+@RequiredArgsConstructor
+@Tag(name = "Audio Relay", description = "API giám sát chuyển tiếp âm thanh tới máy chủ ASR")
+@CrossOrigin(origins = "*")
+public class AudioRelayController {
+
+    private final AsrRelayService asrRelayService;
+
+    @Operation(summary = "Lấy thống kê chuyển tiếp âm thanh của tất cả cuộc họp")
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<AudioRelayStatsDTO>>> getAllStats() {
+        return ResponseEntity.ok(ApiResponse.success(asrRelayService.getAllStats()));
+    }
+
+    @Operation(summary = "Lấy thống kê chuyển tiếp âm thanh của cuộc họp")
+    @GetMapping("/{meetingId}")
+    public ResponseEntity<ApiResponse<AudioRelayStatsDTO>> getStats(
+            @Parameter(description = "ID của cuộc họp") @PathVariable Long meetingId) {
+        AudioRelayStatsDTO stats = asrRelayService.getStats(meetingId);
+        if (stats == null) {
+            throw new ResourceNotFoundException("Không có kết nối âm thanh cho cuộc họp với ID " + meetingId);
+        }
+        return ResponseEntity.ok(ApiResponse.success(stats));
+    }
+}
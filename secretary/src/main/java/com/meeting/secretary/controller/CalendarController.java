@@ -0,0 +1,67 @@
+package com.meeting.secretary.controller;
+
+import com.meeting.secretary.calendar.CalendarFeed;
+import com.meeting.secretary.calendar.CalendarFeedService;
+import com.meeting.secretary.calendar.CalendarFeedType;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * REST Controller for iCalendar (.ics) subscriptions.
+ * Responses carry ETag and Last-Modified; conditional polls are answered with 304 Not Modified.
+ */
+@RestController
+@RequestMapping("/api/calendars")
+@RequiredArgsConstructor
+@Tag(name = "Calendar", description = "API lịch họp dạng iCalendar để đăng ký trên ứng dụng lịch")
+@CrossOrigin(origins = "*")
+public class CalendarController {
+
+    private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+
+    private final CalendarFeedService calendarFeedService;
+
+    @Operation(summary = "Lịch họp của một phòng họp")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Thành công"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "Lịch không thay đổi")
+    })
+    @GetMapping("/rooms/{room}.ics")
+    public ResponseEntity<byte[]> getRoomCalendar(
+            @Parameter(description = "Tên phòng họp") @PathVariable String room) {
+        return toResponse(calendarFeedService.getFeed(CalendarFeedType.ROOM, room));
+    }
+
+    @Operation(summary = "Lịch họp của một phòng ban")
+    @GetMapping("/departments/{department}.ics")
+    public ResponseEntity<byte[]> getDepartmentCalendar(
+            @Parameter(description = "Tên phòng ban") @PathVariable String department) {
+        return toResponse(calendarFeedService.getFeed(CalendarFeedType.DEPARTMENT, department));
+    }
+
+    @Operation(summary = "Lịch họp của một người (chủ tọa hoặc thư ký)")
+    @GetMapping("/people/{person}.ics")
+    public ResponseEntity<byte[]> getPersonCalendar(
+            @Parameter(description = "Tên chủ tọa hoặc thư ký") @PathVariable String person) {
+        return toResponse(calendarFeedService.getFeed(CalendarFeedType.PERSON, person));
+    }
+
+    private ResponseEntity<byte[]> toResponse(CalendarFeed feed) {
+        // Spring turns this into 304 when If-None-Match / If-Modified-Since match
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .eTag(feed.getEtag())
+                .lastModified(feed.getLastModified())
+                .cacheControl(CacheControl.noCache())
+                .body(feed.getBody());
+    }
+}
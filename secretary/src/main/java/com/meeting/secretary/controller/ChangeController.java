@@ -0,0 +1,34 @@
+package com.meeting.secretary.controller;
+
+import com.meeting.secretary.changes.ChangeFeedService;
+import com.meeting.secretary.dto.ApiResponse;
+import com.meeting.secretary.dto.ChangeBatchDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for incremental sync of meetings, rooms and departments
+ */
+@RestController
+@RequestMapping("/api/changes")
+@RequiredArgsConstructor
+@Tag(name = "Change Feed", description = "API đồng bộ dần các thay đổi của cuộc họp, phòng họp và phòng ban")
+@CrossOrigin(origins = "*")
+public class ChangeController {
+
+    private final ChangeFeedService changeFeedService;
+
+    @Operation(summary = "Lấy các thay đổi sau một vị trí (since), theo thứ tự",
+            description = "Lưu nextSince để dùng cho lần gọi sau; hasMore = còn thay đổi, gọi tiếp ngay. " +
+                    "Nếu resyncRequired = true: tải lại toàn bộ dữ liệu rồi tiếp tục từ nextSince.")
+    @GetMapping
+    public ResponseEntity<ApiResponse<ChangeBatchDTO>> getChanges(
+            @Parameter(description = "Vị trí đã đồng bộ tới (0 = từ đầu)") @RequestParam(defaultValue = "0") long since,
+            @Parameter(description = "Số thay đổi tối đa") @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(ApiResponse.success(changeFeedService.getChanges(since, limit)));
+    }
+}
@@ -0,0 +1,39 @@
+package com.meeting.secretary.controller;
+
+import com.meeting.secretary.coalescing.RequestCoalescingFilter;
+import com.meeting.secretary.dto.ApiResponse;
+import com.meeting.secretary.dto.DashboardDTO;
+import com.meeting.secretary.service.DashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for the home page dashboard
+ */
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+@Tag(name = "Dashboard", description = "API dữ liệu trang chủ")
+@CrossOrigin(origins = "*")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    @Operation(summary = "Lấy dữ liệu trang chủ trong một lần gọi",
+            description = "Thống kê, cuộc họp hôm nay, cuộc họp đang diễn ra, phòng họp và phòng ban. " +
+                    "Phần nào quá thời hạn thì để trống, partial = true và tên phần đó nằm trong missing.")
+    @GetMapping
+    public ResponseEntity<ApiResponse<DashboardDTO>> getDashboard() {
+        DashboardDTO dashboard = dashboardService.getDashboard();
+        if (dashboard.isPartial()) {
+            // Not shared with or kept for other requests by request coalescing
+            return ResponseEntity.ok()
+                    .header(RequestCoalescingFilter.PARTIAL_HEADER, "true")
+                    .body(ApiResponse.success("Lấy dữ liệu trang chủ thành công (thiếu một phần)", dashboard));
+        }
+        return ResponseEntity.ok(ApiResponse.success("Lấy dữ liệu trang chủ thành công", dashboard));
+    }
+}
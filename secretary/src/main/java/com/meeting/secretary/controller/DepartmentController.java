@@ -2,7 +2,9 @@ package com.meeting.secretary.controller;
 
 import com.meeting.secretary.dto.ApiResponse;
 import com.meeting.secretary.dto.DepartmentDTO;
+import com.meeting.secretary.dto.SyncResultDTO;
 import com.meeting.secretary.entity.Department;
+import com.meeting.secretary.service.DirectorySyncService;
 import com.meeting.secretary.service.DepartmentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -29,6 +31,7 @@ import java.util.List;
 public class DepartmentController {
 
     private final DepartmentService departmentService;
+    private final DirectorySyncService directorySyncService;
 
     @Operation(summary = "Lấy danh sách tất cả phòng ban")
     @ApiResponses(value = {
@@ -94,4 +97,16 @@ public class DepartmentController {
         departmentService.deleteDepartment(id);
         return ResponseEntity.ok(ApiResponse.success("Xóa phòng ban thành công", null));
     }
+
+    @Operation(summary = "Đồng bộ hàng loạt phòng ban",
+            description = "Thêm mới hoặc cập nhật theo tên; trả về số mục đã thêm, đã cập nhật và không đổi")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Đồng bộ thành công"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Dữ liệu không hợp lệ")
+    })
+    @PostMapping("/sync")
+    public ResponseEntity<ApiResponse<SyncResultDTO>> syncDepartments(@RequestBody List<DepartmentDTO> entries) {
+        SyncResultDTO result = directorySyncService.syncDepartments(entries);
+        return ResponseEntity.ok(ApiResponse.success("Đồng bộ phòng ban thành công", result));
+    }
 }
@@ -0,0 +1,66 @@
+package com.meeting.secretary.controller;
+
+import com.meeting.secretary.dto.ApiResponse;
+import com.meeting.secretary.entity.BackgroundJob;
+import com.meeting.secretary.entity.JobType;
+import com.meeting.secretary.job.JobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import tools.jackson.databind.JsonNode;
+
+import java.util.List;
+
+/**
+ * REST Controller for background jobs
+ */
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+@Tag(name = "Job", description = "API theo dõi tác vụ nền")
+@CrossOrigin(origins = "*")
+public class JobController {
+
+    private final JobService jobService;
+
+    @Operation(summary = "Lấy danh sách tác vụ gần đây")
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<BackgroundJob>>> getRecentJobs(
+            @Parameter(description = "Loại tác vụ") @RequestParam(required = false) JobType type) {
+        return ResponseEntity.ok(ApiResponse.success(jobService.getRecentJobs(type)));
+    }
+
+    @Operation(summary = "Lấy trạng thái tác vụ")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Thành công"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Không tìm thấy tác vụ")
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<BackgroundJob>> getJob(
+            @Parameter(description = "ID của tác vụ") @PathVariable String id) {
+        return ResponseEntity.ok(ApiResponse.success(jobService.getJob(id)));
+    }
+
+    @Operation(summary = "Lấy kết quả tác vụ đã hoàn thành")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Thành công"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Tác vụ chưa hoàn thành"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Không tìm thấy tác vụ")
+    })
+    @GetMapping("/{id}/result")
+    public ResponseEntity<ApiResponse<JsonNode>> getResult(
+            @Parameter(description = "ID của tác vụ") @PathVariable String id) {
+        return ResponseEntity.ok(ApiResponse.success(jobService.getResult(id)));
+    }
+
+    @Operation(summary = "Hủy tác vụ")
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ApiResponse<BackgroundJob>> cancelJob(
+            @Parameter(description = "ID của tác vụ") @PathVariable String id) {
+        return ResponseEntity.ok(ApiResponse.success("Đã yêu cầu hủy tác vụ", jobService.cancel(id)));
+    }
+}
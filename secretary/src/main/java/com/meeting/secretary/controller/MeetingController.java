@@ -1,11 +1,24 @@
 package com.meeting.secretary.controller;
 
 import com.meeting.secretary.dto.ApiResponse;
+import com.meeting.secretary.dto.BulkMeetingRequestDTO;
+import com.meeting.secretary.dto.BulkResultDTO;
 import com.meeting.secretary.dto.MeetingDTO;
+import com.meeting.secretary.dto.MeetingFields;
+import com.meeting.secretary.dto.MeetingSearchCriteria;
 import com.meeting.secretary.dto.MeetingStatisticsDTO;
+import com.meeting.secretary.dto.MeetingStatusUpdateDTO;
+import com.meeting.secretary.dto.MeetingSummaryDTO;
+import com.meeting.secretary.dto.PagedResultDTO;
+import com.meeting.secretary.dto.StatisticsBucket;
+import com.meeting.secretary.dto.StatisticsGroupBy;
+import com.meeting.secretary.dto.StatisticsSeriesDTO;
 import com.meeting.secretary.entity.Meeting;
 import com.meeting.secretary.entity.MeetingStatus;
+import com.meeting.secretary.service.MeetingBulkService;
 import com.meeting.secretary.service.MeetingService;
+import com.meeting.secretary.service.StatisticsSeriesService;
+import com.meeting.secretary.status.MeetingStatusWriteBehind;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,12 +27,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -33,7 +48,12 @@ import java.util.Map;
 @CrossOrigin(origins = "*")
 public class MeetingController {
 
+    private static final String FIELDS_DESCRIPTION = "Chỉ trả về các trường này, ví dụ id,title,startTime,room";
+
     private final MeetingService meetingService;
+    private final MeetingBulkService meetingBulkService;
+    private final MeetingStatusWriteBehind statusWriteBehind;
+    private final StatisticsSeriesService statisticsSeriesService;
 
     // ==================== CRUD Operations ====================
 
@@ -43,9 +63,12 @@ public class MeetingController {
                     content = @Content(schema = @Schema(implementation = ApiResponse.class)))
     })
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Meeting>>> getAllMeetings() {
+    public ResponseEntity<ApiResponse<List<?>>> getAllMeetings(
+            @Parameter(description = FIELDS_DESCRIPTION)
+            @RequestParam(required = false) String fields) {
         List<Meeting> meetings = meetingService.getAllMeetings();
-        return ResponseEntity.ok(ApiResponse.success("Lấy danh sách cuộc họp thành công", meetings));
+        return ResponseEntity.ok(ApiResponse.success("Lấy danh sách cuộc họp thành công",
+                MeetingFields.select(meetings, fields)));
     }
 
     @Operation(summary = "Lấy thông tin cuộc họp theo ID")
@@ -91,12 +114,21 @@ public class MeetingController {
     @Operation(summary = "Cập nhật trạng thái cuộc họp")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Cập nhật thành công"),
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Không tìm thấy cuộc họp")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "Đã ghi nhận, sẽ được lưu ở lần ghi tiếp theo (write-behind)"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Không tìm thấy cuộc họp"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "Bộ đệm ghi đã đầy")
     })
     @PatchMapping("/{id}/status")
-    public ResponseEntity<ApiResponse<Meeting>> updateMeetingStatus(
+    public ResponseEntity<ApiResponse<?>> updateMeetingStatus(
             @Parameter(description = "ID của cuộc họp") @PathVariable Long id,
             @Parameter(description = "Trạng thái mới") @RequestParam MeetingStatus status) {
+        if (statusWriteBehind.isEnabled()) {
+            MeetingStatusUpdateDTO update = statusWriteBehind.submit(id, status);
+            if (!update.isPersisted()) {
+                return ResponseEntity.accepted().body(ApiResponse.success("Đã ghi nhận cập nhật trạng thái", update));
+            }
+            return ResponseEntity.ok(ApiResponse.success("Cập nhật trạng thái cuộc họp thành công", update));
+        }
         Meeting meeting = meetingService.updateMeetingStatus(id, status);
         return ResponseEntity.ok(ApiResponse.success("Cập nhật trạng thái cuộc họp thành công", meeting));
     }
@@ -113,57 +145,135 @@ public class MeetingController {
         return ResponseEntity.ok(ApiResponse.success("Xóa cuộc họp thành công", null));
     }
 
+    // ==================== Bulk Operations ====================
+
+    @Operation(summary = "Đổi trạng thái hàng loạt",
+            description = "Chọn cuộc họp theo danh sách ID hoặc bộ lọc (khoảng thời gian, phòng họp, phòng ban); trả về kết quả từng cuộc họp")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Thành công"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Yêu cầu không hợp lệ")
+    })
+    @PostMapping("/bulk/status")
+    public ResponseEntity<ApiResponse<BulkResultDTO>> bulkUpdateStatus(@RequestBody BulkMeetingRequestDTO request) {
+        BulkResultDTO result = meetingBulkService.updateStatus(request);
+        return ResponseEntity.ok(ApiResponse.success("Cập nhật trạng thái hàng loạt thành công", result));
+    }
+
+    @Operation(summary = "Dời lịch hàng loạt",
+            description = "Dời thời gian bắt đầu theo shiftMinutes và thời gian kết thúc theo endShiftMinutes (mặc định bằng shiftMinutes)")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Thành công"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Yêu cầu không hợp lệ")
+    })
+    @PostMapping("/bulk/reschedule")
+    public ResponseEntity<ApiResponse<BulkResultDTO>> bulkReschedule(@RequestBody BulkMeetingRequestDTO request) {
+        BulkResultDTO result = meetingBulkService.reschedule(request);
+        return ResponseEntity.ok(ApiResponse.success("Dời lịch hàng loạt thành công", result));
+    }
+
+    @Operation(summary = "Xóa hàng loạt")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Thành công"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Yêu cầu không hợp lệ")
+    })
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<ApiResponse<BulkResultDTO>> bulkDelete(@RequestBody BulkMeetingRequestDTO request) {
+        BulkResultDTO result = meetingBulkService.delete(request);
+        return ResponseEntity.ok(ApiResponse.success("Xóa hàng loạt thành công", result));
+    }
+
     // ==================== Filter Operations ====================
 
+    @Operation(summary = "Tìm kiếm cuộc họp theo nhiều tiêu chí kết hợp")
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<PagedResultDTO<MeetingSummaryDTO>>> searchMeetings(
+            @Parameter(description = "Trạng thái") @RequestParam(required = false) MeetingStatus status,
+            @Parameter(description = "Tên phòng ban") @RequestParam(required = false) String department,
+            @Parameter(description = "Tên phòng họp") @RequestParam(required = false) String room,
+            @Parameter(description = "Chủ tọa") @RequestParam(required = false) String chairman,
+            @Parameter(description = "Thư ký") @RequestParam(required = false) String secretary,
+            @Parameter(description = "Bắt đầu từ (yyyy-MM-ddTHH:mm:ss)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Bắt đầu trước (yyyy-MM-ddTHH:mm:ss)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Số trang (bắt đầu từ 0)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Kích thước trang") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Sắp xếp theo (startTime, endTime, title, status, createdAt)")
+            @RequestParam(defaultValue = "startTime") String sortBy,
+            @Parameter(description = "Chiều sắp xếp (ASC, DESC)") @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            @Parameter(description = "Có tính tổng số kết quả hay không") @RequestParam(defaultValue = "false") boolean includeTotal) {
+        MeetingSearchCriteria criteria = MeetingSearchCriteria.builder()
+                .status(status)
+                .department(department)
+                .room(room)
+                .chairman(chairman)
+                .secretary(secretary)
+                .from(from)
+                .to(to)
+                .build();
+        PagedResultDTO<MeetingSummaryDTO> result =
+                meetingService.searchMeetings(criteria, page, size, sortBy, direction, includeTotal);
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+
     @Operation(summary = "Lấy danh sách cuộc họp theo trạng thái")
     @GetMapping("/status/{status}")
-    public ResponseEntity<ApiResponse<List<Meeting>>> getMeetingsByStatus(
+    public ResponseEntity<ApiResponse<List<?>>> getMeetingsByStatus(
             @Parameter(description = "Trạng thái cuộc họp (SCHEDULED, ONGOING, FINISHED)") 
-            @PathVariable MeetingStatus status) {
+            @PathVariable MeetingStatus status,
+            @Parameter(description = FIELDS_DESCRIPTION)
+            @RequestParam(required = false) String fields) {
         List<Meeting> meetings = meetingService.getMeetingsByStatus(status);
-        return ResponseEntity.ok(ApiResponse.success(meetings));
+        return ResponseEntity.ok(ApiResponse.success(MeetingFields.select(meetings, fields)));
     }
 
     @Operation(summary = "Lấy danh sách cuộc họp theo phòng ban")
     @GetMapping("/department/{department}")
-    public ResponseEntity<ApiResponse<List<Meeting>>> getMeetingsByDepartment(
-            @Parameter(description = "Tên phòng ban") @PathVariable String department) {
+    public ResponseEntity<ApiResponse<List<?>>> getMeetingsByDepartment(
+            @Parameter(description = "Tên phòng ban") @PathVariable String department,
+            @Parameter(description = FIELDS_DESCRIPTION)
+            @RequestParam(required = false) String fields) {
         List<Meeting> meetings = meetingService.getMeetingsByDepartment(department);
-        return ResponseEntity.ok(ApiResponse.success(meetings));
+        return ResponseEntity.ok(ApiResponse.success(MeetingFields.select(meetings, fields)));
     }
 
     @Operation(summary = "Lấy danh sách cuộc họp theo phòng họp")
     @GetMapping("/room/{room}")
-    public ResponseEntity<ApiResponse<List<Meeting>>> getMeetingsByRoom(
-            @Parameter(description = "Tên phòng họp") @PathVariable String room) {
+    public ResponseEntity<ApiResponse<List<?>>> getMeetingsByRoom(
+            @Parameter(description = "Tên phòng họp") @PathVariable String room,
+            @Parameter(description = FIELDS_DESCRIPTION)
+            @RequestParam(required = false) String fields) {
         List<Meeting> meetings = meetingService.getMeetingsByRoom(room);
-        return ResponseEntity.ok(ApiResponse.success(meetings));
+        return ResponseEntity.ok(ApiResponse.success(MeetingFields.select(meetings, fields)));
     }
 
     @Operation(summary = "Lấy danh sách cuộc họp theo ngày")
     @GetMapping("/date/{date}")
-    public ResponseEntity<ApiResponse<List<Meeting>>> getMeetingsByDate(
+    public ResponseEntity<ApiResponse<List<?>>> getMeetingsByDate(
             @Parameter(description = "Ngày (yyyy-MM-dd)") 
-            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        List<Meeting> meetings = meetingService.getMeetingsByDate(date);
-        return ResponseEntity.ok(ApiResponse.success(meetings));
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(description = FIELDS_DESCRIPTION)
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(ApiResponse.success(meetingService.getMeetingsByDate(date, fields)));
     }
 
     @Operation(summary = "Lấy danh sách cuộc họp theo tháng")
     @GetMapping("/month/{year}/{month}")
-    public ResponseEntity<ApiResponse<List<Meeting>>> getMeetingsByMonth(
+    public ResponseEntity<ApiResponse<List<?>>> getMeetingsByMonth(
             @Parameter(description = "Năm") @PathVariable int year,
-            @Parameter(description = "Tháng (1-12)") @PathVariable int month) {
-        List<Meeting> meetings = meetingService.getMeetingsByMonth(year, month);
-        return ResponseEntity.ok(ApiResponse.success(meetings));
+            @Parameter(description = "Tháng (1-12)") @PathVariable int month,
+            @Parameter(description = FIELDS_DESCRIPTION)
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(ApiResponse.success(meetingService.getMeetingsByMonth(year, month, fields)));
     }
 
     @Operation(summary = "Lấy danh sách cuộc họp theo năm")
     @GetMapping("/year/{year}")
-    public ResponseEntity<ApiResponse<List<Meeting>>> getMeetingsByYear(
-            @Parameter(description = "Năm") @PathVariable int year) {
-        List<Meeting> meetings = meetingService.getMeetingsByYear(year);
-        return ResponseEntity.ok(ApiResponse.success(meetings));
+    public ResponseEntity<ApiResponse<List<?>>> getMeetingsByYear(
+            @Parameter(description = "Năm") @PathVariable int year,
+            @Parameter(description = FIELDS_DESCRIPTION)
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(ApiResponse.success(meetingService.getMeetingsByYear(year, fields)));
     }
 
     // ==================== Statistics Operations ====================
@@ -175,6 +285,23 @@ public class MeetingController {
         return ResponseEntity.ok(ApiResponse.success("Lấy thống kê thành công", statistics));
     }
 
+    @Operation(summary = "Chuỗi thống kê số cuộc họp theo ngày/tuần/tháng")
+    @GetMapping("/statistics/series")
+    public ResponseEntity<ApiResponse<StatisticsSeriesDTO>> getStatisticsSeries(
+            @Parameter(description = "Từ ngày (yyyy-MM-dd)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Đến ngày, tính cả ngày này (yyyy-MM-dd)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Khoảng gộp (day, week, month)") @RequestParam(defaultValue = "day") String bucket,
+            @Parameter(description = "Chia nhóm theo (status, department, room)") @RequestParam(required = false) String groupBy,
+            @Parameter(description = "Múi giờ, ví dụ Asia/Ho_Chi_Minh") @RequestParam(required = false) String timeZone) {
+        StatisticsSeriesDTO series = statisticsSeriesService.getSeries(from, to,
+                parseOption(StatisticsBucket.class, bucket),
+                groupBy == null ? StatisticsGroupBy.NONE : parseOption(StatisticsGroupBy.class, groupBy),
+                timeZone);
+        return ResponseEntity.ok(ApiResponse.success(series));
+    }
+
     @Operation(summary = "Lấy thống kê cuộc họp theo ngày")
     @GetMapping("/statistics/date/{date}")
     public ResponseEntity<ApiResponse<Map<String, Long>>> getStatisticsByDate(
@@ -200,4 +327,12 @@ public class MeetingController {
         Map<String, Long> statistics = meetingService.getStatisticsByYear(year);
         return ResponseEntity.ok(ApiResponse.success(statistics));
     }
+
+    private static <E extends Enum<E>> E parseOption(Class<E> type, String value) {
+        try {
+            return Enum.valueOf(type, value.strip().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Giá trị '" + value + "' không hợp lệ");
+        }
+    }
 }
@@ -0,0 +1,69 @@
+package com.meeting.secretary.controller;
+
+import com.meeting.secretary.dto.ApiResponse;
+import com.meeting.secretary.dto.MinutesJobDTO;
+import com.meeting.secretary.minutes.MinutesFormat;
+import com.meeting.secretary.minutes.MinutesService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.nio.file.Path;
+
+/**
+ * REST Controller for meeting minutes generation
+ */
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@Tag(name = "Minutes", description = "API tạo biên bản cuộc họp (DOCX/PDF)")
+@CrossOrigin(origins = "*")
+public class MinutesController {
+
+    private final MinutesService minutesService;
+
+    @Operation(summary = "Yêu cầu tạo biên bản cuộc họp")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Biên bản đã có sẵn"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "Đã tạo tác vụ nền, theo dõi tại /api/jobs/{jobId}"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Không tìm thấy cuộc họp"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "Hàng đợi đã đầy")
+    })
+    @PostMapping("/meetings/{id}/minutes")
+    public ResponseEntity<ApiResponse<MinutesJobDTO>> requestMinutes(
+            @Parameter(description = "ID của cuộc họp") @PathVariable Long id,
+            @Parameter(description = "Định dạng (DOCX, PDF)") @RequestParam(defaultValue = "DOCX") MinutesFormat format) {
+        MinutesJobDTO minutes = minutesService.requestMinutes(id, format);
+        if (minutes.isReady()) {
+            return ResponseEntity.ok(ApiResponse.success("Biên bản đã có sẵn", minutes));
+        }
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/jobs/" + minutes.getJobId()))
+                .body(ApiResponse.success("Đang tạo biên bản", minutes));
+    }
+
+    @Operation(summary = "Tải biên bản cuộc họp")
+    @GetMapping("/meetings/{id}/minutes/{format}")
+    public ResponseEntity<Resource> downloadMinutes(
+            @Parameter(description = "ID của cuộc họp") @PathVariable Long id,
+            @Parameter(description = "Định dạng (DOCX, PDF)") @PathVariable MinutesFormat format) {
+        Path artifact = minutesService.getArtifact(id, format);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(artifact.getFileName().toString())
+                        .build()
+                        .toString())
+                .body(new FileSystemResource(artifact));
+    }
+}
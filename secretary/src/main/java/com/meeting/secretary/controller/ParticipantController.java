@@ -0,0 +1,71 @@
+package com.meeting.secretary.controller;
+
+import com.meeting.secretary.dto.AgendaDTO;
+import com.meeting.secretary.dto.ApiResponse;
+import com.meeting.secretary.dto.ParticipantDTO;
+import com.meeting.secretary.entity.RsvpStatus;
+import com.meeting.secretary.service.ParticipantService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * REST Controller for meeting participants and personal agendas
+ */
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@Tag(name = "Participant", description = "API quản lý người tham dự và lịch cá nhân")
+@CrossOrigin(origins = "*")
+public class ParticipantController {
+
+    private final ParticipantService participantService;
+
+    @Operation(summary = "Lấy danh sách người tham dự của cuộc họp")
+    @GetMapping("/meetings/{id}/participants")
+    public ResponseEntity<ApiResponse<List<ParticipantDTO>>> getParticipants(
+            @Parameter(description = "ID của cuộc họp") @PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.success("Lấy danh sách người tham dự thành công",
+                participantService.getParticipants(id)));
+    }
+
+    @Operation(summary = "Cập nhật danh sách người tham dự",
+            description = "Thay toàn bộ người tham dự; chủ tọa và thư ký luôn được giữ với vai trò tương ứng")
+    @PutMapping("/meetings/{id}/participants")
+    public ResponseEntity<ApiResponse<List<ParticipantDTO>>> replaceParticipants(
+            @Parameter(description = "ID của cuộc họp") @PathVariable Long id,
+            @RequestBody List<ParticipantDTO> participants) {
+        return ResponseEntity.ok(ApiResponse.success("Cập nhật người tham dự thành công",
+                participantService.replaceParticipants(id, participants)));
+    }
+
+    @Operation(summary = "Trả lời lời mời họp")
+    @PutMapping("/meetings/{id}/participants/{person}/rsvp")
+    public ResponseEntity<ApiResponse<ParticipantDTO>> respond(
+            @Parameter(description = "ID của cuộc họp") @PathVariable Long id,
+            @Parameter(description = "Tên người tham dự") @PathVariable String person,
+            @Parameter(description = "Trả lời: ACCEPTED, TENTATIVE, DECLINED") @RequestParam RsvpStatus status) {
+        return ResponseEntity.ok(ApiResponse.success("Cập nhật trả lời thành công",
+                participantService.respond(id, person, status)));
+    }
+
+    @Operation(summary = "Lấy lịch họp của một người",
+            description = "Các cuộc họp của người đó trong khoảng ngày, kèm các cuộc họp bị trùng giờ")
+    @GetMapping("/agenda")
+    public ResponseEntity<ApiResponse<AgendaDTO>> getAgenda(
+            @Parameter(description = "Tên người tham dự") @RequestParam String person,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Kèm danh sách người tham dự của từng cuộc họp")
+            @RequestParam(defaultValue = "false") boolean participants) {
+        return ResponseEntity.ok(ApiResponse.success("Lấy lịch họp thành công",
+                participantService.getAgenda(person, from, to, participants)));
+    }
+}
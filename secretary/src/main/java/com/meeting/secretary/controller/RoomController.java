@@ -1,8 +1,13 @@
 package com.meeting.secretary.controller;
 
+import com.meeting.secretary.allocation.RoomAllocationService;
 import com.meeting.secretary.dto.ApiResponse;
+import com.meeting.secretary.dto.RoomAllocationRequestDTO;
+import com.meeting.secretary.dto.RoomAllocationResultDTO;
 import com.meeting.secretary.dto.RoomDTO;
+import com.meeting.secretary.dto.SyncResultDTO;
 import com.meeting.secretary.entity.Room;
+import com.meeting.secretary.service.DirectorySyncService;
 import com.meeting.secretary.service.RoomService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -29,6 +34,8 @@ import java.util.List;
 public class RoomController {
 
     private final RoomService roomService;
+    private final DirectorySyncService directorySyncService;
+    private final RoomAllocationService roomAllocationService;
 
     @Operation(summary = "Lấy danh sách tất cả phòng họp")
     @ApiResponses(value = {
@@ -94,4 +101,30 @@ public class RoomController {
         roomService.deleteRoom(id);
         return ResponseEntity.ok(ApiResponse.success("Xóa phòng họp thành công", null));
     }
+
+    @Operation(summary = "Đồng bộ hàng loạt phòng họp",
+            description = "Thêm mới hoặc cập nhật theo tên; trả về số mục đã thêm, đã cập nhật và không đổi")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Đồng bộ thành công"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Dữ liệu không hợp lệ")
+    })
+    @PostMapping("/sync")
+    public ResponseEntity<ApiResponse<SyncResultDTO>> syncRooms(@RequestBody List<RoomDTO> entries) {
+        SyncResultDTO result = directorySyncService.syncRooms(entries);
+        return ResponseEntity.ok(ApiResponse.success("Đồng bộ phòng họp thành công", result));
+    }
+
+    @Operation(summary = "Xếp phòng tự động cho nhiều yêu cầu họp",
+            description = "Đề xuất phòng họp không trùng lịch với các cuộc họp đã đặt và với nhau, đủ sức chứa, "
+                    + "ưu tiên vị trí mong muốn; liệt kê các yêu cầu không xếp được. Không tạo cuộc họp")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Thành công"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Dữ liệu không hợp lệ")
+    })
+    @PostMapping("/allocate")
+    public ResponseEntity<ApiResponse<RoomAllocationResultDTO>> allocateRooms(
+            @RequestBody List<RoomAllocationRequestDTO> requests) {
+        RoomAllocationResultDTO result = roomAllocationService.allocate(requests);
+        return ResponseEntity.ok(ApiResponse.success("Xếp phòng họp thành công", result));
+    }
 }
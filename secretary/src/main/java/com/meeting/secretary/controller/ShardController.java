@@ -0,0 +1,53 @@
+package com.meeting.secretary.controller;
+
+import com.meeting.secretary.dto.ApiResponse;
+import com.meeting.secretary.dto.ShardInfoDTO;
+import com.meeting.secretary.entity.BackgroundJob;
+import com.meeting.secretary.sharding.ReshardingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * REST Controller for resharding meetings, available when sharding is enabled
+ */
+@RestController
+@RequestMapping("/api/admin/shards")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "datasource.shards.urls")
+@Tag(name = "Shard", description = "API quản lý phân mảnh dữ liệu cuộc họp theo phòng ban")
+@CrossOrigin(origins = "*")
+public class ShardController {
+
+    private final ReshardingService reshardingService;
+
+    @Operation(summary = "Lấy danh sách shard, số cuộc họp và các phòng ban trên mỗi shard")
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<ShardInfoDTO>>> getShards() {
+        return ResponseEntity.ok(ApiResponse.success(reshardingService.getShards()));
+    }
+
+    @Operation(summary = "Chuyển toàn bộ cuộc họp của một phòng ban sang shard khác")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "Đã tạo tác vụ nền, theo dõi tại /api/jobs/{jobId}"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Shard không hợp lệ"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "Hàng đợi đã đầy")
+    })
+    @PutMapping("/departments/{department}")
+    public ResponseEntity<ApiResponse<BackgroundJob>> moveDepartment(
+            @Parameter(description = "Tên phòng ban") @PathVariable String department,
+            @Parameter(description = "Shard đích") @RequestParam int shard) {
+        BackgroundJob job = reshardingService.moveDepartment(department, shard);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/jobs/" + job.getId()))
+                .body(ApiResponse.success("Đang chuyển phòng ban sang shard " + shard, job));
+    }
+}
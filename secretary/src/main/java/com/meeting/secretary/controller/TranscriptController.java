@@ -0,0 +1,70 @@
+package com.meeting.secretary.controller;
+
+import com.meeting.secretary.dto.ApiResponse;
+import com.meeting.secretary.service.TranscriptService;
+import com.meeting.secretary.transcript.TranscriptHub;
+import com.meeting.secretary.transcript.ViewerChannel;
+import com.meeting.secretary.transcript.ViewerSink;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * REST Controller for live meeting transcripts
+ */
+@RestController
+@RequestMapping("/api/meetings/{id}/transcript")
+@RequiredArgsConstructor
+@Tag(name = "Transcript", description = "API phát nội dung biên bản trực tiếp")
+@CrossOrigin(origins = "*")
+public class TranscriptController {
+
+    private final TranscriptHub transcriptHub;
+    private final TranscriptService transcriptService;
+
+    @Operation(summary = "Theo dõi nội dung cuộc họp trực tiếp (Server-Sent Events)")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTranscript(
+            @Parameter(description = "ID của cuộc họp") @PathVariable Long id) {
+        SseEmitter emitter = new SseEmitter(0L);
+        ViewerChannel channel = transcriptHub.join(id, new ViewerSink() {
+            @Override
+            public void send(String line) throws IOException {
+                emitter.send(SseEmitter.event().data(line));
+            }
+
+            @Override
+            public void close() {
+                emitter.complete();
+            }
+        });
+        emitter.onCompletion(() -> transcriptHub.leave(channel));
+        emitter.onTimeout(() -> transcriptHub.leave(channel));
+        emitter.onError(e -> transcriptHub.leave(channel));
+        return emitter;
+    }
+
+    @Operation(summary = "Lưu một dòng nội dung và gửi tới người theo dõi cuộc họp")
+    @PostMapping(consumes = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<ApiResponse<Map<String, Integer>>> publishLine(
+            @Parameter(description = "ID của cuộc họp") @PathVariable Long id,
+            @RequestBody String line) {
+        transcriptService.append(id, line);
+        return ResponseEntity.ok(ApiResponse.success(Map.of("viewers", transcriptHub.getViewerCount(id))));
+    }
+
+    @Operation(summary = "Lấy số người đang theo dõi cuộc họp")
+    @GetMapping("/viewers")
+    public ResponseEntity<ApiResponse<Map<String, Integer>>> getViewerCount(
+            @Parameter(description = "ID của cuộc họp") @PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.success(Map.of("viewers", transcriptHub.getViewerCount(id))));
+    }
+}
@@ -0,0 +1,33 @@
+package com.meeting.secretary.datasource;
+
+import com.meeting.secretary.config.ClientKeys;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Binds the calling client (see {@link ClientKeys}) to the request thread for {@link ReadYourWritesTracker}.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final ReadYourWritesTracker tracker;
+
+    public ReadYourWritesFilter(ReadYourWritesTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        tracker.bind(ClientKeys.of(request));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            tracker.unbind();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.meeting.secretary.datasource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which clients wrote recently, so their reads stay on the primary
+ * until the replicas have had time to catch up.
+ * The client of the current request is bound to the thread by {@link ReadYourWritesFilter}.
+ */
+public class ReadYourWritesTracker {
+
+    private static final ThreadLocal<String> CURRENT_CLIENT = new ThreadLocal<>();
+
+    private final long windowMillis;
+    // Client key -> time (epoch millis) until which its reads go to the primary
+    private final Map<String, Long> recentWriters = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    public void bind(String clientKey) {
+        CURRENT_CLIENT.set(clientKey);
+    }
+
+    public void unbind() {
+        CURRENT_CLIENT.remove();
+    }
+
+    /**
+     * Client bound to the current thread, to carry over to work done on other threads
+     */
+    public String currentClient() {
+        return CURRENT_CLIENT.get();
+    }
+
+    /**
+     * Called when the current thread opens a read-write connection
+     */
+    public void recordWrite() {
+        String client = CURRENT_CLIENT.get();
+        if (client != null && windowMillis > 0) {
+            recentWriters.put(client, System.currentTimeMillis() + windowMillis);
+        }
+    }
+
+    /**
+     * Whether the client of the current thread wrote within the window
+     */
+    public boolean mustReadPrimary() {
+        String client = CURRENT_CLIENT.get();
+        if (client == null) {
+            return false;
+        }
+        Long until = recentWriters.get(client);
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    /**
+     * Drop clients whose window has passed
+     */
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        recentWriters.values().removeIf(until -> until <= now);
+    }
+}
@@ -0,0 +1,57 @@
+package com.meeting.secretary.datasource;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * One read replica and its last known health
+ */
+@Slf4j
+public class ReplicaNode {
+
+    @Getter
+    private final String name;
+    @Getter
+    private final DataSource dataSource;
+    private volatile boolean healthy = true;
+
+    public ReplicaNode(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    /**
+     * Take the replica out of rotation until the next successful health check
+     */
+    public void markDown(Exception cause) {
+        if (healthy) {
+            log.warn("Replica {} marked down: {}", name, cause.getMessage());
+        }
+        healthy = false;
+    }
+
+    /**
+     * Validate a connection and update the health flag
+     */
+    public void check(int timeoutSeconds) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.isValid(timeoutSeconds)) {
+                throw new SQLException("connection is not valid");
+            }
+            if (!healthy) {
+                log.info("Replica {} is back in rotation", name);
+            }
+            healthy = true;
+        } catch (SQLException | RuntimeException e) {
+            markDown(e);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.meeting.secretary.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends connections of read-only transactions to a healthy replica (round robin)
+ * and everything else to the primary.
+ * Must sit behind a LazyConnectionDataSourceProxy: the read-only flag of a transaction
+ * is only known once the transaction has begun, i.e. at the first statement.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final DataSource primary;
+    private final List<ReplicaNode> replicas;
+    private final ReadYourWritesTracker tracker;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService healthChecker;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<ReplicaNode> replicas, ReadYourWritesTracker tracker,
+                                    long healthCheckIntervalMillis) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.tracker = tracker;
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("replica-health").daemon().factory());
+        healthChecker.scheduleWithFixedDelay(this::checkReplicas, 0, healthCheckIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // Any read-write transaction counts as a write for read-your-writes
+            tracker.recordWrite();
+            return primary.getConnection();
+        }
+        if (tracker.mustReadPrimary()) {
+            return primary.getConnection();
+        }
+        ReplicaNode replica = pickReplica();
+        if (replica != null) {
+            try {
+                return replica.getDataSource().getConnection();
+            } catch (SQLException e) {
+                replica.markDown(e);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // Credentials are configured per pool
+        return getConnection();
+    }
+
+    /**
+     * Replicas currently in rotation
+     */
+    public List<String> getHealthyReplicas() {
+        return replicas.stream().filter(ReplicaNode::isHealthy).map(ReplicaNode::getName).toList();
+    }
+
+    @Override
+    public void close() {
+        healthChecker.shutdownNow();
+    }
+
+    private ReplicaNode pickReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            ReplicaNode replica = replicas.get((start + i) % size);
+            if (replica.isHealthy()) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private void checkReplicas() {
+        try {
+            for (ReplicaNode replica : replicas) {
+                replica.check(2);
+            }
+            tracker.purgeExpired();
+        } catch (RuntimeException e) {
+            log.warn("Replica health check failed", e);
+        }
+    }
+}
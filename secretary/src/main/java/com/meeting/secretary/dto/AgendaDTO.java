@@ -0,0 +1,26 @@
+package com.meeting.secretary.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Meetings of one person overlapping a date range, in start order
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgendaDTO {
+
+    private String person;
+    private LocalDate from;
+    private LocalDate to;
+    private List<AgendaItemDTO> items;
+    // Meetings overlapping at least one other meeting of the person
+    private int doubleBooked;
+}
@@ -0,0 +1,27 @@
+package com.meeting.secretary.dto;
+
+import com.meeting.secretary.entity.ParticipantRole;
+import com.meeting.secretary.entity.RsvpStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One meeting in a person's agenda
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgendaItemDTO {
+
+    private MeetingSummaryDTO meeting;
+    private ParticipantRole role;
+    private RsvpStatus rsvp;
+    private List<ParticipantDTO> participants;
+    // Other meetings of the agenda overlapping this one (declined meetings are ignored)
+    private List<Long> conflictsWith;
+}
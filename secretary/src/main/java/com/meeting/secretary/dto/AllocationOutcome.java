@@ -0,0 +1,14 @@
+package com.meeting.secretary.dto;
+
+/**
+ * What the room allocator did with one meeting request
+ */
+public enum AllocationOutcome {
+    ASSIGNED,
+    // No room has the required capacity
+    NO_ROOM_LARGE_ENOUGH,
+    // Every large enough room is booked at that time
+    NO_FREE_ROOM,
+    // Missing or inconsistent time window or capacity
+    INVALID
+}
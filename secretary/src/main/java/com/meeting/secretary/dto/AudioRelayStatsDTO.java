@@ -0,0 +1,25 @@
+package com.meeting.secretary.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for audio relay statistics of a meeting
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AudioRelayStatsDTO {
+
+    private Long meetingId;
+    private long framesRelayed;
+    private long bytesRelayed;
+
+    // Number of socket writes, lower than framesRelayed when frames are coalesced
+    private long writes;
+    private int pendingBytes;
+    private double jitterMillis;
+}
@@ -0,0 +1,18 @@
+package com.meeting.secretary.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a bulk operation for one meeting
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkItemResultDTO {
+
+    private Long meetingId;
+    private BulkOutcome outcome;
+    private String message;
+}
@@ -0,0 +1,29 @@
+package com.meeting.secretary.dto;
+
+import com.meeting.secretary.entity.MeetingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Target and parameters of a bulk operation. Exactly one of {@code ids} or {@code filter} selects the meetings.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkMeetingRequestDTO {
+
+    private List<Long> ids;
+
+    // Live meetings matching all non-empty criteria (date range, room, department, ...)
+    private MeetingSearchCriteria filter;
+
+    // Bulk status change
+    private MeetingStatus status;
+
+    // Reschedule: minutes to move the start by, and the end by (defaults to the same shift)
+    private Long shiftMinutes;
+    private Long endShiftMinutes;
+}
@@ -0,0 +1,15 @@
+package com.meeting.secretary.dto;
+
+/**
+ * What a bulk operation did to one meeting
+ */
+public enum BulkOutcome {
+    UPDATED,
+    UNCHANGED,
+    DELETED,
+    NOT_FOUND,
+    // Archived meetings are read-only
+    ARCHIVED,
+    // The change would break a meeting rule, e.g. end before start
+    INVALID
+}
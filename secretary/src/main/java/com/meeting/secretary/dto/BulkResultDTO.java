@@ -0,0 +1,25 @@
+package com.meeting.secretary.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of a bulk operation with one entry per targeted meeting
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkResultDTO {
+
+    private int matched;
+    // Meetings actually changed or deleted
+    private int succeeded;
+    // NOT_FOUND, ARCHIVED and INVALID items
+    private int failed;
+    private List<BulkItemResultDTO> items;
+}
@@ -0,0 +1,25 @@
+package com.meeting.secretary.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Changes after a client's cursor, in order. The client stores nextSince and passes it back.
+ * When resyncRequired is set the cursor is older than the retained feed: the client must reload
+ * everything and continue from nextSince.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeBatchDTO {
+
+    private List<ChangeDTO> changes;
+    private long nextSince;
+    private boolean hasMore;
+    private boolean resyncRequired;
+}
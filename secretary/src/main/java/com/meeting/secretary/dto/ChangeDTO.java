@@ -0,0 +1,25 @@
+package com.meeting.secretary.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.meeting.secretary.entity.ChangeEntityType;
+import com.meeting.secretary.entity.ChangeOperation;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * One change of the feed: an upsert with the record's new state, or a tombstone
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChangeDTO {
+
+    private long seq;
+    private ChangeEntityType type;
+    private Long id;
+    private ChangeOperation op;
+    private JsonNode data;
+}
@@ -0,0 +1,32 @@
+package com.meeting.secretary.dto;
+
+import com.meeting.secretary.entity.Department;
+import com.meeting.secretary.entity.Meeting;
+import com.meeting.secretary.entity.Room;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Everything the home page shows, in one response. Parts that missed the deadline are null and listed in {@code missing}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardDTO {
+
+    private MeetingStatisticsDTO statistics;
+    private List<Meeting> todayMeetings;
+    private List<Meeting> ongoingMeetings;
+    private List<Room> rooms;
+    private List<Department> departments;
+
+    // Whether some parts are missing
+    private boolean partial;
+    // statistics, todayMeetings, ongoingMeetings, rooms or departments
+    private List<String> missing;
+}
@@ -8,6 +8,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * DTO for Meeting create/update requests
@@ -43,4 +44,7 @@ public class MeetingDTO {
 
     @NotBlank(message = "Thư ký không được để trống")
     private String secretary;
+
+    // Optional; when given, replaces the attendees (chairman and secretary are always included)
+    private List<ParticipantDTO> participants;
 }
@@ -0,0 +1,79 @@
+package com.meeting.secretary.dto;
+
+import com.meeting.secretary.entity.Meeting;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Sparse fieldsets for meeting lists ({@code ?fields=id,title,startTime,room}).
+ * Only the requested properties are read and serialized, for JSON as well as CBOR/Smile.
+ */
+public final class MeetingFields {
+
+    private static final Map<String, Function<Meeting, Object>> ACCESSORS = new LinkedHashMap<>();
+
+    static {
+        ACCESSORS.put("id", Meeting::getId);
+        ACCESSORS.put("title", Meeting::getTitle);
+        ACCESSORS.put("description", Meeting::getDescription);
+        ACCESSORS.put("startTime", Meeting::getStartTime);
+        ACCESSORS.put("endTime", Meeting::getEndTime);
+        ACCESSORS.put("status", Meeting::getStatus);
+        ACCESSORS.put("department", Meeting::getDepartment);
+        ACCESSORS.put("room", Meeting::getRoom);
+        ACCESSORS.put("chairman", Meeting::getChairman);
+        ACCESSORS.put("secretary", Meeting::getSecretary);
+        ACCESSORS.put("createdAt", Meeting::getCreatedAt);
+        ACCESSORS.put("updatedAt", Meeting::getUpdatedAt);
+    }
+
+    private MeetingFields() {
+    }
+
+    /**
+     * Reduce meetings to the requested fields; without a field list the meetings are returned as they are
+     */
+    public static List<?> select(List<Meeting> meetings, String fields) {
+        if (fields == null || fields.isBlank()) {
+            return meetings;
+        }
+        List<String> names = parse(fields);
+        List<Function<Meeting, Object>> accessors = names.stream().map(ACCESSORS::get).toList();
+
+        List<Map<String, Object>> result = new ArrayList<>(meetings.size());
+        for (Meeting meeting : meetings) {
+            Map<String, Object> row = new LinkedHashMap<>(names.size() * 2);
+            for (int i = 0; i < names.size(); i++) {
+                row.put(names.get(i), accessors.get(i).apply(meeting));
+            }
+            result.add(row);
+        }
+        return result;
+    }
+
+    /**
+     * The distinct, valid field names of a field list; empty without a field list
+     */
+    public static List<String> parse(String fields) {
+        List<String> names = new ArrayList<>();
+        if (fields == null || fields.isBlank()) {
+            return names;
+        }
+        for (String field : fields.split(",")) {
+            String name = field.strip();
+            if (name.isEmpty() || names.contains(name)) {
+                continue;
+            }
+            if (!ACCESSORS.containsKey(name)) {
+                throw new IllegalArgumentException("Trường '" + name + "' không hợp lệ, các trường hợp lệ: "
+                        + String.join(",", ACCESSORS.keySet()));
+            }
+            names.add(name);
+        }
+        return names;
+    }
+}
@@ -0,0 +1,29 @@
+package com.meeting.secretary.dto;
+
+import com.meeting.secretary.entity.MeetingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Combined filter for meeting search; null fields are ignored
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeetingSearchCriteria {
+
+    private MeetingStatus status;
+    private String department;
+    private String room;
+    private String chairman;
+    private String secretary;
+
+    // Meetings starting in [from, to)
+    private LocalDateTime from;
+    private LocalDateTime to;
+}
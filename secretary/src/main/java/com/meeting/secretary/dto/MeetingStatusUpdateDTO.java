@@ -0,0 +1,22 @@
+package com.meeting.secretary.dto;
+
+import com.meeting.secretary.entity.MeetingStatus;
+import com.meeting.secretary.status.StatusDurability;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Acknowledgement of a status update handled by the write-behind buffer
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeetingStatusUpdateDTO {
+
+    private Long meetingId;
+    private MeetingStatus status;
+    private StatusDurability durability;
+    // True once the new status is committed to the database
+    private boolean persisted;
+}
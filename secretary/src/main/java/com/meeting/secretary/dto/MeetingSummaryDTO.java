@@ -0,0 +1,34 @@
+package com.meeting.secretary.dto;
+
+import com.meeting.secretary.entity.Meeting;
+import com.meeting.secretary.entity.MeetingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight projection of a meeting for list results (no description or audit columns)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeetingSummaryDTO {
+
+    private Long id;
+    private String title;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private MeetingStatus status;
+    private String department;
+    private String room;
+    private String chairman;
+    private String secretary;
+
+    public static MeetingSummaryDTO from(Meeting meeting) {
+        return new MeetingSummaryDTO(meeting.getId(), meeting.getTitle(), meeting.getStartTime(),
+                meeting.getEndTime(), meeting.getStatus(), meeting.getDepartment(), meeting.getRoom(),
+                meeting.getChairman(), meeting.getSecretary());
+    }
+}
@@ -0,0 +1,26 @@
+package com.meeting.secretary.dto;
+
+import com.meeting.secretary.minutes.MinutesFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a minutes request: either a ready artifact or the background job producing it
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MinutesJobDTO {
+
+    private Long meetingId;
+    private MinutesFormat format;
+    private long transcriptVersion;
+    private boolean ready;
+
+    // Set when the artifact is being generated; poll /api/jobs/{jobId}
+    private String jobId;
+    private String downloadUrl;
+}
@@ -0,0 +1,29 @@
+package com.meeting.secretary.dto;
+
+import com.meeting.secretary.entity.MeetingParticipant;
+import com.meeting.secretary.entity.ParticipantRole;
+import com.meeting.secretary.entity.RsvpStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A person taking part in a meeting, with role and RSVP
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParticipantDTO {
+
+    private String person;
+
+    // Defaults to REQUIRED; CHAIRMAN and SECRETARY always follow the meeting's chairman and secretary
+    private ParticipantRole role;
+
+    // Defaults to the current answer, or PENDING for a new participant
+    private RsvpStatus rsvp;
+
+    public static ParticipantDTO from(MeetingParticipant participant) {
+        return new ParticipantDTO(participant.getPerson(), participant.getRole(), participant.getRsvp());
+    }
+}
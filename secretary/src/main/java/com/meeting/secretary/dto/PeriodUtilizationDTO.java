@@ -0,0 +1,28 @@
+package com.meeting.secretary.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Utilization of one room in one day or week
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PeriodUtilizationDTO {
+
+    private LocalDate periodStart;
+    private double bookedHours;
+    private double availableHours;
+    private double utilization;
+    // Most meetings running at the same time; above 1 means the room is double booked
+    private int peakConcurrency;
+    // Free stretches within working hours and the longest of them
+    private int idleGaps;
+    private long longestIdleGapMinutes;
+}
@@ -0,0 +1,32 @@
+package com.meeting.secretary.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One meeting request to be placed in a room by the allocator
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomAllocationRequestDTO {
+
+    // Client reference echoed back in the result
+    private String ref;
+
+    private LocalDateTime startTime;
+
+    private LocalDateTime endTime;
+
+    // Expected number of attendees
+    private Integer attendees;
+
+    // Required seats when more than the attendees (e.g. guests); defaults to attendees
+    private Integer capacity;
+
+    // Preferred Room.location, used when a matching room is free
+    private String location;
+}
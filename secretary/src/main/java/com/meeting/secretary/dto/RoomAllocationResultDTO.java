@@ -0,0 +1,24 @@
+package com.meeting.secretary.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Conflict-free room assignment for a batch of meeting requests, in request order
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomAllocationResultDTO {
+
+    private int requested;
+    private int assigned;
+    // Requests left without a room, including invalid ones
+    private int unplaced;
+    private List<RoomAssignmentDTO> items;
+}
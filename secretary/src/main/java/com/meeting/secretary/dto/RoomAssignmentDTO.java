@@ -0,0 +1,30 @@
+package com.meeting.secretary.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Room proposed for one meeting request, or why none could be
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomAssignmentDTO {
+
+    // Position of the request in the batch
+    private int index;
+    private String ref;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private AllocationOutcome outcome;
+    private String room;
+    private String location;
+    // Whether the room is in the preferred location; null without a preference
+    private Boolean preferredLocation;
+    private String message;
+}
@@ -0,0 +1,31 @@
+package com.meeting.secretary.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Utilization of one room over the whole range, with a breakdown per period
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomUtilizationDTO {
+
+    private String room;
+    // Null when the room is only known from meetings and has no capacity recorded
+    private Integer capacity;
+    private double bookedHours;
+    private double availableHours;
+    private double utilization;
+    private int peakConcurrency;
+    private int idleGaps;
+    private long longestIdleGapMinutes;
+    // bookedHours x capacity
+    private Double bookedSeatHours;
+    private List<PeriodUtilizationDTO> periods;
+}
@@ -0,0 +1,25 @@
+package com.meeting.secretary.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO describing one meeting shard
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShardInfoDTO {
+
+    private int shard;
+    private String name;
+    private long meetings;
+    private long archivedMeetings;
+    // Departments whose meetings live on this shard
+    private List<String> departments;
+}
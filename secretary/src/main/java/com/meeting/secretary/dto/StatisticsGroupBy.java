@@ -0,0 +1,11 @@
+package com.meeting.secretary.dto;
+
+/**
+ * Dimension a statistics series is split by
+ */
+public enum StatisticsGroupBy {
+    NONE,
+    STATUS,
+    DEPARTMENT,
+    ROOM
+}
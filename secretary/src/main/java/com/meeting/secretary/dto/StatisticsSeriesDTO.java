@@ -0,0 +1,32 @@
+package com.meeting.secretary.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Meeting counts per time bucket. Every list in {@code series} is aligned with {@code buckets};
+ * buckets without meetings are present with a count of 0.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatisticsSeriesDTO {
+
+    private LocalDate from;
+    private LocalDate to;
+    private StatisticsBucket bucket;
+    private StatisticsGroupBy groupBy;
+    private String timeZone;
+    // Start date of each bucket
+    private List<LocalDate> buckets;
+    private List<Long> totals;
+    // Group key -> count per bucket (empty when not grouped)
+    private Map<String, List<Long>> series;
+}
@@ -0,0 +1,26 @@
+package com.meeting.secretary.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk directory sync
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncResultDTO {
+
+    private int received;
+    private int inserted;
+    private int updated;
+    private int unchanged;
+    // Invalid entries and entries overridden by a later one with the same name
+    private int skipped;
+    private List<String> errors;
+}
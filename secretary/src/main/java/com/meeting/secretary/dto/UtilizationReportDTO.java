@@ -0,0 +1,31 @@
+package com.meeting.secretary.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Room utilization over a date range, measured against working hours
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UtilizationReportDTO {
+
+    private LocalDate from;
+    private LocalDate to;
+    private StatisticsBucket period;
+    private LocalTime dayStart;
+    private LocalTime dayEnd;
+    // Booked hours / available hours over all rooms
+    private double utilization;
+    // Booked seat-hours / available seat-hours over rooms with a known capacity
+    private Double seatUtilization;
+    private List<RoomUtilizationDTO> rooms;
+}
@@ -0,0 +1,88 @@
+package com.meeting.secretary.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * A finished meeting moved out of the meetings table by the archiver.
+ * Keeps the original id, so transcripts and minutes still resolve to it.
+ */
+@Entity
+@Table(name = "meetings_archive", indexes = {
+        @Index(name = "idx_meetings_archive_start_time", columnList = "start_time"),
+        @Index(name = "idx_meetings_archive_department_start", columnList = "department, start_time"),
+        @Index(name = "idx_meetings_archive_room_start", columnList = "room, start_time"),
+        @Index(name = "idx_meetings_archive_chairman_start", columnList = "chairman, start_time"),
+        @Index(name = "idx_meetings_archive_secretary_start", columnList = "secretary, start_time")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedMeeting implements Persistable<Long> {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(length = 2000)
+    private String description;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalDateTime startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalDateTime endTime;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MeetingStatus status;
+
+    @Column(nullable = false)
+    private String department;
+
+    @Column(nullable = false)
+    private String room;
+
+    @Column(nullable = false)
+    private String chairman;
+
+    @Column(nullable = false)
+    private String secretary;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    // Ids are assigned, so tell Spring Data to persist instead of merging (no SELECT per row)
+    @Transient
+    private boolean fresh;
+
+    public static ArchivedMeeting from(Meeting meeting, LocalDateTime archivedAt) {
+        return new ArchivedMeeting(meeting.getId(), meeting.getTitle(), meeting.getDescription(),
+                meeting.getStartTime(), meeting.getEndTime(), meeting.getStatus(), meeting.getDepartment(),
+                meeting.getRoom(), meeting.getChairman(), meeting.getSecretary(), meeting.getCreatedAt(),
+                meeting.getUpdatedAt(), archivedAt, true);
+    }
+
+    public Meeting toMeeting() {
+        return new Meeting(id, title, description, startTime, endTime, status, department, room,
+                chairman, secretary, createdAt, updatedAt);
+    }
+
+    @Override
+    public boolean isNew() {
+        return fresh;
+    }
+}
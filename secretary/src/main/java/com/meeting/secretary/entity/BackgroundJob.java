@@ -0,0 +1,69 @@
+package com.meeting.secretary.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing a long-running background job
+ */
+@Entity
+@Table(name = "jobs",
+        indexes = @Index(name = "idx_jobs_status", columnList = "status"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BackgroundJob {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private JobType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private JobStatus status = JobStatus.PENDING;
+
+    @Column(length = 500)
+    private String description;
+
+    // 0-100
+    @Column(nullable = false)
+    private int progress;
+
+    @Column(name = "progress_message", length = 500)
+    private String progressMessage;
+
+    // Serialized JSON result, served by /api/jobs/{id}/result
+    @JsonIgnore
+    @Lob
+    @Column(name = "result")
+    private String result;
+
+    @Column(length = 2000)
+    private String error;
+
+    @Column(name = "cancel_requested", nullable = false)
+    private boolean cancelRequested;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,38 @@
+package com.meeting.secretary.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity for one cache invalidation published to the other nodes.
+ * Rows are written and polled with plain JDBC; the mapping only defines the table.
+ */
+@Entity
+@Table(name = "cache_invalidations", indexes = {
+        @Index(name = "idx_cache_invalidation_created", columnList = "created_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String node;
+
+    @Column(nullable = false, length = 32)
+    private String region;
+
+    @Column(name = "cache_key")
+    private String cacheKey;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,10 @@
+package com.meeting.secretary.entity;
+
+/**
+ * Enum representing the kind of record a change feed entry refers to
+ */
+public enum ChangeEntityType {
+    MEETING,
+    ROOM,
+    DEPARTMENT
+}
@@ -0,0 +1,46 @@
+package com.meeting.secretary.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity for one entry of the change feed (transactional outbox).
+ * Entries are written in the same transaction as the change they describe; seq orders them.
+ */
+@Entity
+@Table(name = "change_log", indexes = {
+        @Index(name = "idx_change_log_entity", columnList = "entity_type, entity_id, seq"),
+        @Index(name = "idx_change_log_changed", columnList = "changed_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeLogEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false)
+    private ChangeEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ChangeOperation operation;
+
+    // Serialized JSON of the new state; null for tombstones
+    @Lob
+    @Column(name = "payload")
+    private String payload;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
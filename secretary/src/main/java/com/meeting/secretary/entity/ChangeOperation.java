@@ -0,0 +1,11 @@
+package com.meeting.secretary.entity;
+
+/**
+ * Enum representing what happened to a record in the change feed
+ */
+public enum ChangeOperation {
+    /** Created or updated; the entry carries the new state */
+    UPSERT,
+    /** Deleted; the entry is a tombstone without data */
+    DELETE
+}
@@ -0,0 +1,26 @@
+package com.meeting.secretary.entity;
+
+/**
+ * Enum representing the status of a background job
+ */
+public enum JobStatus {
+    PENDING("Đang chờ"),
+    RUNNING("Đang chạy"),
+    SUCCEEDED("Hoàn thành"),
+    FAILED("Thất bại"),
+    CANCELLED("Đã hủy");
+
+    private final String displayName;
+
+    JobStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED || this == CANCELLED;
+    }
+}
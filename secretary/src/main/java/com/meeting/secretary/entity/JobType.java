@@ -0,0 +1,22 @@
+package com.meeting.secretary.entity;
+
+/**
+ * Enum representing the class of a background job.
+ * Each class runs on its own bounded executor so heavy jobs of one kind cannot starve another.
+ */
+public enum JobType {
+    DOCUMENT("Tạo tài liệu"),
+    EXPORT("Xuất dữ liệu"),
+    STATISTICS("Tính toán thống kê"),
+    IMPORT("Nhập dữ liệu");
+
+    private final String displayName;
+
+    JobType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
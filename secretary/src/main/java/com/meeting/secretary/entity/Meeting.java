@@ -5,18 +5,31 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 /**
  * Entity representing a meeting
  */
 @Entity
-@Table(name = "meetings")
+@Table(name = "meetings", indexes = {
+        @Index(name = "idx_meetings_start_time", columnList = "start_time"),
+        @Index(name = "idx_meetings_status_start", columnList = "status, start_time"),
+        @Index(name = "idx_meetings_department_start", columnList = "department, start_time"),
+        @Index(name = "idx_meetings_room_start", columnList = "room, start_time"),
+        @Index(name = "idx_meetings_chairman_start", columnList = "chairman, start_time"),
+        @Index(name = "idx_meetings_secretary_start", columnList = "secretary, start_time")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Meeting {
 
+    /**
+     * Longest meeting allowed; overlap queries use it to bound their start_time range scans from below
+     */
+    public static final Duration MAX_DURATION = Duration.ofHours(24);
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
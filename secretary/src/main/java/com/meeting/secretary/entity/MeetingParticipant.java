@@ -0,0 +1,48 @@
+package com.meeting.secretary.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity for one person taking part in a meeting.
+ * The meeting's start and end are copied here so a person's agenda is one range scan of
+ * (person, start_time); the meeting is referenced by id only, as meetings may live in another
+ * shard or in the archive.
+ */
+@Entity
+@Table(name = "meeting_participants",
+        uniqueConstraints = @UniqueConstraint(name = "uk_participants_meeting_person", columnNames = {"meeting_id", "person"}),
+        indexes = @Index(name = "idx_participants_person_start", columnList = "person, start_time"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeetingParticipant {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "meeting_id", nullable = false)
+    private Long meetingId;
+
+    @Column(nullable = false)
+    private String person;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ParticipantRole role;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RsvpStatus rsvp = RsvpStatus.PENDING;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalDateTime startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalDateTime endTime;
+}
@@ -0,0 +1,67 @@
+package com.meeting.secretary.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity for a reminder sent a number of minutes before a meeting starts.
+ * Pending rows are the durable copy of the in-memory timing wheel; an instance claims a row
+ * (claimed_by, claimed_until) before delivering it so several instances never send it twice;
+ * a claim left by a crashed instance lapses at claimed_until.
+ */
+@Entity
+@Table(name = "meeting_reminders",
+        indexes = {
+                @Index(name = "idx_reminders_status_due", columnList = "status, due_at"),
+                @Index(name = "idx_reminders_meeting", columnList = "meeting_id")
+        })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeetingReminder {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "meeting_id", nullable = false)
+    private Long meetingId;
+
+    @Column(name = "minutes_before", nullable = false)
+    private int minutesBefore;
+
+    // Moved forward by the retry backoff after a failed delivery
+    @Column(name = "due_at", nullable = false)
+    private LocalDateTime dueAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReminderStatus status = ReminderStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "claimed_by", length = 64)
+    private String claimedBy;
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
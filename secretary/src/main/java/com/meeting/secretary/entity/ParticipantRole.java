@@ -0,0 +1,21 @@
+package com.meeting.secretary.entity;
+
+/**
+ * Enum representing the role of a person in a meeting
+ */
+public enum ParticipantRole {
+    CHAIRMAN("Chủ trì"),
+    SECRETARY("Thư ký"),
+    REQUIRED("Bắt buộc"),
+    OPTIONAL("Không bắt buộc");
+
+    private final String displayName;
+
+    ParticipantRole(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
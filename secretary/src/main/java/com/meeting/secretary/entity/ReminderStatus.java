@@ -0,0 +1,21 @@
+package com.meeting.secretary.entity;
+
+/**
+ * Enum representing the delivery status of a meeting reminder
+ */
+public enum ReminderStatus {
+    PENDING("Đang chờ gửi"),
+    SENT("Đã gửi"),
+    FAILED("Gửi thất bại"),
+    CANCELLED("Đã hủy");
+
+    private final String displayName;
+
+    ReminderStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
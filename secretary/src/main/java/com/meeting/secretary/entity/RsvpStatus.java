@@ -0,0 +1,21 @@
+package com.meeting.secretary.entity;
+
+/**
+ * Enum representing a participant's answer to a meeting invitation
+ */
+public enum RsvpStatus {
+    PENDING("Chưa trả lời"),
+    ACCEPTED("Tham dự"),
+    TENTATIVE("Có thể tham dự"),
+    DECLINED("Từ chối");
+
+    private final String displayName;
+
+    RsvpStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
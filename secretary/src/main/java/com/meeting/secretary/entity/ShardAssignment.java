@@ -0,0 +1,29 @@
+package com.meeting.secretary.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity recording which shard holds the meetings of a department.
+ * Only used when sharding is enabled; kept on the first shard.
+ */
+@Entity
+@Table(name = "shard_assignments")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShardAssignment {
+
+    @Id
+    private String department;
+
+    @Column(nullable = false)
+    private Integer shard;
+
+    @Column(name = "assigned_at")
+    private LocalDateTime assignedAt;
+}
@@ -0,0 +1,43 @@
+package com.meeting.secretary.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing a piece of transcript text received during a meeting
+ */
+@Entity
+@Table(name = "transcript_segments",
+        indexes = @Index(name = "idx_transcript_meeting", columnList = "meeting_id, id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TranscriptSegment {
+
+    /**
+     * Longest text of one segment; longer pieces are stored as several segments
+     */
+    public static final int MAX_TEXT_LENGTH = 4000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "meeting_id", nullable = false)
+    private Long meetingId;
+
+    @Column(nullable = false, length = MAX_TEXT_LENGTH)
+    private String text;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
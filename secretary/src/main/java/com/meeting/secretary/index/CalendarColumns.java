@@ -0,0 +1,268 @@
+package com.meeting.secretary.index;
+
+import com.meeting.secretary.dto.MeetingSummaryDTO;
+import com.meeting.secretary.entity.MeetingStatus;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable column store of the meetings starting at or after a window start, sorted by start time.
+ * Times are stored as epoch seconds of the stored local time; rooms and departments share one
+ * dictionary of int codes (-1 = none); status is the enum ordinal.
+ * Range lookups binary-search the start column and then scan plain arrays, which the JIT vectorizes.
+ * Changes produce a new instance; readers never see a partially updated one.
+ */
+final class CalendarColumns {
+
+    /** Filter value matching every room or department */
+    static final int ANY = -2;
+    /** Code of a missing room or department */
+    static final int NONE = -1;
+
+    private static final MeetingStatus[] STATUSES = MeetingStatus.values();
+
+    private final LocalDateTime windowStart;
+    private final int size;
+    private final long[] ids;
+    private final long[] starts;
+    private final long[] ends;
+    private final int[] rooms;
+    private final int[] departments;
+    private final byte[] statuses;
+    private final List<String> names;
+    private final Map<String, Integer> codes;
+
+    private CalendarColumns(LocalDateTime windowStart, int size, long[] ids, long[] starts, long[] ends, int[] rooms,
+                            int[] departments, byte[] statuses, List<String> names, Map<String, Integer> codes) {
+        this.windowStart = windowStart;
+        this.size = size;
+        this.ids = ids;
+        this.starts = starts;
+        this.ends = ends;
+        this.rooms = rooms;
+        this.departments = departments;
+        this.statuses = statuses;
+        this.names = names;
+        this.codes = codes;
+    }
+
+    static CalendarColumns build(LocalDateTime windowStart, Collection<MeetingSummaryDTO> meetings) {
+        List<MeetingSummaryDTO> sorted = meetings.stream()
+                .filter(meeting -> !meeting.getStartTime().isBefore(windowStart))
+                .sorted(Comparator.comparing(MeetingSummaryDTO::getStartTime).thenComparing(MeetingSummaryDTO::getId))
+                .toList();
+        Builder builder = new Builder(windowStart, sorted.size(), new ArrayList<>(), new HashMap<>());
+        sorted.forEach(builder::add);
+        return builder.build();
+    }
+
+    /**
+     * A copy with the given meetings replaced (null value = deleted)
+     */
+    CalendarColumns merge(Map<Long, MeetingSummaryDTO> changes) {
+        List<MeetingSummaryDTO> added = changes.values().stream()
+                .filter(meeting -> meeting != null && !meeting.getStartTime().isBefore(windowStart))
+                .sorted(Comparator.comparing(MeetingSummaryDTO::getStartTime).thenComparing(MeetingSummaryDTO::getId))
+                .toList();
+        Builder builder = new Builder(windowStart, size + added.size(), new ArrayList<>(names), new HashMap<>(codes));
+        // Merge the surviving rows and the changed ones, both sorted by start time and id
+        int next = 0;
+        for (int i = 0; i < size; i++) {
+            if (changes.containsKey(ids[i])) {
+                continue;
+            }
+            while (next < added.size() && before(added.get(next), starts[i], ids[i])) {
+                builder.add(added.get(next++));
+            }
+            builder.copy(this, i);
+        }
+        while (next < added.size()) {
+            builder.add(added.get(next++));
+        }
+        return builder.build();
+    }
+
+    LocalDateTime getWindowStart() {
+        return windowStart;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Dictionary code of a room or department name (NONE for null), or null when no meeting uses it
+     */
+    Integer code(String name) {
+        return name == null ? Integer.valueOf(NONE) : codes.get(name);
+    }
+
+    /**
+     * Meetings starting in [from, to) with the given status (null = any), room and department codes
+     */
+    long count(LocalDateTime from, LocalDateTime to, MeetingStatus status, int room, int department) {
+        int lo = lowerBound(epoch(from));
+        int hi = to == null ? size : lowerBound(epoch(to));
+        byte wanted = status == null ? -1 : (byte) status.ordinal();
+        long count = 0;
+        if (room == ANY && department == ANY) {
+            if (wanted < 0) {
+                return Math.max(0, hi - lo);
+            }
+            for (int i = lo; i < hi; i++) {
+                count += statuses[i] == wanted ? 1 : 0;
+            }
+            return count;
+        }
+        for (int i = lo; i < hi; i++) {
+            boolean match = (wanted < 0 || statuses[i] == wanted)
+                    && (room == ANY || rooms[i] == room)
+                    && (department == ANY || departments[i] == department);
+            count += match ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Meetings starting in [from, to) per status, indexed by ordinal
+     */
+    long[] countByStatus(LocalDateTime from, LocalDateTime to) {
+        int lo = lowerBound(epoch(from));
+        int hi = lowerBound(epoch(to));
+        long[] counts = new long[STATUSES.length];
+        for (int i = lo; i < hi; i++) {
+            counts[statuses[i]]++;
+        }
+        return counts;
+    }
+
+    /**
+     * The given columns of the meetings starting in [from, to), in start order
+     */
+    List<Map<String, Object>> select(LocalDateTime from, LocalDateTime to, List<String> fields) {
+        int lo = lowerBound(epoch(from));
+        int hi = lowerBound(epoch(to));
+        List<Map<String, Object>> rows = new ArrayList<>(Math.max(0, hi - lo));
+        for (int i = lo; i < hi; i++) {
+            Map<String, Object> row = new LinkedHashMap<>(fields.size() * 2);
+            for (String field : fields) {
+                row.put(field, value(field, i));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private Object value(String field, int i) {
+        return switch (field) {
+            case "id" -> ids[i];
+            case "startTime" -> time(starts[i]);
+            case "endTime" -> time(ends[i]);
+            case "status" -> STATUSES[statuses[i]];
+            case "room" -> name(rooms[i]);
+            case "department" -> name(departments[i]);
+            default -> throw new IllegalArgumentException("Column not held: " + field);
+        };
+    }
+
+    // First row starting at or after the given time
+    private int lowerBound(long start) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (starts[mid] < start) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private String name(int code) {
+        return code == NONE ? null : names.get(code);
+    }
+
+    private static boolean before(MeetingSummaryDTO meeting, long start, long id) {
+        long meetingStart = epoch(meeting.getStartTime());
+        return meetingStart < start || (meetingStart == start && meeting.getId() < id);
+    }
+
+    static long epoch(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime time(long epoch) {
+        return LocalDateTime.ofEpochSecond(epoch, 0, ZoneOffset.UTC);
+    }
+
+    private static final class Builder {
+
+        private final LocalDateTime windowStart;
+        private final List<String> names;
+        private final Map<String, Integer> codes;
+        private final long[] ids;
+        private final long[] starts;
+        private final long[] ends;
+        private final int[] rooms;
+        private final int[] departments;
+        private final byte[] statuses;
+        private int size;
+
+        Builder(LocalDateTime windowStart, int capacity, List<String> names, Map<String, Integer> codes) {
+            this.windowStart = windowStart;
+            this.names = names;
+            this.codes = codes;
+            this.ids = new long[capacity];
+            this.starts = new long[capacity];
+            this.ends = new long[capacity];
+            this.rooms = new int[capacity];
+            this.departments = new int[capacity];
+            this.statuses = new byte[capacity];
+        }
+
+        void add(MeetingSummaryDTO meeting) {
+            ids[size] = meeting.getId();
+            starts[size] = epoch(meeting.getStartTime());
+            ends[size] = epoch(meeting.getEndTime());
+            rooms[size] = encode(meeting.getRoom());
+            departments[size] = encode(meeting.getDepartment());
+            statuses[size] = (byte) meeting.getStatus().ordinal();
+            size++;
+        }
+
+        void copy(CalendarColumns source, int i) {
+            ids[size] = source.ids[i];
+            starts[size] = source.starts[i];
+            ends[size] = source.ends[i];
+            rooms[size] = source.rooms[i];
+            departments[size] = source.departments[i];
+            statuses[size] = source.statuses[i];
+            size++;
+        }
+
+        CalendarColumns build() {
+            return new CalendarColumns(windowStart, size, ids, starts, ends, rooms, departments, statuses,
+                    List.copyOf(names), Map.copyOf(codes));
+        }
+
+        private int encode(String name) {
+            if (name == null) {
+                return NONE;
+            }
+            return codes.computeIfAbsent(name, n -> {
+                names.add(n);
+                return names.size() - 1;
+            });
+        }
+    }
+}
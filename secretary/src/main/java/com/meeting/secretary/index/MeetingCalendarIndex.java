@@ -0,0 +1,300 @@
+package com.meeting.secretary.index;
+
+import com.meeting.secretary.archive.MeetingArchive;
+import com.meeting.secretary.cache.CacheCoherence;
+import com.meeting.secretary.cache.CacheRegion;
+import com.meeting.secretary.dto.MeetingSearchCriteria;
+import com.meeting.secretary.dto.MeetingSummaryDTO;
+import com.meeting.secretary.entity.MeetingStatus;
+import com.meeting.secretary.repository.MeetingRepository;
+import com.meeting.secretary.service.MeetingChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Optional in-memory calendar of current and upcoming meetings (meetings.calendar-index.enabled).
+ * Holds id, start, end, status, room and department of every meeting starting within the last
+ * past-days days or later in {@link CalendarColumns}, and answers date-range counts and list
+ * queries limited to those fields without touching the database.
+ * Committed changes are applied on the next read; changes made on other instances arrive as
+ * CALENDAR_INDEX invalidations and are reloaded by id. Callers must check {@link #covers} first
+ * and use the database otherwise: for ranges before the window, ranges the archive reaches,
+ * while invalidations are behind, and before the first load.
+ */
+@Slf4j
+@Component
+public class MeetingCalendarIndex {
+
+    private static final Set<String> HELD_FIELDS = Set.of("id", "startTime", "endTime", "status", "room", "department");
+
+    private final MeetingRepository meetingRepository;
+    private final MeetingArchive meetingArchive;
+    private final CacheCoherence cacheCoherence;
+    // Not read-only: with a read replica, reads right after a change must see it
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int pastDays;
+    private final int maxMeetings;
+
+    private volatile CalendarColumns columns;
+    // Meeting id -> committed state (empty = deleted), not yet merged into columns
+    private final Map<Long, Optional<MeetingSummaryDTO>> pending = new ConcurrentHashMap<>();
+    // Meetings changed on other instances, to be reloaded
+    private final Set<Long> stale = ConcurrentHashMap.newKeySet();
+    // Changes merged while a rebuild is loading, replayed on top of the rebuilt columns; guarded by this
+    private Map<Long, Optional<MeetingSummaryDTO>> replay;
+    private ScheduledExecutorService loader;
+
+    private final Counter hits;
+    private final Counter fallbacks;
+
+    public MeetingCalendarIndex(MeetingRepository meetingRepository,
+                                MeetingArchive meetingArchive,
+                                CacheCoherence cacheCoherence,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry registry,
+                                @Value("${meetings.calendar-index.enabled:false}") boolean enabled,
+                                @Value("${meetings.calendar-index.past-days:31}") int pastDays,
+                                @Value("${meetings.calendar-index.max-meetings:500000}") int maxMeetings,
+                                @Value("${meetings.calendar-index.rebuild-minutes:60}") long rebuildMinutes) {
+        this.meetingRepository = meetingRepository;
+        this.meetingArchive = meetingArchive;
+        this.cacheCoherence = cacheCoherence;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.pastDays = pastDays;
+        this.maxMeetings = maxMeetings;
+
+        this.hits = Counter.builder("meetings.calendar.index.hits")
+                .description("Date-range queries answered from the in-memory calendar").register(registry);
+        this.fallbacks = Counter.builder("meetings.calendar.index.fallbacks")
+                .description("Date-range queries the in-memory calendar could not answer").register(registry);
+        Gauge.builder("meetings.calendar.index.size", this, index -> {
+                    CalendarColumns current = index.columns;
+                    return current == null ? 0 : current.size();
+                })
+                .description("Meetings held by the in-memory calendar").register(registry);
+
+        if (enabled) {
+            cacheCoherence.register(CacheRegion.CALENDAR_INDEX, this::onRemoteChange,
+                    event -> List.of(String.valueOf(event.meetingId())));
+            loader = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("calendar-index").daemon().factory());
+            // Rebuilding also moves the window forward
+            loader.scheduleWithFixedDelay(this::rebuildQuietly, 0, rebuildMinutes, TimeUnit.MINUTES);
+            log.info("In-memory calendar enabled for meetings from {} days ago", pastDays);
+        }
+    }
+
+    /**
+     * Whether queries on meetings starting at or after {@code from} can be answered here
+     */
+    public boolean covers(LocalDateTime from) {
+        if (!enabled) {
+            return false;
+        }
+        CalendarColumns current = current();
+        boolean covered = current != null && from != null && !from.isBefore(current.getWindowStart())
+                && stale.isEmpty() && cacheCoherence.isFresh() && !meetingArchive.reaches(from);
+        (covered ? hits : fallbacks).increment();
+        return covered;
+    }
+
+    /**
+     * Whether a list query selecting these fields can be answered here
+     */
+    public static boolean holds(List<String> fields) {
+        return !fields.isEmpty() && HELD_FIELDS.containsAll(fields);
+    }
+
+    /**
+     * Meetings starting in [from, to); only after {@link #covers}
+     */
+    public long count(LocalDateTime from, LocalDateTime to) {
+        return columns.count(from, to, null, CalendarColumns.ANY, CalendarColumns.ANY);
+    }
+
+    /**
+     * Meetings starting in [from, to) per status; only after {@link #covers}
+     */
+    public Map<MeetingStatus, Long> countByStatus(LocalDateTime from, LocalDateTime to) {
+        long[] counts = columns.countByStatus(from, to);
+        Map<MeetingStatus, Long> byStatus = new HashMap<>();
+        for (MeetingStatus status : MeetingStatus.values()) {
+            byStatus.put(status, counts[status.ordinal()]);
+        }
+        return byStatus;
+    }
+
+    /**
+     * Whether search criteria only filter on held columns and start inside the window
+     */
+    public boolean canCount(MeetingSearchCriteria criteria) {
+        return isBlank(criteria.getChairman()) && isBlank(criteria.getSecretary()) && covers(criteria.getFrom());
+    }
+
+    /**
+     * Meetings matching search criteria; only after {@link #canCount}
+     */
+    public long count(MeetingSearchCriteria criteria) {
+        CalendarColumns current = columns;
+        int room = CalendarColumns.ANY;
+        int department = CalendarColumns.ANY;
+        if (!isBlank(criteria.getRoom())) {
+            Integer code = current.code(criteria.getRoom());
+            if (code == null) {
+                return 0;
+            }
+            room = code;
+        }
+        if (!isBlank(criteria.getDepartment())) {
+            Integer code = current.code(criteria.getDepartment());
+            if (code == null) {
+                return 0;
+            }
+            department = code;
+        }
+        return current.count(criteria.getFrom(), criteria.getTo(), criteria.getStatus(), room, department);
+    }
+
+    /**
+     * The given fields of the meetings starting in [from, to), in start order; only after {@link #covers}
+     */
+    public List<Map<String, Object>> select(LocalDateTime from, LocalDateTime to, List<String> fields) {
+        return columns.select(from, to, fields);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        if (enabled) {
+            pending.put(event.meetingId(), Optional.ofNullable(event.after()));
+        }
+    }
+
+    /**
+     * Reload every meeting in the window
+     */
+    public void rebuild() {
+        LocalDateTime windowStart = LocalDate.now().minusDays(pastDays).atStartOfDay();
+        synchronized (this) {
+            replay = new HashMap<>();
+        }
+        List<MeetingSummaryDTO> meetings;
+        try {
+            meetings = transactionTemplate.execute(tx -> meetingRepository.findSummariesFrom(windowStart));
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                replay = null;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            Map<Long, Optional<MeetingSummaryDTO>> changes = replay;
+            replay = null;
+            if (meetings.size() > maxMeetings) {
+                columns = null;
+                pending.clear();
+                log.warn("{} meetings in the calendar window exceed meetings.calendar-index.max-meetings ({}); "
+                        + "date-range queries use the database", meetings.size(), maxMeetings);
+                return;
+            }
+            CalendarColumns rebuilt = CalendarColumns.build(windowStart, meetings);
+            columns = changes.isEmpty() ? rebuilt : rebuilt.merge(unwrap(changes));
+        }
+        log.debug("In-memory calendar rebuilt with {} meetings from {}", meetings.size(), windowStart);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (loader != null) {
+            loader.shutdownNow();
+        }
+    }
+
+    // Columns with every committed change merged
+    private CalendarColumns current() {
+        if (pending.isEmpty()) {
+            return columns;
+        }
+        synchronized (this) {
+            Map<Long, Optional<MeetingSummaryDTO>> changes = new HashMap<>();
+            for (Long id : pending.keySet()) {
+                changes.put(id, pending.remove(id));
+            }
+            changes.values().removeIf(Objects::isNull);
+            if (replay != null) {
+                replay.putAll(changes);
+            }
+            if (columns != null && !changes.isEmpty()) {
+                columns = columns.merge(unwrap(changes));
+            }
+            return columns;
+        }
+    }
+
+    private void onRemoteChange(String key) {
+        if (key == null) {
+            loader.execute(this::rebuildQuietly);
+            return;
+        }
+        stale.add(Long.valueOf(key));
+        loader.execute(this::reloadStale);
+    }
+
+    private void reloadStale() {
+        if (stale.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(stale);
+        try {
+            Map<Long, Optional<MeetingSummaryDTO>> loaded = new HashMap<>();
+            ids.forEach(id -> loaded.put(id, Optional.empty()));
+            transactionTemplate.execute(tx -> meetingRepository.findSummariesByIdIn(ids))
+                    .forEach(meeting -> loaded.put(meeting.getId(), Optional.of(meeting)));
+            // Local changes committed meanwhile are newer than what was loaded
+            loaded.forEach(pending::putIfAbsent);
+            ids.forEach(stale::remove);
+        } catch (RuntimeException e) {
+            log.warn("Reloading {} changed meeting(s) into the in-memory calendar failed", ids.size(), e);
+        }
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("Rebuilding the in-memory calendar failed", e);
+        }
+    }
+
+    private static Map<Long, MeetingSummaryDTO> unwrap(Map<Long, Optional<MeetingSummaryDTO>> changes) {
+        Map<Long, MeetingSummaryDTO> unwrapped = new HashMap<>();
+        changes.forEach((id, meeting) -> unwrapped.put(id, meeting.orElse(null)));
+        return unwrapped;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
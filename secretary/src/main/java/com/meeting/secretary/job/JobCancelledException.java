@@ -0,0 +1,11 @@
+package com.meeting.secretary.job;
+
+/**
+ * Thrown by {@link JobContext#checkCancelled()} to stop a cancelled job
+ */
+public class JobCancelledException extends RuntimeException {
+
+    public JobCancelledException(String jobId) {
+        super("Tác vụ " + jobId + " đã bị hủy");
+    }
+}
@@ -0,0 +1,69 @@
+package com.meeting.secretary.job;
+
+import com.meeting.secretary.repository.BackgroundJobRepository;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Handle given to a running job for progress reporting and cancellation checks.
+ * Progress is written to the job table at most every PROGRESS_INTERVAL, so tight loops
+ * can report freely without adding database load.
+ */
+public class JobContext {
+
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final String jobId;
+    private final BackgroundJobRepository jobRepository;
+    private volatile boolean cancelled;
+
+    private int lastProgress = -1;
+    private long lastWriteNanos;
+
+    JobContext(String jobId, BackgroundJobRepository jobRepository) {
+        this.jobId = jobId;
+        this.jobRepository = jobRepository;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    /**
+     * Report progress in percent (0-100)
+     */
+    public void progress(int percent, String message) {
+        int clamped = Math.max(0, Math.min(100, percent));
+        long now = System.nanoTime();
+        if (clamped == lastProgress || (now - lastWriteNanos < PROGRESS_INTERVAL_NANOS && clamped < 100)) {
+            return;
+        }
+        lastProgress = clamped;
+        lastWriteNanos = now;
+        jobRepository.updateProgress(jobId, clamped, message);
+    }
+
+    /**
+     * Report progress as done/total
+     */
+    public void progress(long done, long total, String message) {
+        progress(total <= 0 ? 0 : (int) (done * 100 / total), message);
+    }
+
+    public boolean isCancelled() {
+        return cancelled || Thread.currentThread().isInterrupted();
+    }
+
+    /**
+     * Stop the job if cancellation was requested
+     */
+    public void checkCancelled() {
+        if (isCancelled()) {
+            throw new JobCancelledException(jobId);
+        }
+    }
+
+    void cancel() {
+        cancelled = true;
+    }
+}
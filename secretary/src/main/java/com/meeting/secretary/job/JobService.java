@@ -0,0 +1,210 @@
+package com.meeting.secretary.job;
+
+import com.meeting.secretary.entity.BackgroundJob;
+import com.meeting.secretary.entity.JobStatus;
+import com.meeting.secretary.entity.JobType;
+import com.meeting.secretary.exception.ResourceNotFoundException;
+import com.meeting.secretary.repository.BackgroundJobRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs heavy operations in the background instead of on request threads.
+ * Every job class has its own bounded executor; job state is kept in the jobs table
+ * so clients can poll it from any request.
+ */
+@Slf4j
+@Service
+public class JobService {
+
+    private static final int RECENT_JOBS_LIMIT = 100;
+
+    private final BackgroundJobRepository jobRepository;
+    private final ObjectMapper objectMapper;
+    private final Map<JobType, ThreadPoolExecutor> executors = new EnumMap<>(JobType.class);
+    private final Map<String, RunningJob> running = new ConcurrentHashMap<>();
+    private final long retentionHours;
+
+    public JobService(BackgroundJobRepository jobRepository, ObjectMapper objectMapper, Environment environment) {
+        this.jobRepository = jobRepository;
+        this.objectMapper = objectMapper;
+        this.retentionHours = environment.getProperty("jobs.retention-hours", Long.class, 24L);
+        for (JobType type : JobType.values()) {
+            String prefix = "jobs." + type.name().toLowerCase() + ".";
+            int workers = environment.getProperty(prefix + "workers", Integer.class, 2);
+            int queueCapacity = environment.getProperty(prefix + "queue-capacity", Integer.class, 50);
+            executors.put(type, new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    Thread.ofPlatform().name("job-" + type.name().toLowerCase() + "-", 0).daemon().factory()));
+        }
+    }
+
+    /**
+     * Queue a job on the executor of its class
+     *
+     * @throws RejectedExecutionException when the queue of that class is full
+     */
+    public BackgroundJob submit(JobType type, String description, JobTask task) {
+        BackgroundJob job = new BackgroundJob();
+        job.setId(UUID.randomUUID().toString());
+        job.setType(type);
+        job.setStatus(JobStatus.PENDING);
+        job.setDescription(description);
+        job = jobRepository.save(job);
+
+        String jobId = job.getId();
+        JobContext context = new JobContext(jobId, jobRepository);
+        try {
+            // Registered before the task can start so cancel() always finds it
+            RunningJob runningJob = new RunningJob(context);
+            running.put(jobId, runningJob);
+            runningJob.future = executors.get(type).submit(() -> execute(jobId, context, task));
+        } catch (RejectedExecutionException e) {
+            running.remove(jobId);
+            jobRepository.markFinished(jobId, JobStatus.FAILED, null, "Hàng đợi tác vụ đã đầy", LocalDateTime.now());
+            throw e;
+        }
+        return job;
+    }
+
+    /**
+     * Get job by ID
+     */
+    public BackgroundJob getJob(String id) {
+        return jobRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Không tìm thấy tác vụ " + id));
+    }
+
+    /**
+     * Get the result of a finished job as JSON
+     */
+    public JsonNode getResult(String id) {
+        BackgroundJob job = getJob(id);
+        if (job.getStatus() != JobStatus.SUCCEEDED) {
+            throw new IllegalArgumentException("Tác vụ " + id + " chưa hoàn thành (" + job.getStatus() + ")");
+        }
+        return job.getResult() == null ? null : objectMapper.readTree(job.getResult());
+    }
+
+    /**
+     * Get the most recent jobs, optionally of one class
+     */
+    public List<BackgroundJob> getRecentJobs(JobType type) {
+        return type == null
+                ? jobRepository.findByOrderByCreatedAtDesc(Limit.of(RECENT_JOBS_LIMIT))
+                : jobRepository.findByTypeOrderByCreatedAtDesc(type, Limit.of(RECENT_JOBS_LIMIT));
+    }
+
+    /**
+     * Request cancellation. A queued job never starts; a running job stops at its next
+     * cancellation check or when interrupted.
+     */
+    public BackgroundJob cancel(String id) {
+        BackgroundJob job = getJob(id);
+        if (job.getStatus().isFinished()) {
+            return job;
+        }
+        jobRepository.requestCancel(id);
+        RunningJob runningJob = running.get(id);
+        if (runningJob != null) {
+            runningJob.context.cancel();
+            if (runningJob.future != null) {
+                runningJob.future.cancel(true);
+            }
+            if (job.getStatus() == JobStatus.PENDING) {
+                // Will never reach execute(), so finish it here
+                running.remove(id);
+                jobRepository.markFinished(id, JobStatus.CANCELLED, null, null, LocalDateTime.now());
+            }
+        }
+        return getJob(id);
+    }
+
+    /**
+     * Check whether a job is still pending or running
+     */
+    public boolean isActive(String id) {
+        return running.containsKey(id);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedJobs() {
+        int count = jobRepository.failUnfinished(List.of(JobStatus.PENDING, JobStatus.RUNNING),
+                "Tác vụ bị gián đoạn do khởi động lại hệ thống", LocalDateTime.now());
+        if (count > 0) {
+            log.warn("Marked {} interrupted job(s) as failed", count);
+        }
+        int purged = jobRepository.deleteFinishedBefore(LocalDateTime.now().minusHours(retentionHours));
+        if (purged > 0) {
+            log.info("Purged {} finished job(s) older than {} hours", purged, retentionHours);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executors.values().forEach(ThreadPoolExecutor::shutdownNow);
+    }
+
+    private void execute(String jobId, JobContext context, JobTask task) {
+        try {
+            if (context.isCancelled()) {
+                jobRepository.markFinished(jobId, JobStatus.CANCELLED, null, null, LocalDateTime.now());
+                return;
+            }
+            jobRepository.markStarted(jobId, JobStatus.RUNNING, LocalDateTime.now());
+            Object result = task.run(context);
+            if (context.isCancelled()) {
+                Thread.interrupted();
+                jobRepository.markFinished(jobId, JobStatus.CANCELLED, null, null, LocalDateTime.now());
+                return;
+            }
+            String json = result == null ? null : objectMapper.writeValueAsString(result);
+            jobRepository.markFinished(jobId, JobStatus.SUCCEEDED, json, null, LocalDateTime.now());
+        } catch (JobCancelledException | InterruptedException e) {
+            // Clear the interrupt before touching the database from this pool thread
+            Thread.interrupted();
+            jobRepository.markFinished(jobId, JobStatus.CANCELLED, null, null, LocalDateTime.now());
+        } catch (Exception e) {
+            if (context.isCancelled()) {
+                Thread.interrupted();
+                jobRepository.markFinished(jobId, JobStatus.CANCELLED, null, null, LocalDateTime.now());
+                return;
+            }
+            log.error("Job {} failed", jobId, e);
+            String message = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            jobRepository.markFinished(jobId, JobStatus.FAILED, null,
+                    message.length() > 2000 ? message.substring(0, 2000) : message, LocalDateTime.now());
+        } finally {
+            running.remove(jobId);
+        }
+    }
+
+    private static final class RunningJob {
+
+        private final JobContext context;
+        private volatile Future<?> future;
+
+        private RunningJob(JobContext context) {
+            this.context = context;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.meeting.secretary.job;
+
+/**
+ * Work executed by a background job.
+ * The returned value is serialized to JSON and served as the job result.
+ */
+@FunctionalInterface
+public interface JobTask {
+
+    Object run(JobContext context) throws Exception;
+}
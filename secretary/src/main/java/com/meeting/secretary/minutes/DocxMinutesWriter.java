@@ -0,0 +1,135 @@
+package com.meeting.secretary.minutes;
+
+import com.meeting.secretary.entity.Meeting;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes minutes as a minimal WordprocessingML package.
+ * document.xml is streamed straight into the zip entry, line by line.
+ */
+@Component
+public class DocxMinutesWriter implements MinutesWriter {
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    private static final String CONTENT_TYPES = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <Types xmlns="http://schemas.openxmlformats.org/package/2006/content-types">
+            <Default Extension="rels" ContentType="application/vnd.openxmlformats-package.relationships+xml"/>
+            <Default Extension="xml" ContentType="application/xml"/>
+            <Override PartName="/word/document.xml" ContentType="application/vnd.openxmlformats-officedocument.wordprocessingml.document.main+xml"/>
+            </Types>""";
+
+    private static final String RELS = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">
+            <Relationship Id="rId1" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument" Target="word/document.xml"/>
+            </Relationships>""";
+
+    @Override
+    public MinutesFormat getFormat() {
+        return MinutesFormat.DOCX;
+    }
+
+    @Override
+    public void write(Meeting meeting, Iterator<String> transcriptLines, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        putEntry(zip, "[Content_Types].xml", CONTENT_TYPES);
+        putEntry(zip, "_rels/.rels", RELS);
+
+        zip.putNextEntry(new ZipEntry("word/document.xml"));
+        Writer xml = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8));
+        xml.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>");
+        xml.write("<w:document xmlns:w=\"http://schemas.openxmlformats.org/wordprocessingml/2006/main\"><w:body>");
+
+        paragraph(xml, "BIÊN BẢN CUỘC HỌP", true, 32, true);
+        xml.write("<w:tbl><w:tblPr><w:tblW w:w=\"5000\" w:type=\"pct\"/><w:tblBorders>");
+        for (String side : new String[]{"top", "left", "bottom", "right", "insideH", "insideV"}) {
+            xml.write("<w:" + side + " w:val=\"single\" w:sz=\"4\" w:space=\"0\" w:color=\"000000\"/>");
+        }
+        xml.write("</w:tblBorders></w:tblPr>");
+        xml.write("<w:tblGrid><w:gridCol w:w=\"2500\"/><w:gridCol w:w=\"6500\"/></w:tblGrid>");
+        infoRow(xml, "Tên cuộc họp:", meeting.getTitle());
+        infoRow(xml, "Mã cuộc họp:", String.valueOf(meeting.getId()));
+        infoRow(xml, "Chủ tọa:", meeting.getChairman());
+        infoRow(xml, "Thư ký:", meeting.getSecretary());
+        infoRow(xml, "Phòng họp:", meeting.getRoom());
+        infoRow(xml, "Thời gian:", meeting.getStartTime().format(TIME_FORMAT)
+                + " - " + meeting.getEndTime().format(TIME_FORMAT));
+        xml.write("</w:tbl>");
+
+        paragraph(xml, "", false, 24, false);
+        paragraph(xml, "NỘI DUNG CUỘC HỌP", true, 28, false);
+        while (transcriptLines.hasNext()) {
+            String line = transcriptLines.next();
+            if (MinutesWriter.isContentLine(line)) {
+                paragraph(xml, line.strip(), false, 24, false);
+            }
+        }
+        paragraph(xml, "", false, 24, false);
+        paragraph(xml, "Biên bản được tạo lúc " + LocalDateTime.now().format(TIME_FORMAT), false, 20, false);
+
+        xml.write("</w:body></w:document>");
+        xml.flush();
+        zip.closeEntry();
+        zip.finish();
+    }
+
+    private void putEntry(ZipOutputStream zip, String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+
+    private void infoRow(Writer xml, String label, String value) throws IOException {
+        xml.write("<w:tr><w:tc>");
+        paragraph(xml, label, true, 24, false);
+        xml.write("</w:tc><w:tc>");
+        paragraph(xml, value == null ? "" : value, false, 24, false);
+        xml.write("</w:tc></w:tr>");
+    }
+
+    private void paragraph(Writer xml, String text, boolean bold, int halfPoints, boolean centered) throws IOException {
+        xml.write("<w:p>");
+        if (centered) {
+            xml.write("<w:pPr><w:jc w:val=\"center\"/></w:pPr>");
+        }
+        xml.write("<w:r><w:rPr>");
+        if (bold) {
+            xml.write("<w:b/>");
+        }
+        xml.write("<w:sz w:val=\"" + halfPoints + "\"/></w:rPr><w:t xml:space=\"preserve\">");
+        writeEscaped(xml, text);
+        xml.write("</w:t></w:r></w:p>");
+    }
+
+    private void writeEscaped(Writer xml, String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<' -> xml.write("&lt;");
+                case '>' -> xml.write("&gt;");
+                case '&' -> xml.write("&amp;");
+                case '"' -> xml.write("&quot;");
+                default -> {
+                    // Control characters are not allowed in XML 1.0
+                    if (c >= 0x20 || c == '\t') {
+                        xml.write(c);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.meeting.secretary.minutes;
+
+/**
+ * Output format of meeting minutes
+ */
+public enum MinutesFormat {
+    DOCX("docx", "application/vnd.openxmlformats-officedocument.wordprocessingml.document"),
+    PDF("pdf", "application/pdf");
+
+    private final String extension;
+    private final String contentType;
+
+    MinutesFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
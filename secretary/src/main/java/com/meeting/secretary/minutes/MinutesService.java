@@ -0,0 +1,182 @@
+package com.meeting.secretary.minutes;
+
+import com.meeting.secretary.dto.MinutesJobDTO;
+import com.meeting.secretary.entity.BackgroundJob;
+import com.meeting.secretary.entity.JobType;
+import com.meeting.secretary.entity.Meeting;
+import com.meeting.secretary.exception.ResourceNotFoundException;
+import com.meeting.secretary.job.JobContext;
+import com.meeting.secretary.job.JobService;
+import com.meeting.secretary.service.MeetingService;
+import com.meeting.secretary.service.TranscriptService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Generates meeting minutes (DOCX/PDF) as DOCUMENT background jobs.
+ * Artifacts are named after the meeting's transcript version and last update, so an
+ * existing file is reused as long as neither the transcript nor the meeting changed.
+ */
+@Slf4j
+@Service
+public class MinutesService {
+
+    private final MeetingService meetingService;
+    private final TranscriptService transcriptService;
+    private final JobService jobService;
+    private final Map<MinutesFormat, MinutesWriter> writers;
+    private final Path outputDir;
+
+    // Artifact path -> id of the job currently generating it
+    private final Map<Path, String> inFlight = new ConcurrentHashMap<>();
+
+    public MinutesService(MeetingService meetingService,
+                          TranscriptService transcriptService,
+                          JobService jobService,
+                          List<MinutesWriter> writers,
+                          @Value("${minutes.output-dir:meeting-minutes}") String outputDir) {
+        this.meetingService = meetingService;
+        this.transcriptService = transcriptService;
+        this.jobService = jobService;
+        this.writers = writers.stream().collect(Collectors.toMap(MinutesWriter::getFormat, Function.identity()));
+        this.outputDir = Path.of(outputDir);
+    }
+
+    /**
+     * Request minutes of a meeting. Returns the ready artifact when it is current,
+     * otherwise the (new or already running) job generating it.
+     */
+    public MinutesJobDTO requestMinutes(Long meetingId, MinutesFormat format) {
+        Meeting meeting = meetingService.getMeetingById(meetingId);
+        long version = transcriptService.getTranscriptVersion(meetingId);
+        Path artifact = artifactPath(meeting, format, version);
+
+        MinutesJobDTO.MinutesJobDTOBuilder result = MinutesJobDTO.builder()
+                .meetingId(meetingId)
+                .format(format)
+                .transcriptVersion(version)
+                .downloadUrl(downloadUrl(meetingId, format));
+        if (Files.exists(artifact)) {
+            return result.ready(true).build();
+        }
+
+        String jobId = inFlight.get(artifact);
+        while (jobId == null || !jobService.isActive(jobId)) {
+            if (jobId != null) {
+                inFlight.remove(artifact, jobId);
+            }
+            // Saving the job row is I/O, so it happens before the map is touched
+            BackgroundJob job = jobService.submit(JobType.DOCUMENT,
+                    "Tạo biên bản " + format + " cho cuộc họp " + meetingId,
+                    context -> generate(context, meeting, format, artifact));
+            String current = inFlight.putIfAbsent(artifact, job.getId());
+            if (current == null) {
+                jobId = job.getId();
+                break;
+            }
+            // Another request started the same artifact first
+            jobService.cancel(job.getId());
+            jobId = current;
+        }
+        return result.ready(false).jobId(jobId).build();
+    }
+
+    /**
+     * Get the current artifact of a meeting, if it has been generated
+     */
+    public Path getArtifact(Long meetingId, MinutesFormat format) {
+        Meeting meeting = meetingService.getMeetingById(meetingId);
+        Path artifact = artifactPath(meeting, format, transcriptService.getTranscriptVersion(meetingId));
+        if (!Files.exists(artifact)) {
+            throw new ResourceNotFoundException("Biên bản " + format + " của cuộc họp " + meetingId
+                    + " chưa được tạo hoặc đã cũ");
+        }
+        return artifact;
+    }
+
+    private Map<String, String> generate(JobContext context, Meeting meeting, MinutesFormat format, Path artifact)
+            throws IOException {
+        Path temp = null;
+        try {
+            Files.createDirectories(artifact.getParent());
+            temp = Files.createTempFile(artifact.getParent(), "minutes-", ".tmp");
+            long total = Math.max(1, transcriptService.countSegments(meeting.getId()));
+            Iterator<String> lines = transcriptService.iterateLines(meeting.getId());
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                writers.get(format).write(meeting, new Iterator<>() {
+                    private long written;
+
+                    @Override
+                    public boolean hasNext() {
+                        context.checkCancelled();
+                        return lines.hasNext();
+                    }
+
+                    @Override
+                    public String next() {
+                        context.progress(++written, total, "Đang ghi nội dung cuộc họp");
+                        return lines.next();
+                    }
+                }, out);
+            }
+            Files.move(temp, artifact, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            temp = null;
+            deleteOutdated(artifact, format);
+            log.info("Minutes {} generated for meeting {}", format, meeting.getId());
+            return Map.of("downloadUrl", downloadUrl(meeting.getId(), format),
+                    "fileName", artifact.getFileName().toString());
+        } finally {
+            deleteQuietly(temp);
+            inFlight.remove(artifact, context.getJobId());
+        }
+    }
+
+    private Path artifactPath(Meeting meeting, MinutesFormat format, long transcriptVersion) {
+        long updatedAt = meeting.getUpdatedAt() == null ? 0 : meeting.getUpdatedAt().toEpochSecond(ZoneOffset.UTC);
+        String fileName = String.format("bien_ban_%d_%d_%d.%s",
+                meeting.getId(), transcriptVersion, updatedAt, format.getExtension());
+        return outputDir.resolve(String.valueOf(meeting.getId())).resolve(fileName);
+    }
+
+    private void deleteOutdated(Path current, MinutesFormat format) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(current.getParent(), "*." + format.getExtension())) {
+            for (Path file : files) {
+                if (!file.equals(current)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Cannot clean up old minutes in {}: {}", current.getParent(), e.getMessage());
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // Left for the next cleanup
+        }
+    }
+
+    private String downloadUrl(Long meetingId, MinutesFormat format) {
+        return "/api/meetings/" + meetingId + "/minutes/" + format;
+    }
+}
@@ -0,0 +1,26 @@
+package com.meeting.secretary.minutes;
+
+import com.meeting.secretary.entity.Meeting;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+
+/**
+ * Renders meeting minutes into one output format.
+ * Transcript lines are consumed one at a time so the whole transcript is never held in memory.
+ */
+public interface MinutesWriter {
+
+    MinutesFormat getFormat();
+
+    void write(Meeting meeting, Iterator<String> transcriptLines, OutputStream out) throws IOException;
+
+    /**
+     * Same filter as save_meeting_document.py: skip blank lines and "[...]" system messages
+     */
+    static boolean isContentLine(String line) {
+        String trimmed = line.strip();
+        return !trimmed.isEmpty() && !(trimmed.startsWith("[") && trimmed.endsWith("]"));
+    }
+}
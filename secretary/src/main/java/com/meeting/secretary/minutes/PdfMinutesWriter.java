@@ -0,0 +1,137 @@
+package com.meeting.secretary.minutes;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Element;
+import com.lowagie.text.Font;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.pdf.BaseFont;
+import com.lowagie.text.pdf.PdfPCell;
+import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.PdfWriter;
+import com.meeting.secretary.entity.Meeting;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+
+/**
+ * Writes minutes as PDF.
+ * PdfWriter flushes every finished page to the output, so memory stays flat for long transcripts.
+ */
+@Component
+public class PdfMinutesWriter implements MinutesWriter {
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    private final BaseFont baseFont;
+    private final BaseFont boldFont;
+
+    /**
+     * @param fontDir directory with DejaVuSans.ttf and DejaVuSans-Bold.ttf; blank uses the bundled copies
+     */
+    public PdfMinutesWriter(@Value("${minutes.font-dir:}") String fontDir) throws IOException {
+        // Vietnamese needs an embedded Unicode font, the same DejaVu fonts as the Python generator
+        this.baseFont = loadFont(fontDir, "DejaVuSans.ttf");
+        this.boldFont = loadFont(fontDir, "DejaVuSans-Bold.ttf");
+    }
+
+    @Override
+    public MinutesFormat getFormat() {
+        return MinutesFormat.PDF;
+    }
+
+    @Override
+    public void write(Meeting meeting, Iterator<String> transcriptLines, OutputStream out) throws IOException {
+        Font titleFont = new Font(boldFont, 16);
+        Font headingFont = new Font(boldFont, 13);
+        Font labelFont = new Font(boldFont, 11);
+        Font textFont = new Font(baseFont, 11);
+        Font noteFont = new Font(baseFont, 9);
+
+        Document document = new Document(PageSize.A4, 50, 50, 50, 50);
+        try {
+            PdfWriter.getInstance(document, out).setCloseStream(false);
+            document.open();
+
+            Paragraph title = new Paragraph("BIÊN BẢN CUỘC HỌP", titleFont);
+            title.setAlignment(Element.ALIGN_CENTER);
+            title.setSpacingAfter(12);
+            document.add(title);
+
+            PdfPTable info = new PdfPTable(new float[]{1, 3});
+            info.setWidthPercentage(100);
+            infoRow(info, "Tên cuộc họp:", meeting.getTitle(), labelFont, textFont);
+            infoRow(info, "Mã cuộc họp:", String.valueOf(meeting.getId()), labelFont, textFont);
+            infoRow(info, "Chủ tọa:", meeting.getChairman(), labelFont, textFont);
+            infoRow(info, "Thư ký:", meeting.getSecretary(), labelFont, textFont);
+            infoRow(info, "Phòng họp:", meeting.getRoom(), labelFont, textFont);
+            infoRow(info, "Thời gian:", meeting.getStartTime().format(TIME_FORMAT)
+                    + " - " + meeting.getEndTime().format(TIME_FORMAT), labelFont, textFont);
+            document.add(info);
+
+            Paragraph heading = new Paragraph("NỘI DUNG CUỘC HỌP", headingFont);
+            heading.setSpacingBefore(16);
+            heading.setSpacingAfter(8);
+            document.add(heading);
+
+            while (transcriptLines.hasNext()) {
+                String line = transcriptLines.next();
+                if (MinutesWriter.isContentLine(line)) {
+                    document.add(new Paragraph(line.strip(), textFont));
+                }
+            }
+
+            Paragraph note = new Paragraph("Biên bản được tạo lúc " + LocalDateTime.now().format(TIME_FORMAT), noteFont);
+            note.setSpacingBefore(16);
+            document.add(note);
+        } catch (DocumentException e) {
+            throw new IOException("Không thể tạo file PDF: " + e.getMessage(), e);
+        } finally {
+            if (document.isOpen()) {
+                document.close();
+            }
+        }
+    }
+
+    private void infoRow(PdfPTable table, String label, String value, Font labelFont, Font textFont) {
+        PdfPCell labelCell = new PdfPCell(new Paragraph(label, labelFont));
+        labelCell.setPadding(5);
+        table.addCell(labelCell);
+        PdfPCell valueCell = new PdfPCell(new Paragraph(value == null ? "" : value, textFont));
+        valueCell.setPadding(5);
+        table.addCell(valueCell);
+    }
+
+    // Without the font there is no fallback: a built-in PDF font would drop every Vietnamese diacritic
+    private static BaseFont loadFont(String fontDir, String name) throws IOException {
+        byte[] font;
+        if (fontDir == null || fontDir.isBlank()) {
+            try (InputStream in = PdfMinutesWriter.class.getResourceAsStream("/fonts/" + name)) {
+                if (in == null) {
+                    throw new IOException("Không tìm thấy font " + name + " trong classpath (/fonts)");
+                }
+                font = in.readAllBytes();
+            }
+        } else {
+            Path path = Path.of(fontDir, name);
+            if (!Files.isReadable(path)) {
+                throw new IOException("Không tìm thấy font " + path.toAbsolutePath() + " (minutes.font-dir)");
+            }
+            font = Files.readAllBytes(path);
+        }
+        try {
+            return BaseFont.createFont(name, BaseFont.IDENTITY_H, BaseFont.EMBEDDED, true, font, null);
+        } catch (DocumentException e) {
+            throw new IOException("Không thể tải font " + name, e);
+        }
+    }
+}
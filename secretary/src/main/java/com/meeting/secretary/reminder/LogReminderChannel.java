@@ -0,0 +1,21 @@
+package com.meeting.secretary.reminder;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * Writes reminders to the log instead of mailing them, for development and single-instance setups
+ */
+@Slf4j
+public class LogReminderChannel implements ReminderChannel {
+
+    @Override
+    public void deliver(List<ReminderMessage> batch) {
+        for (ReminderMessage message : batch) {
+            log.info("Reminder: meeting {} '{}' in room {} starts at {} ({} min) -> {}", message.meetingId(),
+                    message.title(), message.room(), message.startTime(), message.minutesBefore(),
+                    String.join(", ", message.recipients()));
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.meeting.secretary.reminder;
+
+import java.util.List;
+
+/**
+ * Sends reminders out of the application. Implementations: a webhook ({@link WebhookReminderChannel})
+ * and a logging stand-in for mail ({@link LogReminderChannel}); an SMTP or chat channel can be plugged
+ * in as another bean with reminders.channel=custom.
+ */
+public interface ReminderChannel {
+
+    /**
+     * Deliver a batch; an exception fails the whole batch, which is retried with backoff
+     */
+    void deliver(List<ReminderMessage> batch) throws Exception;
+}
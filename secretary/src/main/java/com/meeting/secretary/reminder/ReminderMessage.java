@@ -0,0 +1,11 @@
+package com.meeting.secretary.reminder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One reminder ready to send: the meeting as it is now and who should receive it
+ */
+public record ReminderMessage(Long reminderId, Long meetingId, String title, LocalDateTime startTime,
+                              LocalDateTime endTime, String room, int minutesBefore, List<String> recipients) {
+}
@@ -0,0 +1,373 @@
+package com.meeting.secretary.reminder;
+
+import com.meeting.secretary.dto.MeetingSummaryDTO;
+import com.meeting.secretary.entity.MeetingParticipant;
+import com.meeting.secretary.entity.MeetingReminder;
+import com.meeting.secretary.entity.MeetingStatus;
+import com.meeting.secretary.entity.ReminderStatus;
+import com.meeting.secretary.entity.RsvpStatus;
+import com.meeting.secretary.repository.MeetingParticipantRepository;
+import com.meeting.secretary.repository.MeetingReminderRepository;
+import com.meeting.secretary.repository.MeetingRepository;
+import com.meeting.secretary.service.MeetingChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Sends reminders reminders.minutes-before minutes before each scheduled meeting to its participants.
+ * Reminders are rows of meeting_reminders, written in the same transaction as the meeting change
+ * that creates, moves or cancels them. The ones due within reminders.horizon-minutes are also kept
+ * in a {@link TimingWheel}, refilled from the table at startup and every half horizon, so finding
+ * due reminders costs no query. Due reminders are claimed, sent through the {@link ReminderChannel}
+ * in batches and marked SENT; a failed batch is retried with exponential backoff up to
+ * reminders.max-attempts. Delivery is at least once: a batch sent just before a crash is sent again.
+ */
+@Slf4j
+@Component
+public class ReminderScheduler {
+
+    // How long a claimed batch is held before another instance may take it over
+    private static final long CLAIM_MINUTES = 5;
+    private static final Comparator<MeetingParticipant> RECIPIENT_ORDER =
+            Comparator.comparing(MeetingParticipant::getRole).thenComparing(MeetingParticipant::getPerson);
+
+    private final MeetingReminderRepository reminderRepository;
+    private final MeetingRepository meetingRepository;
+    private final MeetingParticipantRepository participantRepository;
+    private final ReminderChannel channel;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final List<Integer> minutesBefore;
+    private final long tickMillis;
+    private final long horizonMillis;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+
+    private final TimingWheel wheel;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final AtomicLong claims = new AtomicLong();
+    // Pending reminders due before this time (epoch ms) are in the wheel; later ones come with a refill
+    private volatile long loadedUntil;
+    private ScheduledExecutorService ticker;
+    private ExecutorService sender;
+
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+    private final Counter cancelled;
+
+    public ReminderScheduler(MeetingReminderRepository reminderRepository,
+                             MeetingRepository meetingRepository,
+                             MeetingParticipantRepository participantRepository,
+                             ReminderChannel channel,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry registry,
+                             @Value("${reminders.enabled:true}") boolean enabled,
+                             @Value("${reminders.minutes-before:15}") List<Integer> minutesBefore,
+                             @Value("${reminders.tick-ms:1000}") long tickMillis,
+                             @Value("${reminders.wheel-size:512}") int wheelSize,
+                             @Value("${reminders.horizon-minutes:60}") long horizonMinutes,
+                             @Value("${reminders.batch-size:100}") int batchSize,
+                             @Value("${reminders.max-attempts:5}") int maxAttempts,
+                             @Value("${reminders.backoff-ms:30000}") long backoffMillis,
+                             @Value("${reminders.max-backoff-ms:600000}") long maxBackoffMillis) {
+        this.reminderRepository = reminderRepository;
+        this.meetingRepository = meetingRepository;
+        this.participantRepository = participantRepository;
+        this.channel = channel;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.minutesBefore = minutesBefore.stream().distinct().toList();
+        this.tickMillis = tickMillis;
+        this.horizonMillis = TimeUnit.MINUTES.toMillis(horizonMinutes);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.wheel = new TimingWheel(tickMillis, wheelSize, System.currentTimeMillis());
+
+        this.sent = counter(registry, "sent");
+        this.retried = counter(registry, "retried");
+        this.failed = counter(registry, "failed");
+        this.cancelled = counter(registry, "cancelled");
+        Gauge.builder("reminders.armed", wheel, TimingWheel::size)
+                .description("Reminders waiting in the timing wheel").register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("reminder-wheel").daemon().factory());
+        sender = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("reminder-sender").daemon().factory());
+        ticker.scheduleWithFixedDelay(this::refillQuietly, 0, horizonMillis / 2, TimeUnit.MILLISECONDS);
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        log.info("Meeting reminders enabled ({} min before, through {})", minutesBefore,
+                channel.getClass().getSimpleName());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            sender.shutdownNow();
+        }
+    }
+
+    // Runs inside the writing transaction, so reminders commit or roll back with the meeting
+    @EventListener
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        MeetingSummaryDTO before = event.before();
+        MeetingSummaryDTO after = event.after();
+        if (!enabled || (before != null && after != null && before.getStatus() == after.getStatus()
+                && before.getStartTime().equals(after.getStartTime()))) {
+            return;
+        }
+        List<Long> dropped = reminderRepository.findByMeetingIdAndStatus(event.meetingId(), ReminderStatus.PENDING)
+                .stream().map(MeetingReminder::getId).toList();
+        List<MeetingReminder> armed = new ArrayList<>();
+        if (after == null) {
+            reminderRepository.deleteByMeetingId(event.meetingId());
+        } else {
+            if (!dropped.isEmpty()) {
+                reminderRepository.deleteAllByIdInBatch(dropped);
+            }
+            if (after.getStatus() == MeetingStatus.SCHEDULED) {
+                armed.addAll(reminderRepository.saveAll(newReminders(after)));
+            }
+        }
+        afterCommit(() -> {
+            dropped.forEach(wheel::cancel);
+            armed.forEach(this::arm);
+        });
+    }
+
+    /**
+     * Load the pending reminders due within the horizon into the wheel
+     */
+    void refill() {
+        long until = System.currentTimeMillis() + horizonMillis;
+        // Raised first: a reminder committed meanwhile is either found below or armed by its writer
+        loadedUntil = until;
+        List<MeetingReminder> due = reminderRepository.findDue(ReminderStatus.PENDING, toDateTime(until));
+        due.forEach(reminder -> wheel.schedule(reminder.getId(), toMillis(reminder.getDueAt())));
+        log.debug("Reminder wheel refilled with {} reminder(s) due in the next {} min", due.size(),
+                TimeUnit.MILLISECONDS.toMinutes(horizonMillis));
+    }
+
+    /**
+     * Send reminders by id, in batches; reminders no longer pending or claimed elsewhere are skipped
+     */
+    void deliver(List<Long> ids) {
+        for (int i = 0; i < ids.size(); i += batchSize) {
+            deliverBatch(ids.subList(i, Math.min(ids.size(), i + batchSize)));
+        }
+    }
+
+    private void tick() {
+        List<Long> due = wheel.advance(System.currentTimeMillis());
+        if (!due.isEmpty()) {
+            sender.execute(() -> deliverQuietly(due));
+        }
+    }
+
+    private void deliverBatch(List<Long> ids) {
+        String claim = instanceId + ":" + claims.incrementAndGet();
+        List<ReminderMessage> messages = transactionTemplate.execute(tx -> prepare(ids, claim));
+        if (messages.isEmpty()) {
+            return;
+        }
+        List<Long> claimed = messages.stream().map(ReminderMessage::reminderId).toList();
+        try {
+            channel.deliver(messages);
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            log.warn("Delivering {} reminder(s) failed: {}", messages.size(), e.toString());
+            finish(claimed, claim, e);
+            return;
+        }
+        finish(claimed, claim, null);
+    }
+
+    // Claim the reminders and build their messages from the meetings as they are now
+    private List<ReminderMessage> prepare(List<Long> ids, String claim) {
+        LocalDateTime now = LocalDateTime.now();
+        reminderRepository.claim(ids, ReminderStatus.PENDING, claim, now.plusMinutes(CLAIM_MINUTES), now);
+        List<MeetingReminder> reminders = reminderRepository.findByIdInAndClaimedBy(ids, claim);
+        if (reminders.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> meetingIds = reminders.stream().map(MeetingReminder::getMeetingId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, MeetingSummaryDTO> meetings = meetingRepository.findSummariesByIdIn(meetingIds).stream()
+                .collect(Collectors.toMap(MeetingSummaryDTO::getId, Function.identity()));
+        Map<Long, List<String>> recipients = new HashMap<>();
+        participantRepository.findByMeetingIdIn(meetingIds).stream()
+                .filter(participant -> participant.getRsvp() != RsvpStatus.DECLINED)
+                .sorted(RECIPIENT_ORDER)
+                .forEach(participant -> recipients.computeIfAbsent(participant.getMeetingId(), id -> new ArrayList<>())
+                        .add(participant.getPerson()));
+
+        List<ReminderMessage> messages = new ArrayList<>();
+        for (MeetingReminder reminder : reminders) {
+            MeetingSummaryDTO meeting = meetings.get(reminder.getMeetingId());
+            if (meeting == null || meeting.getStatus() != MeetingStatus.SCHEDULED || !meeting.getStartTime().isAfter(now)) {
+                // Left over from a change that raced with delivery, or overdue after downtime
+                reminder.setStatus(ReminderStatus.CANCELLED);
+                reminder.setClaimedUntil(null);
+                cancelled.increment();
+                continue;
+            }
+            List<String> to = recipients.getOrDefault(meeting.getId(),
+                    Stream.of(meeting.getChairman(), meeting.getSecretary()).filter(Objects::nonNull).distinct().toList());
+            messages.add(new ReminderMessage(reminder.getId(), meeting.getId(), meeting.getTitle(),
+                    meeting.getStartTime(), meeting.getEndTime(), meeting.getRoom(), reminder.getMinutesBefore(), to));
+        }
+        return messages;
+    }
+
+    private void finish(List<Long> ids, String claim, Exception error) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MeetingReminder> retries = transactionTemplate.execute(tx -> {
+            List<MeetingReminder> again = new ArrayList<>();
+            // Reminders deleted meanwhile (meeting moved or removed) are simply gone
+            for (MeetingReminder reminder : reminderRepository.findByIdInAndClaimedBy(ids, claim)) {
+                reminder.setAttempts(reminder.getAttempts() + 1);
+                reminder.setClaimedUntil(null);
+                if (error == null) {
+                    reminder.setStatus(ReminderStatus.SENT);
+                    reminder.setSentAt(now);
+                    reminder.setLastError(null);
+                    sent.increment();
+                    continue;
+                }
+                reminder.setLastError(truncate(error.toString()));
+                if (reminder.getAttempts() >= maxAttempts) {
+                    reminder.setStatus(ReminderStatus.FAILED);
+                    failed.increment();
+                } else {
+                    reminder.setDueAt(now.plusNanos(TimeUnit.MILLISECONDS.toNanos(backoff(reminder.getAttempts()))));
+                    again.add(reminder);
+                }
+            }
+            return again;
+        });
+        retries.forEach(this::arm);
+        retried.increment(retries.size());
+    }
+
+    private List<MeetingReminder> newReminders(MeetingSummaryDTO meeting) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MeetingReminder> reminders = new ArrayList<>();
+        for (int minutes : minutesBefore) {
+            LocalDateTime dueAt = meeting.getStartTime().minusMinutes(minutes);
+            if (dueAt.isAfter(now)) {
+                MeetingReminder reminder = new MeetingReminder();
+                reminder.setMeetingId(meeting.getId());
+                reminder.setMinutesBefore(minutes);
+                reminder.setDueAt(dueAt);
+                reminders.add(reminder);
+            }
+        }
+        return reminders;
+    }
+
+    private void arm(MeetingReminder reminder) {
+        long due = toMillis(reminder.getDueAt());
+        if (due < loadedUntil) {
+            wheel.schedule(reminder.getId(), due);
+        }
+    }
+
+    // Backoff before attempt n + 1: backoff-ms doubled after each failure, capped
+    private long backoff(int attempts) {
+        return Math.min(maxBackoffMillis, backoffMillis << Math.min(attempts - 1, 20));
+    }
+
+    private void deliverQuietly(List<Long> ids) {
+        try {
+            deliver(ids);
+        } catch (RuntimeException e) {
+            // Still pending; the next refill arms them again
+            log.error("Sending {} due reminder(s) failed", ids.size(), e);
+        }
+    }
+
+    private void refillQuietly() {
+        try {
+            refill();
+        } catch (RuntimeException e) {
+            log.error("Loading due reminders failed", e);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static String truncate(String message) {
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("reminders.delivered")
+                .description("Reminders by delivery outcome")
+                .tag("result", result)
+                .register(registry);
+    }
+}
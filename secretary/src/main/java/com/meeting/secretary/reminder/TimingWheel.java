@@ -0,0 +1,91 @@
+package com.meeting.secretary.reminder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hashed timing wheel of ids due at a time in milliseconds.
+ * Time is cut into ticks and each tick maps to one of a fixed number of slots; an id due further
+ * away than one turn of the wheel waits in its slot until the turn that reaches its tick.
+ * Scheduling and cancelling are O(1), and advancing only looks at the slots of the elapsed ticks,
+ * however many ids are waiting. Thread-safe.
+ */
+public class TimingWheel {
+
+    private final long tickMillis;
+    private final long originMillis;
+    private final List<Map<Long, Long>> slots;
+    // Id -> tick at which it is due
+    private final Map<Long, Long> ticks = new HashMap<>();
+    // Last tick whose slot was processed
+    private long currentTick;
+
+    public TimingWheel(long tickMillis, int size, long nowMillis) {
+        if (tickMillis <= 0 || size <= 0) {
+            throw new IllegalArgumentException("Tick and size must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.originMillis = nowMillis;
+        this.slots = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            slots.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * Schedule an id, replacing its previous time; a time already past fires on the next tick
+     */
+    public synchronized void schedule(long id, long dueMillis) {
+        cancel(id);
+        long tick = Math.max(Math.ceilDiv(dueMillis - originMillis, tickMillis), currentTick + 1);
+        ticks.put(id, tick);
+        slot(tick).put(id, tick);
+    }
+
+    public synchronized boolean cancel(long id) {
+        Long tick = ticks.remove(id);
+        if (tick == null) {
+            return false;
+        }
+        slot(tick).remove(id);
+        return true;
+    }
+
+    public synchronized boolean contains(long id) {
+        return ticks.containsKey(id);
+    }
+
+    public synchronized int size() {
+        return ticks.size();
+    }
+
+    /**
+     * Move the wheel to a time and remove the ids due by then
+     */
+    public synchronized List<Long> advance(long nowMillis) {
+        long target = Math.floorDiv(nowMillis - originMillis, tickMillis);
+        List<Long> due = new ArrayList<>();
+        // After a long pause every slot is looked at once
+        long steps = Math.min(target - currentTick, slots.size());
+        for (long step = 1; step <= steps; step++) {
+            Iterator<Map.Entry<Long, Long>> entries = slot(currentTick + step).entrySet().iterator();
+            while (entries.hasNext()) {
+                Map.Entry<Long, Long> entry = entries.next();
+                if (entry.getValue() <= target) {
+                    entries.remove();
+                    ticks.remove(entry.getKey());
+                    due.add(entry.getKey());
+                }
+            }
+        }
+        currentTick = Math.max(currentTick, target);
+        return due;
+    }
+
+    private Map<Long, Long> slot(long tick) {
+        return slots.get((int) Math.floorMod(tick, (long) slots.size()));
+    }
+}
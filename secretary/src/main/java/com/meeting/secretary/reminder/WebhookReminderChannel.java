@@ -0,0 +1,45 @@
+package com.meeting.secretary.reminder;
+
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Posts each batch of reminders as one JSON array to reminders.webhook.url; any non-2xx answer fails the batch
+ */
+public class WebhookReminderChannel implements ReminderChannel {
+
+    private final ObjectMapper objectMapper;
+    private final URI url;
+    private final Duration timeout;
+    private final HttpClient client;
+
+    public WebhookReminderChannel(ObjectMapper objectMapper, String url, long timeoutMillis) {
+        if (url == null || url.isBlank()) {
+            throw new IllegalStateException("reminders.webhook.url is required with reminders.channel=webhook");
+        }
+        this.objectMapper = objectMapper;
+        this.url = URI.create(url.strip());
+        this.timeout = Duration.ofMillis(timeoutMillis);
+        this.client = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    @Override
+    public void deliver(List<ReminderMessage> batch) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(url)
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(batch)))
+                .build();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("Webhook " + url + " answered " + response.statusCode());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.meeting.secretary.repository;
+
+import com.meeting.secretary.dto.MeetingSummaryDTO;
+import com.meeting.secretary.entity.ArchivedMeeting;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for the meeting archive. Queries mirror the ones of {@link MeetingRepository}
+ * that can reach archived periods, with the same result shapes so both tiers merge directly.
+ */
+@Repository
+public interface ArchivedMeetingRepository extends JpaRepository<ArchivedMeeting, Long>,
+        JpaSpecificationExecutor<ArchivedMeeting> {
+
+    // Start of the newest archived meeting; ranges starting later never touch the archive
+    @Query("SELECT MAX(a.startTime) FROM ArchivedMeeting a")
+    LocalDateTime findNewestStartTime();
+
+    @Query("SELECT a FROM ArchivedMeeting a WHERE a.startTime >= :start AND a.startTime < :end")
+    List<ArchivedMeeting> findByDateRange(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query("SELECT COUNT(a) FROM ArchivedMeeting a WHERE a.startTime >= :start AND a.startTime < :end")
+    long countByDateRange(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    List<ArchivedMeeting> findByDepartment(String department);
+
+    List<ArchivedMeeting> findByRoom(String room);
+
+    List<ArchivedMeeting> findByRoomAndStartTimeGreaterThanEqualOrderByStartTimeAsc(String room, LocalDateTime from);
+
+    List<ArchivedMeeting> findByDepartmentAndStartTimeGreaterThanEqualOrderByStartTimeAsc(String department, LocalDateTime from);
+
+    @Query("SELECT a FROM ArchivedMeeting a WHERE (a.chairman = :person OR a.secretary = :person) " +
+            "AND a.startTime >= :from ORDER BY a.startTime")
+    List<ArchivedMeeting> findByPersonFrom(@Param("person") String person, @Param("from") LocalDateTime from);
+
+    @Query("SELECT new com.meeting.secretary.dto.MeetingSummaryDTO(a.id, a.title, a.startTime, a.endTime, a.status, " +
+            "a.department, a.room, a.chairman, a.secretary) FROM ArchivedMeeting a WHERE a.id IN :ids")
+    List<MeetingSummaryDTO> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.meeting.secretary.dto.MeetingSummaryDTO(a.id, a.title, a.startTime, a.endTime, a.status, " +
+            "a.department, a.room, a.chairman, a.secretary) FROM ArchivedMeeting a WHERE a.id > :afterId ORDER BY a.id")
+    List<MeetingSummaryDTO> findSummariesAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("SELECT a.department, COUNT(a) FROM ArchivedMeeting a GROUP BY a.department")
+    List<Object[]> countByDepartmentGrouped();
+
+    @Query("SELECT a.room, COUNT(a) FROM ArchivedMeeting a GROUP BY a.room")
+    List<Object[]> countByRoomGrouped();
+
+    @Query("SELECT a.status, COUNT(a) FROM ArchivedMeeting a GROUP BY a.status")
+    List<Object[]> countByStatusGrouped();
+
+    @Query("SELECT extract(date from a.startTime), extract(hour from a.startTime), COUNT(a) " +
+            "FROM ArchivedMeeting a WHERE a.startTime >= :start AND a.startTime < :end " +
+            "GROUP BY extract(date from a.startTime), extract(hour from a.startTime)")
+    List<Object[]> countHourly(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query("SELECT extract(date from a.startTime), extract(hour from a.startTime), a.status, COUNT(a) " +
+            "FROM ArchivedMeeting a WHERE a.startTime >= :start AND a.startTime < :end " +
+            "GROUP BY extract(date from a.startTime), extract(hour from a.startTime), a.status")
+    List<Object[]> countHourlyByStatus(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query("SELECT extract(date from a.startTime), extract(hour from a.startTime), a.department, COUNT(a) " +
+            "FROM ArchivedMeeting a WHERE a.startTime >= :start AND a.startTime < :end " +
+            "GROUP BY extract(date from a.startTime), extract(hour from a.startTime), a.department")
+    List<Object[]> countHourlyByDepartment(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query("SELECT extract(date from a.startTime), extract(hour from a.startTime), a.room, COUNT(a) " +
+            "FROM ArchivedMeeting a WHERE a.startTime >= :start AND a.startTime < :end " +
+            "GROUP BY extract(date from a.startTime), extract(hour from a.startTime), a.room")
+    List<Object[]> countHourlyByRoom(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query("SELECT a.room, a.startTime, a.endTime FROM ArchivedMeeting a " +
+            "WHERE a.startTime < :end AND a.endTime > :start ORDER BY a.room, a.startTime")
+    List<Object[]> findIntervalsOverlapping(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+}
@@ -0,0 +1,73 @@
+package com.meeting.secretary.repository;
+
+import com.meeting.secretary.entity.BackgroundJob;
+import com.meeting.secretary.entity.JobStatus;
+import com.meeting.secretary.entity.JobType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for BackgroundJob entity.
+ * Updates are targeted single-column statements so the worker and the cancel endpoint
+ * never overwrite each other's changes.
+ */
+@Repository
+public interface BackgroundJobRepository extends JpaRepository<BackgroundJob, String> {
+
+    List<BackgroundJob> findByOrderByCreatedAtDesc(Limit limit);
+
+    List<BackgroundJob> findByTypeOrderByCreatedAtDesc(JobType type, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE BackgroundJob j SET j.status = :status, j.startedAt = :startedAt WHERE j.id = :id")
+    int markStarted(@Param("id") String id,
+                    @Param("status") JobStatus status,
+                    @Param("startedAt") LocalDateTime startedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE BackgroundJob j SET j.progress = :progress, j.progressMessage = :message WHERE j.id = :id")
+    int updateProgress(@Param("id") String id,
+                       @Param("progress") int progress,
+                       @Param("message") String message);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE BackgroundJob j SET j.status = :status, j.result = :result, j.error = :error, " +
+            "j.progress = CASE WHEN :status = com.meeting.secretary.entity.JobStatus.SUCCEEDED THEN 100 ELSE j.progress END, " +
+            "j.finishedAt = :finishedAt WHERE j.id = :id")
+    int markFinished(@Param("id") String id,
+                     @Param("status") JobStatus status,
+                     @Param("result") String result,
+                     @Param("error") String error,
+                     @Param("finishedAt") LocalDateTime finishedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE BackgroundJob j SET j.cancelRequested = true WHERE j.id = :id")
+    int requestCancel(@Param("id") String id);
+
+    // Jobs left unfinished by a previous run cannot be resumed
+    @Transactional
+    @Modifying
+    @Query("UPDATE BackgroundJob j SET j.status = com.meeting.secretary.entity.JobStatus.FAILED, " +
+            "j.error = :error, j.finishedAt = :finishedAt WHERE j.status IN :statuses")
+    int failUnfinished(@Param("statuses") Collection<JobStatus> statuses,
+                       @Param("error") String error,
+                       @Param("finishedAt") LocalDateTime finishedAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM BackgroundJob j WHERE j.finishedAt < :threshold")
+    int deleteFinishedBefore(@Param("threshold") LocalDateTime threshold);
+}
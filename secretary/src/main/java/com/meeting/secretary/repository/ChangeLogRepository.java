@@ -0,0 +1,42 @@
+package com.meeting.secretary.repository;
+
+import com.meeting.secretary.entity.ChangeLogEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for ChangeLogEntry entity
+ */
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+
+    List<ChangeLogEntry> findBySeqGreaterThanOrderBySeqAsc(Long seq, Pageable pageable);
+
+    @Query("SELECT MIN(c.seq) FROM ChangeLogEntry c")
+    Long findFirstSeq();
+
+    @Query("SELECT MAX(c.seq) FROM ChangeLogEntry c")
+    Long findLastSeq();
+
+    @Query("SELECT MAX(c.seq) FROM ChangeLogEntry c WHERE c.changedAt < :cutoff")
+    Long findLastSeqBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Entries in (after, upTo] with a newer entry for the same record
+     */
+    @Query("SELECT c.seq FROM ChangeLogEntry c WHERE c.seq > :after AND c.seq <= :upTo AND EXISTS " +
+            "(SELECT 1 FROM ChangeLogEntry n WHERE n.entityType = c.entityType AND n.entityId = c.entityId " +
+            "AND n.seq > c.seq) ORDER BY c.seq")
+    List<Long> findSuperseded(@Param("after") Long after, @Param("upTo") Long upTo, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM ChangeLogEntry c WHERE c.seq <= :upTo")
+    int deleteUpTo(@Param("upTo") Long upTo);
+}
@@ -0,0 +1,50 @@
+package com.meeting.secretary.repository;
+
+import com.meeting.secretary.entity.MeetingParticipant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for MeetingParticipant entity
+ */
+@Repository
+public interface MeetingParticipantRepository extends JpaRepository<MeetingParticipant, Long> {
+
+    List<MeetingParticipant> findByMeetingId(Long meetingId);
+
+    Optional<MeetingParticipant> findByMeetingIdAndPerson(Long meetingId, String person);
+
+    // Participants of a batch of meetings
+    List<MeetingParticipant> findByMeetingIdIn(Collection<Long> meetingIds);
+
+    // A person's meetings starting from a time, on the (person, start_time) index
+    List<MeetingParticipant> findByPersonAndStartTimeGreaterThanEqual(String person, LocalDateTime from);
+
+    // A person's meetings overlapping a range; earliestStart (from minus the longest meeting) bounds
+    // the (person, start_time) index scan from below
+    @Query("SELECT p FROM MeetingParticipant p WHERE p.person = :person AND p.startTime >= :earliestStart " +
+            "AND p.startTime < :to AND p.endTime > :from ORDER BY p.startTime, p.meetingId")
+    List<MeetingParticipant> findAgenda(@Param("person") String person,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to,
+                                        @Param("earliestStart") LocalDateTime earliestStart);
+
+    // Follow a rescheduled meeting
+    @Modifying
+    @Query("UPDATE MeetingParticipant p SET p.startTime = :startTime, p.endTime = :endTime WHERE p.meetingId = :meetingId")
+    int updateTimes(@Param("meetingId") Long meetingId,
+                    @Param("startTime") LocalDateTime startTime,
+                    @Param("endTime") LocalDateTime endTime);
+
+    @Modifying
+    @Query("DELETE FROM MeetingParticipant p WHERE p.meetingId = :meetingId")
+    int deleteByMeetingId(@Param("meetingId") Long meetingId);
+}
@@ -0,0 +1,42 @@
+package com.meeting.secretary.repository;
+
+import com.meeting.secretary.entity.MeetingReminder;
+import com.meeting.secretary.entity.ReminderStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for MeetingReminder entity
+ */
+@Repository
+public interface MeetingReminderRepository extends JpaRepository<MeetingReminder, Long> {
+
+    List<MeetingReminder> findByMeetingIdAndStatus(Long meetingId, ReminderStatus status);
+
+    // Pending reminders due before a time, from the (status, due_at) index
+    @Query("SELECT r FROM MeetingReminder r WHERE r.status = :status AND r.dueAt < :until")
+    List<MeetingReminder> findDue(@Param("status") ReminderStatus status, @Param("until") LocalDateTime until);
+
+    // Take reminders in a status that no instance holds; the rows taken are the ones carrying this claim
+    @Modifying
+    @Query("UPDATE MeetingReminder r SET r.claimedBy = :claim, r.claimedUntil = :until " +
+            "WHERE r.id IN :ids AND r.status = :status AND (r.claimedUntil IS NULL OR r.claimedUntil < :now)")
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("status") ReminderStatus status,
+              @Param("claim") String claim,
+              @Param("until") LocalDateTime until,
+              @Param("now") LocalDateTime now);
+
+    List<MeetingReminder> findByIdInAndClaimedBy(Collection<Long> ids, String claim);
+
+    @Modifying
+    @Query("DELETE FROM MeetingReminder r WHERE r.meetingId = :meetingId")
+    int deleteByMeetingId(@Param("meetingId") Long meetingId);
+}
@@ -1,20 +1,29 @@
 package com.meeting.secretary.repository;
 
+import com.meeting.secretary.dto.MeetingSummaryDTO;
 import com.meeting.secretary.entity.Meeting;
 import com.meeting.secretary.entity.MeetingStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Repository for Meeting entity
  */
 @Repository
-public interface MeetingRepository extends JpaRepository<Meeting, Long> {
+public interface MeetingRepository extends JpaRepository<Meeting, Long>,
+        JpaSpecificationExecutor<Meeting>, MeetingSearchRepository {
 
     // Find by status
     List<Meeting> findByStatus(MeetingStatus status);
@@ -36,6 +45,53 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
     // Find meetings by room
     List<Meeting> findByRoom(String room);
 
+    // Calendar feeds: meetings of a room/department/person starting from a given time
+    List<Meeting> findByRoomAndStartTimeGreaterThanEqualOrderByStartTimeAsc(String room, LocalDateTime from);
+
+    List<Meeting> findByDepartmentAndStartTimeGreaterThanEqualOrderByStartTimeAsc(String department, LocalDateTime from);
+
+    @Query("SELECT m FROM Meeting m WHERE (m.chairman = :person OR m.secretary = :person) " +
+            "AND m.startTime >= :from ORDER BY m.startTime")
+    List<Meeting> findByPersonFrom(@Param("person") String person, @Param("from") LocalDateTime from);
+
+    // Summaries of a batch of meetings
+    @Query("SELECT new com.meeting.secretary.dto.MeetingSummaryDTO(m.id, m.title, m.startTime, m.endTime, m.status, " +
+            "m.department, m.room, m.chairman, m.secretary) FROM Meeting m WHERE m.id IN :ids")
+    List<MeetingSummaryDTO> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Summaries in id order after an id, to walk every meeting in batches
+    @Query("SELECT new com.meeting.secretary.dto.MeetingSummaryDTO(m.id, m.title, m.startTime, m.endTime, m.status, " +
+            "m.department, m.room, m.chairman, m.secretary) FROM Meeting m WHERE m.id > :afterId ORDER BY m.id")
+    List<MeetingSummaryDTO> findSummariesAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // Summaries of every meeting starting at or after a time
+    @Query("SELECT new com.meeting.secretary.dto.MeetingSummaryDTO(m.id, m.title, m.startTime, m.endTime, m.status, " +
+            "m.department, m.room, m.chairman, m.secretary) FROM Meeting m WHERE m.startTime >= :from")
+    List<MeetingSummaryDTO> findSummariesFrom(@Param("from") LocalDateTime from);
+
+    // Set the status of many meetings in one statement
+    @Modifying
+    @Query("UPDATE Meeting m SET m.status = :status, m.updatedAt = :updatedAt WHERE m.id IN :ids")
+    int updateStatusIn(@Param("ids") Collection<Long> ids,
+                       @Param("status") MeetingStatus status,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+
+    // Finished meetings due for archiving, locked so no status change slips in before the move
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM Meeting m WHERE m.status = :status AND m.endTime < :before ORDER BY m.id")
+    List<Meeting> findArchivable(@Param("status") MeetingStatus status,
+                                 @Param("before") LocalDateTime before,
+                                 Pageable pageable);
+
+    // Move the start and end of many meetings in one statement
+    @Modifying
+    @Query("UPDATE Meeting m SET m.startTime = m.startTime + (:startMinutes) minute, " +
+            "m.endTime = m.endTime + (:endMinutes) minute, m.updatedAt = :updatedAt WHERE m.id IN :ids")
+    int shiftTimesIn(@Param("ids") Collection<Long> ids,
+                     @Param("startMinutes") long startMinutes,
+                     @Param("endMinutes") long endMinutes,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+
     // Find meetings by status and date range
     @Query("SELECT m FROM Meeting m WHERE m.status = :status AND m.startTime >= :start AND m.startTime < :end")
     List<Meeting> findByStatusAndDateRange(
@@ -52,6 +108,32 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
             @Param("end") LocalDateTime end
     );
 
+    // Hourly counts for time-series statistics: [date, hour, (group,) count]
+    @Query("SELECT extract(date from m.startTime), extract(hour from m.startTime), COUNT(m) FROM Meeting m " +
+            "WHERE m.startTime >= :start AND m.startTime < :end " +
+            "GROUP BY extract(date from m.startTime), extract(hour from m.startTime)")
+    List<Object[]> countHourly(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query("SELECT extract(date from m.startTime), extract(hour from m.startTime), m.status, COUNT(m) FROM Meeting m " +
+            "WHERE m.startTime >= :start AND m.startTime < :end " +
+            "GROUP BY extract(date from m.startTime), extract(hour from m.startTime), m.status")
+    List<Object[]> countHourlyByStatus(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query("SELECT extract(date from m.startTime), extract(hour from m.startTime), m.department, COUNT(m) FROM Meeting m " +
+            "WHERE m.startTime >= :start AND m.startTime < :end " +
+            "GROUP BY extract(date from m.startTime), extract(hour from m.startTime), m.department")
+    List<Object[]> countHourlyByDepartment(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query("SELECT extract(date from m.startTime), extract(hour from m.startTime), m.room, COUNT(m) FROM Meeting m " +
+            "WHERE m.startTime >= :start AND m.startTime < :end " +
+            "GROUP BY extract(date from m.startTime), extract(hour from m.startTime), m.room")
+    List<Object[]> countHourlyByRoom(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // Booked intervals overlapping a range, ordered by room then start: [room, startTime, endTime]
+    @Query("SELECT m.room, m.startTime, m.endTime FROM Meeting m " +
+            "WHERE m.startTime < :end AND m.endTime > :start ORDER BY m.room, m.startTime")
+    List<Object[]> findIntervalsOverlapping(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
     // Statistics by department
     @Query("SELECT m.department, COUNT(m) FROM Meeting m GROUP BY m.department")
     List<Object[]> countByDepartmentGrouped();
@@ -0,0 +1,22 @@
+package com.meeting.secretary.repository;
+
+import com.meeting.secretary.dto.MeetingSummaryDTO;
+import com.meeting.secretary.entity.Meeting;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Custom repository fragment for projected meeting searches
+ */
+public interface MeetingSearchRepository {
+
+    /**
+     * Fetch one page of summaries; returns up to pageSize + 1 rows so the caller can
+     * tell whether a next page exists without counting.
+     */
+    List<MeetingSummaryDTO> searchSummaries(Specification<Meeting> spec, Pageable pageable);
+
+    long countMatching(Specification<Meeting> spec);
+}
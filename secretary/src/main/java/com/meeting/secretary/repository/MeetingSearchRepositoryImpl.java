@@ -0,0 +1,61 @@
+package com.meeting.secretary.repository;
+
+import com.meeting.secretary.dto.MeetingSummaryDTO;
+import com.meeting.secretary.entity.Meeting;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria implementation of {@link MeetingSearchRepository}.
+ * Selects only the summary columns, so no Meeting entity is hydrated.
+ */
+public class MeetingSearchRepositoryImpl implements MeetingSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<MeetingSummaryDTO> searchSummaries(Specification<Meeting> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<MeetingSummaryDTO> query = cb.createQuery(MeetingSummaryDTO.class);
+        Root<Meeting> root = query.from(Meeting.class);
+        query.select(cb.construct(MeetingSummaryDTO.class,
+                root.get("id"), root.get("title"), root.get("startTime"), root.get("endTime"),
+                root.get("status"), root.get("department"), root.get("room"),
+                root.get("chairman"), root.get("secretary")));
+        query.where(spec.toPredicate(root, query, cb));
+
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : pageable.getSort()) {
+            orders.add(order.isAscending() ? cb.asc(root.get(order.getProperty())) : cb.desc(root.get(order.getProperty())));
+        }
+        // Tie-breaker keeps pages stable when sort values repeat
+        orders.add(cb.asc(root.get("id")));
+        query.orderBy(orders);
+
+        return entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+    }
+
+    @Override
+    public long countMatching(Specification<Meeting> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Meeting> root = query.from(Meeting.class);
+        query.select(cb.count(root));
+        query.where(spec.toPredicate(root, query, cb));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
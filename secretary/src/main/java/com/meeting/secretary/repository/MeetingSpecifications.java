@@ -0,0 +1,50 @@
+package com.meeting.secretary.repository;
+
+import com.meeting.secretary.dto.MeetingSearchCriteria;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Specifications for Meeting queries
+ */
+public final class MeetingSpecifications {
+
+    private MeetingSpecifications() {
+    }
+
+    /**
+     * Build one specification from all non-empty criteria, combined with AND.
+     * Works for any entity with the meeting attributes, i.e. both the live and the archive table
+     */
+    public static <T> Specification<T> matching(MeetingSearchCriteria criteria) {
+        List<Specification<T>> specs = new ArrayList<>();
+        if (criteria.getStatus() != null) {
+            specs.add((root, query, cb) -> cb.equal(root.get("status"), criteria.getStatus()));
+        }
+        if (hasText(criteria.getDepartment())) {
+            specs.add((root, query, cb) -> cb.equal(root.get("department"), criteria.getDepartment()));
+        }
+        if (hasText(criteria.getRoom())) {
+            specs.add((root, query, cb) -> cb.equal(root.get("room"), criteria.getRoom()));
+        }
+        if (hasText(criteria.getChairman())) {
+            specs.add((root, query, cb) -> cb.equal(root.get("chairman"), criteria.getChairman()));
+        }
+        if (hasText(criteria.getSecretary())) {
+            specs.add((root, query, cb) -> cb.equal(root.get("secretary"), criteria.getSecretary()));
+        }
+        if (criteria.getFrom() != null) {
+            specs.add((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("startTime"), criteria.getFrom()));
+        }
+        if (criteria.getTo() != null) {
+            specs.add((root, query, cb) -> cb.lessThan(root.get("startTime"), criteria.getTo()));
+        }
+        return specs.isEmpty() ? Specification.unrestricted() : Specification.allOf(specs);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -4,6 +4,8 @@ import com.meeting.secretary.entity.Room;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,4 +17,6 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
     Optional<Room> findByName(String name);
     
     boolean existsByName(String name);
+
+    List<Room> findByNameIn(Collection<String> names);
 }
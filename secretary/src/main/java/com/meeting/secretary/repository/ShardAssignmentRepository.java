@@ -0,0 +1,12 @@
+package com.meeting.secretary.repository;
+
+import com.meeting.secretary.entity.ShardAssignment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for ShardAssignment entity
+ */
+@Repository
+public interface ShardAssignmentRepository extends JpaRepository<ShardAssignment, String> {
+}
@@ -0,0 +1,26 @@
+package com.meeting.secretary.repository;
+
+import com.meeting.secretary.entity.TranscriptSegment;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for TranscriptSegment entity
+ */
+@Repository
+public interface TranscriptSegmentRepository extends JpaRepository<TranscriptSegment, Long> {
+
+    // Keyset page of segments after a given id
+    List<TranscriptSegment> findByMeetingIdAndIdGreaterThanOrderByIdAsc(Long meetingId, Long afterId, Limit limit);
+
+    // Id of the latest segment, used as transcript version
+    @Query("SELECT COALESCE(MAX(s.id), 0) FROM TranscriptSegment s WHERE s.meetingId = :meetingId")
+    long findLastSegmentId(@Param("meetingId") Long meetingId);
+
+    long countByMeetingId(Long meetingId);
+}
@@ -0,0 +1,137 @@
+package com.meeting.secretary.service;
+
+import com.meeting.secretary.datasource.ReadYourWritesTracker;
+import com.meeting.secretary.dto.DashboardDTO;
+import com.meeting.secretary.dto.MeetingStatisticsDTO;
+import com.meeting.secretary.entity.Department;
+import com.meeting.secretary.entity.Meeting;
+import com.meeting.secretary.entity.MeetingStatus;
+import com.meeting.secretary.entity.Room;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Home page data in one call. The parts are independent reads, so each runs on its own
+ * virtual thread and read-only transaction; all of them share one deadline, and a part that
+ * misses it (or fails) is left out instead of failing the whole response. A part that misses the
+ * deadline is cancelled, and its queries time out with it, so it does not keep a thread and a
+ * connection after the response is sent.
+ */
+@Slf4j
+@Service
+public class DashboardService {
+
+    private final MeetingService meetingService;
+    private final RoomService roomService;
+    private final DepartmentService departmentService;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final long deadlineMillis;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final MeterRegistry registry;
+    private final TransactionTemplate transaction;
+
+    public DashboardService(MeetingService meetingService,
+                            RoomService roomService,
+                            DepartmentService departmentService,
+                            ObjectProvider<ReadYourWritesTracker> readYourWritesTracker,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry registry,
+                            @Value("${dashboard.deadline-ms:2000}") long deadlineMillis) {
+        this.meetingService = meetingService;
+        this.roomService = roomService;
+        this.departmentService = departmentService;
+        this.readYourWritesTracker = readYourWritesTracker.getIfAvailable();
+        this.registry = registry;
+        this.deadlineMillis = deadlineMillis;
+        this.transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        // Applied as the query timeout of every query of the part; whole seconds, rounded up
+        transaction.setTimeout((int) Math.max(1, Math.ceilDiv(deadlineMillis, 1000)));
+    }
+
+    /**
+     * Statistics, today's and ongoing meetings, rooms and departments
+     */
+    public DashboardDTO getDashboard() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+        LocalDate today = LocalDate.now();
+        Future<MeetingStatisticsDTO> statistics = submit(meetingService::getStatistics);
+        Future<List<Meeting>> todayMeetings = submit(() -> meetingService.getMeetingsByDate(today));
+        Future<List<Meeting>> ongoingMeetings = submit(() -> meetingService.getMeetingsByStatus(MeetingStatus.ONGOING));
+        Future<List<Room>> rooms = submit(roomService::getAllRooms);
+        Future<List<Department>> departments = submit(departmentService::getAllDepartments);
+
+        List<String> missing = new ArrayList<>();
+        DashboardDTO dashboard = DashboardDTO.builder()
+                .statistics(await("statistics", statistics, deadline, missing))
+                .todayMeetings(await("todayMeetings", todayMeetings, deadline, missing))
+                .ongoingMeetings(await("ongoingMeetings", ongoingMeetings, deadline, missing))
+                .rooms(await("rooms", rooms, deadline, missing))
+                .departments(await("departments", departments, deadline, missing))
+                .build();
+        dashboard.setPartial(!missing.isEmpty());
+        dashboard.setMissing(missing);
+        return dashboard;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> Future<T> submit(Supplier<T> part) {
+        // Keep read-your-writes routing of the calling client on the worker thread
+        String client = readYourWritesTracker == null ? null : readYourWritesTracker.currentClient();
+        // A plain task rather than a CompletableFuture, so cancelling it interrupts the worker
+        return executor.submit(() -> {
+            if (client == null) {
+                return transaction.execute(status -> part.get());
+            }
+            readYourWritesTracker.bind(client);
+            try {
+                return transaction.execute(status -> part.get());
+            } finally {
+                readYourWritesTracker.unbind();
+            }
+        });
+    }
+
+    private <T> T await(String name, Future<T> part, long deadline, List<String> missing) {
+        try {
+            return part.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            part.cancel(true);
+            log.warn("Dashboard part {} missed the {} ms deadline", name, deadlineMillis);
+        } catch (ExecutionException e) {
+            log.warn("Dashboard part {} failed", name, e.getCause());
+        } catch (InterruptedException e) {
+            part.cancel(true);
+            Thread.currentThread().interrupt();
+        }
+        missing.add(name);
+        Counter.builder("dashboard.parts.missed")
+                .description("Dashboard parts left out after missing the deadline or failing")
+                .tag("part", name)
+                .register(registry)
+                .increment();
+        return null;
+    }
+}
@@ -1,32 +1,54 @@
 package com.meeting.secretary.service;
 
+import com.meeting.secretary.cache.CacheCoherence;
+import com.meeting.secretary.cache.CacheRegion;
+import com.meeting.secretary.cache.NearCache;
+import com.meeting.secretary.changes.ChangeFeedService;
 import com.meeting.secretary.dto.DepartmentDTO;
+import com.meeting.secretary.entity.ChangeEntityType;
 import com.meeting.secretary.entity.Department;
 import com.meeting.secretary.exception.DuplicateResourceException;
 import com.meeting.secretary.exception.ResourceNotFoundException;
 import com.meeting.secretary.repository.DepartmentRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 /**
- * Service for Department operations
+ * Service for Department operations.
+ * Reads are served from node-local caches that every department write invalidates on all instances.
+ * Writes are also recorded in the change feed.
  */
 @Service
-@RequiredArgsConstructor
 @Transactional
 public class DepartmentService {
 
     private final DepartmentRepository departmentRepository;
+    private final CacheCoherence cacheCoherence;
+    private final ChangeFeedService changeFeedService;
+    private final NearCache<Boolean, List<Department>> allDepartments;
+    private final NearCache<Long, Department> departmentsById;
+
+    public DepartmentService(DepartmentRepository departmentRepository,
+                             CacheCoherence cacheCoherence,
+                             ChangeFeedService changeFeedService,
+                             @Value("${cache.near.max-entries:1000}") int maxEntries) {
+        this.departmentRepository = departmentRepository;
+        this.cacheCoherence = cacheCoherence;
+        this.changeFeedService = changeFeedService;
+        this.allDepartments = new NearCache<>(CacheRegion.DEPARTMENTS, cacheCoherence, 1);
+        this.departmentsById = new NearCache<>(CacheRegion.DEPARTMENTS, cacheCoherence, maxEntries);
+    }
 
     /**
      * Get all departments
      */
     @Transactional(readOnly = true)
     public List<Department> getAllDepartments() {
-        return departmentRepository.findAll();
+        return allDepartments.get(true, () -> List.copyOf(departmentRepository.findAll()));
     }
 
     /**
@@ -34,6 +56,14 @@ public class DepartmentService {
      */
     @Transactional(readOnly = true)
     public Department getDepartmentById(Long id) {
+        Department department = departmentsById.get(id, () -> departmentRepository.findById(id).orElse(null));
+        if (department == null) {
+            throw new ResourceNotFoundException("Phòng ban", id);
+        }
+        return department;
+    }
+
+    private Department findDepartment(Long id) {
         return departmentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Phòng ban", id));
     }
@@ -42,22 +72,30 @@ public class DepartmentService {
      * Create new department
      */
     public Department createDepartment(DepartmentDTO dto) {
-        if (departmentRepository.existsByName(dto.getName())) {
-            throw new DuplicateResourceException("Phòng ban với tên '" + dto.getName() + "' đã tồn tại");
-        }
-
         Department department = new Department();
         department.setName(dto.getName());
         department.setDescription(dto.getDescription());
 
-        return departmentRepository.save(department);
+        // The unique name constraint decides, so concurrent creates cannot both pass a check
+        try {
+            Department saved = departmentRepository.saveAndFlush(department);
+            cacheCoherence.invalidate(CacheRegion.DEPARTMENTS, String.valueOf(saved.getId()));
+            changeFeedService.recordUpsert(ChangeEntityType.DEPARTMENT, saved.getId(), saved);
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            if (!DuplicateResourceException.isUniqueViolation(e)) {
+                throw e;
+            }
+            throw new DuplicateResourceException("Phòng ban với tên '" + dto.getName() + "' đã tồn tại");
+        }
     }
 
     /**
      * Update existing department
      */
     public Department updateDepartment(Long id, DepartmentDTO dto) {
-        Department department = getDepartmentById(id);
+        // Cached instances are shared, so change a freshly loaded one
+        Department department = findDepartment(id);
 
         // Check if name already exists for another department
         departmentRepository.findByName(dto.getName())
@@ -70,7 +108,10 @@ public class DepartmentService {
         department.setName(dto.getName());
         department.setDescription(dto.getDescription());
 
-        return departmentRepository.save(department);
+        cacheCoherence.invalidate(CacheRegion.DEPARTMENTS, String.valueOf(id));
+        Department saved = departmentRepository.saveAndFlush(department);
+        changeFeedService.recordUpsert(ChangeEntityType.DEPARTMENT, id, saved);
+        return saved;
     }
 
     /**
@@ -81,5 +122,7 @@ public class DepartmentService {
             throw new ResourceNotFoundException("Phòng ban", id);
         }
         departmentRepository.deleteById(id);
+        cacheCoherence.invalidate(CacheRegion.DEPARTMENTS, String.valueOf(id));
+        changeFeedService.recordDelete(ChangeEntityType.DEPARTMENT, id);
     }
 }
@@ -0,0 +1,283 @@
+package com.meeting.secretary.service;
+
+import com.meeting.secretary.cache.CacheCoherence;
+import com.meeting.secretary.cache.CacheRegion;
+import com.meeting.secretary.changes.ChangeFeedService;
+import com.meeting.secretary.dto.DepartmentDTO;
+import com.meeting.secretary.dto.RoomDTO;
+import com.meeting.secretary.dto.SyncResultDTO;
+import com.meeting.secretary.entity.ChangeEntityType;
+import com.meeting.secretary.repository.DepartmentRepository;
+import com.meeting.secretary.repository.RoomRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Bulk upsert of rooms and departments from an external directory, keyed by the unique name.
+ * Names are compared the way the table's default collation (utf8mb4_0900_ai_ci) does, ignoring
+ * case and accents, so "Phòng A" and "phong a" are one entry. Every entry is validated before
+ * anything is written.
+ * Each batch reads the existing rows with one SELECT ... WHERE name IN (...) to classify entries,
+ * then writes new and changed ones with a batched INSERT ... ON DUPLICATE KEY UPDATE, so a row
+ * created concurrently turns into an update instead of a constraint violation.
+ * Written rows are read back by name to record them in the change feed.
+ */
+@Slf4j
+@Service
+public class DirectorySyncService {
+
+    private static final int MAX_ERRORS = 100;
+    // Length of the name columns
+    private static final int NAME_LENGTH = 255;
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private static final Table ROOMS = new Table("rooms",
+            List.of(new Column("description", 500), new Column("capacity", 0), new Column("location", 255)),
+            CacheRegion.ROOMS, ChangeEntityType.ROOM);
+    private static final Table DEPARTMENTS = new Table("departments", List.of(new Column("description", 500)),
+            CacheRegion.DEPARTMENTS, ChangeEntityType.DEPARTMENT);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheCoherence cacheCoherence;
+    private final ChangeFeedService changeFeedService;
+    private final RoomRepository roomRepository;
+    private final DepartmentRepository departmentRepository;
+    private final int batchSize;
+    private final int maxEntries;
+
+    public DirectorySyncService(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                CacheCoherence cacheCoherence,
+                                ChangeFeedService changeFeedService,
+                                RoomRepository roomRepository,
+                                DepartmentRepository departmentRepository,
+                                @Value("${directory.sync.batch-size:500}") int batchSize,
+                                @Value("${directory.sync.max-entries:50000}") int maxEntries) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cacheCoherence = cacheCoherence;
+        this.changeFeedService = changeFeedService;
+        this.roomRepository = roomRepository;
+        this.departmentRepository = departmentRepository;
+        this.batchSize = batchSize;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Insert or update rooms by name; rooms missing from the list are left alone
+     */
+    public SyncResultDTO syncRooms(List<RoomDTO> rooms) {
+        return sync(ROOMS, rooms, RoomDTO::getName, room -> {
+            if (room.getCapacity() != null && room.getCapacity() <= 0) {
+                throw new IllegalArgumentException("Sức chứa phải là số dương");
+            }
+            return new Object[]{room.getDescription(), room.getCapacity(), room.getLocation()};
+        });
+    }
+
+    /**
+     * Insert or update departments by name; departments missing from the list are left alone
+     */
+    public SyncResultDTO syncDepartments(List<DepartmentDTO> departments) {
+        return sync(DEPARTMENTS, departments, DepartmentDTO::getName,
+                department -> new Object[]{department.getDescription()});
+    }
+
+    private <T> SyncResultDTO sync(Table table, List<T> entries, Function<T, String> name,
+                                   Function<T, Object[]> values) {
+        if (entries == null || entries.isEmpty()) {
+            throw new IllegalArgumentException("Danh sách đồng bộ không được để trống");
+        }
+        if (entries.size() > maxEntries) {
+            throw new IllegalArgumentException("Mỗi lần đồng bộ tối đa " + maxEntries + " mục");
+        }
+
+        // Validate everything first and keep the last entry per name
+        SyncResultDTO.SyncResultDTOBuilder result = SyncResultDTO.builder().received(entries.size());
+        List<String> errors = new ArrayList<>();
+        Map<String, Entry> byKey = new LinkedHashMap<>();
+        int skipped = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            T entry = entries.get(i);
+            String entryName = entry == null || name.apply(entry) == null ? "" : name.apply(entry).strip();
+            try {
+                if (entryName.isEmpty()) {
+                    throw new IllegalArgumentException("Tên không được để trống");
+                }
+                Entry valid = new Entry(entryName, values.apply(entry));
+                table.check(valid);
+                Entry replaced = byKey.remove(key(entryName));
+                byKey.put(key(entryName), valid);
+                if (replaced != null) {
+                    skipped++;
+                    addError(errors, "Mục #" + i + " ('" + entryName + "'): trùng tên với '" + replaced.name()
+                            + "', dùng mục sau cùng");
+                }
+            } catch (IllegalArgumentException e) {
+                skipped++;
+                addError(errors, "Mục #" + i + ": " + e.getMessage());
+            }
+        }
+
+        int[] counts = new int[3];
+        List<Entry> pending = new ArrayList<>(byKey.values());
+        for (int from = 0; from < pending.size(); from += batchSize) {
+            List<Entry> batch = pending.subList(from, Math.min(pending.size(), from + batchSize));
+            int[] batchCounts = transactionTemplate.execute(tx -> upsertBatch(table, batch));
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += batchCounts[i];
+            }
+        }
+        log.info("Synced {}: {} inserted, {} updated, {} unchanged, {} skipped",
+                table.name(), counts[0], counts[1], counts[2], skipped);
+        return result.inserted(counts[0]).updated(counts[1]).unchanged(counts[2])
+                .skipped(skipped).errors(errors).build();
+    }
+
+    /**
+     * Name as the unique index compares it: case, accents, đ/d and surrounding spaces do not matter.
+     * Also how free-text room names of meetings are matched to rooms.
+     */
+    public static String key(String name) {
+        String stripped = MARKS.matcher(Normalizer.normalize(name.strip(), Normalizer.Form.NFD)).replaceAll("");
+        return stripped.replace('đ', 'd').replace('Đ', 'D').toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @return {inserted, updated, unchanged}
+     */
+    private int[] upsertBatch(Table table, List<Entry> batch) {
+        Map<String, Entry> existing = new HashMap<>();
+        namedJdbcTemplate.query(table.selectSql(), Map.of("names", batch.stream().map(Entry::name).toList()),
+                rs -> {
+                    Object[] row = new Object[table.columns().size()];
+                    for (int i = 0; i < row.length; i++) {
+                        row[i] = rs.getObject(i + 2);
+                    }
+                    existing.put(key(rs.getString(1)), new Entry(rs.getString(1), row));
+                });
+
+        int[] counts = new int[3];
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> writes = new ArrayList<>();
+        for (Entry entry : batch) {
+            Entry current = existing.get(key(entry.name()));
+            if (current != null && current.name().equals(entry.name())
+                    && Arrays.equals(current.values(), entry.values())) {
+                counts[2]++;
+                continue;
+            }
+            counts[current == null ? 0 : 1]++;
+            Object[] params = new Object[entry.values().length + 3];
+            params[0] = entry.name();
+            System.arraycopy(entry.values(), 0, params, 1, entry.values().length);
+            params[params.length - 2] = now;
+            params[params.length - 1] = now;
+            writes.add(params);
+        }
+        if (!writes.isEmpty()) {
+            jdbcTemplate.batchUpdate(table.upsertSql(), writes);
+            cacheCoherence.invalidate(table.region(), null);
+            recordChanges(table, writes.stream().map(write -> (String) write[0]).toList());
+        }
+        return counts;
+    }
+
+    private void recordChanges(Table table, List<String> names) {
+        if (table.changeType() == ChangeEntityType.ROOM) {
+            roomRepository.findByNameIn(names)
+                    .forEach(room -> changeFeedService.recordUpsert(ChangeEntityType.ROOM, room.getId(), room));
+        } else {
+            departmentRepository.findByNameIn(names).forEach(department ->
+                    changeFeedService.recordUpsert(ChangeEntityType.DEPARTMENT, department.getId(), department));
+        }
+    }
+
+    private static void addError(List<String> errors, String error) {
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(error);
+        }
+    }
+
+    /**
+     * A directory entry: its name as given and the values of the table's columns
+     */
+    private record Entry(String name, Object[] values) {
+    }
+
+    /**
+     * A column the sync may change; length is the limit of a text column, 0 for other types
+     */
+    private record Column(String name, int length) {
+    }
+
+    /**
+     * A directory table: unique name plus the columns the sync may change
+     */
+    private record Table(String name, List<Column> columns, CacheRegion region, ChangeEntityType changeType) {
+
+        /**
+         * Reject an entry the table cannot hold, before any batch is written
+         */
+        void check(Entry entry) {
+            if (characters(entry.name()) > NAME_LENGTH) {
+                throw new IllegalArgumentException("Tên dài quá " + NAME_LENGTH + " ký tự");
+            }
+            for (int i = 0; i < columns.size(); i++) {
+                Column column = columns.get(i);
+                if (column.length() > 0 && entry.values()[i] instanceof String value
+                        && characters(value) > column.length()) {
+                    throw new IllegalArgumentException("Trường " + column.name() + " dài quá "
+                            + column.length() + " ký tự");
+                }
+            }
+        }
+
+        String selectSql() {
+            return "SELECT name, " + String.join(", ", columnNames()) + " FROM " + name + " WHERE name IN (:names)";
+        }
+
+        // Row alias form; VALUES(col) in the update clause is deprecated since MySQL 8.0.20
+        String upsertSql() {
+            // The name is updated too, so the directory's spelling wins over an equal one in another case
+            StringBuilder sql = new StringBuilder("INSERT INTO ").append(name).append(" (name, ")
+                    .append(String.join(", ", columnNames())).append(", created_at, updated_at) VALUES (?, ")
+                    .append("?, ".repeat(columns.size())).append("?, ?) AS new ON DUPLICATE KEY UPDATE ")
+                    .append("name = new.name, ");
+            for (Column column : columns) {
+                sql.append(column.name()).append(" = new.").append(column.name()).append(", ");
+            }
+            return sql.append("updated_at = new.updated_at").toString();
+        }
+
+        // VARCHAR limits count characters, not UTF-16 units
+        private static int characters(String value) {
+            return value.codePointCount(0, value.length());
+        }
+
+        private List<String> columnNames() {
+            return columns.stream().map(Column::name).toList();
+        }
+    }
+}
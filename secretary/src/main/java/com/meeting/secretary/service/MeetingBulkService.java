@@ -0,0 +1,249 @@
+package com.meeting.secretary.service;
+
+import com.meeting.secretary.dto.BulkItemResultDTO;
+import com.meeting.secretary.dto.BulkMeetingRequestDTO;
+import com.meeting.secretary.dto.BulkOutcome;
+import com.meeting.secretary.dto.BulkResultDTO;
+import com.meeting.secretary.dto.MeetingSearchCriteria;
+import com.meeting.secretary.dto.MeetingSummaryDTO;
+import com.meeting.secretary.entity.MeetingStatus;
+import com.meeting.secretary.repository.ArchivedMeetingRepository;
+import com.meeting.secretary.repository.MeetingRepository;
+import com.meeting.secretary.repository.MeetingSpecifications;
+import com.meeting.secretary.status.MeetingStatusWriteBehind;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Status change, reschedule and delete for many meetings at once.
+ * Targets are read in one query, checked per meeting, then changed with set-based
+ * statements (UPDATE/DELETE ... WHERE id IN) in a single transaction.
+ */
+@Service
+public class MeetingBulkService {
+
+    // Ids per IN list
+    private static final int CHUNK_SIZE = 500;
+
+    private final MeetingRepository meetingRepository;
+    private final ArchivedMeetingRepository archivedMeetingRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeetingStatusWriteBehind statusWriteBehind;
+    private final int maxItems;
+
+    public MeetingBulkService(MeetingRepository meetingRepository,
+                              ArchivedMeetingRepository archivedMeetingRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              MeetingStatusWriteBehind statusWriteBehind,
+                              @Value("${meetings.bulk.max-items:5000}") int maxItems) {
+        this.meetingRepository = meetingRepository;
+        this.archivedMeetingRepository = archivedMeetingRepository;
+        this.eventPublisher = eventPublisher;
+        this.statusWriteBehind = statusWriteBehind;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * Set the status of every targeted meeting
+     */
+    @Transactional
+    public BulkResultDTO updateStatus(BulkMeetingRequestDTO request) {
+        MeetingStatus status = request.getStatus();
+        if (status == null) {
+            throw new IllegalArgumentException("Trạng thái mới không được để trống");
+        }
+        Targets targets = resolve(request);
+        // Buffered single-meeting updates are older than this one and must not be flushed over it
+        statusWriteBehind.discard(targets.live.keySet());
+        List<Long> changed = new ArrayList<>();
+        for (MeetingSummaryDTO before : targets.live.values()) {
+            if (before.getStatus() == status) {
+                targets.outcome(before.getId(), BulkOutcome.UNCHANGED, null);
+                continue;
+            }
+            changed.add(before.getId());
+            targets.outcome(before.getId(), BulkOutcome.UPDATED, null);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        inChunks(changed, chunk -> meetingRepository.updateStatusIn(chunk, status, now));
+        for (Long id : changed) {
+            MeetingSummaryDTO before = targets.live.get(id);
+            MeetingSummaryDTO after = copy(before);
+            after.setStatus(status);
+            eventPublisher.publishEvent(new MeetingChangedEvent(id, before, after));
+        }
+        return targets.result();
+    }
+
+    /**
+     * Move the start of every targeted meeting by {@code shiftMinutes} and its end by
+     * {@code endShiftMinutes} (same as the start when omitted)
+     */
+    @Transactional
+    public BulkResultDTO reschedule(BulkMeetingRequestDTO request) {
+        if (request.getShiftMinutes() == null && request.getEndShiftMinutes() == null) {
+            throw new IllegalArgumentException("Cần chỉ định số phút dời lịch");
+        }
+        long startShift = request.getShiftMinutes() == null ? 0 : request.getShiftMinutes();
+        long endShift = request.getEndShiftMinutes() == null ? startShift : request.getEndShiftMinutes();
+        Targets targets = resolve(request);
+
+        List<Long> changed = new ArrayList<>();
+        for (MeetingSummaryDTO before : targets.live.values()) {
+            if (startShift == 0 && endShift == 0) {
+                targets.outcome(before.getId(), BulkOutcome.UNCHANGED, null);
+                continue;
+            }
+            try {
+                MeetingService.validateMeetingTime(before.getStartTime().plusMinutes(startShift),
+                        before.getEndTime().plusMinutes(endShift));
+            } catch (IllegalArgumentException e) {
+                targets.outcome(before.getId(), BulkOutcome.INVALID, e.getMessage());
+                continue;
+            }
+            changed.add(before.getId());
+            targets.outcome(before.getId(), BulkOutcome.UPDATED, null);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        inChunks(changed, chunk -> meetingRepository.shiftTimesIn(chunk, startShift, endShift, now));
+        for (Long id : changed) {
+            MeetingSummaryDTO before = targets.live.get(id);
+            MeetingSummaryDTO after = copy(before);
+            after.setStartTime(before.getStartTime().plusMinutes(startShift));
+            after.setEndTime(before.getEndTime().plusMinutes(endShift));
+            eventPublisher.publishEvent(new MeetingChangedEvent(id, before, after));
+        }
+        return targets.result();
+    }
+
+    /**
+     * Delete every targeted meeting; archived meetings given by id are deleted from the archive
+     */
+    @Transactional
+    public BulkResultDTO delete(BulkMeetingRequestDTO request) {
+        Targets targets = resolve(request);
+        List<Long> live = new ArrayList<>(targets.live.keySet());
+        List<Long> archived = new ArrayList<>(targets.archived.keySet());
+        inChunks(live, meetingRepository::deleteAllByIdInBatch);
+        inChunks(archived, archivedMeetingRepository::deleteAllByIdInBatch);
+
+        live.forEach(id -> targets.outcome(id, BulkOutcome.DELETED, null));
+        archived.forEach(id -> targets.outcome(id, BulkOutcome.DELETED, null));
+        targets.live.forEach((id, before) -> eventPublisher.publishEvent(new MeetingChangedEvent(id, before, null)));
+        targets.archived.forEach((id, before) -> eventPublisher.publishEvent(new MeetingChangedEvent(id, before, null)));
+        return targets.result();
+    }
+
+    private Targets resolve(BulkMeetingRequestDTO request) {
+        boolean byIds = request.getIds() != null && !request.getIds().isEmpty();
+        if (byIds == (request.getFilter() != null)) {
+            throw new IllegalArgumentException("Cần chỉ định danh sách ID hoặc bộ lọc (không dùng cả hai)");
+        }
+        Targets targets = new Targets();
+        if (!byIds) {
+            MeetingSearchCriteria filter = request.getFilter();
+            if (isEmpty(filter)) {
+                throw new IllegalArgumentException("Bộ lọc phải có ít nhất một điều kiện");
+            }
+            List<MeetingSummaryDTO> rows = meetingRepository.searchSummaries(MeetingSpecifications.matching(filter),
+                    PageRequest.of(0, maxItems, Sort.by("id")));
+            checkSize(rows.size());
+            rows.forEach(row -> targets.live.put(row.getId(), row));
+            return targets;
+        }
+
+        Set<Long> ids = new LinkedHashSet<>(request.getIds());
+        ids.remove(null);
+        checkSize(ids.size());
+        List<Long> idList = new ArrayList<>(ids);
+        inChunks(idList, chunk -> meetingRepository.findSummariesByIdIn(chunk)
+                .forEach(row -> targets.live.put(row.getId(), row)));
+        List<Long> missing = idList.stream().filter(id -> !targets.live.containsKey(id)).toList();
+        Set<Long> archived = new HashSet<>();
+        inChunks(missing, chunk -> archivedMeetingRepository.findAllById(chunk).forEach(meeting -> {
+            archived.add(meeting.getId());
+            targets.archived.put(meeting.getId(), MeetingSummaryDTO.from(meeting.toMeeting()));
+        }));
+        for (Long id : missing) {
+            targets.outcome(id, archived.contains(id) ? BulkOutcome.ARCHIVED : BulkOutcome.NOT_FOUND,
+                    archived.contains(id) ? "Cuộc họp đã được lưu trữ" : "Cuộc họp không tồn tại");
+        }
+        return targets;
+    }
+
+    private void checkSize(int size) {
+        if (size > maxItems) {
+            throw new IllegalArgumentException("Mỗi thao tác hàng loạt tối đa " + maxItems + " cuộc họp");
+        }
+    }
+
+    private static boolean isEmpty(MeetingSearchCriteria filter) {
+        return filter.getStatus() == null && filter.getFrom() == null && filter.getTo() == null
+                && isBlank(filter.getDepartment()) && isBlank(filter.getRoom())
+                && isBlank(filter.getChairman()) && isBlank(filter.getSecretary());
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static void inChunks(List<Long> ids, Consumer<List<Long>> action) {
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            action.accept(ids.subList(from, Math.min(ids.size(), from + CHUNK_SIZE)));
+        }
+    }
+
+    private static MeetingSummaryDTO copy(MeetingSummaryDTO summary) {
+        return new MeetingSummaryDTO(summary.getId(), summary.getTitle(), summary.getStartTime(),
+                summary.getEndTime(), summary.getStatus(), summary.getDepartment(), summary.getRoom(),
+                summary.getChairman(), summary.getSecretary());
+    }
+
+    /**
+     * Meetings found for a request, and the outcome recorded for each requested id
+     */
+    private static final class Targets {
+
+        final Map<Long, MeetingSummaryDTO> live = new LinkedHashMap<>();
+        // Only filled when targeting by id; the archive is read-only except for delete
+        final Map<Long, MeetingSummaryDTO> archived = new LinkedHashMap<>();
+        final Map<Long, BulkItemResultDTO> outcomes = new LinkedHashMap<>();
+
+        void outcome(Long id, BulkOutcome outcome, String message) {
+            outcomes.put(id, new BulkItemResultDTO(id, outcome, message));
+        }
+
+        BulkResultDTO result() {
+            int succeeded = 0;
+            int failed = 0;
+            for (BulkItemResultDTO item : outcomes.values()) {
+                switch (item.getOutcome()) {
+                    case UPDATED, DELETED -> succeeded++;
+                    case NOT_FOUND, ARCHIVED, INVALID -> failed++;
+                    case UNCHANGED -> {
+                    }
+                }
+            }
+            return BulkResultDTO.builder()
+                    .matched(live.size() + archived.size())
+                    .succeeded(succeeded)
+                    .failed(failed)
+                    .items(new ArrayList<>(outcomes.values()))
+                    .build();
+        }
+    }
+}
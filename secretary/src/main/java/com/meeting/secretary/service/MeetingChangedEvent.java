@@ -0,0 +1,19 @@
+package com.meeting.secretary.service;
+
+import com.meeting.secretary.dto.MeetingSummaryDTO;
+import com.meeting.secretary.dto.ParticipantDTO;
+
+import java.util.List;
+
+/**
+ * Published by MeetingService whenever a meeting is created, updated or deleted.
+ * {@code before} is null for a new meeting and {@code after} is null for a deleted one;
+ * {@code participants} is the attendee list given with the write, null when it was not given.
+ */
+public record MeetingChangedEvent(Long meetingId, MeetingSummaryDTO before, MeetingSummaryDTO after,
+                                  List<ParticipantDTO> participants) {
+
+    public MeetingChangedEvent(Long meetingId, MeetingSummaryDTO before, MeetingSummaryDTO after) {
+        this(meetingId, before, after, null);
+    }
+}
@@ -1,22 +1,38 @@
 package com.meeting.secretary.service;
 
+import com.meeting.secretary.archive.MeetingArchive;
 import com.meeting.secretary.dto.MeetingDTO;
+import com.meeting.secretary.dto.MeetingFields;
+import com.meeting.secretary.dto.MeetingSearchCriteria;
 import com.meeting.secretary.dto.MeetingStatisticsDTO;
+import com.meeting.secretary.dto.MeetingSummaryDTO;
+import com.meeting.secretary.dto.PagedResultDTO;
 import com.meeting.secretary.entity.Meeting;
 import com.meeting.secretary.entity.MeetingStatus;
 import com.meeting.secretary.exception.ResourceNotFoundException;
+import com.meeting.secretary.index.MeetingCalendarIndex;
+import com.meeting.secretary.repository.ArchivedMeetingRepository;
 import com.meeting.secretary.repository.MeetingRepository;
+import com.meeting.secretary.repository.MeetingSpecifications;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Service for Meeting operations
@@ -26,22 +42,39 @@ import java.util.Map;
 @Transactional
 public class MeetingService {
 
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final Set<String> SORTABLE_FIELDS = Set.of("startTime", "endTime", "title", "status", "createdAt");
+
+    // Orders matching the SQL sort of each sortable field, for merging live and archived pages
+    private static final Map<String, Comparator<MeetingSummaryDTO>> SUMMARY_ORDER = Map.of(
+            "startTime", Comparator.comparing(MeetingSummaryDTO::getStartTime),
+            "endTime", Comparator.comparing(MeetingSummaryDTO::getEndTime),
+            "title", Comparator.comparing(MeetingSummaryDTO::getTitle, String.CASE_INSENSITIVE_ORDER),
+            "status", Comparator.comparing(summary -> summary.getStatus().name()),
+            // Ids are assigned in creation order
+            "createdAt", Comparator.comparing(MeetingSummaryDTO::getId));
+
     private final MeetingRepository meetingRepository;
+    private final ArchivedMeetingRepository archivedMeetingRepository;
+    private final MeetingArchive meetingArchive;
+    private final MeetingCalendarIndex calendarIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Get all meetings
      */
     @Transactional(readOnly = true)
     public List<Meeting> getAllMeetings() {
-        return meetingRepository.findAll();
+        return withArchived(meetingRepository.findAll(), meetingArchive.findAll());
     }
 
     /**
-     * Get meeting by ID
+     * Get meeting by ID, archived meetings included
      */
     @Transactional(readOnly = true)
     public Meeting getMeetingById(Long id) {
         return meetingRepository.findById(id)
+                .or(() -> meetingArchive.findById(id))
                 .orElseThrow(() -> new ResourceNotFoundException("Cuộc họp", id));
     }
 
@@ -50,7 +83,7 @@ public class MeetingService {
      */
     @Transactional(readOnly = true)
     public List<Meeting> getMeetingsByStatus(MeetingStatus status) {
-        return meetingRepository.findByStatus(status);
+        return withArchived(meetingRepository.findByStatus(status), meetingArchive.findByStatus(status));
     }
 
     /**
@@ -58,7 +91,7 @@ public class MeetingService {
      */
     @Transactional(readOnly = true)
     public List<Meeting> getMeetingsByDepartment(String department) {
-        return meetingRepository.findByDepartment(department);
+        return withArchived(meetingRepository.findByDepartment(department), meetingArchive.findByDepartment(department));
     }
 
     /**
@@ -66,7 +99,7 @@ public class MeetingService {
      */
     @Transactional(readOnly = true)
     public List<Meeting> getMeetingsByRoom(String room) {
-        return meetingRepository.findByRoom(room);
+        return withArchived(meetingRepository.findByRoom(room), meetingArchive.findByRoom(room));
     }
 
     /**
@@ -76,7 +109,7 @@ public class MeetingService {
     public List<Meeting> getMeetingsByDate(LocalDate date) {
         LocalDateTime start = date.atStartOfDay();
         LocalDateTime end = date.plusDays(1).atStartOfDay();
-        return meetingRepository.findByDateRange(start, end);
+        return findByDateRange(start, end);
     }
 
     /**
@@ -86,7 +119,7 @@ public class MeetingService {
     public List<Meeting> getMeetingsByMonth(int year, int month) {
         LocalDateTime start = LocalDateTime.of(year, month, 1, 0, 0);
         LocalDateTime end = start.with(TemporalAdjusters.firstDayOfNextMonth());
-        return meetingRepository.findByDateRange(start, end);
+        return findByDateRange(start, end);
     }
 
     /**
@@ -96,7 +129,85 @@ public class MeetingService {
     public List<Meeting> getMeetingsByYear(int year) {
         LocalDateTime start = LocalDateTime.of(year, 1, 1, 0, 0);
         LocalDateTime end = LocalDateTime.of(year + 1, 1, 1, 0, 0);
-        return meetingRepository.findByDateRange(start, end);
+        return findByDateRange(start, end);
+    }
+
+    /**
+     * Get meetings by date, reduced to the requested fields
+     */
+    @Transactional(readOnly = true)
+    public List<?> getMeetingsByDate(LocalDate date, String fields) {
+        return selectByDateRange(date.atStartOfDay(), date.plusDays(1).atStartOfDay(), fields);
+    }
+
+    /**
+     * Get meetings by month, reduced to the requested fields
+     */
+    @Transactional(readOnly = true)
+    public List<?> getMeetingsByMonth(int year, int month, String fields) {
+        LocalDateTime start = LocalDateTime.of(year, month, 1, 0, 0);
+        return selectByDateRange(start, start.with(TemporalAdjusters.firstDayOfNextMonth()), fields);
+    }
+
+    /**
+     * Get meetings by year, reduced to the requested fields
+     */
+    @Transactional(readOnly = true)
+    public List<?> getMeetingsByYear(int year, String fields) {
+        return selectByDateRange(LocalDateTime.of(year, 1, 1, 0, 0), LocalDateTime.of(year + 1, 1, 1, 0, 0), fields);
+    }
+
+    /**
+     * Search meetings by any combination of criteria in a single query
+     */
+    @Transactional(readOnly = true)
+    public PagedResultDTO<MeetingSummaryDTO> searchMeetings(MeetingSearchCriteria criteria, int page, int size,
+                                                            String sortBy, Sort.Direction direction,
+                                                            boolean includeTotal) {
+        if (page < 0 || size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Trang phải >= 0 và kích thước trang trong khoảng 1-" + MAX_PAGE_SIZE);
+        }
+        if (!SORTABLE_FIELDS.contains(sortBy)) {
+            throw new IllegalArgumentException("Không thể sắp xếp theo trường '" + sortBy + "'");
+        }
+        if (criteria.getFrom() != null && criteria.getTo() != null && !criteria.getTo().isAfter(criteria.getFrom())) {
+            throw new IllegalArgumentException("Thời gian kết thúc phải sau thời gian bắt đầu");
+        }
+
+        Specification<Meeting> spec = MeetingSpecifications.matching(criteria);
+        Sort sort = Sort.by(direction, sortBy);
+        boolean archived = meetingArchive.reaches(criteria.getFrom(), criteria.getStatus());
+        List<MeetingSummaryDTO> rows;
+        if (archived) {
+            // Both tiers are sorted the same way: take the head of each and merge
+            int limit = page * size + size;
+            List<MeetingSummaryDTO> merged = new ArrayList<>(meetingRepository.searchSummaries(spec, PageRequest.of(0, limit, sort)));
+            merged.addAll(meetingArchive.searchSummaries(criteria, sort, limit + 1));
+            Comparator<MeetingSummaryDTO> order = SUMMARY_ORDER.get(sortBy);
+            merged.sort((direction.isAscending() ? order : order.reversed())
+                    .thenComparing(MeetingSummaryDTO::getId));
+            rows = merged.subList(Math.min(merged.size(), page * size), merged.size());
+        } else {
+            rows = meetingRepository.searchSummaries(spec, PageRequest.of(page, size, sort));
+        }
+        boolean hasNext = rows.size() > size;
+        List<MeetingSummaryDTO> content = hasNext ? List.copyOf(rows.subList(0, size)) : rows;
+
+        PagedResultDTO.PagedResultDTOBuilder<MeetingSummaryDTO> result = PagedResultDTO.<MeetingSummaryDTO>builder()
+                .content(content)
+                .page(page)
+                .size(size)
+                .hasNext(hasNext);
+        if (includeTotal) {
+            // A last page with rows already tells us the total, no count query needed; an empty
+            // page past the end does not
+            boolean lastPage = !hasNext && (!content.isEmpty() || page == 0);
+            long total = lastPage ? (long) page * size + content.size()
+                    : calendarIndex.canCount(criteria) ? calendarIndex.count(criteria)
+                    : meetingRepository.countMatching(spec) + (archived ? meetingArchive.countMatching(criteria) : 0);
+            result.totalElements(total).totalPages((int) ((total + size - 1) / size));
+        }
+        return result.build();
     }
 
     /**
@@ -113,37 +224,51 @@ public class MeetingService {
             meeting.setStatus(MeetingStatus.SCHEDULED);
         }
 
-        return meetingRepository.save(meeting);
+        Meeting saved = meetingRepository.save(meeting);
+        eventPublisher.publishEvent(new MeetingChangedEvent(saved.getId(), null, MeetingSummaryDTO.from(saved),
+                dto.getParticipants()));
+        return saved;
     }
 
     /**
      * Update existing meeting
      */
     public Meeting updateMeeting(Long id, MeetingDTO dto) {
-        Meeting meeting = getMeetingById(id);
+        Meeting meeting = getLiveMeeting(id);
         validateMeetingTime(dto.getStartTime(), dto.getEndTime());
+        MeetingSummaryDTO before = MeetingSummaryDTO.from(meeting);
         mapDtoToEntity(dto, meeting);
 
-        return meetingRepository.save(meeting);
+        Meeting saved = meetingRepository.save(meeting);
+        eventPublisher.publishEvent(new MeetingChangedEvent(id, before, MeetingSummaryDTO.from(saved),
+                dto.getParticipants()));
+        return saved;
     }
 
     /**
      * Update meeting status
      */
     public Meeting updateMeetingStatus(Long id, MeetingStatus status) {
-        Meeting meeting = getMeetingById(id);
+        Meeting meeting = getLiveMeeting(id);
+        MeetingSummaryDTO before = MeetingSummaryDTO.from(meeting);
         meeting.setStatus(status);
-        return meetingRepository.save(meeting);
+        Meeting saved = meetingRepository.save(meeting);
+        eventPublisher.publishEvent(new MeetingChangedEvent(id, before, MeetingSummaryDTO.from(saved)));
+        return saved;
     }
 
     /**
      * Delete meeting by ID
      */
     public void deleteMeeting(Long id) {
-        if (!meetingRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Cuộc họp", id);
+        Meeting meeting = meetingRepository.findById(id).orElse(null);
+        if (meeting != null) {
+            meetingRepository.delete(meeting);
+        } else {
+            meeting = meetingArchive.findById(id).orElseThrow(() -> new ResourceNotFoundException("Cuộc họp", id));
+            meetingArchive.deleteById(id);
         }
-        meetingRepository.deleteById(id);
+        eventPublisher.publishEvent(new MeetingChangedEvent(id, MeetingSummaryDTO.from(meeting), null));
     }
 
     /**
@@ -164,28 +289,35 @@ public class MeetingService {
         LocalDateTime yearStart = today.with(TemporalAdjusters.firstDayOfYear()).atStartOfDay();
         LocalDateTime yearEnd = today.with(TemporalAdjusters.firstDayOfNextYear()).atStartOfDay();
 
-        // Get grouped statistics
+        // Get grouped statistics, archived (finished) meetings and every shard included
         Map<String, Long> byDepartment = new HashMap<>();
         meetingRepository.countByDepartmentGrouped().forEach(row -> 
-            byDepartment.put((String) row[0], (Long) row[1]));
+            byDepartment.merge((String) row[0], (Long) row[1], Long::sum));
+        meetingArchive.rows(null, archivedMeetingRepository::countByDepartmentGrouped).forEach(row ->
+            byDepartment.merge((String) row[0], (Long) row[1], Long::sum));
 
         Map<String, Long> byRoom = new HashMap<>();
         meetingRepository.countByRoomGrouped().forEach(row -> 
-            byRoom.put((String) row[0], (Long) row[1]));
+            byRoom.merge((String) row[0], (Long) row[1], Long::sum));
+        meetingArchive.rows(null, archivedMeetingRepository::countByRoomGrouped).forEach(row ->
+            byRoom.merge((String) row[0], (Long) row[1], Long::sum));
 
         Map<String, Long> byStatus = new HashMap<>();
         meetingRepository.countByStatusGrouped().forEach(row -> 
-            byStatus.put(((MeetingStatus) row[0]).name(), (Long) row[1]));
+            byStatus.merge(((MeetingStatus) row[0]).name(), (Long) row[1], Long::sum));
+        meetingArchive.rows(null, archivedMeetingRepository::countByStatusGrouped).forEach(row ->
+            byStatus.merge(((MeetingStatus) row[0]).name(), (Long) row[1], Long::sum));
+        long archived = meetingArchive.count();
 
         return MeetingStatisticsDTO.builder()
-                .totalMeetings(meetingRepository.count())
+                .totalMeetings(meetingRepository.count() + archived)
                 .scheduledMeetings(meetingRepository.countByStatus(MeetingStatus.SCHEDULED))
                 .ongoingMeetings(meetingRepository.countByStatus(MeetingStatus.ONGOING))
-                .finishedMeetings(meetingRepository.countByStatus(MeetingStatus.FINISHED))
-                .meetingsToday(meetingRepository.countByDateRange(todayStart, todayEnd))
-                .meetingsThisWeek(meetingRepository.countByDateRange(weekStart, weekEnd))
-                .meetingsThisMonth(meetingRepository.countByDateRange(monthStart, monthEnd))
-                .meetingsThisYear(meetingRepository.countByDateRange(yearStart, yearEnd))
+                .finishedMeetings(meetingRepository.countByStatus(MeetingStatus.FINISHED) + archived)
+                .meetingsToday(countByDateRange(todayStart, todayEnd))
+                .meetingsThisWeek(countByDateRange(weekStart, weekEnd))
+                .meetingsThisMonth(countByDateRange(monthStart, monthEnd))
+                .meetingsThisYear(countByDateRange(yearStart, yearEnd))
                 .byDepartment(byDepartment)
                 .byRoom(byRoom)
                 .byStatus(byStatus)
@@ -199,14 +331,7 @@ public class MeetingService {
     public Map<String, Long> getStatisticsByDate(LocalDate date) {
         LocalDateTime start = date.atStartOfDay();
         LocalDateTime end = date.plusDays(1).atStartOfDay();
-        
-        Map<String, Long> stats = new HashMap<>();
-        stats.put("total", meetingRepository.countByDateRange(start, end));
-        stats.put("scheduled", meetingRepository.countByStatusAndDateRange(MeetingStatus.SCHEDULED, start, end));
-        stats.put("ongoing", meetingRepository.countByStatusAndDateRange(MeetingStatus.ONGOING, start, end));
-        stats.put("finished", meetingRepository.countByStatusAndDateRange(MeetingStatus.FINISHED, start, end));
-        
-        return stats;
+        return statisticsForRange(start, end);
     }
 
     /**
@@ -216,14 +341,7 @@ public class MeetingService {
     public Map<String, Long> getStatisticsByMonth(int year, int month) {
         LocalDateTime start = LocalDateTime.of(year, month, 1, 0, 0);
         LocalDateTime end = start.with(TemporalAdjusters.firstDayOfNextMonth());
-        
-        Map<String, Long> stats = new HashMap<>();
-        stats.put("total", meetingRepository.countByDateRange(start, end));
-        stats.put("scheduled", meetingRepository.countByStatusAndDateRange(MeetingStatus.SCHEDULED, start, end));
-        stats.put("ongoing", meetingRepository.countByStatusAndDateRange(MeetingStatus.ONGOING, start, end));
-        stats.put("finished", meetingRepository.countByStatusAndDateRange(MeetingStatus.FINISHED, start, end));
-        
-        return stats;
+        return statisticsForRange(start, end);
     }
 
     /**
@@ -233,17 +351,63 @@ public class MeetingService {
     public Map<String, Long> getStatisticsByYear(int year) {
         LocalDateTime start = LocalDateTime.of(year, 1, 1, 0, 0);
         LocalDateTime end = LocalDateTime.of(year + 1, 1, 1, 0, 0);
-        
+        return statisticsForRange(start, end);
+    }
+
+    // Helper methods
+    private Map<String, Long> statisticsForRange(LocalDateTime start, LocalDateTime end) {
+        if (calendarIndex.covers(start)) {
+            Map<MeetingStatus, Long> byStatus = calendarIndex.countByStatus(start, end);
+            Map<String, Long> stats = new HashMap<>();
+            stats.put("total", byStatus.values().stream().mapToLong(Long::longValue).sum());
+            stats.put("scheduled", byStatus.get(MeetingStatus.SCHEDULED));
+            stats.put("ongoing", byStatus.get(MeetingStatus.ONGOING));
+            stats.put("finished", byStatus.get(MeetingStatus.FINISHED));
+            return stats;
+        }
+        long archived = meetingArchive.countByDateRange(start, end);
         Map<String, Long> stats = new HashMap<>();
-        stats.put("total", meetingRepository.countByDateRange(start, end));
+        stats.put("total", meetingRepository.countByDateRange(start, end) + archived);
         stats.put("scheduled", meetingRepository.countByStatusAndDateRange(MeetingStatus.SCHEDULED, start, end));
         stats.put("ongoing", meetingRepository.countByStatusAndDateRange(MeetingStatus.ONGOING, start, end));
-        stats.put("finished", meetingRepository.countByStatusAndDateRange(MeetingStatus.FINISHED, start, end));
-        
+        stats.put("finished", meetingRepository.countByStatusAndDateRange(MeetingStatus.FINISHED, start, end) + archived);
         return stats;
     }
 
-    // Helper methods
+    private List<Meeting> findByDateRange(LocalDateTime start, LocalDateTime end) {
+        return withArchived(meetingRepository.findByDateRange(start, end), meetingArchive.findByDateRange(start, end));
+    }
+
+    // Only the columns the in-memory calendar holds can be served from it
+    private List<?> selectByDateRange(LocalDateTime start, LocalDateTime end, String fields) {
+        List<String> names = MeetingFields.parse(fields);
+        if (MeetingCalendarIndex.holds(names) && calendarIndex.covers(start)) {
+            return calendarIndex.select(start, end, names);
+        }
+        return MeetingFields.select(findByDateRange(start, end), fields);
+    }
+
+    private long countByDateRange(LocalDateTime start, LocalDateTime end) {
+        if (calendarIndex.covers(start)) {
+            return calendarIndex.count(start, end);
+        }
+        return meetingRepository.countByDateRange(start, end) + meetingArchive.countByDateRange(start, end);
+    }
+
+    private static List<Meeting> withArchived(List<Meeting> live, List<Meeting> archived) {
+        if (archived.isEmpty()) {
+            return live;
+        }
+        List<Meeting> all = new ArrayList<>(archived);
+        all.addAll(live);
+        return all;
+    }
+
+    // Archived meetings are read-only; only the live table is written
+    private Meeting getLiveMeeting(Long id) {
+        return meetingRepository.findById(id).orElseThrow(() -> meetingArchive.writeRejected(id));
+    }
+
     private void mapDtoToEntity(MeetingDTO dto, Meeting meeting) {
         meeting.setTitle(dto.getTitle());
         meeting.setDescription(dto.getDescription());
@@ -258,9 +422,13 @@ public class MeetingService {
         }
     }
 
-    private void validateMeetingTime(LocalDateTime startTime, LocalDateTime endTime) {
+    static void validateMeetingTime(LocalDateTime startTime, LocalDateTime endTime) {
         if (endTime.isBefore(startTime) || endTime.isEqual(startTime)) {
             throw new IllegalArgumentException("Thời gian kết thúc phải sau thời gian bắt đầu");
         }
+        if (Duration.between(startTime, endTime).compareTo(Meeting.MAX_DURATION) > 0) {
+            throw new IllegalArgumentException("Cuộc họp không được kéo dài quá "
+                    + Meeting.MAX_DURATION.toHours() + " giờ");
+        }
     }
 }
@@ -0,0 +1,129 @@
+package com.meeting.secretary.service;
+
+import com.meeting.secretary.archive.MeetingArchive;
+import com.meeting.secretary.dto.MeetingSummaryDTO;
+import com.meeting.secretary.entity.MeetingParticipant;
+import com.meeting.secretary.repository.MeetingParticipantRepository;
+import com.meeting.secretary.repository.MeetingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Chairman and secretary rows for meetings stored before participants were tracked.
+ * Participant rows are written when a meeting is created or edited, so older meetings, live or
+ * archived, are missing from agendas until this has run. After startup every meeting is visited
+ * once in id order, in batches, and only meetings without any participant row are filled in;
+ * once everything has rows a run just reads the ids and it can be switched off.
+ */
+@Slf4j
+@Component
+public class ParticipantBackfill {
+
+    private final MeetingRepository meetingRepository;
+    private final MeetingArchive meetingArchive;
+    private final MeetingParticipantRepository participantRepository;
+    private final ParticipantService participantService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public ParticipantBackfill(MeetingRepository meetingRepository,
+                               MeetingArchive meetingArchive,
+                               MeetingParticipantRepository participantRepository,
+                               ParticipantService participantService,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${participants.backfill.enabled:true}") boolean enabled,
+                               @Value("${participants.backfill.batch-size:500}") int batchSize) {
+        this.meetingRepository = meetingRepository;
+        this.meetingArchive = meetingArchive;
+        this.participantRepository = participantRepository;
+        this.participantService = participantService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        Thread.ofVirtual().name("participant-backfill").start(() -> {
+            try {
+                int filled = run();
+                if (filled > 0) {
+                    log.info("Added organizer participants to {} meetings created before participants", filled);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Participant backfill stopped, it resumes at the next start: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Add the organizer rows of every live and archived meeting that has none; returns how many meetings got them
+     */
+    public int run() {
+        int filled = backfill((afterId, limit) -> meetingRepository.findSummariesAfter(afterId, Limit.of(limit)),
+                meetingRepository::findSummariesByIdIn);
+        // A meeting archived during the first pass is found here
+        filled += backfill(meetingArchive::findSummariesAfter, ids -> meetingArchive.findSummariesByIdIn(ids, null));
+        return filled;
+    }
+
+    private int backfill(BiFunction<Long, Integer, List<MeetingSummaryDTO>> batches,
+                         Function<List<Long>, List<MeetingSummaryDTO>> reload) {
+        int filled = 0;
+        long afterId = 0;
+        while (true) {
+            List<MeetingSummaryDTO> batch = batches.apply(afterId, batchSize);
+            if (batch.isEmpty()) {
+                return filled;
+            }
+            afterId = batch.get(batch.size() - 1).getId();
+            List<Long> ids = batch.stream().map(MeetingSummaryDTO::getId).toList();
+            Set<Long> tracked = new HashSet<>();
+            participantRepository.findByMeetingIdIn(ids).forEach(row -> tracked.add(row.getMeetingId()));
+            for (Long id : ids) {
+                if (!tracked.contains(id) && fill(id, reload)) {
+                    filled++;
+                }
+            }
+            if (batch.size() < batchSize) {
+                return filled;
+            }
+        }
+    }
+
+    // Checked and written in one transaction from a fresh read, so an edit since the batch was read is kept
+    private boolean fill(Long meetingId, Function<List<Long>, List<MeetingSummaryDTO>> reload) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                List<MeetingParticipant> rows = participantRepository.findByMeetingId(meetingId);
+                List<MeetingSummaryDTO> meeting = reload.apply(List.of(meetingId));
+                if (!rows.isEmpty() || meeting.isEmpty()) {
+                    return false;
+                }
+                participantService.sync(meeting.get(0), null);
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            // Rows written meanwhile by an edit of the meeting
+            log.debug("Participants of meeting {} were added concurrently", meetingId);
+            return false;
+        }
+    }
+}
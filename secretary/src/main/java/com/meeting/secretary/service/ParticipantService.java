@@ -0,0 +1,273 @@
+package com.meeting.secretary.service;
+
+import com.meeting.secretary.archive.MeetingArchive;
+import com.meeting.secretary.dto.AgendaDTO;
+import com.meeting.secretary.dto.AgendaItemDTO;
+import com.meeting.secretary.dto.MeetingSummaryDTO;
+import com.meeting.secretary.dto.ParticipantDTO;
+import com.meeting.secretary.entity.Meeting;
+import com.meeting.secretary.entity.MeetingParticipant;
+import com.meeting.secretary.entity.ParticipantRole;
+import com.meeting.secretary.entity.RsvpStatus;
+import com.meeting.secretary.exception.ResourceNotFoundException;
+import com.meeting.secretary.repository.MeetingParticipantRepository;
+import com.meeting.secretary.repository.MeetingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Participants of meetings and personal agendas.
+ * The chairman and secretary of a meeting are always participants with those roles; everyone else
+ * is REQUIRED or OPTIONAL. Participant rows follow their meeting through {@link MeetingChangedEvent}
+ * (new times, new organizers, deletion), whichever service made the change.
+ * An agenda is read with a fixed number of queries regardless of its size: one index range scan
+ * for the person's meetings, then meetings and their participants in batches of ids.
+ */
+@Service
+@RequiredArgsConstructor
+public class ParticipantService {
+
+    // Ids per IN list
+    private static final int CHUNK_SIZE = 500;
+    private static final long MAX_AGENDA_DAYS = 366;
+    private static final Comparator<ParticipantDTO> ORDER = Comparator.comparing(ParticipantDTO::getRole)
+            .thenComparing(ParticipantDTO::getPerson);
+
+    private final MeetingParticipantRepository participantRepository;
+    private final MeetingRepository meetingRepository;
+    private final MeetingArchive meetingArchive;
+
+    /**
+     * Participants of a meeting, organizers first
+     */
+    @Transactional(readOnly = true)
+    public List<ParticipantDTO> getParticipants(Long meetingId) {
+        findMeeting(meetingId);
+        return participantRepository.findByMeetingId(meetingId).stream()
+                .map(ParticipantDTO::from)
+                .sorted(ORDER)
+                .toList();
+    }
+
+    /**
+     * Replace the participants of a meeting; the chairman and secretary stay in any case
+     */
+    @Transactional
+    public List<ParticipantDTO> replaceParticipants(Long meetingId, List<ParticipantDTO> participants) {
+        if (participants == null) {
+            throw new IllegalArgumentException("Danh sách người tham dự không được để trống");
+        }
+        return sync(findMeeting(meetingId), participants);
+    }
+
+    /**
+     * Record a participant's answer to the invitation
+     */
+    @Transactional
+    public ParticipantDTO respond(Long meetingId, String person, RsvpStatus rsvp) {
+        if (rsvp == null) {
+            throw new IllegalArgumentException("Trạng thái trả lời không được để trống");
+        }
+        MeetingParticipant participant = participantRepository.findByMeetingIdAndPerson(meetingId, strip(person))
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Người tham dự '" + person + "' không có trong cuộc họp với ID " + meetingId));
+        participant.setRsvp(rsvp);
+        return ParticipantDTO.from(participantRepository.save(participant));
+    }
+
+    /**
+     * Bring the participant rows of a meeting in line with it; null keeps the current attendees
+     */
+    @Transactional
+    public List<ParticipantDTO> sync(MeetingSummaryDTO meeting, List<ParticipantDTO> requested) {
+        Map<String, MeetingParticipant> existing = new HashMap<>();
+        participantRepository.findByMeetingId(meeting.getId()).forEach(row -> existing.put(row.getPerson(), row));
+
+        Map<String, ParticipantDTO> desired = new LinkedHashMap<>();
+        desired.put(meeting.getChairman(), new ParticipantDTO(meeting.getChairman(), ParticipantRole.CHAIRMAN, null));
+        desired.putIfAbsent(meeting.getSecretary(),
+                new ParticipantDTO(meeting.getSecretary(), ParticipantRole.SECRETARY, null));
+        List<ParticipantDTO> attendees = requested != null ? requested : existing.values().stream()
+                .filter(row -> !isOrganizerRole(row.getRole()))
+                .map(ParticipantDTO::from)
+                .toList();
+        for (ParticipantDTO attendee : attendees) {
+            String person = strip(attendee == null ? null : attendee.getPerson());
+            if (person == null) {
+                throw new IllegalArgumentException("Tên người tham dự không được để trống");
+            }
+            ParticipantDTO organizer = desired.get(person);
+            if (organizer != null) {
+                // Organizers keep their role; an answer given for them still counts
+                if (isOrganizerRole(organizer.getRole()) && attendee.getRsvp() != null) {
+                    organizer.setRsvp(attendee.getRsvp());
+                }
+                continue;
+            }
+            if (isOrganizerRole(attendee.getRole())) {
+                throw new IllegalArgumentException("Vai trò " + attendee.getRole()
+                        + " chỉ dành cho chủ tọa và thư ký của cuộc họp");
+            }
+            ParticipantRole role = attendee.getRole() == null ? ParticipantRole.REQUIRED : attendee.getRole();
+            desired.put(person, new ParticipantDTO(person, role, attendee.getRsvp()));
+        }
+
+        List<MeetingParticipant> removed = existing.values().stream()
+                .filter(row -> !desired.containsKey(row.getPerson()))
+                .toList();
+        if (!removed.isEmpty()) {
+            participantRepository.deleteAllInBatch(removed);
+        }
+        List<MeetingParticipant> rows = new ArrayList<>();
+        for (ParticipantDTO participant : desired.values()) {
+            MeetingParticipant row = existing.get(participant.getPerson());
+            if (row == null) {
+                row = new MeetingParticipant();
+                row.setMeetingId(meeting.getId());
+                row.setPerson(participant.getPerson());
+                row.setRsvp(isOrganizerRole(participant.getRole()) ? RsvpStatus.ACCEPTED : RsvpStatus.PENDING);
+            }
+            row.setRole(participant.getRole());
+            if (participant.getRsvp() != null) {
+                row.setRsvp(participant.getRsvp());
+            }
+            row.setStartTime(meeting.getStartTime());
+            row.setEndTime(meeting.getEndTime());
+            rows.add(row);
+        }
+        return participantRepository.saveAll(rows).stream()
+                .map(ParticipantDTO::from)
+                .sorted(ORDER)
+                .toList();
+    }
+
+    // Published inside the writing transaction by every meeting write path; the only sync of a meeting write
+    @EventListener
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        MeetingSummaryDTO before = event.before();
+        MeetingSummaryDTO after = event.after();
+        if (after == null) {
+            participantRepository.deleteByMeetingId(event.meetingId());
+        } else if (event.participants() != null) {
+            sync(after, event.participants());
+        } else if (before == null || !Objects.equals(before.getChairman(), after.getChairman())
+                || !Objects.equals(before.getSecretary(), after.getSecretary())) {
+            sync(after, null);
+        } else if (!before.getStartTime().equals(after.getStartTime()) || !before.getEndTime().equals(after.getEndTime())) {
+            participantRepository.updateTimes(event.meetingId(), after.getStartTime(), after.getEndTime());
+        }
+    }
+
+    /**
+     * Meetings of a person overlapping {@code from} to {@code to} inclusive, with double bookings marked
+     */
+    @Transactional(readOnly = true)
+    public AgendaDTO getAgenda(String person, LocalDate from, LocalDate to, boolean withParticipants) {
+        String name = strip(person);
+        if (name == null) {
+            throw new IllegalArgumentException("Tên người tham dự không được để trống");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Ngày kết thúc phải sau ngày bắt đầu");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_AGENDA_DAYS) {
+            throw new IllegalArgumentException("Khoảng thời gian tối đa là " + MAX_AGENDA_DAYS + " ngày");
+        }
+        LocalDateTime start = from.atStartOfDay();
+        List<MeetingParticipant> entries = participantRepository.findAgenda(name, start, to.plusDays(1).atStartOfDay(),
+                start.minus(Meeting.MAX_DURATION));
+        List<Long> ids = entries.stream().map(MeetingParticipant::getMeetingId).toList();
+
+        Map<Long, MeetingSummaryDTO> meetings = new HashMap<>();
+        inChunks(ids, chunk -> meetingRepository.findSummariesByIdIn(chunk)
+                .forEach(meeting -> meetings.put(meeting.getId(), meeting)));
+        List<Long> archived = ids.stream().filter(id -> !meetings.containsKey(id)).toList();
+        inChunks(archived, chunk -> meetingArchive.findSummariesByIdIn(chunk, start)
+                .forEach(meeting -> meetings.put(meeting.getId(), meeting)));
+
+        Map<Long, List<ParticipantDTO>> participants = new HashMap<>();
+        if (withParticipants) {
+            inChunks(ids, chunk -> participantRepository.findByMeetingIdIn(chunk)
+                    .forEach(row -> participants.computeIfAbsent(row.getMeetingId(), id -> new ArrayList<>())
+                            .add(ParticipantDTO.from(row))));
+            participants.values().forEach(list -> list.sort(ORDER));
+        }
+
+        List<MeetingParticipant> found = entries.stream().filter(entry -> meetings.containsKey(entry.getMeetingId())).toList();
+        Map<Long, List<Long>> conflicts = findDoubleBookings(found);
+        List<AgendaItemDTO> items = found.stream()
+                .map(entry -> AgendaItemDTO.builder()
+                        .meeting(meetings.get(entry.getMeetingId()))
+                        .role(entry.getRole())
+                        .rsvp(entry.getRsvp())
+                        .participants(withParticipants ? participants.getOrDefault(entry.getMeetingId(), List.of()) : null)
+                        .conflictsWith(conflicts.getOrDefault(entry.getMeetingId(), List.of()))
+                        .build())
+                .toList();
+        return AgendaDTO.builder()
+                .person(name)
+                .from(from)
+                .to(to)
+                .items(items)
+                .doubleBooked(conflicts.size())
+                .build();
+    }
+
+    /**
+     * Meetings overlapping another one, by meeting id; entries in start order, declined ones ignored
+     */
+    static Map<Long, List<Long>> findDoubleBookings(List<MeetingParticipant> entries) {
+        Map<Long, List<Long>> conflicts = new HashMap<>();
+        // Meetings still running at the current start
+        List<MeetingParticipant> open = new ArrayList<>();
+        for (MeetingParticipant entry : entries) {
+            if (entry.getRsvp() == RsvpStatus.DECLINED) {
+                continue;
+            }
+            open.removeIf(other -> !other.getEndTime().isAfter(entry.getStartTime()));
+            for (MeetingParticipant other : open) {
+                conflicts.computeIfAbsent(other.getMeetingId(), id -> new ArrayList<>()).add(entry.getMeetingId());
+                conflicts.computeIfAbsent(entry.getMeetingId(), id -> new ArrayList<>()).add(other.getMeetingId());
+            }
+            open.add(entry);
+        }
+        return conflicts;
+    }
+
+    private MeetingSummaryDTO findMeeting(Long meetingId) {
+        List<MeetingSummaryDTO> live = meetingRepository.findSummariesByIdIn(List.of(meetingId));
+        if (!live.isEmpty()) {
+            return live.get(0);
+        }
+        return meetingArchive.findSummariesByIdIn(List.of(meetingId), null).stream().findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Cuộc họp", meetingId));
+    }
+
+    private static boolean isOrganizerRole(ParticipantRole role) {
+        return role == ParticipantRole.CHAIRMAN || role == ParticipantRole.SECRETARY;
+    }
+
+    private static String strip(String value) {
+        return value == null || value.isBlank() ? null : value.strip();
+    }
+
+    private static void inChunks(List<Long> ids, Consumer<List<Long>> action) {
+        for (int i = 0; i < ids.size(); i += CHUNK_SIZE) {
+            action.accept(ids.subList(i, Math.min(ids.size(), i + CHUNK_SIZE)));
+        }
+    }
+}
@@ -1,32 +1,54 @@
 package com.meeting.secretary.service;
 
+import com.meeting.secretary.cache.CacheCoherence;
+import com.meeting.secretary.cache.CacheRegion;
+import com.meeting.secretary.cache.NearCache;
+import com.meeting.secretary.changes.ChangeFeedService;
 import com.meeting.secretary.dto.RoomDTO;
+import com.meeting.secretary.entity.ChangeEntityType;
 import com.meeting.secretary.entity.Room;
 import com.meeting.secretary.exception.DuplicateResourceException;
 import com.meeting.secretary.exception.ResourceNotFoundException;
 import com.meeting.secretary.repository.RoomRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 /**
- * Service for Room operations
+ * Service for Room operations.
+ * Reads are served from node-local caches that every room write invalidates on all instances.
+ * Writes are also recorded in the change feed.
  */
 @Service
-@RequiredArgsConstructor
 @Transactional
 public class RoomService {
 
     private final RoomRepository roomRepository;
+    private final CacheCoherence cacheCoherence;
+    private final ChangeFeedService changeFeedService;
+    private final NearCache<Boolean, List<Room>> allRooms;
+    private final NearCache<Long, Room> roomsById;
+
+    public RoomService(RoomRepository roomRepository,
+                       CacheCoherence cacheCoherence,
+                       ChangeFeedService changeFeedService,
+                       @Value("${cache.near.max-entries:1000}") int maxEntries) {
+        this.roomRepository = roomRepository;
+        this.cacheCoherence = cacheCoherence;
+        this.changeFeedService = changeFeedService;
+        this.allRooms = new NearCache<>(CacheRegion.ROOMS, cacheCoherence, 1);
+        this.roomsById = new NearCache<>(CacheRegion.ROOMS, cacheCoherence, maxEntries);
+    }
 
     /**
      * Get all rooms
      */
     @Transactional(readOnly = true)
     public List<Room> getAllRooms() {
-        return roomRepository.findAll();
+        return allRooms.get(true, () -> List.copyOf(roomRepository.findAll()));
     }
 
     /**
@@ -34,6 +56,14 @@ public class RoomService {
      */
     @Transactional(readOnly = true)
     public Room getRoomById(Long id) {
+        Room room = roomsById.get(id, () -> roomRepository.findById(id).orElse(null));
+        if (room == null) {
+            throw new ResourceNotFoundException("Phòng họp", id);
+        }
+        return room;
+    }
+
+    private Room findRoom(Long id) {
         return roomRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Phòng họp", id));
     }
@@ -42,24 +72,32 @@ public class RoomService {
      * Create new room
      */
     public Room createRoom(RoomDTO dto) {
-        if (roomRepository.existsByName(dto.getName())) {
-            throw new DuplicateResourceException("Phòng họp với tên '" + dto.getName() + "' đã tồn tại");
-        }
-
         Room room = new Room();
         room.setName(dto.getName());
         room.setDescription(dto.getDescription());
         room.setCapacity(dto.getCapacity());
         room.setLocation(dto.getLocation());
 
-        return roomRepository.save(room);
+        // The unique name constraint decides, so concurrent creates cannot both pass a check
+        try {
+            Room saved = roomRepository.saveAndFlush(room);
+            cacheCoherence.invalidate(CacheRegion.ROOMS, String.valueOf(saved.getId()));
+            changeFeedService.recordUpsert(ChangeEntityType.ROOM, saved.getId(), saved);
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            if (!DuplicateResourceException.isUniqueViolation(e)) {
+                throw e;
+            }
+            throw new DuplicateResourceException("Phòng họp với tên '" + dto.getName() + "' đã tồn tại");
+        }
     }
 
     /**
      * Update existing room
      */
     public Room updateRoom(Long id, RoomDTO dto) {
-        Room room = getRoomById(id);
+        // Cached instances are shared, so change a freshly loaded one
+        Room room = findRoom(id);
 
         // Check if name already exists for another room
         roomRepository.findByName(dto.getName())
@@ -74,7 +112,10 @@ public class RoomService {
         room.setCapacity(dto.getCapacity());
         room.setLocation(dto.getLocation());
 
-        return roomRepository.save(room);
+        cacheCoherence.invalidate(CacheRegion.ROOMS, String.valueOf(id));
+        Room saved = roomRepository.saveAndFlush(room);
+        changeFeedService.recordUpsert(ChangeEntityType.ROOM, id, saved);
+        return saved;
     }
 
     /**
@@ -85,5 +126,7 @@ public class RoomService {
             throw new ResourceNotFoundException("Phòng họp", id);
         }
         roomRepository.deleteById(id);
+        cacheCoherence.invalidate(CacheRegion.ROOMS, String.valueOf(id));
+        changeFeedService.recordDelete(ChangeEntityType.ROOM, id);
     }
 }
@@ -0,0 +1,265 @@
+package com.meeting.secretary.service;
+
+import com.meeting.secretary.archive.MeetingArchive;
+import com.meeting.secretary.cache.CacheCoherence;
+import com.meeting.secretary.cache.CacheRegion;
+import com.meeting.secretary.dto.MeetingSummaryDTO;
+import com.meeting.secretary.dto.StatisticsBucket;
+import com.meeting.secretary.dto.StatisticsGroupBy;
+import com.meeting.secretary.dto.StatisticsSeriesDTO;
+import com.meeting.secretary.entity.MeetingStatus;
+import com.meeting.secretary.repository.ArchivedMeetingRepository;
+import com.meeting.secretary.repository.MeetingRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Time-series meeting statistics.
+ * Meetings are counted per stored hour in one GROUP BY query and shifted into the requested
+ * time zone, so zones with sub-hour offsets are bucketed at hour precision.
+ * Counts of days that are over in the requested zone are cached and only dropped when a
+ * meeting on that day changes, so most of a long series is served without a query.
+ * Other instances evict the same days through STATISTICS invalidations keyed by the stored start time.
+ */
+@Service
+public class StatisticsSeriesService {
+
+    private static final long MAX_DAYS = 3660;
+    private static final String TOTAL_KEY = "total";
+
+    private final MeetingRepository meetingRepository;
+    private final ArchivedMeetingRepository archivedMeetingRepository;
+    private final MeetingArchive meetingArchive;
+    private final CacheCoherence cacheCoherence;
+    private final ZoneId storageZone;
+    private final int maxCachedZones;
+
+    // Zone -> grouping -> closed day -> group key -> count
+    private final Map<ZoneId, Map<StatisticsGroupBy, Map<LocalDate, Map<String, Long>>>> closedDays =
+            new ConcurrentHashMap<>();
+    // Bumped on every invalidation; days counted across a bump are not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    public StatisticsSeriesService(MeetingRepository meetingRepository,
+                                   ArchivedMeetingRepository archivedMeetingRepository,
+                                   MeetingArchive meetingArchive,
+                                   CacheCoherence cacheCoherence,
+                                   @Value("${calendar.time-zone:Asia/Ho_Chi_Minh}") String storageZone,
+                                   @Value("${statistics.series.max-cached-zones:8}") int maxCachedZones) {
+        this.meetingRepository = meetingRepository;
+        this.archivedMeetingRepository = archivedMeetingRepository;
+        this.meetingArchive = meetingArchive;
+        this.cacheCoherence = cacheCoherence;
+        this.storageZone = ZoneId.of(storageZone);
+        this.maxCachedZones = maxCachedZones;
+        cacheCoherence.register(CacheRegion.STATISTICS, this::evict, StatisticsSeriesService::startTimesOf);
+    }
+
+    /**
+     * Count meetings starting between {@code from} and {@code to} (inclusive, dates in the given zone)
+     */
+    @Transactional(readOnly = true)
+    public StatisticsSeriesDTO getSeries(LocalDate from, LocalDate to, StatisticsBucket bucket,
+                                         StatisticsGroupBy groupBy, String timeZone) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Ngày kết thúc phải sau ngày bắt đầu");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+            throw new IllegalArgumentException("Khoảng thời gian tối đa là " + MAX_DAYS + " ngày");
+        }
+        ZoneId zone = parseZone(timeZone);
+        LocalDate today = LocalDate.now(zone);
+        Map<LocalDate, Map<String, Long>> cache = cacheCoherence.isFresh() ? cacheFor(zone, groupBy) : null;
+
+        // Query once for the span of days that are not cached
+        Map<LocalDate, Map<String, Long>> days = new HashMap<>();
+        LocalDate firstMissing = null;
+        LocalDate lastMissing = null;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            Map<String, Long> cached = cache == null ? null : cache.get(day);
+            if (cached != null) {
+                days.put(day, cached);
+            } else {
+                firstMissing = firstMissing == null ? day : firstMissing;
+                lastMissing = day;
+            }
+        }
+        if (firstMissing != null) {
+            long queriedAt = generation.get();
+            Map<LocalDate, Map<String, Long>> counted = countDays(firstMissing, lastMissing, groupBy, zone);
+            boolean cacheable = cache != null && generation.get() == queriedAt;
+            for (LocalDate day = firstMissing; !day.isAfter(lastMissing); day = day.plusDays(1)) {
+                Map<String, Long> counts = counted.getOrDefault(day, Map.of());
+                if (!days.containsKey(day)) {
+                    days.put(day, counts);
+                }
+                if (cacheable && day.isBefore(today)) {
+                    cache.putIfAbsent(day, counts);
+                }
+            }
+        }
+        return assemble(from, to, bucket, groupBy, zone, days);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        generation.incrementAndGet();
+        evictDayOf(event.before());
+        evictDayOf(event.after());
+    }
+
+    private void evictDayOf(MeetingSummaryDTO meeting) {
+        if (meeting != null && meeting.getStartTime() != null) {
+            evictDayOf(meeting.getStartTime());
+        }
+    }
+
+    private void evictDayOf(LocalDateTime startTime) {
+        closedDays.forEach((zone, byGrouping) -> {
+            LocalDate day = startTime.atZone(storageZone).withZoneSameInstant(zone).toLocalDate();
+            byGrouping.values().forEach(days -> days.remove(day));
+        });
+    }
+
+    // Invalidation from another instance: a stored start time, or null for everything
+    private void evict(String key) {
+        generation.incrementAndGet();
+        if (key == null) {
+            closedDays.clear();
+        } else {
+            evictDayOf(LocalDateTime.parse(key));
+        }
+    }
+
+    private static Collection<String> startTimesOf(MeetingChangedEvent event) {
+        return Stream.of(event.before(), event.after())
+                .filter(Objects::nonNull)
+                .map(MeetingSummaryDTO::getStartTime)
+                .filter(Objects::nonNull)
+                .map(LocalDateTime::toString)
+                .distinct()
+                .toList();
+    }
+
+    private Map<LocalDate, Map<String, Long>> cacheFor(ZoneId zone, StatisticsGroupBy groupBy) {
+        Map<StatisticsGroupBy, Map<LocalDate, Map<String, Long>>> byGrouping = closedDays.get(zone);
+        if (byGrouping == null) {
+            if (closedDays.size() >= maxCachedZones) {
+                return null;
+            }
+            byGrouping = closedDays.computeIfAbsent(zone, z -> new ConcurrentHashMap<>());
+        }
+        return byGrouping.computeIfAbsent(groupBy, g -> new ConcurrentHashMap<>());
+    }
+
+    private Map<LocalDate, Map<String, Long>> countDays(LocalDate first, LocalDate last, StatisticsGroupBy groupBy,
+                                                       ZoneId zone) {
+        LocalDateTime start = first.atStartOfDay(zone).withZoneSameInstant(storageZone).toLocalDateTime();
+        LocalDateTime end = last.plusDays(1).atStartOfDay(zone).withZoneSameInstant(storageZone).toLocalDateTime();
+        List<Object[]> rows = new ArrayList<>(switch (groupBy) {
+            case NONE -> meetingRepository.countHourly(start, end);
+            case STATUS -> meetingRepository.countHourlyByStatus(start, end);
+            case DEPARTMENT -> meetingRepository.countHourlyByDepartment(start, end);
+            case ROOM -> meetingRepository.countHourlyByRoom(start, end);
+        });
+        // Archived rows have the same shape; counts for the same hour and group are summed below
+        rows.addAll(meetingArchive.rows(start, () -> switch (groupBy) {
+            case NONE -> archivedMeetingRepository.countHourly(start, end);
+            case STATUS -> archivedMeetingRepository.countHourlyByStatus(start, end);
+            case DEPARTMENT -> archivedMeetingRepository.countHourlyByDepartment(start, end);
+            case ROOM -> archivedMeetingRepository.countHourlyByRoom(start, end);
+        }));
+
+        Map<LocalDate, Map<String, Long>> days = new HashMap<>();
+        for (Object[] row : rows) {
+            LocalDate storedDate = row[0] instanceof java.sql.Date date ? date.toLocalDate() : (LocalDate) row[0];
+            int hour = ((Number) row[1]).intValue();
+            LocalDate day = storedDate.atTime(hour, 0).atZone(storageZone).withZoneSameInstant(zone).toLocalDate();
+            String key = groupBy == StatisticsGroupBy.NONE ? TOTAL_KEY : groupKey(row[2]);
+            long count = ((Number) row[row.length - 1]).longValue();
+            days.computeIfAbsent(day, d -> new HashMap<>()).merge(key, count, Long::sum);
+        }
+        return days;
+    }
+
+    private StatisticsSeriesDTO assemble(LocalDate from, LocalDate to, StatisticsBucket bucket,
+                                         StatisticsGroupBy groupBy, ZoneId zone,
+                                         Map<LocalDate, Map<String, Long>> days) {
+        List<LocalDate> buckets = new ArrayList<>();
+        Map<LocalDate, Integer> bucketIndex = new HashMap<>();
+        for (LocalDate start = bucket.startOf(from); !start.isAfter(to); start = bucket.next(start)) {
+            bucketIndex.put(start, buckets.size());
+            buckets.add(start);
+        }
+
+        long[] totals = new long[buckets.size()];
+        Map<String, long[]> groups = new TreeMap<>();
+        days.forEach((day, counts) -> {
+            int index = bucketIndex.get(bucket.startOf(day));
+            counts.forEach((key, count) -> {
+                totals[index] += count;
+                if (groupBy != StatisticsGroupBy.NONE) {
+                    groups.computeIfAbsent(key, k -> new long[buckets.size()])[index] += count;
+                }
+            });
+        });
+
+        Map<String, List<Long>> series = new LinkedHashMap<>();
+        groups.forEach((key, counts) -> series.put(key, toList(counts)));
+        return StatisticsSeriesDTO.builder()
+                .from(from)
+                .to(to)
+                .bucket(bucket)
+                .groupBy(groupBy)
+                .timeZone(zone.getId())
+                .buckets(buckets)
+                .totals(toList(totals))
+                .series(series)
+                .build();
+    }
+
+    private ZoneId parseZone(String timeZone) {
+        if (timeZone == null || timeZone.isBlank()) {
+            return storageZone;
+        }
+        try {
+            return ZoneId.of(timeZone.strip());
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Múi giờ không hợp lệ: " + timeZone);
+        }
+    }
+
+    private static String groupKey(Object value) {
+        if (value instanceof MeetingStatus status) {
+            return status.name();
+        }
+        return value == null ? "" : value.toString();
+    }
+
+    private static List<Long> toList(long[] values) {
+        List<Long> list = new ArrayList<>(values.length);
+        for (long value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+}
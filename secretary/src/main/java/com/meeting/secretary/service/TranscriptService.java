@@ -0,0 +1,106 @@
+package com.meeting.secretary.service;
+
+import com.meeting.secretary.entity.TranscriptSegment;
+import com.meeting.secretary.repository.TranscriptSegmentRepository;
+import com.meeting.secretary.transcript.LocalTranscriptSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Service for stored meeting transcripts
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TranscriptService {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final TranscriptSegmentRepository transcriptSegmentRepository;
+    private final LocalTranscriptSource localTranscriptSource;
+
+    /**
+     * Store a transcript piece and forward it to live viewers.
+     * A piece longer than a segment column holds is stored as consecutive segments.
+     */
+    public void append(Long meetingId, String text) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        int start = 0;
+        while (start < text.length()) {
+            int end = Math.min(start + TranscriptSegment.MAX_TEXT_LENGTH, text.length());
+            // Never cut a surrogate pair in half
+            if (end < text.length() && Character.isHighSurrogate(text.charAt(end - 1))) {
+                end--;
+            }
+            TranscriptSegment segment = new TranscriptSegment();
+            segment.setMeetingId(meetingId);
+            segment.setText(text.substring(start, end));
+            transcriptSegmentRepository.save(segment);
+            start = end;
+        }
+        localTranscriptSource.publish(meetingId, text);
+    }
+
+    /**
+     * Transcript version of a meeting; changes whenever a segment is appended
+     */
+    @Transactional(readOnly = true)
+    public long getTranscriptVersion(Long meetingId) {
+        return transcriptSegmentRepository.findLastSegmentId(meetingId);
+    }
+
+    /**
+     * Number of stored segments of a meeting
+     */
+    @Transactional(readOnly = true)
+    public long countSegments(Long meetingId) {
+        return transcriptSegmentRepository.countByMeetingId(meetingId);
+    }
+
+    /**
+     * Lazily iterate over the transcript, loading it page by page.
+     * Each page is a short query of its own, so no connection is held between pages.
+     */
+    public Iterator<String> iterateLines(Long meetingId) {
+        return new Iterator<>() {
+            private List<TranscriptSegment> page = List.of();
+            private int index;
+            private long lastId;
+            private boolean exhausted;
+
+            @Override
+            public boolean hasNext() {
+                if (index < page.size()) {
+                    return true;
+                }
+                if (exhausted) {
+                    return false;
+                }
+                page = transcriptSegmentRepository.findByMeetingIdAndIdGreaterThanOrderByIdAsc(
+                        meetingId, lastId, Limit.of(PAGE_SIZE));
+                index = 0;
+                exhausted = page.size() < PAGE_SIZE;
+                if (!page.isEmpty()) {
+                    lastId = page.get(page.size() - 1).getId();
+                }
+                return !page.isEmpty();
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return page.get(index++).getText();
+            }
+        };
+    }
+}
@@ -0,0 +1,236 @@
+package com.meeting.secretary.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.HeuristicCompletionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Runs work on one shard or on all of them.
+ * Outside a transaction every call gets its own transaction on the chosen shard.
+ * Inside one, which always runs on the primary (shard 0), work joins it: primary work directly,
+ * writes and locking reads on other shards through a {@link ShardEnlistment} that is flushed
+ * before the primary commits and committed right after it. A failure before the primary commits
+ * rolls back every shard; a shard failing its own commit afterwards is reported as a
+ * {@link HeuristicCompletionException} and logged. Plain reads of shards the transaction has not
+ * written to run in a read-only transaction of their own.
+ */
+@Slf4j
+public class MeetingShards implements AutoCloseable {
+
+    private final ShardRoutingDataSource routing;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate readTemplate;
+    private final TransactionTemplate writeTemplate;
+    private final TransactionTemplate separateReadTemplate;
+    private final TransactionTemplate separateWriteTemplate;
+    private final ExecutorService executor;
+
+    public MeetingShards(ShardRoutingDataSource routing, PlatformTransactionManager transactionManager,
+                         EntityManagerFactory entityManagerFactory) {
+        this.routing = routing;
+        this.entityManagerFactory = entityManagerFactory;
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setReadOnly(true);
+        this.separateWriteTemplate = new TransactionTemplate(transactionManager);
+        this.separateWriteTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.separateReadTemplate = new TransactionTemplate(transactionManager);
+        this.separateReadTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.separateReadTemplate.setReadOnly(true);
+        this.executor = Executors.newCachedThreadPool(Thread.ofPlatform().name("shard-", 0).daemon().factory());
+    }
+
+    public int count() {
+        return routing.getShardCount();
+    }
+
+    public String name(int shard) {
+        return routing.getShard(shard).getPoolName();
+    }
+
+    public HikariDataSource dataSource(int shard) {
+        return routing.getShard(shard);
+    }
+
+    /**
+     * Run work on one shard, in the caller's transaction if there is one.
+     * {@code readOnly} marks plain reads, which may run outside the caller's transaction;
+     * writes and locking reads must pass false.
+     */
+    public <T> T on(int shard, boolean readOnly, Supplier<T> work) {
+        check(shard);
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return inTransaction(shard, readOnly ? readTemplate : writeTemplate, work);
+        }
+        if (shard == 0) {
+            // The caller's transaction is on the primary already
+            return ShardContext.on(0, work);
+        }
+        Enlistments enlistments = enlistments();
+        ShardEnlistment enlisted = enlistments.get(shard);
+        if (enlisted == null && readOnly) {
+            return inTransaction(shard, separateReadTemplate, work);
+        }
+        if (enlisted == null) {
+            enlisted = enlistments.enlist(shard);
+        }
+        return enlisted.run(work);
+    }
+
+    /**
+     * Run work in a transaction of its own on one shard, committed whatever the caller's transaction does
+     */
+    public <T> T inNewTransaction(int shard, boolean readOnly, Supplier<T> work) {
+        check(shard);
+        return inTransaction(shard, readOnly ? separateReadTemplate : separateWriteTemplate, work);
+    }
+
+    /**
+     * Run work on every shard; results are in shard order.
+     * Work that runs outside the caller's transaction runs in parallel, the rest on the calling thread.
+     */
+    public <T> List<T> onEach(boolean readOnly, IntFunction<T> work) {
+        boolean inTransaction = TransactionSynchronizationManager.isActualTransactionActive();
+        Enlistments enlistments = inTransaction ? enlistments() : null;
+        List<Future<T>> futures = new ArrayList<>();
+        for (int shard = 0; shard < count(); shard++) {
+            int target = shard;
+            boolean joins = inTransaction && (shard == 0 || !readOnly || enlistments.get(shard) != null);
+            // The first shard runs on the calling thread
+            futures.add(joins || shard == 0 ? null : executor.submit(() -> on(target, readOnly, () -> work.apply(target))));
+        }
+        List<T> results = new ArrayList<>(count());
+        for (int shard = 0; shard < count(); shard++) {
+            int target = shard;
+            Future<T> future = futures.get(shard);
+            results.add(future == null ? on(shard, readOnly, () -> work.apply(target)) : await(future));
+        }
+        return results;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void check(int shard) {
+        if (shard < 0 || shard >= count()) {
+            throw new IllegalArgumentException("Shard không hợp lệ: " + shard);
+        }
+    }
+
+    private static <T> T inTransaction(int shard, TransactionTemplate template, Supplier<T> work) {
+        return ShardContext.on(shard, () -> template.execute(status -> work.get()));
+    }
+
+    private Enlistments enlistments() {
+        Enlistments enlistments = (Enlistments) TransactionSynchronizationManager.getResource(this);
+        if (enlistments == null) {
+            enlistments = new Enlistments();
+            TransactionSynchronizationManager.bindResource(this, enlistments);
+            TransactionSynchronizationManager.registerSynchronization(enlistments);
+        }
+        return enlistments;
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a shard", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new UndeclaredThrowableException(e.getCause());
+        }
+    }
+
+    /**
+     * Shards written by one transaction, completed with it
+     */
+    private final class Enlistments implements TransactionSynchronization {
+
+        private final Map<Integer, ShardEnlistment> byShard = new TreeMap<>();
+
+        ShardEnlistment get(int shard) {
+            return byShard.get(shard);
+        }
+
+        ShardEnlistment enlist(int shard) {
+            ShardEnlistment enlisted = new ShardEnlistment(shard, entityManagerFactory);
+            byShard.put(shard, enlisted);
+            return enlisted;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(MeetingShards.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(MeetingShards.this, this);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            byShard.values().forEach(ShardEnlistment::flush);
+        }
+
+        @Override
+        public void afterCommit() {
+            RuntimeException failure = null;
+            for (ShardEnlistment enlisted : byShard.values()) {
+                try {
+                    enlisted.commit();
+                } catch (RuntimeException e) {
+                    // The primary and the shards before this one have committed; keep committing the others
+                    log.error("Shard {} failed to commit after the primary committed", name(enlisted.shard()), e);
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+            if (failure != null) {
+                throw new HeuristicCompletionException(HeuristicCompletionException.STATE_MIXED, failure);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(MeetingShards.this);
+            byShard.values().forEach(enlisted -> {
+                try {
+                    enlisted.rollbackAndClose();
+                } catch (RuntimeException e) {
+                    log.warn("Could not release shard {}", name(enlisted.shard()), e);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.meeting.secretary.sharding;
+
+import com.meeting.secretary.dto.ShardInfoDTO;
+import com.meeting.secretary.entity.BackgroundJob;
+import com.meeting.secretary.entity.JobType;
+import com.meeting.secretary.job.JobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resharding: shows how meetings are spread over the shards and moves departments between them.
+ * Moves run as background jobs on the single-worker IMPORT executor, so they never overlap.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "datasource.shards.urls")
+public class ReshardingService {
+
+    private final MeetingShards shards;
+    private final ShardDirectory directory;
+    private final ShardMover mover;
+    private final JobService jobService;
+
+    public List<ShardInfoDTO> getShards() {
+        List<ShardInfoDTO> result = new ArrayList<>();
+        for (int shard = 0; shard < shards.count(); shard++) {
+            int current = shard;
+            result.add(ShardInfoDTO.builder()
+                    .shard(shard)
+                    .name(shards.name(shard))
+                    .meetings(mover.count(ShardMover.MEETINGS, shard))
+                    .archivedMeetings(mover.count(ShardMover.ARCHIVE, shard))
+                    .departments(directory.getAssignments().entrySet().stream()
+                            .filter(entry -> entry.getValue() == current)
+                            .map(Map.Entry::getKey)
+                            .sorted()
+                            .toList())
+                    .build());
+        }
+        return result;
+    }
+
+    /**
+     * Queue moving all meetings of a department to another shard
+     */
+    public BackgroundJob moveDepartment(String department, int shard) {
+        if (department == null || department.isBlank()) {
+            throw new IllegalArgumentException("Phòng ban không được để trống");
+        }
+        if (shard < 0 || shard >= shards.count()) {
+            throw new IllegalArgumentException("Shard không hợp lệ: " + shard + " (có " + shards.count() + " shard)");
+        }
+        String name = department.strip();
+        return jobService.submit(JobType.IMPORT, "Chuyển phòng ban " + name + " sang shard " + shard,
+                context -> mover.moveDepartment(name, shard, context));
+    }
+}
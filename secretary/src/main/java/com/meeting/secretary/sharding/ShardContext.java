@@ -0,0 +1,36 @@
+package com.meeting.secretary.sharding;
+
+import java.util.function.Supplier;
+
+/**
+ * Shard selected for the current thread.
+ * Read by {@link ShardRoutingDataSource} when a connection is taken; no shard means the first one.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    static Integer current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Run work with connections taken from the given shard
+     */
+    public static <T> T on(int shard, Supplier<T> work) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
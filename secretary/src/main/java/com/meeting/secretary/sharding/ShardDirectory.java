@@ -0,0 +1,135 @@
+package com.meeting.secretary.sharding;
+
+import com.meeting.secretary.cache.CacheCoherence;
+import com.meeting.secretary.cache.CacheRegion;
+import com.meeting.secretary.entity.ShardAssignment;
+import com.meeting.secretary.repository.ShardAssignmentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Department -> shard map, stored in shard_assignments on the first shard.
+ * A department is placed by hash when its first meeting is saved and the placement is stored,
+ * so adding shards later never moves existing departments implicitly. Reads for a department
+ * without a placement use the hash but store nothing, so a misspelled filter claims no row.
+ * The map is reloaded when another instance moves a department, and periodically as a fallback.
+ * Placements commit on their own: the map is shared by every caller, whether or not the
+ * transaction that first met a department commits.
+ */
+@Slf4j
+public class ShardDirectory implements AutoCloseable {
+
+    private final ShardAssignmentRepository repository;
+    private final MeetingShards shards;
+    private final CacheCoherence cacheCoherence;
+    private final ScheduledExecutorService refresher;
+    private volatile Map<String, Integer> assignments = Map.of();
+
+    public ShardDirectory(ShardAssignmentRepository repository, MeetingShards shards, CacheCoherence cacheCoherence,
+                          long refreshMillis) {
+        this.repository = repository;
+        this.shards = shards;
+        this.cacheCoherence = cacheCoherence;
+        refresh();
+        cacheCoherence.register(CacheRegion.SHARD_ASSIGNMENTS, key -> refresh());
+        this.refresher = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("shard-directory").daemon().factory());
+        refresher.scheduleWithFixedDelay(this::refreshQuietly, refreshMillis, refreshMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Shard holding the meetings of a department, for reads; an unplaced department has none yet
+     */
+    public int shardOf(String department) {
+        if (department == null) {
+            return 0;
+        }
+        Integer shard = assignments.get(department);
+        return shard != null ? shard : hashOf(department);
+    }
+
+    /**
+     * Shard to write the meetings of a department to, placing the department if it is new
+     */
+    public int place(String department) {
+        if (department == null) {
+            return 0;
+        }
+        Integer shard = assignments.get(department);
+        return shard != null ? shard : assign(department);
+    }
+
+    public Map<String, Integer> getAssignments() {
+        return assignments;
+    }
+
+    /**
+     * Point a department at another shard; its rows must be moved by the caller
+     */
+    public synchronized void reassign(String department, int shard) {
+        shards.inNewTransaction(0, false,
+                () -> repository.save(new ShardAssignment(department, shard, LocalDateTime.now())));
+        put(department, shard);
+        cacheCoherence.invalidateElsewhere(CacheRegion.SHARD_ASSIGNMENTS, department);
+    }
+
+    public synchronized void refresh() {
+        Map<String, Integer> loaded = new HashMap<>();
+        for (ShardAssignment assignment : shards.inNewTransaction(0, true, repository::findAll)) {
+            if (assignment.getShard() >= shards.count()) {
+                throw new IllegalStateException("Department " + assignment.getDepartment() + " is assigned to shard "
+                        + assignment.getShard() + " but only " + shards.count() + " shards are configured");
+            }
+            loaded.put(assignment.getDepartment(), assignment.getShard());
+        }
+        assignments = Map.copyOf(loaded);
+    }
+
+    @Override
+    public void close() {
+        refresher.shutdownNow();
+    }
+
+    private synchronized int assign(String department) {
+        Integer existing = assignments.get(department);
+        if (existing != null) {
+            return existing;
+        }
+        int shard = hashOf(department);
+        try {
+            shards.inNewTransaction(0, false, () -> repository.saveAndFlush(
+                    new ShardAssignment(department, shard, LocalDateTime.now())));
+            put(department, shard);
+            return shard;
+        } catch (DataIntegrityViolationException e) {
+            // Another instance placed it first
+            refresh();
+            return assignments.getOrDefault(department, shard);
+        }
+    }
+
+    private int hashOf(String department) {
+        return Math.floorMod(department.hashCode(), shards.count());
+    }
+
+    private void put(String department, int shard) {
+        Map<String, Integer> updated = new HashMap<>(assignments);
+        updated.put(department, shard);
+        assignments = Map.copyOf(updated);
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Reloading shard assignments failed", e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.meeting.secretary.sharding;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.UnexpectedRollbackException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * Work of one shard other than the primary inside a transaction that runs on the primary.
+ * The shard gets its own entity manager and local transaction for the whole outer transaction;
+ * repository calls routed to the shard run on it, and it is flushed, committed or rolled back
+ * when the outer transaction completes.
+ */
+final class ShardEnlistment {
+
+    private final int shard;
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityManagerHolder holder;
+
+    ShardEnlistment(int shard, EntityManagerFactory entityManagerFactory) {
+        this.shard = shard;
+        this.entityManagerFactory = entityManagerFactory;
+        EntityManager entityManager = ShardContext.on(shard, entityManagerFactory::createEntityManager);
+        this.holder = new ActiveHolder(entityManager);
+        ShardContext.on(shard, () -> {
+            entityManager.getTransaction().begin();
+            return null;
+        });
+    }
+
+    int shard() {
+        return shard;
+    }
+
+    /**
+     * Run work with this shard's entity manager in place of the caller's; repositories join its transaction
+     */
+    <T> T run(Supplier<T> work) {
+        Object outer = TransactionSynchronizationManager.unbindResourceIfPossible(entityManagerFactory);
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, holder);
+        try {
+            return ShardContext.on(shard, work);
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            if (outer != null) {
+                TransactionSynchronizationManager.bindResource(entityManagerFactory, outer);
+            }
+        }
+    }
+
+    /**
+     * Write pending changes, so constraint violations fail the outer transaction before anything commits
+     */
+    void flush() {
+        EntityManager entityManager = holder.getEntityManager();
+        if (entityManager.getTransaction().getRollbackOnly()) {
+            throw new UnexpectedRollbackException("Work on shard " + shard + " was marked rollback-only");
+        }
+        ShardContext.on(shard, () -> {
+            entityManager.flush();
+            return null;
+        });
+    }
+
+    void commit() {
+        ShardContext.on(shard, () -> {
+            holder.getEntityManager().getTransaction().commit();
+            return null;
+        });
+    }
+
+    void rollbackAndClose() {
+        EntityManager entityManager = holder.getEntityManager();
+        ShardContext.on(shard, () -> {
+            try {
+                if (entityManager.getTransaction().isActive()) {
+                    entityManager.getTransaction().rollback();
+                }
+            } finally {
+                entityManager.close();
+            }
+            return null;
+        });
+    }
+
+    // Seen by the transaction manager as an active transaction, so repository calls participate in it
+    private static final class ActiveHolder extends EntityManagerHolder {
+
+        ActiveHolder(EntityManager entityManager) {
+            super(entityManager);
+            setTransactionActive(true);
+            setSynchronizedWithTransaction(true);
+        }
+    }
+}
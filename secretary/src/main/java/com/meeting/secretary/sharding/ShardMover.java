@@ -0,0 +1,170 @@
+package com.meeting.secretary.sharding;
+
+import com.meeting.secretary.job.JobContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves meeting rows between shards with plain JDBC, keeping their ids.
+ * Rows are upserted on the target before they are deleted at the source, so an interrupted
+ * move leaves a row on both shards (listed twice until the move is run again) but never loses it.
+ */
+@Slf4j
+public class ShardMover {
+
+    public static final String MEETINGS = "meetings";
+    public static final String ARCHIVE = "meetings_archive";
+    private static final List<String> TABLES = List.of(MEETINGS, ARCHIVE);
+
+    private final MeetingShards shards;
+    private final ShardDirectory directory;
+    private final int batchSize;
+    private final List<JdbcTemplate> jdbc = new ArrayList<>();
+    private final List<NamedParameterJdbcTemplate> namedJdbc = new ArrayList<>();
+
+    public ShardMover(MeetingShards shards, ShardDirectory directory, int batchSize) {
+        this.shards = shards;
+        this.directory = directory;
+        this.batchSize = batchSize;
+        for (int shard = 0; shard < shards.count(); shard++) {
+            JdbcTemplate template = new JdbcTemplate(shards.dataSource(shard));
+            jdbc.add(template);
+            namedJdbc.add(new NamedParameterJdbcTemplate(template));
+        }
+    }
+
+    public long count(String table, int shard) {
+        Long count = jdbc.get(shard).queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Move rows by id from one shard to another; returns the number of rows moved
+     */
+    public int moveRows(String table, Collection<Long> ids, int from, int to) {
+        int moved = 0;
+        List<Long> idList = new ArrayList<>(ids);
+        for (int start = 0; start < idList.size(); start += batchSize) {
+            List<Long> chunk = idList.subList(start, Math.min(idList.size(), start + batchSize));
+            List<Map<String, Object>> rows = namedJdbc.get(from).queryForList(
+                    "SELECT * FROM " + table + " WHERE id IN (:ids)", Map.of("ids", chunk));
+            upsert(table, rows, to);
+            delete(table, idsOf(rows), from);
+            moved += rows.size();
+        }
+        return moved;
+    }
+
+    /**
+     * Move every meeting of a department, live and archived, to a shard and point the department at it.
+     * Rows are copied once before the switch and again after it, so writes made while copying are kept.
+     * Running it again after a failure picks up whatever is left on other shards.
+     */
+    public Map<String, Integer> moveDepartment(String department, int to, JobContext context) {
+        long total = 0;
+        for (String table : TABLES) {
+            for (int shard = 0; shard < shards.count(); shard++) {
+                total += shard == to ? 0 : countDepartment(table, department, shard);
+            }
+        }
+        log.info("Moving {} row(s) of department {} to shard {}", total, department, to);
+
+        long copied = 0;
+        for (String table : TABLES) {
+            for (int shard = 0; shard < shards.count(); shard++) {
+                if (shard != to) {
+                    copied += copyDepartment(table, department, shard, to, total, copied, context).size();
+                }
+            }
+        }
+        directory.reassign(department, to);
+        context.progress(50, "Đã chuyển phòng ban sang shard " + to);
+
+        // From here on the move is finished even if cancellation is requested
+        Map<String, Integer> moved = new LinkedHashMap<>();
+        for (String table : TABLES) {
+            int count = 0;
+            for (int shard = 0; shard < shards.count(); shard++) {
+                if (shard == to) {
+                    continue;
+                }
+                List<Long> ids = copyDepartment(table, department, shard, to, 0, 0, null);
+                delete(table, ids, shard);
+                // Anything left was written by requests routed before the switch
+                List<Long> late = jdbc.get(shard).queryForList(
+                        "SELECT id FROM " + table + " WHERE department = ?", Long.class, department);
+                count += ids.size() + moveRows(table, late, shard, to);
+            }
+            moved.put(table, count);
+        }
+        context.progress(100, "Hoàn tất");
+        log.info("Moved department {} to shard {}: {}", department, to, moved);
+        return moved;
+    }
+
+    private long countDepartment(String table, String department, int shard) {
+        Long count = jdbc.get(shard).queryForObject(
+                "SELECT COUNT(*) FROM " + table + " WHERE department = ?", Long.class, department);
+        return count == null ? 0 : count;
+    }
+
+    private List<Long> copyDepartment(String table, String department, int from, int to,
+                                      long total, long done, JobContext context) {
+        List<Long> ids = new ArrayList<>();
+        long after = Long.MIN_VALUE;
+        while (true) {
+            if (context != null) {
+                context.checkCancelled();
+                context.progress(done + ids.size(), total * 2, "Đang sao chép " + table + " từ shard " + from);
+            }
+            List<Map<String, Object>> rows = jdbc.get(from).queryForList(
+                    "SELECT * FROM " + table + " WHERE department = ? AND id > ? ORDER BY id LIMIT " + batchSize,
+                    department, after);
+            if (rows.isEmpty()) {
+                return ids;
+            }
+            upsert(table, rows, to);
+            ids.addAll(idsOf(rows));
+            after = ids.get(ids.size() - 1);
+        }
+    }
+
+    private void upsert(String table, List<Map<String, Object>> rows, int shard) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<String> columns = new ArrayList<>(rows.get(0).keySet());
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(table).append(" (")
+                .append(String.join(", ", columns)).append(") VALUES (")
+                .append(String.join(", ", columns.stream().map(column -> "?").toList()))
+                .append(") ON DUPLICATE KEY UPDATE ");
+        List<String> updates = new ArrayList<>();
+        for (String column : columns) {
+            if (!column.equalsIgnoreCase("id")) {
+                updates.add(column + " = VALUES(" + column + ")");
+            }
+        }
+        sql.append(String.join(", ", updates));
+        jdbc.get(shard).batchUpdate(sql.toString(), rows.stream()
+                .map(row -> columns.stream().map(row::get).toArray())
+                .toList());
+    }
+
+    private void delete(String table, List<Long> ids, int shard) {
+        for (int start = 0; start < ids.size(); start += batchSize) {
+            namedJdbc.get(shard).update("DELETE FROM " + table + " WHERE id IN (:ids)",
+                    Map.of("ids", ids.subList(start, Math.min(ids.size(), start + batchSize))));
+        }
+    }
+
+    private static List<Long> idsOf(List<Map<String, Object>> rows) {
+        return rows.stream().map(row -> ((Number) row.get("id")).longValue()).toList();
+    }
+}
@@ -0,0 +1,91 @@
+package com.meeting.secretary.sharding;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Prepares the shards at startup.
+ * The first shard gets its schema from spring.jpa.hibernate.ddl-auto like an unsharded database;
+ * a shard without tables gets the mapped schema exported. Schema changes of existing shards
+ * are applied the same way as on the first one.
+ * Meeting ids stay unique across shards by interleaving: shard i hands out ids i + 1, i + 1 + n, ...
+ * (n shards), starting above the largest id on any shard.
+ */
+@Slf4j
+public class ShardSchemaInitializer {
+
+    public ShardSchemaInitializer(EntityManagerFactory entityManagerFactory, MeetingShards shards) {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        for (int shard = 1; shard < shards.count(); shard++) {
+            JdbcTemplate jdbc = new JdbcTemplate(shards.dataSource(shard));
+            if (!hasMeetingsTable(jdbc)) {
+                log.info("Creating schema on shard {}", shards.name(shard));
+                ShardContext.on(shard, () -> {
+                    sessionFactory.getSchemaManager().exportMappedObjects(true);
+                    return null;
+                });
+            }
+        }
+
+        long maxId = 0;
+        for (int shard = 0; shard < shards.count(); shard++) {
+            Long max = new JdbcTemplate(shards.dataSource(shard)).queryForObject("SELECT MAX(id) FROM meetings", Long.class);
+            maxId = Math.max(maxId, max == null ? 0 : max);
+        }
+        for (int shard = 0; shard < shards.count(); shard++) {
+            restartIds(shards, shard, nextId(maxId, shard, shards.count()));
+        }
+    }
+
+    /**
+     * Session settings making MySQL hand out interleaved ids on a shard's connections
+     */
+    public static String mysqlSessionSql(int shard, int shardCount) {
+        return "SET SESSION auto_increment_increment = " + shardCount + ", auto_increment_offset = " + (shard + 1);
+    }
+
+    public static boolean isMysql(String jdbcUrl) {
+        return jdbcUrl.startsWith("jdbc:mysql:") || jdbcUrl.startsWith("jdbc:mariadb:");
+    }
+
+    /**
+     * Smallest id of the shard's series above maxId
+     */
+    static long nextId(long maxId, int shard, int shardCount) {
+        return maxId + 1 + Math.floorMod(shard - maxId, (long) shardCount);
+    }
+
+    private static void restartIds(MeetingShards shards, int shard, long next) {
+        JdbcTemplate jdbc = new JdbcTemplate(shards.dataSource(shard));
+        String product = jdbc.execute((Connection connection) -> productName(connection));
+        if (product.contains("MySQL") || product.contains("MariaDB")) {
+            // Increment and offset come from the session settings of the pool
+            jdbc.execute("ALTER TABLE meetings AUTO_INCREMENT = " + next);
+        } else if (product.contains("H2")) {
+            jdbc.execute("ALTER TABLE meetings ALTER COLUMN id RESTART WITH " + next
+                    + " SET INCREMENT BY " + shards.count());
+        } else {
+            throw new IllegalStateException("Sharding does not support " + product);
+        }
+        log.info("Shard {} hands out meeting ids from {} in steps of {}", shards.name(shard), next, shards.count());
+    }
+
+    private static String productName(Connection connection) throws SQLException {
+        return connection.getMetaData().getDatabaseProductName();
+    }
+
+    private static boolean hasMeetingsTable(JdbcTemplate jdbc) {
+        try {
+            jdbc.queryForObject("SELECT COUNT(*) FROM meetings WHERE 1 = 0", Long.class);
+            return true;
+        } catch (DataAccessException e) {
+            return false;
+        }
+    }
+}
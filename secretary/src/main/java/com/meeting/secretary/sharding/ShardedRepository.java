@@ -0,0 +1,346 @@
+package com.meeting.secretary.sharding;
+
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.repository.CrudRepository;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Routing layer in front of a meeting repository when meetings are sharded by department.
+ * <ul>
+ *     <li>saves go to the shard of the entity's department; a meeting whose department moved
+ *     to another shard is moved there first</li>
+ *     <li>queries by department go to that department's shard only</li>
+ *     <li>everything else runs on all shards in parallel and the results are merged:
+ *     lists concatenated (and re-sorted for ordered queries), counts summed, lookups by id
+ *     take the shard that has the row, pages and limits are cut from the first rows of every shard</li>
+ * </ul>
+ * Callers see the same repository interface as without sharding. Every method gets its route when
+ * the proxy is created, so a query added later without a way to merge it fails at startup.
+ */
+public class ShardedRepository implements InvocationHandler {
+
+    private static final Pattern BY_DEPARTMENT = Pattern.compile("(find|count|exists)ByDepartment(And\\w+)?");
+    private static final Pattern READ = Pattern.compile("(find|count|exists|search|get)\\w*");
+    private static final Comparator<Object> VALUES = ShardedRepository::compareValues;
+
+    // Queries returning ordered rows; rows gathered from several shards are put back in that order
+    private static final Map<String, Comparator<Object>> ORDERED = Map.of(
+            "findByRoomAndStartTimeGreaterThanEqualOrderByStartTimeAsc", byProperty("startTime", true),
+            "findByPersonFrom", byProperty("startTime", true),
+            "findArchivable", byProperty("id", true),
+            "findSummariesAfter", byProperty("id", true),
+            "findIntervalsOverlapping", Comparator.comparing((Object row) -> ((Object[]) row)[0], VALUES)
+                    .thenComparing(row -> ((Object[]) row)[1], VALUES));
+
+    private enum Route {
+        SAVE, DEPARTMENT, SEARCH, PAGE, REFERENCE, VOID, LIST, SUM_LONG, SUM_INT, ANY, FIRST_PRESENT, MAX,
+        // Spring Data methods whose results cannot be merged, e.g. fluent queries
+        UNSUPPORTED
+    }
+
+    private final Class<?> repositoryType;
+    private final CrudRepository<Object, Object> target;
+    private final String table;
+    private final MeetingShards shards;
+    private final ShardDirectory directory;
+    private final ShardMover mover;
+    private final Map<Method, Route> routes = new HashMap<>();
+
+    @SuppressWarnings("unchecked")
+    private ShardedRepository(Class<?> repositoryType, Object target, String table,
+                              MeetingShards shards, ShardDirectory directory, ShardMover mover) {
+        this.repositoryType = repositoryType;
+        this.target = (CrudRepository<Object, Object>) target;
+        this.table = table;
+        this.shards = shards;
+        this.directory = directory;
+        this.mover = mover;
+        for (Method method : repositoryType.getMethods()) {
+            if (!method.isDefault() && !Modifier.isStatic(method.getModifiers())) {
+                routes.put(method, routeOf(method));
+            }
+        }
+    }
+
+    /**
+     * Wrap a repository whose entities have a department and live in the given table
+     */
+    public static <R> R create(Class<R> repositoryType, R target, String table,
+                               MeetingShards shards, ShardDirectory directory, ShardMover mover) {
+        return repositoryType.cast(Proxy.newProxyInstance(repositoryType.getClassLoader(),
+                new Class<?>[]{repositoryType},
+                new ShardedRepository(repositoryType, target, table, shards, directory, mover)));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        if (method.getDeclaringClass() == Object.class) {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> "Sharded " + repositoryType.getSimpleName();
+            };
+        }
+        Route route = routes.get(method);
+        // Locking reads hold their rows until the caller's transaction ends, so they join it like writes
+        boolean readOnly = READ.matcher(method.getName()).matches() && !method.isAnnotationPresent(Lock.class);
+        return switch (route) {
+            case SAVE -> save(method, args);
+            case DEPARTMENT -> shards.on(directory.shardOf((String) args[0]), readOnly, () -> call(method, args));
+            case SEARCH -> searchSummaries(method, args);
+            case PAGE -> page(method, args, args.length - 1);
+            case REFERENCE -> reference(method, args);
+            case UNSUPPORTED -> throw new UnsupportedOperationException(repositoryType.getSimpleName() + "."
+                    + method.getName() + " is not supported on sharded meetings");
+            default -> gather(route, method, args, shards.onEach(readOnly, shard -> call(method, args)));
+        };
+    }
+
+    /**
+     * How calls of a method are sent to the shards and their results merged
+     */
+    private static Route routeOf(Method method) {
+        String name = method.getName();
+        Class<?>[] parameters = method.getParameterTypes();
+        Class<?> type = method.getReturnType();
+        if (name.startsWith("save")) {
+            return Route.SAVE;
+        }
+        if (BY_DEPARTMENT.matcher(name).matches() && parameters.length > 0 && parameters[0] == String.class) {
+            return Route.DEPARTMENT;
+        }
+        if (name.equals("searchSummaries")) {
+            return Route.SEARCH;
+        }
+        if (type == Page.class && parameters.length > 0 && parameters[parameters.length - 1] == Pageable.class) {
+            return Route.PAGE;
+        }
+        if (Set.of("getReferenceById", "getById", "getOne").contains(name) && parameters.length == 1) {
+            return Route.REFERENCE;
+        }
+        if (type == void.class) {
+            return Route.VOID;
+        }
+        if (type != Object.class && type.isAssignableFrom(ArrayList.class)) {
+            return Route.LIST;
+        }
+        if (type == long.class || type == Long.class) {
+            return Route.SUM_LONG;
+        }
+        if (type == int.class || type == Integer.class) {
+            return Route.SUM_INT;
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return Route.ANY;
+        }
+        if (type == Optional.class) {
+            return Route.FIRST_PRESENT;
+        }
+        if (Comparable.class.isAssignableFrom(type)) {
+            // MAX(...) queries: the largest value of all shards
+            return Route.MAX;
+        }
+        if (method.getDeclaringClass().getPackageName().startsWith("org.springframework.data")) {
+            return Route.UNSUPPORTED;
+        }
+        throw new IllegalStateException(method.getDeclaringClass().getSimpleName() + "." + name
+                + " returns " + type.getSimpleName() + ", which cannot be merged across shards");
+    }
+
+    private Object save(Method method, Object[] args) {
+        if (!(args[0] instanceof Iterable<?> entities)) {
+            int shard = directory.place(departmentOf(args[0]));
+            relocate(args[0], shard);
+            return shards.on(shard, false, () -> call(method, args));
+        }
+        Map<Integer, List<Object>> byShard = new LinkedHashMap<>();
+        for (Object entity : entities) {
+            int shard = directory.place(departmentOf(entity));
+            relocate(entity, shard);
+            byShard.computeIfAbsent(shard, s -> new ArrayList<>()).add(entity);
+        }
+        List<Object> saved = new ArrayList<>();
+        byShard.forEach((shard, group) -> saved.addAll((List<?>) shards.on(shard, false,
+                () -> call(method, new Object[]{group}))));
+        return saved;
+    }
+
+    /**
+     * Move an existing row to the shard it now belongs to, e.g. after its department changed
+     */
+    private void relocate(Object entity, int shard) {
+        Object id = property(entity, "id");
+        if (id == null || (entity instanceof Persistable<?> persistable && persistable.isNew())
+                || shards.on(shard, true, () -> target.existsById(id))) {
+            return;
+        }
+        List<Boolean> found = shards.onEach(true, s -> s != shard && target.existsById(id));
+        int from = found.indexOf(true);
+        if (from >= 0) {
+            mover.moveRows(table, List.of((Long) id), from, shard);
+        }
+    }
+
+    /**
+     * Each shard returns its first offset + size rows; the merged page is cut from their union
+     */
+    private Object searchSummaries(Method method, Object[] args) {
+        Pageable pageable = (Pageable) args[1];
+        List<Object> rows = new ArrayList<>();
+        shards.onEach(true, shard -> call(method, withWindow(args, 1)))
+                .forEach(result -> rows.addAll((List<?>) result));
+        // One extra row tells the caller a next page exists
+        return cut(rows, pageable, pageable.getPageSize() + 1);
+    }
+
+    private Object page(Method method, Object[] args, int pageableIndex) {
+        Pageable pageable = (Pageable) args[pageableIndex];
+        Object[] shardArgs = pageable.isPaged() ? withWindow(args, pageableIndex) : args;
+        List<Object> rows = new ArrayList<>();
+        long total = 0;
+        for (Object result : shards.onEach(true, shard -> call(method, shardArgs))) {
+            Page<?> page = (Page<?>) result;
+            rows.addAll(page.getContent());
+            total += page.getTotalElements();
+        }
+        if (pageable.isUnpaged()) {
+            rows.sort(order(pageable.getSort()));
+            return new PageImpl<>(rows, pageable, total);
+        }
+        return new PageImpl<>(cut(rows, pageable, pageable.getPageSize()), pageable, total);
+    }
+
+    /**
+     * References are taken on the shard holding the row; without one, the first shard reports it missing
+     */
+    private Object reference(Method method, Object[] args) {
+        int shard = Math.max(0, shards.onEach(true, s -> target.existsById(args[0])).indexOf(true));
+        return shards.on(shard, true, () -> call(method, args));
+    }
+
+    /**
+     * Arguments asking a shard for everything up to the end of the requested page
+     */
+    private static Object[] withWindow(Object[] args, int pageableIndex) {
+        Pageable pageable = (Pageable) args[pageableIndex];
+        Object[] shardArgs = args.clone();
+        shardArgs[pageableIndex] = PageRequest.of(0, (int) pageable.getOffset() + pageable.getPageSize(),
+                pageable.getSort());
+        return shardArgs;
+    }
+
+    private static List<Object> cut(List<Object> rows, Pageable pageable, int size) {
+        rows.sort(order(pageable.getSort()));
+        int from = (int) Math.min(pageable.getOffset(), rows.size());
+        return new ArrayList<>(rows.subList(from, Math.min(rows.size(), from + size)));
+    }
+
+    private static Comparator<Object> order(Sort sort) {
+        Comparator<Object> order = null;
+        for (Sort.Order sortOrder : sort) {
+            Comparator<Object> next = byProperty(sortOrder.getProperty(), sortOrder.isAscending());
+            order = order == null ? next : order.thenComparing(next);
+        }
+        // Same tie-breaker as the queries
+        Comparator<Object> byId = byProperty("id", true);
+        return order == null ? byId : order.thenComparing(byId);
+    }
+
+    private static Object gather(Route route, Method method, Object[] args, List<Object> results) {
+        return switch (route) {
+            case VOID -> null;
+            case LIST -> gatherRows(method, args, results);
+            case SUM_LONG -> results.stream().filter(Objects::nonNull).mapToLong(r -> ((Number) r).longValue()).sum();
+            case SUM_INT -> results.stream().filter(Objects::nonNull).mapToInt(r -> ((Number) r).intValue()).sum();
+            case ANY -> results.stream().anyMatch(Boolean.TRUE::equals);
+            case FIRST_PRESENT -> results.stream().map(r -> (Optional<?>) r).filter(Optional::isPresent).findFirst()
+                    .orElse(Optional.empty());
+            case MAX -> results.stream().filter(Objects::nonNull).max(VALUES).orElse(null);
+            default -> throw new IllegalStateException("Route " + route + " does not gather results");
+        };
+    }
+
+    private static List<Object> gatherRows(Method method, Object[] args, List<Object> results) {
+        List<Object> rows = new ArrayList<>();
+        results.forEach(result -> ((Iterable<?>) result).forEach(rows::add));
+        Object[] arguments = args == null ? new Object[0] : args;
+        Sort sort = Arrays.stream(arguments).filter(Sort.class::isInstance).map(Sort.class::cast)
+                .findFirst().orElse(Sort.unsorted());
+        Comparator<Object> order = ORDERED.get(method.getName());
+        if (order != null) {
+            rows.sort(order);
+        } else if (sort.isSorted()) {
+            rows.sort(order(sort));
+        }
+        Pageable pageable = (Pageable) Arrays.stream(arguments)
+                .filter(Pageable.class::isInstance).findFirst().orElse(null);
+        if (pageable != null && pageable.isPaged() && rows.size() > pageable.getPageSize()) {
+            return new ArrayList<>(rows.subList(0, pageable.getPageSize()));
+        }
+        Limit limit = (Limit) Arrays.stream(arguments).filter(Limit.class::isInstance).findFirst().orElse(null);
+        if (limit != null && limit.isLimited() && rows.size() > limit.max()) {
+            return new ArrayList<>(rows.subList(0, limit.max()));
+        }
+        return rows;
+    }
+
+    private Object call(Method method, Object[] args) {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new UndeclaredThrowableException(e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String departmentOf(Object entity) {
+        return (String) property(entity, "department");
+    }
+
+    private static Object property(Object bean, String name) {
+        return PropertyAccessorFactory.forBeanPropertyAccess(bean).getPropertyValue(name);
+    }
+
+    private static Comparator<Object> byProperty(String name, boolean ascending) {
+        Comparator<Object> values = ascending ? Comparator.nullsFirst(VALUES) : Comparator.nullsLast(VALUES.reversed());
+        return Comparator.comparing(bean -> property(bean, name), values);
+    }
+
+    // Values of one column have one comparable type on every shard
+    @SuppressWarnings("unchecked")
+    private static int compareValues(Object a, Object b) {
+        return ((Comparable<Object>) a).compareTo(b);
+    }
+}
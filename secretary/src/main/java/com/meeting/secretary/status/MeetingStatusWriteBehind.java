@@ -0,0 +1,340 @@
+package com.meeting.secretary.status;
+
+import com.meeting.secretary.archive.MeetingArchive;
+import com.meeting.secretary.dto.MeetingStatusUpdateDTO;
+import com.meeting.secretary.dto.MeetingSummaryDTO;
+import com.meeting.secretary.entity.MeetingStatus;
+import com.meeting.secretary.repository.MeetingRepository;
+import com.meeting.secretary.service.MeetingChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Optional write-behind buffer for meeting status changes (meetings.status.write-mode=WRITE_BEHIND).
+ * Requests only record the latest status per meeting; a flusher thread applies everything
+ * pending every few milliseconds with one UPDATE ... WHERE id IN (...) per status.
+ * Until a flush commits, reads still see the previous status. Bulk status changes write
+ * directly and {@link #discard(Collection) discard} what is buffered for their meetings.
+ */
+@Slf4j
+@Component
+public class MeetingStatusWriteBehind {
+
+    private final MeetingRepository meetingRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeetingArchive meetingArchive;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final StatusDurability durability;
+    private final int maxPending;
+    private final int maxBatch;
+    private final long ackTimeoutMillis;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // Meeting id -> latest requested status, guarded by lock
+    private Map<Long, MeetingStatus> pending = new LinkedHashMap<>();
+    // Ids whose buffered update was discarded for a direct write, guarded by lock;
+    // the flush that takes the current pending map acknowledges them
+    private Set<Long> superseded = new HashSet<>();
+    // Completed with the ids actually updated by the flush that takes the current pending map
+    private CompletableFuture<Set<Long>> nextFlush = new CompletableFuture<>();
+    private ScheduledExecutorService flusher;
+
+    private final Counter submitted;
+    private final Counter coalesced;
+    private final Counter flushedRows;
+    private final Counter unknownMeetings;
+    private final Counter discarded;
+    private final Counter flushFailures;
+    private final Timer flushTimer;
+
+    public MeetingStatusWriteBehind(MeetingRepository meetingRepository,
+                                    ApplicationEventPublisher eventPublisher,
+                                    MeetingArchive meetingArchive,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry registry,
+                                    @Value("${meetings.status.write-mode:SYNC}") String writeMode,
+                                    @Value("${meetings.status.write-behind.durability:FLUSHED}") StatusDurability durability,
+                                    @Value("${meetings.status.write-behind.flush-interval-ms:10}") long flushIntervalMillis,
+                                    @Value("${meetings.status.write-behind.max-pending:10000}") int maxPending,
+                                    @Value("${meetings.status.write-behind.max-batch:500}") int maxBatch,
+                                    @Value("${meetings.status.write-behind.ack-timeout-ms:2000}") long ackTimeoutMillis) {
+        this.meetingRepository = meetingRepository;
+        this.eventPublisher = eventPublisher;
+        this.meetingArchive = meetingArchive;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = "WRITE_BEHIND".equalsIgnoreCase(writeMode);
+        this.durability = durability;
+        this.maxPending = maxPending;
+        this.maxBatch = maxBatch;
+        this.ackTimeoutMillis = ackTimeoutMillis;
+
+        Tags tags = Tags.of("durability", durability.name());
+        this.submitted = Counter.builder("meetings.status.writebehind.submitted")
+                .description("Status updates accepted by the write-behind buffer").tags(tags).register(registry);
+        this.coalesced = Counter.builder("meetings.status.writebehind.coalesced")
+                .description("Status updates superseded by a later update before being flushed").tags(tags).register(registry);
+        this.flushedRows = Counter.builder("meetings.status.writebehind.flushed")
+                .description("Meeting rows updated by flushes").tags(tags).register(registry);
+        this.unknownMeetings = Counter.builder("meetings.status.writebehind.unknown")
+                .description("Buffered updates dropped because the meeting does not exist").tags(tags).register(registry);
+        this.discarded = Counter.builder("meetings.status.writebehind.discarded")
+                .description("Buffered updates dropped because a bulk status change wrote the meeting directly")
+                .tags(tags).register(registry);
+        this.flushFailures = Counter.builder("meetings.status.writebehind.failures")
+                .description("Flushes that failed and were rolled back").tags(tags).register(registry);
+        this.flushTimer = Timer.builder("meetings.status.writebehind.flush")
+                .description("Duration of one flush transaction").tags(tags).register(registry);
+        Gauge.builder("meetings.status.writebehind.pending", this, MeetingStatusWriteBehind::getPendingCount)
+                .description("Status updates waiting for the next flush").tags(tags).register(registry);
+
+        if (enabled) {
+            flusher = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("status-write-behind").daemon().factory());
+            flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+            log.info("Meeting status write-behind enabled (durability {}, flush every {} ms)",
+                    durability, flushIntervalMillis);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Buffer a status update. With FLUSHED durability this waits until the update is committed,
+     * or until a bulk status change superseded it.
+     *
+     * @throws RejectedExecutionException when the buffer is full or the flush does not finish in time
+     */
+    public MeetingStatusUpdateDTO submit(Long meetingId, MeetingStatus status) {
+        CompletableFuture<Set<Long>> flush;
+        lock.lock();
+        try {
+            if (pending.size() >= maxPending && !pending.containsKey(meetingId)) {
+                throw new RejectedExecutionException("Status write-behind buffer is full");
+            }
+            if (pending.put(meetingId, status) != null) {
+                coalesced.increment();
+            }
+            flush = nextFlush;
+        } finally {
+            lock.unlock();
+        }
+        submitted.increment();
+
+        if (durability == StatusDurability.MEMORY) {
+            return new MeetingStatusUpdateDTO(meetingId, status, durability, false);
+        }
+        Set<Long> applied = await(flush);
+        if (!applied.contains(meetingId)) {
+            // Same answer as a synchronous write: 400 for an archived meeting, 404 for an unknown one
+            throw meetingArchive.writeRejected(meetingId);
+        }
+        return new MeetingStatusUpdateDTO(meetingId, status, durability, true);
+    }
+
+    public int getPendingCount() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drop buffered updates of meetings whose status the caller writes directly, so a later flush
+     * does not overwrite that write. When the caller's transaction rolls back, the dropped updates
+     * are buffered again unless a newer update arrived meanwhile.
+     */
+    public void discard(Collection<Long> meetingIds) {
+        Map<Long, MeetingStatus> dropped = new LinkedHashMap<>();
+        lock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+            for (Long id : meetingIds) {
+                MeetingStatus status = pending.remove(id);
+                if (status != null) {
+                    dropped.put(id, status);
+                    superseded.add(id);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (dropped.isEmpty()) {
+            return;
+        }
+        discarded.increment(dropped.size());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        requeue(dropped);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Apply everything buffered so far in one transaction
+     */
+    public void flush() {
+        Map<Long, MeetingStatus> batch;
+        Set<Long> dropped;
+        CompletableFuture<Set<Long>> done;
+        lock.lock();
+        try {
+            if (pending.isEmpty() && superseded.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            dropped = superseded;
+            done = nextFlush;
+            pending = new LinkedHashMap<>();
+            superseded = new HashSet<>();
+            nextFlush = new CompletableFuture<>();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            Set<Long> applied = new HashSet<>(dropped);
+            if (!batch.isEmpty()) {
+                applied.addAll(flushTimer.record(() -> transactionTemplate.execute(tx -> apply(batch))));
+            }
+            done.complete(applied);
+        } catch (RuntimeException e) {
+            flushFailures.increment();
+            log.error("Flushing {} meeting status update(s) failed", batch.size(), e);
+            if (durability == StatusDurability.MEMORY) {
+                // Already acknowledged: keep them for the next flush unless superseded meanwhile
+                requeue(batch);
+            }
+            done.completeExceptionally(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flushQuietly();
+        }
+    }
+
+    private Set<Long> apply(Map<Long, MeetingStatus> batch) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<MeetingStatus, List<Long>> idsByStatus = new EnumMap<>(MeetingStatus.class);
+        List<MeetingChangedEvent> events = new ArrayList<>();
+        Set<Long> applied = new HashSet<>();
+
+        List<Long> ids = new ArrayList<>(batch.keySet());
+        for (int from = 0; from < ids.size(); from += maxBatch) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + maxBatch));
+            for (MeetingSummaryDTO before : meetingRepository.findSummariesByIdIn(chunk)) {
+                MeetingStatus status = batch.get(before.getId());
+                applied.add(before.getId());
+                if (before.getStatus() == status) {
+                    continue;
+                }
+                idsByStatus.computeIfAbsent(status, s -> new ArrayList<>()).add(before.getId());
+                MeetingSummaryDTO after = new MeetingSummaryDTO(before.getId(), before.getTitle(),
+                        before.getStartTime(), before.getEndTime(), status, before.getDepartment(),
+                        before.getRoom(), before.getChairman(), before.getSecretary());
+                events.add(new MeetingChangedEvent(before.getId(), before, after));
+            }
+        }
+
+        int rows = 0;
+        for (Map.Entry<MeetingStatus, List<Long>> entry : idsByStatus.entrySet()) {
+            List<Long> statusIds = entry.getValue();
+            for (int from = 0; from < statusIds.size(); from += maxBatch) {
+                rows += meetingRepository.updateStatusIn(
+                        statusIds.subList(from, Math.min(statusIds.size(), from + maxBatch)), entry.getKey(), now);
+            }
+        }
+        events.forEach(eventPublisher::publishEvent);
+
+        flushedRows.increment(rows);
+        int unknown = batch.size() - applied.size();
+        if (unknown > 0) {
+            unknownMeetings.increment(unknown);
+            log.warn("Dropped {} status update(s) for meetings that do not exist", unknown);
+        }
+        return applied;
+    }
+
+    private void requeue(Map<Long, MeetingStatus> batch) {
+        lock.lock();
+        try {
+            Map<Long, MeetingStatus> merged = new LinkedHashMap<>(batch);
+            merged.putAll(pending);
+            pending = merged;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Meeting status flush failed", e);
+        }
+    }
+
+    private Set<Long> await(CompletableFuture<Set<Long>> flush) {
+        try {
+            return flush.get(ackTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for the status flush", e);
+        } catch (TimeoutException e) {
+            throw new RejectedExecutionException("Status flush did not finish in time", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Không thể lưu trạng thái cuộc họp: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+}
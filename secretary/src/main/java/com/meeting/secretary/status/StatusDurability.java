@@ -0,0 +1,11 @@
+package com.meeting.secretary.status;
+
+/**
+ * When a write-behind status update is acknowledged to the client
+ */
+public enum StatusDurability {
+    /** As soon as it is buffered; updates still buffered are lost if the process dies */
+    MEMORY,
+    /** After the batch containing it has been committed; requests wait up to one flush interval */
+    FLUSHED
+}
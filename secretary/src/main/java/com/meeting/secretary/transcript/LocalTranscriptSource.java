@@ -0,0 +1,49 @@
+package com.meeting.secretary.transcript;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process transcript source.
+ * Lines are pushed with {@link #publish(Long, String)}, either by the ASR relay,
+ * by the REST endpoint or directly by tests.
+ */
+@Component
+public class LocalTranscriptSource implements TranscriptSource {
+
+    private final Map<Long, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public Subscription subscribe(Long meetingId, Consumer<String> listener) {
+        listeners.computeIfAbsent(meetingId, id -> new CopyOnWriteArrayList<>()).add(listener);
+        return () -> listeners.computeIfPresent(meetingId, (id, list) -> {
+            list.remove(listener);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    /**
+     * Publish a transcript line to all subscribers of a meeting
+     */
+    public void publish(Long meetingId, String line) {
+        List<Consumer<String>> subscribers = listeners.get(meetingId);
+        if (subscribers == null) {
+            return;
+        }
+        for (Consumer<String> subscriber : subscribers) {
+            subscriber.accept(line);
+        }
+    }
+
+    /**
+     * Check whether anyone is listening to a meeting
+     */
+    public boolean hasSubscribers(Long meetingId) {
+        return listeners.containsKey(meetingId);
+    }
+}
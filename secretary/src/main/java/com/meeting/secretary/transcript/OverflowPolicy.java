@@ -0,0 +1,11 @@
+package com.meeting.secretary.transcript;
+
+/**
+ * What to do when a viewer's buffer is full
+ */
+public enum OverflowPolicy {
+    /** Overwrite the oldest pending line, the viewer skips ahead */
+    DROP_OLDEST,
+    /** Close the viewer connection, it can reconnect later */
+    DISCONNECT
+}
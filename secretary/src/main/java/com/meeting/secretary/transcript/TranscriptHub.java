@@ -0,0 +1,107 @@
+package com.meeting.secretary.transcript;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Fan-out of transcript lines to meeting viewers.
+ * Subscribes to the {@link TranscriptSource} once per meeting while at least one
+ * viewer is connected, and gives every viewer its own bounded buffer and drain thread.
+ */
+@Slf4j
+@Component
+public class TranscriptHub {
+
+    private final TranscriptSource source;
+    private final int bufferSize;
+    private final OverflowPolicy overflowPolicy;
+
+    private final Map<Long, MeetingFeed> feeds = new ConcurrentHashMap<>();
+    private final ThreadFactory viewerThreads = Thread.ofVirtual().name("transcript-viewer-", 0).factory();
+
+    public TranscriptHub(TranscriptSource source,
+                         @Value("${transcript.viewer.buffer-size:256}") int bufferSize,
+                         @Value("${transcript.viewer.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy) {
+        this.source = source;
+        this.bufferSize = bufferSize;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Register a viewer for a meeting and start its drain thread
+     */
+    public ViewerChannel join(Long meetingId, ViewerSink sink) {
+        ViewerChannel channel = new ViewerChannel(meetingId, sink, bufferSize, overflowPolicy);
+        feeds.compute(meetingId, (id, feed) -> {
+            if (feed == null) {
+                feed = new MeetingFeed(id);
+                feed.subscription = source.subscribe(id, feed::onLine);
+                log.info("Transcript feed opened for meeting {}", id);
+            }
+            feed.viewers.add(channel);
+            return feed;
+        });
+        viewerThreads.newThread(() -> {
+            channel.run();
+            leave(channel);
+        }).start();
+        return channel;
+    }
+
+    /**
+     * Unregister a viewer; the source subscription is closed with the last viewer
+     */
+    public void leave(ViewerChannel channel) {
+        channel.close();
+        feeds.computeIfPresent(channel.getMeetingId(), (id, feed) -> {
+            feed.viewers.remove(channel);
+            if (feed.viewers.isEmpty()) {
+                feed.subscription.close();
+                log.info("Transcript feed closed for meeting {}", id);
+                return null;
+            }
+            return feed;
+        });
+    }
+
+    /**
+     * Number of connected viewers of a meeting
+     */
+    public int getViewerCount(Long meetingId) {
+        MeetingFeed feed = feeds.get(meetingId);
+        return feed == null ? 0 : feed.viewers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        feeds.values().forEach(feed -> feed.viewers.forEach(ViewerChannel::close));
+    }
+
+    private final class MeetingFeed {
+
+        private final Long meetingId;
+        private final List<ViewerChannel> viewers = new CopyOnWriteArrayList<>();
+        private TranscriptSource.Subscription subscription;
+
+        private MeetingFeed(Long meetingId) {
+            this.meetingId = meetingId;
+        }
+
+        private void onLine(String line) {
+            for (ViewerChannel viewer : viewers) {
+                if (!viewer.offer(line)) {
+                    log.debug("Disconnecting slow viewer of meeting {}", meetingId);
+                    leave(viewer);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.meeting.secretary.transcript;
+
+import java.util.function.Consumer;
+
+/**
+ * Source of transcript lines for a meeting.
+ * The hub subscribes once per meeting, no matter how many viewers are connected.
+ */
+public interface TranscriptSource {
+
+    /**
+     * Subscribe to transcript lines of a meeting
+     */
+    Subscription subscribe(Long meetingId, Consumer<String> listener);
+
+    /**
+     * Handle used to stop receiving lines
+     */
+    interface Subscription extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
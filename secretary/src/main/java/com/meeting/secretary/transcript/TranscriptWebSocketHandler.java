@@ -0,0 +1,74 @@
+package com.meeting.secretary.transcript;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * WebSocket endpoint for transcript viewers: /ws/meetings/{id}/transcript
+ */
+@Component
+@RequiredArgsConstructor
+public class TranscriptWebSocketHandler extends TextWebSocketHandler {
+
+    private static final String CHANNEL_ATTRIBUTE = "transcriptChannel";
+
+    private final TranscriptHub transcriptHub;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        Long meetingId = extractMeetingId(session.getUri());
+        if (meetingId == null) {
+            session.close(CloseStatus.BAD_DATA);
+            return;
+        }
+        ViewerChannel channel = transcriptHub.join(meetingId, new ViewerSink() {
+            @Override
+            public void send(String line) throws IOException {
+                session.sendMessage(new TextMessage(line));
+            }
+
+            @Override
+            public void close() {
+                try {
+                    session.close(CloseStatus.GOING_AWAY);
+                } catch (IOException ignored) {
+                    // Connection is already gone
+                }
+            }
+        });
+        session.getAttributes().put(CHANNEL_ATTRIBUTE, channel);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        Object channel = session.getAttributes().remove(CHANNEL_ATTRIBUTE);
+        if (channel instanceof ViewerChannel viewerChannel) {
+            transcriptHub.leave(viewerChannel);
+        }
+    }
+
+    public static Long extractMeetingId(URI uri) {
+        if (uri == null) {
+            return null;
+        }
+        // Path: /ws/meetings/{id}/transcript
+        String[] segments = uri.getPath().split("/");
+        for (int i = 0; i < segments.length - 1; i++) {
+            if ("meetings".equals(segments[i])) {
+                try {
+                    return Long.valueOf(segments[i + 1]);
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+}
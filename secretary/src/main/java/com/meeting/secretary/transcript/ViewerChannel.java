@@ -0,0 +1,145 @@
+package com.meeting.secretary.transcript;
+
+import java.io.IOException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded ring buffer between the meeting feed and one viewer.
+ * The feed thread only enqueues; a dedicated (virtual) thread drains the buffer
+ * into the viewer's sink, so a slow viewer never delays the others.
+ */
+public class ViewerChannel implements Runnable {
+
+    private final Long meetingId;
+    private final ViewerSink sink;
+    private final OverflowPolicy policy;
+    private final String[] ring;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+
+    private int head;
+    private int size;
+    private boolean closed;
+    private long dropped;
+
+    public ViewerChannel(Long meetingId, ViewerSink sink, int capacity, OverflowPolicy policy) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Kích thước bộ đệm phải là số dương");
+        }
+        this.meetingId = meetingId;
+        this.sink = sink;
+        this.policy = policy;
+        this.ring = new String[capacity];
+    }
+
+    /**
+     * Enqueue a line without blocking.
+     *
+     * @return false if the viewer is closed or must be disconnected
+     */
+    public boolean offer(String line) {
+        lock.lock();
+        try {
+            if (closed) {
+                return false;
+            }
+            if (size == ring.length) {
+                if (policy == OverflowPolicy.DISCONNECT) {
+                    closed = true;
+                    notEmpty.signal();
+                    return false;
+                }
+                // DROP_OLDEST: overwrite the slot at head and move head forward
+                ring[head] = line;
+                head = (head + 1) % ring.length;
+                dropped++;
+                return true;
+            }
+            ring[(head + size) % ring.length] = line;
+            size++;
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stop the drain loop; pending lines are discarded
+     */
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                String line;
+                lock.lock();
+                try {
+                    while (size == 0 && !closed) {
+                        notEmpty.await();
+                    }
+                    if (closed) {
+                        return;
+                    }
+                    line = ring[head];
+                    ring[head] = null;
+                    head = (head + 1) % ring.length;
+                    size--;
+                } finally {
+                    lock.unlock();
+                }
+                // Send outside the lock so the feed is never blocked by this viewer
+                sink.send(line);
+            }
+        } catch (IOException e) {
+            close();
+        } catch (InterruptedException e) {
+            close();
+            Thread.currentThread().interrupt();
+        } finally {
+            sink.close();
+        }
+    }
+
+    public Long getMeetingId() {
+        return meetingId;
+    }
+
+    public boolean isClosed() {
+        lock.lock();
+        try {
+            return closed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getPending() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getDropped() {
+        lock.lock();
+        try {
+            return dropped;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.meeting.secretary.transcript;
+
+import java.io.IOException;
+
+/**
+ * Transport of a single viewer (WebSocket session, SSE emitter, ...).
+ * Only the viewer's own drain thread calls these methods, so implementations
+ * do not need to be thread-safe.
+ */
+public interface ViewerSink {
+
+    void send(String line) throws IOException;
+
+    void close();
+}
@@ -0,0 +1,111 @@
+package com.meeting.secretary.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControlFilterTest {
+
+    private final MockEnvironment environment = new MockEnvironment()
+            .withProperty("admission.list.max-concurrent", "1")
+            .withProperty("admission.list.queue-size", "0")
+            .withProperty("admission.list.rate-per-second", "1")
+            .withProperty("admission.list.burst", "2")
+            .withProperty("admission.lookup.rate-per-second", "0");
+    private final AdmissionControlFilter filter =
+            new AdmissionControlFilter(JsonMapper.builder().build(), new SimpleMeterRegistry(), environment);
+
+    @AfterEach
+    void shutdown() {
+        filter.shutdown();
+    }
+
+    @Test
+    void classifiesEndpoints() {
+        assertThat(EndpointClass.classify("GET", "/api/meetings/42")).isEqualTo(EndpointClass.LOOKUP);
+        assertThat(EndpointClass.classify("GET", "/api/meetings/year/2026")).isEqualTo(EndpointClass.LIST);
+        assertThat(EndpointClass.classify("GET", "/api/meetings/statistics/year/2026")).isEqualTo(EndpointClass.STATISTICS);
+        assertThat(EndpointClass.classify("PATCH", "/api/meetings/42/status")).isEqualTo(EndpointClass.WRITE);
+        assertThat(EndpointClass.classify("GET", "/api/meetings/42/transcript/stream")).isNull();
+        assertThat(EndpointClass.classify("GET", "/actuator/health")).isNull();
+    }
+
+    @Test
+    void rateLimitsEachClientSeparately() throws Exception {
+        assertThat(call("GET", "/api/meetings", "a").getStatus()).isEqualTo(200);
+        assertThat(call("GET", "/api/meetings", "a").getStatus()).isEqualTo(200);
+        MockHttpServletResponse limited = call("GET", "/api/meetings", "a");
+        assertThat(limited.getStatus()).isEqualTo(429);
+        assertThat(limited.getHeader("Retry-After")).isEqualTo("1");
+
+        assertThat(call("GET", "/api/meetings", "b").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void keepsBucketsForAtMostMaxClients() {
+        AdmissionGate gate = new AdmissionGate(EndpointClass.LIST, 1, 0, 10, 1, 1, 2);
+
+        assertThat(gate.checkRate("ip:a")).isZero();
+        assertThat(gate.checkRate("ip:b")).isZero();
+        assertThat(gate.checkRate("ip:a")).isPositive();
+        // c pushes out b, the least recently seen client; a keeps its empty bucket
+        assertThat(gate.checkRate("ip:c")).isZero();
+        assertThat(gate.getTrackedClients()).isEqualTo(2);
+        assertThat(gate.checkRate("ip:a")).isPositive();
+    }
+
+    @Test
+    void shedsListRequestsWhileLookupsStillPass() throws Exception {
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread slowList = Thread.ofVirtual().start(() -> {
+            MockHttpServletRequest request = request("GET", "/api/meetings/year/2026", "a");
+            try {
+                filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+                    inside.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(inside.await(2, TimeUnit.SECONDS)).isTrue();
+
+        MockHttpServletResponse shed = call("GET", "/api/meetings/year/2025", "b");
+        assertThat(shed.getStatus()).isEqualTo(503);
+        assertThat(shed.getHeader("Retry-After")).isNotNull();
+        assertThat(call("GET", "/api/meetings/7", "b").getStatus()).isEqualTo(200);
+
+        release.countDown();
+        slowList.join();
+    }
+
+    private MockHttpServletResponse call(String method, String path, String client) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(method, path, client), response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String path, String client) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr("10.0.0." + client.charAt(0));
+        // A made-up id per request must not buy a fresh bucket
+        request.addHeader("X-Client-Id", UUID.randomUUID().toString());
+        return request;
+    }
+}
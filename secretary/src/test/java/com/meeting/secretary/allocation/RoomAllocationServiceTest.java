@@ -0,0 +1,63 @@
+package com.meeting.secretary.allocation;
+
+import com.meeting.secretary.dto.AllocationOutcome;
+import com.meeting.secretary.dto.RoomAllocationRequestDTO;
+import com.meeting.secretary.dto.RoomAssignmentDTO;
+import com.meeting.secretary.entity.Room;
+import com.meeting.secretary.repository.MeetingRepository;
+import com.meeting.secretary.repository.RoomRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RoomAllocationServiceTest {
+
+    private static final LocalDateTime NINE = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    private final MeetingRepository meetingRepository = mock(MeetingRepository.class);
+    private final RoomRepository roomRepository = mock(RoomRepository.class);
+    private final RoomAllocationService service = new RoomAllocationService(meetingRepository, roomRepository,
+            mock(PlatformTransactionManager.class), 100, 1);
+
+    @AfterEach
+    void shutdown() {
+        service.shutdown();
+    }
+
+    @Test
+    void countsBookingsWhoseRoomIsSpelledDifferently() {
+        Room room = new Room();
+        room.setName("Phòng Họp A");
+        room.setCapacity(10);
+        when(roomRepository.findAll()).thenReturn(List.of(room));
+        // Rows ordered by room: the 9:00 booking comes after the 10:00 one
+        when(meetingRepository.findIntervalsOverlapping(any(), any())).thenReturn(List.of(
+                new Object[]{"Phong hop A", NINE.plusHours(1), NINE.plusHours(2)},
+                new Object[]{" phòng họp a ", NINE, NINE.plusHours(1)}));
+
+        List<RoomAssignmentDTO> items = service.allocate(List.of(
+                request(NINE, NINE.plusHours(1)),
+                request(NINE.plusHours(1), NINE.plusHours(2)),
+                request(NINE.plusHours(2), NINE.plusHours(3)))).getItems();
+
+        assertThat(items).extracting(RoomAssignmentDTO::getOutcome).containsExactly(
+                AllocationOutcome.NO_FREE_ROOM, AllocationOutcome.NO_FREE_ROOM, AllocationOutcome.ASSIGNED);
+        assertThat(items.get(2).getRoom()).isEqualTo("Phòng Họp A");
+    }
+
+    private static RoomAllocationRequestDTO request(LocalDateTime start, LocalDateTime end) {
+        RoomAllocationRequestDTO request = new RoomAllocationRequestDTO();
+        request.setStartTime(start);
+        request.setEndTime(end);
+        request.setAttendees(5);
+        return request;
+    }
+}
@@ -0,0 +1,81 @@
+package com.meeting.secretary.allocation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoomAllocatorTest {
+
+    private static final long HOUR = 3600;
+
+    @Test
+    void givesEachRequestTheSmallestFreeRoomInThePreferredLocation() {
+        RoomAllocator allocator = new RoomAllocator(List.of(
+                room("Lớn", 50, "Tầng 1"),
+                room("Nhỏ A", 10, "Tầng 1"),
+                room("Nhỏ B", 10, "Tầng 2"),
+                // Booked 9:00-10:00
+                new RoomAllocator.RoomSlots("Vừa", 20, "Tầng 2", new long[]{9 * HOUR}, new long[]{10 * HOUR})));
+        List<RoomAllocator.Request> requests = List.of(
+                request(0, 9, 10, 8, "Tầng 2"),
+                request(1, 9, 10, 8, null),
+                request(2, 9, 10, 15, null),
+                request(3, 9, 10, 60, null),
+                request(4, 14, 15, 15, null));
+
+        Map<Integer, String> rooms = allocate(allocator, requests);
+
+        assertThat(rooms).containsEntry(0, "Nhỏ B").containsEntry(1, "Nhỏ A").containsEntry(2, "Lớn")
+                .containsEntry(3, null).containsEntry(4, "Vừa");
+        assertThat(allocator.fitsAnywhere(requests.get(3))).isFalse();
+    }
+
+    @Test
+    void movesTheOneRequestInTheWayToPlaceAnotherOne() {
+        RoomAllocator allocator = new RoomAllocator(List.of(room("A", 10, "Tầng 1"), room("B", 20, "Tầng 2")));
+        // 0 takes A and 1 prefers B; 2 only fits in B, so 1 moves to A, free again after 0
+        List<RoomAllocator.Request> requests = List.of(
+                request(0, 8, 9, 5, null),
+                request(1, 9, 11, 5, "Tầng 2"),
+                request(2, 10, 11, 15, null));
+
+        Map<Integer, String> rooms = allocate(allocator, requests);
+
+        assertThat(rooms).containsEntry(0, "A").containsEntry(1, "A").containsEntry(2, "B");
+    }
+
+    @Test
+    void splitsRequestsIntoGroupsThatDoNotOverlap() {
+        List<List<RoomAllocator.Request>> components = RoomAllocator.components(List.of(
+                request(0, 13, 14, 1, null),
+                request(1, 8, 10, 1, null),
+                request(2, 9, 11, 1, null),
+                request(3, 11, 12, 1, null)));
+
+        assertThat(components).extracting(component -> component.stream().map(RoomAllocator.Request::index).toList())
+                .containsExactly(List.of(1, 2), List.of(3), List.of(0));
+    }
+
+    private static Map<Integer, String> allocate(RoomAllocator allocator, List<RoomAllocator.Request> requests) {
+        Map<Integer, String> rooms = new HashMap<>();
+        for (List<RoomAllocator.Request> component : RoomAllocator.components(requests)) {
+            for (RoomAllocator.Placement placement : allocator.allocate(component)) {
+                rooms.put(placement.request().index(),
+                        placement.room() < 0 ? null : allocator.room(placement.room()).name());
+            }
+        }
+        return rooms;
+    }
+
+    private static RoomAllocator.RoomSlots room(String name, Integer capacity, String location) {
+        return new RoomAllocator.RoomSlots(name, capacity, location, new long[0], new long[0]);
+    }
+
+    private static RoomAllocator.Request request(int index, int fromHour, int toHour, int seats, String location) {
+        return new RoomAllocator.Request(index, fromHour * HOUR, toHour * HOUR, seats, location);
+    }
+}
@@ -0,0 +1,64 @@
+package com.meeting.secretary.analytics;
+
+import com.meeting.secretary.archive.MeetingArchive;
+import com.meeting.secretary.dto.RoomUtilizationDTO;
+import com.meeting.secretary.dto.StatisticsBucket;
+import com.meeting.secretary.entity.Room;
+import com.meeting.secretary.repository.ArchivedMeetingRepository;
+import com.meeting.secretary.repository.MeetingRepository;
+import com.meeting.secretary.repository.RoomRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RoomUtilizationServiceTest {
+
+    // A Monday
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 2);
+
+    private final MeetingRepository meetingRepository = mock(MeetingRepository.class);
+    private final RoomRepository roomRepository = mock(RoomRepository.class);
+    private final RoomUtilizationService service = new RoomUtilizationService(meetingRepository,
+            mock(ArchivedMeetingRepository.class), mock(MeetingArchive.class), roomRepository,
+            mock(PlatformTransactionManager.class), LocalTime.of(8, 0), LocalTime.of(18, 0),
+            List.of(DayOfWeek.MONDAY), 1);
+
+    @AfterEach
+    void shutdown() {
+        service.shutdown();
+    }
+
+    @Test
+    void mergesSpellingsOfARoomIntoItsDirectoryEntry() {
+        Room room = new Room();
+        room.setName("Phòng Họp A");
+        room.setCapacity(10);
+        when(roomRepository.findAll()).thenReturn(List.of(room));
+        when(meetingRepository.findIntervalsOverlapping(any(), any())).thenReturn(List.of(
+                new Object[]{"PHÒNG HỌP A", DAY.atTime(11, 0), DAY.atTime(12, 0)},
+                new Object[]{"Phòng Họp A", DAY.atTime(9, 0), DAY.atTime(10, 0)},
+                new Object[]{"phong hop a", DAY.atTime(14, 0), DAY.atTime(15, 0)}));
+
+        List<RoomUtilizationDTO> rooms = service.getReport(DAY, DAY, StatisticsBucket.DAY, null).getRooms();
+
+        assertThat(rooms).singleElement().satisfies(report -> {
+            assertThat(report.getRoom()).isEqualTo("Phòng Họp A");
+            assertThat(report.getCapacity()).isEqualTo(10);
+            assertThat(report.getBookedHours()).isEqualTo(3.0);
+            // 8-9, 10-11, 12-14 and 15-18
+            assertThat(report.getIdleGaps()).isEqualTo(4);
+        });
+        assertThat(service.getReport(DAY, DAY, StatisticsBucket.DAY, "phòng họp a").getRooms())
+                .extracting(RoomUtilizationDTO::getRoom).containsExactly("Phòng Họp A");
+    }
+}
@@ -0,0 +1,79 @@
+package com.meeting.secretary.analytics;
+
+import com.meeting.secretary.dto.PeriodUtilizationDTO;
+import com.meeting.secretary.dto.RoomUtilizationDTO;
+import com.meeting.secretary.dto.StatisticsBucket;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UtilizationSweepTest {
+
+    // Monday 2026-10-19 to Sunday 2026-10-25: five working days of 10 hours
+    private final WorkingWindows windows = WorkingWindows.of(LocalDate.of(2026, 10, 19), LocalDate.of(2026, 10, 25),
+            StatisticsBucket.DAY, LocalTime.of(8, 0), LocalTime.of(18, 0),
+            EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY));
+
+    @Test
+    void mergesOverlapsAndCountsIdleGaps() {
+        RoomIntervals room = intervals(10,
+                at(19, 9, 0), at(19, 10, 0),
+                at(19, 9, 30), at(19, 11, 0),
+                at(19, 9, 45), at(19, 10, 15),
+                at(19, 14, 0), at(19, 15, 0));
+
+        RoomUtilizationDTO result = UtilizationSweep.compute(room, windows);
+        PeriodUtilizationDTO monday = result.getPeriods().get(0);
+
+        // 09:00-11:00 and 14:00-15:00 booked; gaps 08-09, 11-14, 15-18
+        assertThat(monday.getBookedHours()).isEqualTo(3.0);
+        assertThat(monday.getAvailableHours()).isEqualTo(10.0);
+        assertThat(monday.getUtilization()).isEqualTo(0.3);
+        assertThat(monday.getPeakConcurrency()).isEqualTo(3);
+        assertThat(monday.getIdleGaps()).isEqualTo(3);
+        assertThat(monday.getLongestIdleGapMinutes()).isEqualTo(180);
+
+        assertThat(result.getAvailableHours()).isEqualTo(50.0);
+        assertThat(result.getBookedSeatHours()).isEqualTo(30.0);
+        // Untouched working days are one idle gap each; the weekend has no window
+        assertThat(result.getPeriods()).hasSize(7);
+        assertThat(result.getIdleGaps()).isEqualTo(3 + 4);
+        assertThat(result.getPeriods().get(5).getAvailableHours()).isZero();
+    }
+
+    @Test
+    void clipsMeetingsToWorkingHoursAcrossDays() {
+        // Tuesday 17:00 to Wednesday 09:00 counts one hour on each day
+        RoomIntervals room = intervals(null,
+                at(20, 17, 0), at(21, 9, 0),
+                at(21, 8, 30), at(21, 10, 0));
+
+        RoomUtilizationDTO result = UtilizationSweep.compute(room, windows);
+
+        assertThat(result.getPeriods().get(1).getBookedHours()).isEqualTo(1.0);
+        assertThat(result.getPeriods().get(2).getBookedHours()).isEqualTo(2.0);
+        assertThat(result.getPeriods().get(2).getPeakConcurrency()).isEqualTo(2);
+        assertThat(result.getBookedHours()).isEqualTo(3.0);
+        assertThat(result.getBookedSeatHours()).isNull();
+    }
+
+    private static RoomIntervals intervals(Integer capacity, LocalDateTime... bounds) {
+        long[] starts = new long[bounds.length / 2];
+        long[] ends = new long[bounds.length / 2];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = WorkingWindows.toMinutes(bounds[2 * i]);
+            ends[i] = WorkingWindows.toMinutes(bounds[2 * i + 1]);
+        }
+        return new RoomIntervals("P1", capacity, starts, ends);
+    }
+
+    private static LocalDateTime at(int day, int hour, int minute) {
+        return LocalDateTime.of(2026, 10, day, hour, minute);
+    }
+}
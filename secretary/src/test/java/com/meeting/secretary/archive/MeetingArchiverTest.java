@@ -0,0 +1,88 @@
+package com.meeting.secretary.archive;
+
+import com.meeting.secretary.cache.CacheCoherence;
+import com.meeting.secretary.cache.LocalInvalidationTransport;
+import com.meeting.secretary.entity.ArchivedMeeting;
+import com.meeting.secretary.entity.Meeting;
+import com.meeting.secretary.entity.MeetingStatus;
+import com.meeting.secretary.repository.ArchivedMeetingRepository;
+import com.meeting.secretary.repository.MeetingRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MeetingArchiverTest {
+
+    private final MeetingRepository meetingRepository = mock(MeetingRepository.class);
+    private final ArchivedMeetingRepository archivedMeetingRepository = mock(ArchivedMeetingRepository.class);
+    private final MeetingArchive meetingArchive = new MeetingArchive(archivedMeetingRepository,
+            new CacheCoherence(new LocalInvalidationTransport(), new SimpleMeterRegistry(),
+                    "test", 5000, 1000, 1000));
+    private final MeetingArchiver archiver = new MeetingArchiver(meetingRepository, archivedMeetingRepository,
+            meetingArchive, mock(PlatformTransactionManager.class), new SimpleMeterRegistry(),
+            false, 365, 2, 60);
+
+    @Test
+    void movesDueMeetingsInBatchesAndOpensTheArchiveToReaders() {
+        LocalDateTime old = LocalDateTime.of(2024, 3, 1, 9, 0);
+        when(meetingRepository.findArchivable(eq(MeetingStatus.FINISHED), any(), any()))
+                .thenReturn(List.of(meeting(1L, old), meeting(2L, old.plusDays(1))))
+                .thenReturn(List.of(meeting(3L, old.plusDays(2))))
+                .thenReturn(List.of());
+        assertThat(meetingArchive.reaches(null)).isFalse();
+
+        assertThat(archiver.archiveDue()).isEqualTo(3);
+
+        verify(archivedMeetingRepository, times(2)).saveAll(anyList());
+        verify(meetingRepository, times(2)).deleteAllInBatch(anyList());
+        // Ranges up to the newest archived start now include the archive; later ones still skip it
+        assertThat(meetingArchive.reaches(old.plusDays(2))).isTrue();
+        assertThat(meetingArchive.reaches(old.plusDays(3))).isFalse();
+        assertThat(meetingArchive.reaches(old.plusDays(3), null)).isFalse();
+        assertThat(meetingArchive.reaches(old, MeetingStatus.SCHEDULED)).isFalse();
+    }
+
+    @Test
+    void archivedCopyKeepsTheOriginalId() {
+        Meeting meeting = meeting(42L, LocalDateTime.of(2024, 3, 1, 9, 0));
+        ArchivedMeeting archived = ArchivedMeeting.from(meeting, LocalDateTime.now());
+
+        assertThat(archived.isNew()).isTrue();
+        assertThat(archived.toMeeting()).isEqualTo(meeting);
+    }
+
+    @Test
+    void skipsTheArchiveTableWhileItIsEmpty() {
+        assertThat(meetingArchive.findByDateRange(LocalDateTime.MIN, LocalDateTime.MAX)).isEmpty();
+        assertThat(meetingArchive.findById(1L)).isEmpty();
+        verify(archivedMeetingRepository, never()).findByDateRange(any(), any());
+        verify(archivedMeetingRepository, never()).findById(any());
+    }
+
+    private static Meeting meeting(Long id, LocalDateTime start) {
+        Meeting meeting = new Meeting();
+        meeting.setId(id);
+        meeting.setTitle("Họp " + id);
+        meeting.setStartTime(start);
+        meeting.setEndTime(start.plusHours(1));
+        meeting.setStatus(MeetingStatus.FINISHED);
+        meeting.setDepartment("IT");
+        meeting.setRoom("P1");
+        meeting.setChairman("An");
+        meeting.setSecretary("Bình");
+        return meeting;
+    }
+}
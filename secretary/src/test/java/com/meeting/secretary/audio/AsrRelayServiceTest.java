@@ -0,0 +1,130 @@
+package com.meeting.secretary.audio;
+
+import com.meeting.secretary.dto.AudioRelayStatsDTO;
+import com.meeting.secretary.repository.TranscriptSegmentRepository;
+import com.meeting.secretary.service.TranscriptService;
+import com.meeting.secretary.transcript.LocalTranscriptSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class AsrRelayServiceTest {
+
+    private ServerSocket asrStandIn;
+    private final CompletableFuture<Integer> receivedBytes = new CompletableFuture<>();
+
+    @BeforeEach
+    void startAsrStandIn() throws Exception {
+        asrStandIn = new ServerSocket(0);
+        // Reads 3200 bytes of audio, answers with a transcript line and waits for the client to close
+        Thread.ofVirtual().start(() -> {
+            try (Socket socket = asrStandIn.accept()) {
+                InputStream in = socket.getInputStream();
+                OutputStream out = socket.getOutputStream();
+                byte[] audio = in.readNBytes(3200);
+                receivedBytes.complete(audio.length);
+                out.write("0 1000 Xin chào\n".getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                in.read();
+            } catch (Exception e) {
+                receivedBytes.completeExceptionally(e);
+            }
+        });
+    }
+
+    @AfterEach
+    void stopAsrStandIn() throws Exception {
+        asrStandIn.close();
+    }
+
+    @Test
+    void coalescesSmallFramesAndPublishesTranscript() throws Exception {
+        LocalTranscriptSource transcripts = new LocalTranscriptSource();
+        CompletableFuture<String> line = new CompletableFuture<>();
+        transcripts.subscribe(5L, line::complete);
+
+        TranscriptService transcriptService = new TranscriptService(mock(TranscriptSegmentRepository.class), transcripts);
+        AsrRelayService relay = new AsrRelayService(transcriptService, new AudioRelayMetrics(new SimpleMeterRegistry()),
+                "127.0.0.1", asrStandIn.getLocalPort(), 3200, 1000);
+        try {
+            for (int i = 0; i < 10; i++) {
+                relay.relay(5L, ByteBuffer.wrap(new byte[320]));
+            }
+
+            assertThat(receivedBytes.get(2, TimeUnit.SECONDS)).isEqualTo(3200);
+            assertThat(line.get(2, TimeUnit.SECONDS)).isEqualTo("0 1000 Xin chào\n");
+
+            AudioRelayStatsDTO stats = relay.getStats(5L);
+            assertThat(stats.getFramesRelayed()).isEqualTo(10);
+            assertThat(stats.getWrites()).isEqualTo(1);
+        } finally {
+            relay.shutdown();
+        }
+    }
+
+    @Test
+    void closesTheAsrConnectionWhenTheLastClientLeaves() throws Exception {
+        AsrRelayService relay = relay(asrStandIn.getLocalPort());
+        try {
+            relay.attach(6L);
+            relay.attach(6L);
+            relay.openSession(6L);
+
+            relay.detach(6L);
+            assertThat(relay.getStats(6L)).isNotNull();
+            assertThat(receivedBytes).isNotDone();
+
+            relay.detach(6L);
+            assertThat(relay.getStats(6L)).isNull();
+            // The stand-in sees the end of the stream before any audio
+            assertThat(receivedBytes.get(2, TimeUnit.SECONDS)).isZero();
+        } finally {
+            relay.shutdown();
+        }
+    }
+
+    @Test
+    void releasesTheConnectionWhenTheAsrServerHangsUp() throws Exception {
+        try (ServerSocket hangsUp = new ServerSocket(0)) {
+            Thread.ofVirtual().start(() -> {
+                try {
+                    hangsUp.accept().close();
+                } catch (Exception ignored) {
+                    // Test over
+                }
+            });
+            AsrRelayService relay = relay(hangsUp.getLocalPort());
+            try {
+                AsrSession session = relay.openSession(7L);
+
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+                while (relay.getStats(7L) != null && System.nanoTime() < deadline) {
+                    Thread.sleep(10);
+                }
+                assertThat(relay.getStats(7L)).isNull();
+                assertThat(session.isOpen()).isFalse();
+            } finally {
+                relay.shutdown();
+            }
+        }
+    }
+
+    private static AsrRelayService relay(int port) {
+        return new AsrRelayService(new TranscriptService(mock(TranscriptSegmentRepository.class),
+                new LocalTranscriptSource()), new AudioRelayMetrics(new SimpleMeterRegistry()),
+                "127.0.0.1", port, 3200, 1000);
+    }
+}
@@ -0,0 +1,125 @@
+package com.meeting.secretary.cache;
+
+import com.meeting.secretary.service.MeetingChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CacheCoherenceTest {
+
+    @Test
+    void writeOnOneNodeEvictsTheNearCacheOfAnother() {
+        LocalInvalidationTransport transport = new LocalInvalidationTransport();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CacheCoherence writer = new CacheCoherence(transport, registry, "a", 5000, 1000, 1000);
+        CacheCoherence reader = new CacheCoherence(transport, registry, "b", 5000, 1000, 1000);
+        NearCache<Long, String> rooms = new NearCache<>(CacheRegion.ROOMS, reader, 10);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(rooms.get(1L, () -> "P1 v" + loads.incrementAndGet())).isEqualTo("P1 v1");
+        assertThat(rooms.get(1L, () -> "P1 v" + loads.incrementAndGet())).isEqualTo("P1 v1");
+
+        // Another region leaves it alone
+        writer.invalidate(CacheRegion.DEPARTMENTS, "1");
+        assertThat(rooms.get(1L, () -> "P1 v" + loads.incrementAndGet())).isEqualTo("P1 v1");
+
+        writer.invalidate(CacheRegion.ROOMS, "1");
+        assertThat(rooms.get(1L, () -> "P1 v" + loads.incrementAndGet())).isEqualTo("P1 v2");
+        assertThat(registry.get("cache.coherence.received").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void bypassesCachesWhileTheTransportIsBehind() {
+        InvalidationTransport transport = mock(InvalidationTransport.class);
+        when(transport.getLastSyncNanos()).thenAnswer(invocation -> System.nanoTime());
+        CacheCoherence coherence = new CacheCoherence(transport, new SimpleMeterRegistry(), "a", 50, 1000, 1000);
+        NearCache<Long, String> rooms = new NearCache<>(CacheRegion.ROOMS, coherence, 10);
+        AtomicInteger loads = new AtomicInteger();
+
+        rooms.get(1L, () -> "v" + loads.incrementAndGet());
+        assertThat(rooms.get(1L, () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+
+        // Last sync is older than the staleness bound
+        when(transport.getLastSyncNanos()).thenReturn(System.nanoTime() - Duration.ofSeconds(1).toNanos());
+        assertThat(coherence.isFresh()).isFalse();
+        assertThat(rooms.get(1L, () -> "v" + loads.incrementAndGet())).isEqualTo("v2");
+        assertThat(rooms.get(1L, () -> "v" + loads.incrementAndGet())).isEqualTo("v3");
+
+        // Back in sync: nothing from before the gap is served
+        when(transport.getLastSyncNanos()).thenAnswer(invocation -> System.nanoTime());
+        assertThat(rooms.get(1L, () -> "v" + loads.incrementAndGet())).isEqualTo("v4");
+        assertThat(rooms.get(1L, () -> "v" + loads.incrementAndGet())).isEqualTo("v4");
+    }
+
+    @Test
+    void publishesMeetingDerivedKeysToOtherNodesOnly() {
+        InvalidationTransport transport = mock(InvalidationTransport.class);
+        when(transport.getLastSyncNanos()).thenAnswer(invocation -> System.nanoTime());
+        CacheCoherence coherence = new CacheCoherence(transport, new SimpleMeterRegistry(), "a", 5000, 1000, 1000);
+        AtomicInteger evicted = new AtomicInteger();
+        coherence.register(CacheRegion.STATISTICS, key -> evicted.incrementAndGet(), event -> List.of("k"));
+
+        coherence.onMeetingChanged(new MeetingChangedEvent(1L, null, null));
+
+        verify(transport).publish("a", List.of(new Invalidation(CacheRegion.STATISTICS, "k")));
+        assertThat(evicted).hasValue(0);
+    }
+
+    @Test
+    void retriesAnInvalidationWhosePublishingFailedAfterTheCommit() {
+        InvalidationTransport transport = mock(InvalidationTransport.class);
+        when(transport.getLastSyncNanos()).thenAnswer(invocation -> System.nanoTime());
+        List<Invalidation> rooms = List.of(new Invalidation(CacheRegion.ROOMS, "1"));
+        doThrow(new IllegalStateException("Broker down")).doThrow(new IllegalStateException("Broker down"))
+                .doNothing().when(transport).publish("a", rooms);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        try (CacheCoherence coherence = new CacheCoherence(transport, registry, "a", 5000, 20, 1000)) {
+            coherence.invalidate(CacheRegion.ROOMS, "1");
+
+            verify(transport, timeout(2000).times(3)).publish("a", rooms);
+            assertThat(registry.get("cache.coherence.publish.failures").counter().count()).isEqualTo(1);
+            assertThat(registry.get("cache.coherence.published").counter().count()).isEqualTo(1);
+            assertThat(registry.get("cache.coherence.unpublished").gauge().value()).isZero();
+        }
+    }
+
+    @Test
+    void foldsTooManyUnpublishedKeysIntoWholeRegions() {
+        InvalidationTransport transport = mock(InvalidationTransport.class);
+        when(transport.getLastSyncNanos()).thenAnswer(invocation -> System.nanoTime());
+        AtomicBoolean down = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            if (down.get()) {
+                throw new IllegalStateException("Broker down");
+            }
+            return null;
+        }).when(transport).publish(eq("a"), anyList());
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        try (CacheCoherence coherence = new CacheCoherence(transport, registry, "a", 5000, 200, 2)) {
+            coherence.invalidate(CacheRegion.ROOMS, "1");
+            coherence.invalidate(CacheRegion.ROOMS, "2");
+            coherence.invalidate(CacheRegion.DEPARTMENTS, "3");
+            assertThat(registry.get("cache.coherence.unpublished").gauge().value()).isEqualTo(2);
+            down.set(false);
+
+            verify(transport, timeout(2000)).publish("a", List.of(
+                    new Invalidation(CacheRegion.ROOMS, null), new Invalidation(CacheRegion.DEPARTMENTS, null)));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.meeting.secretary.calendar;
+
+import com.meeting.secretary.archive.MeetingArchive;
+import com.meeting.secretary.cache.CacheCoherence;
+import com.meeting.secretary.cache.LocalInvalidationTransport;
+import com.meeting.secretary.dto.MeetingSummaryDTO;
+import com.meeting.secretary.dto.ParticipantDTO;
+import com.meeting.secretary.entity.Meeting;
+import com.meeting.secretary.entity.MeetingParticipant;
+import com.meeting.secretary.entity.MeetingStatus;
+import com.meeting.secretary.entity.ParticipantRole;
+import com.meeting.secretary.entity.RsvpStatus;
+import com.meeting.secretary.repository.ArchivedMeetingRepository;
+import com.meeting.secretary.repository.MeetingParticipantRepository;
+import com.meeting.secretary.repository.MeetingRepository;
+import com.meeting.secretary.service.MeetingChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CalendarFeedServiceTest {
+
+    private final MeetingRepository meetingRepository = mock(MeetingRepository.class);
+    private final CacheCoherence cacheCoherence = new CacheCoherence(new LocalInvalidationTransport(),
+            new SimpleMeterRegistry(), "test", 5000, 1000, 1000);
+    private final MeetingParticipantRepository participantRepository = mock(MeetingParticipantRepository.class);
+    private final CalendarFeedService service = service(300);
+
+    @Test
+    void servesCachedFeedUntilAMeetingInItChanges() {
+        Meeting meeting = meeting();
+        when(meetingRepository.findByRoomAndStartTimeGreaterThanEqualOrderByStartTimeAsc(eq("P1"), any()))
+                .thenReturn(List.of(meeting));
+
+        CalendarFeed first = service.getFeed(CalendarFeedType.ROOM, "P1");
+        assertThat(service.getFeed(CalendarFeedType.ROOM, "P1")).isSameAs(first);
+
+        // A change in another room keeps the feed
+        MeetingSummaryDTO other = MeetingSummaryDTO.from(meeting);
+        other.setRoom("P2");
+        other.setChairman("X");
+        other.setSecretary("Y");
+        other.setDepartment("HR");
+        service.onMeetingChanged(new MeetingChangedEvent(9L, null, other));
+        assertThat(service.getFeed(CalendarFeedType.ROOM, "P1")).isSameAs(first);
+
+        // Moving the meeting out of P1 drops it
+        service.onMeetingChanged(new MeetingChangedEvent(1L, MeetingSummaryDTO.from(meeting), other));
+        assertThat(service.getFeed(CalendarFeedType.ROOM, "P1")).isNotSameAs(first);
+        verify(meetingRepository, times(2)).findByRoomAndStartTimeGreaterThanEqualOrderByStartTimeAsc(eq("P1"), any());
+    }
+
+    @Test
+    void personFeedHoldsInvitationsButNotDeclinedOnes() {
+        Meeting organized = meeting();
+        organized.setChairman("Cường");
+        Meeting invited = meeting();
+        invited.setId(2L);
+        invited.setTitle("Họp dự án");
+        when(meetingRepository.findByPersonFrom(eq("Cường"), any())).thenReturn(List.of(organized));
+        when(participantRepository.findByPersonAndStartTimeGreaterThanEqual(eq("Cường"), any())).thenReturn(List.of(
+                participant(1L, RsvpStatus.ACCEPTED), participant(2L, RsvpStatus.PENDING),
+                participant(3L, RsvpStatus.DECLINED)));
+        when(meetingRepository.findAllById(List.of(2L))).thenReturn(List.of(invited));
+
+        String ics = new String(service.getFeed(CalendarFeedType.PERSON, "Cường").getBody(), StandardCharsets.UTF_8);
+
+        assertThat(ics).contains("SUMMARY:Họp giao ban", "SUMMARY:Họp dự án");
+        assertThat(ics.split("BEGIN:VEVENT", -1)).hasSize(3);
+        // Changing the invitation list drops the invitee's feed
+        CalendarFeed first = service.getFeed(CalendarFeedType.PERSON, "Cường");
+        service.onMeetingChanged(new MeetingChangedEvent(2L, MeetingSummaryDTO.from(invited),
+                MeetingSummaryDTO.from(invited), List.of(new ParticipantDTO("Cường", ParticipantRole.OPTIONAL, null))));
+        assertThat(service.getFeed(CalendarFeedType.PERSON, "Cường")).isNotSameAs(first);
+    }
+
+    @Test
+    void rendersAgainOnceTheCachedFeedIsOlderThanTheMaxAge() {
+        CalendarFeedService expiring = service(0);
+        when(meetingRepository.findByRoomAndStartTimeGreaterThanEqualOrderByStartTimeAsc(eq("P1"), any()))
+                .thenReturn(List.of(meeting()));
+
+        CalendarFeed first = expiring.getFeed(CalendarFeedType.ROOM, "P1");
+
+        assertThat(expiring.getFeed(CalendarFeedType.ROOM, "P1")).isNotSameAs(first);
+        assertThat(expiring.getCachedFeedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void writesUtcTimesAndFoldsLongLines() {
+        Meeting meeting = meeting();
+        meeting.setTitle("Họp, tổng kết; ".repeat(10));
+        String ics = new String(new IcsWriter("Asia/Ho_Chi_Minh").write("Phòng họp P1", List.of(meeting)),
+                StandardCharsets.UTF_8);
+
+        assertThat(ics).contains("DTSTART:20261021T020000Z\r\n", "SUMMARY:Họp\\, tổng kết\\; ");
+        for (String line : ics.split("\r\n")) {
+            assertThat(line.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(75);
+        }
+    }
+
+    private CalendarFeedService service(long maxAgeSeconds) {
+        return new CalendarFeedService(meetingRepository,
+                new MeetingArchive(mock(ArchivedMeetingRepository.class), cacheCoherence), participantRepository,
+                new IcsWriter("Asia/Ho_Chi_Minh"), cacheCoherence, 90, 100, maxAgeSeconds);
+    }
+
+    private static MeetingParticipant participant(Long meetingId, RsvpStatus rsvp) {
+        MeetingParticipant row = new MeetingParticipant();
+        row.setMeetingId(meetingId);
+        row.setPerson("Cường");
+        row.setRole(ParticipantRole.REQUIRED);
+        row.setRsvp(rsvp);
+        return row;
+    }
+
+    private static Meeting meeting() {
+        Meeting meeting = new Meeting();
+        meeting.setId(1L);
+        meeting.setTitle("Họp giao ban");
+        meeting.setStartTime(LocalDateTime.of(2026, 10, 21, 9, 0));
+        meeting.setEndTime(LocalDateTime.of(2026, 10, 21, 10, 0));
+        meeting.setStatus(MeetingStatus.SCHEDULED);
+        meeting.setDepartment("IT");
+        meeting.setRoom("P1");
+        meeting.setChairman("An");
+        meeting.setSecretary("Bình");
+        return meeting;
+    }
+}
@@ -0,0 +1,104 @@
+package com.meeting.secretary.changes;
+
+import com.meeting.secretary.dto.ChangeBatchDTO;
+import com.meeting.secretary.dto.ChangeDTO;
+import com.meeting.secretary.dto.MeetingSummaryDTO;
+import com.meeting.secretary.entity.ChangeEntityType;
+import com.meeting.secretary.entity.ChangeLogEntry;
+import com.meeting.secretary.entity.ChangeOperation;
+import com.meeting.secretary.entity.MeetingStatus;
+import com.meeting.secretary.repository.ChangeLogRepository;
+import com.meeting.secretary.service.MeetingChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChangeFeedServiceTest {
+
+    private final ChangeLogRepository repository = mock(ChangeLogRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final ChangeFeedService service = new ChangeFeedService(repository, jdbcTemplate,
+            JsonMapper.builder().build(), mock(PlatformTransactionManager.class), new SimpleMeterRegistry(),
+            100, 5000, 60, 30, 1000, 0);
+
+    @Test
+    void stopsInFrontOfARecentGapButSkipsOldOnes() {
+        LocalDateTime now = LocalDateTime.now();
+        when(repository.findFirstSeq()).thenReturn(1L);
+        when(repository.findBySeqGreaterThanOrderBySeqAsc(eq(0L), any())).thenReturn(List.of(
+                entry(1, now.minusHours(2)), entry(3, now.minusHours(1)), entry(4, now), entry(6, now)));
+
+        ChangeBatchDTO batch = service.getChanges(0, null);
+
+        // 2 was compacted long ago; 5 may still commit
+        assertThat(batch.getChanges()).extracting(ChangeDTO::getSeq).containsExactly(1L, 3L, 4L);
+        assertThat(batch.getNextSince()).isEqualTo(4);
+        assertThat(batch.isHasMore()).isFalse();
+        assertThat(batch.isResyncRequired()).isFalse();
+        assertThat(batch.getChanges().get(0).getData().get("title").asString()).isEqualTo("Họp 1");
+    }
+
+    @Test
+    void asksForResyncWhenTheCursorIsOlderThanTheRetainedFeed() {
+        when(repository.findFirstSeq()).thenReturn(50L);
+        when(repository.findLastSeq()).thenReturn(80L);
+        when(repository.findBySeqGreaterThanOrderBySeqAsc(eq(10L), any()))
+                .thenReturn(List.of(entry(50, LocalDateTime.now().minusDays(1))));
+
+        ChangeBatchDTO batch = service.getChanges(10, null);
+
+        assertThat(batch.isResyncRequired()).isTrue();
+        assertThat(batch.getChanges()).isEmpty();
+        assertThat(batch.getNextSince()).isEqualTo(80);
+        assertThat(service.getChanges(49, null).isResyncRequired()).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void writesTheChangesOfATransactionInOneBatchBeforeCommit() {
+        MeetingSummaryDTO meeting = new MeetingSummaryDTO(7L, "Họp", LocalDateTime.of(2026, 10, 21, 9, 0),
+                LocalDateTime.of(2026, 10, 21, 10, 0), MeetingStatus.SCHEDULED, "IT", "P1", "An", "Bình");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.onMeetingChanged(new MeetingChangedEvent(7L, null, meeting));
+            service.onMeetingChanged(new MeetingChangedEvent(8L, meeting, null));
+            verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertThat(rows.getValue()).hasSize(2);
+        assertThat(rows.getValue().get(0)).startsWith("MEETING", 7L, "UPSERT");
+        assertThat(rows.getValue().get(1)).startsWith("MEETING", 8L, "DELETE", null);
+        assertThat(TransactionSynchronizationManager.getResource(service)).isNull();
+    }
+
+    private static ChangeLogEntry entry(long seq, LocalDateTime changedAt) {
+        return new ChangeLogEntry(seq, ChangeEntityType.MEETING, seq, ChangeOperation.UPSERT,
+                "{\"id\":" + seq + ",\"title\":\"Họp " + seq + "\"}", changedAt);
+    }
+}
@@ -0,0 +1,193 @@
+package com.meeting.secretary.coalescing;
+
+import com.meeting.secretary.datasource.ReadYourWritesTracker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RequestCoalescingFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger runs = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void identicalConcurrentReadsShareOneComputation() throws Exception {
+        RequestCoalescingFilter filter = new RequestCoalescingFilter(registry, mock(ObjectProvider.class),
+                List.of("/api/meetings/statistics/**"), 5000, 0, 10);
+        FilterChain chain = blockingChain(200);
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        Thread leader = Thread.ofPlatform().start(() -> run(filter, chain, first));
+        awaitInFlight();
+        Thread follower = Thread.ofPlatform().start(() -> run(filter, chain, second));
+        while (follower.getState() != Thread.State.TIMED_WAITING) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        leader.join();
+        follower.join();
+
+        assertThat(runs).hasValue(1);
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString()).isEqualTo("{\"run\":1}");
+        assertThat(second.getContentType()).isEqualTo("application/json");
+        assertThat(second.getHeader("Vary")).isEqualTo("Origin");
+        assertThat(registry.get("coalescing.ratio").gauge().value()).isEqualTo(0.5);
+
+        // Once done, the next request computes again
+        MockHttpServletResponse third = new MockHttpServletResponse();
+        run(filter, chain, third);
+        assertThat(third.getContentAsString()).isEqualTo("{\"run\":2}");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void errorsAreNotSharedAndOtherPathsAreNotCoalesced() throws Exception {
+        RequestCoalescingFilter filter = new RequestCoalescingFilter(registry, mock(ObjectProvider.class),
+                List.of("/api/meetings/statistics/**"), 5000, 0, 10);
+        FilterChain failing = blockingChain(503);
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        Thread leader = Thread.ofPlatform().start(() -> run(filter, failing, first));
+        awaitInFlight();
+        Thread follower = Thread.ofPlatform().start(() -> run(filter, failing, second));
+        while (follower.getState() != Thread.State.TIMED_WAITING) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        leader.join();
+        follower.join();
+
+        assertThat(runs).hasValue(2);
+        assertThat(second.getStatus()).isEqualTo(503);
+        assertThat(registry.get("coalescing.requests").tag("result", "fallback").counter().count()).isEqualTo(1);
+
+        MockHttpServletRequest other = new MockHttpServletRequest("GET", "/api/meetings/1");
+        filter.doFilter(other, new MockHttpServletResponse(), (request, response) -> runs.incrementAndGet());
+        assertThat(runs).hasValue(3);
+        assertThat(registry.get("coalescing.requests").tag("result", "executed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void partialResponsesAreNeitherSharedNorKept() throws Exception {
+        RequestCoalescingFilter filter = new RequestCoalescingFilter(registry, mock(ObjectProvider.class),
+                List.of("/api/meetings/statistics/**"), 5000, 60_000, 10);
+        FilterChain partial = blockingChain(200, true);
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        Thread leader = Thread.ofPlatform().start(() -> run(filter, partial, first));
+        awaitInFlight();
+        Thread follower = Thread.ofPlatform().start(() -> run(filter, partial, second));
+        while (follower.getState() != Thread.State.TIMED_WAITING) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        leader.join();
+        follower.join();
+
+        assertThat(runs).hasValue(2);
+        assertThat(second.getContentAsString()).isEqualTo("{\"run\":2}");
+        assertThat(first.getHeader(RequestCoalescingFilter.PARTIAL_HEADER)).isEqualTo("true");
+
+        // Nothing was kept to hand out while the next computation is in flight
+        CountDownLatch next = new CountDownLatch(1);
+        FilterChain slow = (request, response) -> {
+            runs.incrementAndGet();
+            try {
+                next.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        Thread third = Thread.ofPlatform().start(() -> run(filter, slow, new MockHttpServletResponse()));
+        awaitInFlight();
+        Thread fourth = Thread.ofPlatform().start(() -> run(filter, slow, new MockHttpServletResponse()));
+        while (fourth.getState() != Thread.State.TIMED_WAITING) {
+            Thread.onSpinWait();
+        }
+        next.countDown();
+        third.join();
+        fourth.join();
+        assertThat(registry.get("coalescing.requests").tag("result", "stale").counter().count()).isZero();
+    }
+
+    @Test
+    void recentWritersReadForThemselves() throws Exception {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(60_000);
+        @SuppressWarnings("unchecked")
+        ObjectProvider<ReadYourWritesTracker> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(tracker);
+        RequestCoalescingFilter filter = new RequestCoalescingFilter(registry, provider,
+                List.of("/api/meetings/statistics/**"), 5000, 60_000, 10);
+        tracker.bind("ip:127.0.0.1");
+        try {
+            tracker.recordWrite();
+            filter.doFilter(request(), new MockHttpServletResponse(), (request, response) -> runs.incrementAndGet());
+        } finally {
+            tracker.unbind();
+        }
+
+        assertThat(runs).hasValue(1);
+        assertThat(registry.get("coalescing.requests").tag("result", "executed").counter().count()).isZero();
+    }
+
+    // Answers once released, with the run number as body
+    private FilterChain blockingChain(int status) {
+        return blockingChain(status, false);
+    }
+
+    private FilterChain blockingChain(int status, boolean partial) {
+        return (request, response) -> {
+            int run = runs.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            HttpServletResponse http = (HttpServletResponse) response;
+            http.setStatus(status);
+            http.setHeader("Vary", "Origin");
+            if (partial) {
+                http.setHeader(RequestCoalescingFilter.PARTIAL_HEADER, "true");
+            }
+            http.setContentType("application/json");
+            http.getOutputStream().write(("{\"run\":" + run + "}").getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private void awaitInFlight() {
+        while (registry.get("coalescing.in_flight").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void run(RequestCoalescingFilter filter, FilterChain chain, MockHttpServletResponse response) {
+        try {
+            filter.doFilter(request(), response, chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/api/meetings/statistics");
+    }
+}
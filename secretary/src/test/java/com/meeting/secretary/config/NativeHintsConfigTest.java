@@ -0,0 +1,38 @@
+package com.meeting.secretary.config;
+
+import com.meeting.secretary.dto.AgendaDTO;
+import com.meeting.secretary.dto.DashboardDTO;
+import com.meeting.secretary.dto.MeetingSummaryDTO;
+import com.meeting.secretary.dto.RoomAllocationResultDTO;
+import com.meeting.secretary.dto.StatisticsGroupBy;
+import com.meeting.secretary.entity.Meeting;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NativeHintsConfigTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    void registersBindingHintsForEveryDto() {
+        new NativeHintsConfig.SecretaryRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        for (Class<?> type : new Class<?>[]{DashboardDTO.class, AgendaDTO.class, RoomAllocationResultDTO.class,
+                Meeting.class}) {
+            assertThat(RuntimeHintsPredicates.reflection().onType(type)).as(type.getSimpleName()).accepts(hints);
+        }
+        assertThat(RuntimeHintsPredicates.reflection().onType(MeetingSummaryDTO.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+    }
+
+    @Test
+    void findsClassesAndEnumsOfTheDtoPackage() {
+        assertThat(NativeHintsConfig.SecretaryRuntimeHints.dtoTypes(getClass().getClassLoader()))
+                .contains(DashboardDTO.class, AgendaDTO.class, RoomAllocationResultDTO.class, StatisticsGroupBy.class)
+                .allSatisfy(type -> assertThat(type.getPackageName()).isEqualTo("com.meeting.secretary.dto"));
+    }
+}
@@ -0,0 +1,127 @@
+package com.meeting.secretary.controller;
+
+import com.meeting.secretary.entity.Meeting;
+import com.meeting.secretary.entity.MeetingStatus;
+import com.meeting.secretary.exception.GlobalExceptionHandler;
+import com.meeting.secretary.service.MeetingBulkService;
+import com.meeting.secretary.service.MeetingService;
+import com.meeting.secretary.service.StatisticsSeriesService;
+import com.meeting.secretary.status.MeetingStatusWriteBehind;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class MeetingControllerTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private final MeetingService meetingService = mock(MeetingService.class);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        MeetingController controller = new MeetingController(meetingService, mock(MeetingBulkService.class),
+                mock(MeetingStatusWriteBehind.class), mock(StatisticsSeriesService.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        when(meetingService.getAllMeetings()).thenReturn(
+                LongStream.rangeClosed(1, 50).mapToObj(MeetingControllerTest::meeting).toList());
+    }
+
+    @Test
+    void returnsOnlyTheRequestedFieldsInTheRequestedOrder() throws Exception {
+        String body = mockMvc.perform(get("/api/meetings").param("fields", "room, id,title,id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(50))
+                .andExpect(jsonPath("$.data[0].room").value("Phòng 1"))
+                .andExpect(jsonPath("$.data[0].description").doesNotExist())
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode first = new ObjectMapper().readTree(body).get("data").get(0);
+        assertThat(first.propertyNames()).containsExactly("room", "id", "title");
+    }
+
+    @Test
+    void rejectsUnknownAndNestedFieldNames() throws Exception {
+        mockMvc.perform(get("/api/meetings").param("fields", "id,organizer"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("'organizer'")));
+        mockMvc.perform(get("/api/meetings").param("fields", "id,room.name"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void encodesTheSameResponseAsCborAndSmile() throws Exception {
+        MvcResult json = mockMvc.perform(get("/api/meetings").param("fields", "id,title,startTime,room")).andReturn();
+        MvcResult cbor = mockMvc.perform(get("/api/meetings").param("fields", "id,title,startTime,room")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+        MvcResult smile = mockMvc.perform(get("/api/meetings").param("fields", "id,title,startTime,room")
+                        .accept(SMILE))
+                .andExpect(content().contentType(SMILE))
+                .andReturn();
+
+        // Compared as text, since the binary formats keep the narrower integer types; timestamps differ per call
+        String expected = new ObjectMapper().readTree(json.getResponse().getContentAsByteArray())
+                .get("data").toString();
+        assertThat(new CBORMapper().readTree(cbor.getResponse().getContentAsByteArray()).get("data"))
+                .hasToString(expected);
+        assertThat(new SmileMapper().readTree(smile.getResponse().getContentAsByteArray()).get("data"))
+                .hasToString(expected);
+    }
+
+    @Test
+    void sparseAndBinaryResponsesAreSmaller() throws Exception {
+        int full = size(get("/api/meetings"));
+        int sparse = size(get("/api/meetings").param("fields", "id,title,startTime,room"));
+        int sparseSmile = size(get("/api/meetings").param("fields", "id,title,startTime,room").accept(SMILE));
+
+        assertThat(sparse).isLessThan(full / 2);
+        assertThat(sparseSmile).isLessThan(sparse);
+    }
+
+    private int size(RequestBuilder request) throws Exception {
+        return mockMvc.perform(request).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray().length;
+    }
+
+    private static Meeting meeting(long id) {
+        Meeting meeting = new Meeting();
+        meeting.setId(id);
+        meeting.setTitle("Họp giao ban tuần " + id);
+        meeting.setDescription("Rà soát tiến độ các đề tài và phân công công việc cho tuần tới");
+        meeting.setStartTime(LocalDateTime.of(2026, 10, 1, 9, 0).plusDays(id));
+        meeting.setEndTime(meeting.getStartTime().plusHours(1));
+        meeting.setStatus(MeetingStatus.SCHEDULED);
+        meeting.setDepartment("Phòng Đào tạo");
+        meeting.setRoom("Phòng " + id);
+        meeting.setChairman("Nguyễn Văn A");
+        meeting.setSecretary("Trần Thị B");
+        meeting.setCreatedAt(LocalDateTime.of(2026, 9, 1, 8, 0));
+        meeting.setUpdatedAt(LocalDateTime.of(2026, 9, 2, 8, 0));
+        return meeting;
+    }
+}
@@ -0,0 +1,85 @@
+package com.meeting.secretary.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final Connection primaryConnection = connection();
+    private final Connection replicaConnection = connection();
+    private final DataSource primary = dataSource(primaryConnection);
+    private final DataSource replica = dataSource(replicaConnection);
+    private final ReadYourWritesTracker tracker = new ReadYourWritesTracker(60_000);
+    private ReplicaRoutingDataSource routing;
+
+    @AfterEach
+    void cleanUp() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        tracker.unbind();
+        routing.close();
+    }
+
+    @Test
+    void routesReadOnlyTransactionsToReplica() throws SQLException {
+        routing = new ReplicaRoutingDataSource(primary, List.of(new ReplicaNode("replica-1", replica)), tracker, 60_000);
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routing.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaIsDown() throws SQLException {
+        DataSource broken = mock(DataSource.class);
+        when(broken.getConnection()).thenThrow(new SQLException("Connection refused"));
+        routing = new ReplicaRoutingDataSource(primary, List.of(new ReplicaNode("replica-1", broken)), tracker, 60_000);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(routing.getHealthyReplicas()).isEmpty();
+    }
+
+    @Test
+    void clientReadsPrimaryRightAfterItsWrite() throws SQLException {
+        routing = new ReplicaRoutingDataSource(primary, List.of(new ReplicaNode("replica-1", replica)), tracker, 60_000);
+
+        tracker.bind("ip:10.0.0.1");
+        routing.getConnection();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+
+        tracker.bind("ip:10.0.0.2");
+        assertThat(routing.getConnection()).isSameAs(replicaConnection);
+    }
+
+    private static Connection connection() {
+        Connection connection = mock(Connection.class);
+        try {
+            when(connection.isValid(anyInt())).thenReturn(true);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return connection;
+    }
+
+    private static DataSource dataSource(Connection connection) {
+        DataSource dataSource = mock(DataSource.class);
+        try {
+            when(dataSource.getConnection()).thenReturn(connection);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return dataSource;
+    }
+}
@@ -0,0 +1,83 @@
+package com.meeting.secretary.datasource;
+
+import com.meeting.secretary.changes.ChangeFeedService;
+import com.meeting.secretary.dto.ChangeDTO;
+import com.meeting.secretary.service.MeetingChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Replica routing against two real in-memory databases standing in for the primary and a replica
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routedprimary;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "datasource.replica.urls=jdbc:h2:mem:routedreplica;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "datasource.replica.read-your-writes-ms=60000",
+        "meetings.archive.enabled=false"})
+class ReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ReadYourWritesTracker tracker;
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @AfterEach
+    void unbindClient() {
+        tracker.unbind();
+    }
+
+    @Test
+    void sendsReadOnlyTransactionsToTheReplica() {
+        assertThat(databaseIn(true)).isEqualToIgnoringCase("routedreplica");
+    }
+
+    @Test
+    void keepsReadWriteTransactionsOnThePrimary() {
+        assertThat(databaseIn(false)).isEqualToIgnoringCase("routedprimary");
+    }
+
+    @Test
+    void readsFromThePrimaryAfterTheClientWrote() {
+        tracker.bind("writer");
+        databaseIn(false);
+
+        assertThat(databaseIn(true)).isEqualToIgnoringCase("routedprimary");
+
+        tracker.bind("reader");
+        assertThat(databaseIn(true)).isEqualToIgnoringCase("routedreplica");
+    }
+
+    @Test
+    void readsTheChangeFeedFromThePrimary() {
+        // Never reaches the replica, as if replication were far behind
+        changeFeedService.onMeetingChanged(new MeetingChangedEvent(4242L, null, null));
+
+        assertThat(changeFeedService.getChanges(0, null).getChanges()).extracting(ChangeDTO::getId)
+                .contains(4242L);
+    }
+
+    // Name of the database the transaction's connection points at
+    private String databaseIn(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT DATABASE()", String.class));
+    }
+}
@@ -0,0 +1,77 @@
+package com.meeting.secretary.index;
+
+import com.meeting.secretary.dto.MeetingSummaryDTO;
+import com.meeting.secretary.entity.MeetingStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CalendarColumnsTest {
+
+    private static final LocalDateTime WINDOW = LocalDateTime.of(2026, 10, 1, 0, 0);
+
+    private final CalendarColumns columns = CalendarColumns.build(WINDOW, List.of(
+            meeting(3, 10, MeetingStatus.FINISHED, "P1", "IT"),
+            meeting(1, 5, MeetingStatus.SCHEDULED, "P2", "IT"),
+            meeting(2, 5, MeetingStatus.SCHEDULED, "P1", null),
+            // Before the window
+            meeting(4, -3, MeetingStatus.FINISHED, "P1", "IT")));
+
+    @Test
+    void countsByRangeStatusRoomAndDepartment() {
+        LocalDateTime from = WINDOW;
+        LocalDateTime to = WINDOW.plusDays(11);
+
+        assertThat(columns.size()).isEqualTo(3);
+        assertThat(columns.count(from, to, null, CalendarColumns.ANY, CalendarColumns.ANY)).isEqualTo(3);
+        assertThat(columns.count(from, WINDOW.plusDays(10), null, CalendarColumns.ANY, CalendarColumns.ANY))
+                .isEqualTo(2);
+        assertThat(columns.count(from, null, MeetingStatus.SCHEDULED, columns.code("P1"), CalendarColumns.ANY))
+                .isEqualTo(1);
+        assertThat(columns.count(from, to, null, CalendarColumns.ANY, columns.code(null))).isEqualTo(1);
+        assertThat(columns.code("P9")).isNull();
+
+        long[] byStatus = columns.countByStatus(from, to);
+        assertThat(byStatus[MeetingStatus.SCHEDULED.ordinal()]).isEqualTo(2);
+        assertThat(byStatus[MeetingStatus.ONGOING.ordinal()]).isZero();
+        assertThat(byStatus[MeetingStatus.FINISHED.ordinal()]).isEqualTo(1);
+    }
+
+    @Test
+    void selectsHeldColumnsInStartOrder() {
+        List<Map<String, Object>> rows = columns.select(WINDOW, WINDOW.plusMonths(1), List.of("id", "room", "startTime"));
+
+        assertThat(rows).extracting(row -> row.get("id")).containsExactly(1L, 2L, 3L);
+        assertThat(rows.get(0)).containsExactly(Map.entry("id", 1L), Map.entry("room", "P2"),
+                Map.entry("startTime", WINDOW.plusDays(5).withHour(9)));
+    }
+
+    @Test
+    void mergeReplacesMovesAndDeletesMeetings() {
+        Map<Long, MeetingSummaryDTO> changes = new HashMap<>();
+        changes.put(1L, null);
+        changes.put(3L, meeting(3, 1, MeetingStatus.ONGOING, "P3", "HR"));
+        changes.put(5L, meeting(5, 7, MeetingStatus.SCHEDULED, "P1", "IT"));
+        // Moved out of the window
+        changes.put(2L, meeting(2, -1, MeetingStatus.SCHEDULED, "P1", null));
+
+        CalendarColumns merged = columns.merge(changes);
+
+        assertThat(merged.select(WINDOW, WINDOW.plusMonths(1), List.of("id", "status", "department")))
+                .containsExactly(
+                        Map.of("id", 3L, "status", MeetingStatus.ONGOING, "department", "HR"),
+                        Map.of("id", 5L, "status", MeetingStatus.SCHEDULED, "department", "IT"));
+        // The original is unchanged
+        assertThat(columns.size()).isEqualTo(3);
+    }
+
+    private static MeetingSummaryDTO meeting(long id, int day, MeetingStatus status, String room, String department) {
+        LocalDateTime start = WINDOW.plusDays(day).withHour(9);
+        return new MeetingSummaryDTO(id, "Họp " + id, start, start.plusHours(1), status, department, room, "An", "Bình");
+    }
+}
@@ -0,0 +1,125 @@
+package com.meeting.secretary.job;
+
+import com.meeting.secretary.entity.BackgroundJob;
+import com.meeting.secretary.entity.JobStatus;
+import com.meeting.secretary.entity.JobType;
+import com.meeting.secretary.repository.BackgroundJobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JobServiceTest {
+
+    private final BackgroundJobRepository jobRepository = mock(BackgroundJobRepository.class);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final JobService jobService;
+
+    JobServiceTest() {
+        when(jobRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        // One worker and one queue slot for exports
+        jobService = new JobService(jobRepository, new ObjectMapper(), new MockEnvironment()
+                .withProperty("jobs.export.workers", "1")
+                .withProperty("jobs.export.queue-capacity", "1"));
+    }
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        jobService.shutdown();
+    }
+
+    @Test
+    void runsAJobThroughItsStatesAndStoresItsResult() {
+        BackgroundJob job = jobService.submit(JobType.DOCUMENT, "Biên bản", context -> Map.of("trang", 3));
+
+        assertThat(job.getStatus()).isEqualTo(JobStatus.PENDING);
+        verify(jobRepository, timeout(2000)).markFinished(eq(job.getId()), eq(JobStatus.SUCCEEDED),
+                eq("{\"trang\":3}"), isNull(), any());
+        verify(jobRepository).markStarted(eq(job.getId()), eq(JobStatus.RUNNING), any());
+        assertThat(jobService.isActive(job.getId())).isFalse();
+    }
+
+    @Test
+    void recordsAFailureWithItsMessage() {
+        BackgroundJob job = jobService.submit(JobType.DOCUMENT, "Biên bản", context -> {
+            throw new IllegalStateException("Không đọc được bản ghi");
+        });
+
+        verify(jobRepository, timeout(2000)).markFinished(eq(job.getId()), eq(JobStatus.FAILED), isNull(),
+                eq("Không đọc được bản ghi"), any());
+        assertThat(jobService.isActive(job.getId())).isFalse();
+    }
+
+    @Test
+    void cancelsAQueuedJobWithoutRunningItAndARunningOneAtItsNextCheck() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        BackgroundJob running = jobService.submit(JobType.EXPORT, "Chạy", context -> {
+            started.countDown();
+            while (true) {
+                context.checkCancelled();
+                Thread.onSpinWait();
+            }
+        });
+        started.await();
+        AtomicBoolean ran = new AtomicBoolean();
+        BackgroundJob queued = jobService.submit(JobType.EXPORT, "Chờ", context -> ran.getAndSet(true));
+        stubStatus(queued, JobStatus.PENDING);
+        stubStatus(running, JobStatus.RUNNING);
+
+        jobService.cancel(queued.getId());
+        jobService.cancel(running.getId());
+
+        verify(jobRepository, timeout(2000)).markFinished(eq(queued.getId()), eq(JobStatus.CANCELLED),
+                isNull(), isNull(), any());
+        verify(jobRepository, timeout(2000)).markFinished(eq(running.getId()), eq(JobStatus.CANCELLED),
+                isNull(), isNull(), any());
+        verify(jobRepository).requestCancel(queued.getId());
+        assertThat(ran).isFalse();
+    }
+
+    @Test
+    void failsTheJobWhenItsQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        jobService.submit(JobType.EXPORT, "Chạy", context -> {
+            started.countDown();
+            release.await();
+            return null;
+        });
+        started.await();
+        jobService.submit(JobType.EXPORT, "Chờ", context -> null);
+
+        assertThatThrownBy(() -> jobService.submit(JobType.EXPORT, "Thừa", context -> null))
+                .isInstanceOf(RejectedExecutionException.class);
+
+        verify(jobRepository).markFinished(anyString(), eq(JobStatus.FAILED), isNull(),
+                eq("Hàng đợi tác vụ đã đầy"), any());
+        verify(jobRepository, never()).markFinished(anyString(), eq(JobStatus.SUCCEEDED), any(), any(), any());
+    }
+
+    private void stubStatus(BackgroundJob job, JobStatus status) {
+        BackgroundJob stored = new BackgroundJob();
+        stored.setId(job.getId());
+        stored.setType(job.getType());
+        stored.setStatus(status);
+        when(jobRepository.findById(job.getId())).thenReturn(Optional.of(stored));
+    }
+}
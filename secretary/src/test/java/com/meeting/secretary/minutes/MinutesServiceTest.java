@@ -0,0 +1,144 @@
+package com.meeting.secretary.minutes;
+
+import com.meeting.secretary.dto.MinutesJobDTO;
+import com.meeting.secretary.entity.BackgroundJob;
+import com.meeting.secretary.entity.JobType;
+import com.meeting.secretary.entity.Meeting;
+import com.meeting.secretary.exception.ResourceNotFoundException;
+import com.meeting.secretary.job.JobContext;
+import com.meeting.secretary.job.JobService;
+import com.meeting.secretary.job.JobTask;
+import com.meeting.secretary.service.MeetingService;
+import com.meeting.secretary.service.TranscriptService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MinutesServiceTest {
+
+    private final MeetingService meetingService = mock(MeetingService.class);
+    private final TranscriptService transcriptService = mock(TranscriptService.class);
+    private final JobService jobService = mock(JobService.class);
+    private final Meeting meeting = new Meeting();
+
+    @TempDir
+    private Path outputDir;
+    private MinutesService service;
+
+    @BeforeEach
+    void setUp() {
+        meeting.setId(5L);
+        meeting.setUpdatedAt(LocalDateTime.of(2026, 10, 1, 8, 0));
+        when(meetingService.getMeetingById(5L)).thenReturn(meeting);
+        when(transcriptService.getTranscriptVersion(5L)).thenReturn(10L);
+        when(transcriptService.iterateLines(5L)).thenAnswer(invocation -> List.of("Dòng 1").iterator());
+        when(jobService.submit(eq(JobType.DOCUMENT), anyString(), any())).thenAnswer(invocation -> job("job-1"));
+        MinutesWriter writer = new MinutesWriter() {
+            @Override
+            public MinutesFormat getFormat() {
+                return MinutesFormat.DOCX;
+            }
+
+            @Override
+            public void write(Meeting meeting, Iterator<String> lines, OutputStream out) throws IOException {
+                while (lines.hasNext()) {
+                    out.write(lines.next().getBytes(StandardCharsets.UTF_8));
+                }
+            }
+        };
+        service = new MinutesService(meetingService, transcriptService, jobService, List.of(writer),
+                outputDir.toString());
+    }
+
+    @Test
+    void reusesTheArtifactUntilTheTranscriptChanges() throws Exception {
+        MinutesJobDTO first = service.requestMinutes(5L, MinutesFormat.DOCX);
+        assertThat(first.isReady()).isFalse();
+        assertThat(first.getJobId()).isEqualTo("job-1");
+        runSubmittedJob(1);
+
+        MinutesJobDTO second = service.requestMinutes(5L, MinutesFormat.DOCX);
+        assertThat(second.isReady()).isTrue();
+        assertThat(second.getTranscriptVersion()).isEqualTo(10L);
+        assertThat(Files.readString(service.getArtifact(5L, MinutesFormat.DOCX))).isEqualTo("Dòng 1");
+        verify(jobService, times(1)).submit(any(), anyString(), any());
+
+        // A new segment makes the file stale and the next generation replaces it
+        when(transcriptService.getTranscriptVersion(5L)).thenReturn(11L);
+        assertThatThrownBy(() -> service.getArtifact(5L, MinutesFormat.DOCX))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(service.requestMinutes(5L, MinutesFormat.DOCX).isReady()).isFalse();
+        runSubmittedJob(2);
+
+        assertThat(artifacts()).singleElement().asString().endsWith("bien_ban_5_11_" + updatedAt() + ".docx");
+    }
+
+    @Test
+    void aChangedMeetingMakesTheArtifactStale() throws Exception {
+        service.requestMinutes(5L, MinutesFormat.DOCX);
+        runSubmittedJob(1);
+
+        meeting.setUpdatedAt(meeting.getUpdatedAt().plusMinutes(1));
+
+        assertThat(service.requestMinutes(5L, MinutesFormat.DOCX).isReady()).isFalse();
+    }
+
+    @Test
+    void sharesTheRunningJobForTheSameArtifact() {
+        when(jobService.isActive("job-1")).thenReturn(true);
+
+        assertThat(service.requestMinutes(5L, MinutesFormat.DOCX).getJobId()).isEqualTo("job-1");
+        assertThat(service.requestMinutes(5L, MinutesFormat.DOCX).getJobId()).isEqualTo("job-1");
+
+        verify(jobService, times(1)).submit(any(), anyString(), any());
+        verify(jobService, never()).cancel(anyString());
+    }
+
+    // Runs the latest of the tasks submitted so far, the way the job pool would
+    private void runSubmittedJob(int submitted) throws Exception {
+        ArgumentCaptor<JobTask> tasks = ArgumentCaptor.forClass(JobTask.class);
+        verify(jobService, times(submitted)).submit(eq(JobType.DOCUMENT), anyString(), tasks.capture());
+        JobContext context = mock(JobContext.class);
+        when(context.getJobId()).thenReturn("job-1");
+        tasks.getValue().run(context);
+    }
+
+    private List<Path> artifacts() throws IOException {
+        try (Stream<Path> files = Files.list(outputDir.resolve("5"))) {
+            return files.toList();
+        }
+    }
+
+    private long updatedAt() {
+        return meeting.getUpdatedAt().toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static BackgroundJob job(String id) {
+        BackgroundJob job = new BackgroundJob();
+        job.setId(id);
+        return job;
+    }
+}
@@ -0,0 +1,118 @@
+package com.meeting.secretary.minutes;
+
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.parser.PdfTextExtractor;
+import com.meeting.secretary.entity.Meeting;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MinutesWritersTest {
+
+    @Test
+    void docxEscapesTextAndSkipsSystemMessages() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        new DocxMinutesWriter().write(meeting(), List.of(
+                "Chủ tọa: <mở đầu> & \"chào\"", "[kết nối lại]", "  ", "Thư ký\u0007 ghi nhận").iterator(), out);
+
+        String document = entry(out.toByteArray(), "word/document.xml");
+        assertThat(document).contains("Chủ tọa: &lt;mở đầu&gt; &amp; &quot;chào&quot;")
+                .contains("Thư ký ghi nhận")
+                .contains("Họp giao ban")
+                .doesNotContain("kết nối lại")
+                .doesNotContain("\u0007");
+        assertThat(entry(out.toByteArray(), "[Content_Types].xml")).contains("/word/document.xml");
+    }
+
+    @Test
+    void docxConsumesTheWholeTranscript() throws IOException {
+        CountingLines lines = new CountingLines(10_000);
+
+        new DocxMinutesWriter().write(meeting(), lines, new ByteArrayOutputStream());
+
+        assertThat(lines.served).isEqualTo(10_000);
+    }
+
+    @Test
+    void pdfContainsTheMeetingAndEveryContentLine() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        new PdfMinutesWriter("").write(meeting(),
+                IntStream.rangeClosed(1, 200).mapToObj(i -> "Nội dung dòng " + i).iterator(), out);
+
+        PdfReader reader = new PdfReader(new ByteArrayInputStream(out.toByteArray()));
+        try {
+            assertThat(reader.getNumberOfPages()).isGreaterThan(1);
+            PdfTextExtractor extractor = new PdfTextExtractor(reader);
+            assertThat(extractor.getTextFromPage(1)).contains("Họp giao ban").contains("Nội dung dòng 1");
+            assertThat(extractor.getTextFromPage(reader.getNumberOfPages())).contains("Nội dung dòng 200");
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Test
+    void pdfRefusesToStartWithoutTheConfiguredFonts() {
+        // A built-in font would silently drop the Vietnamese diacritics
+        assertThatThrownBy(() -> new PdfMinutesWriter("missing-fonts"))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("DejaVuSans.ttf");
+    }
+
+    private static String entry(byte[] docx, String name) throws IOException {
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(docx), StandardCharsets.UTF_8)) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                if (entry.getName().equals(name)) {
+                    return new String(zip.readAllBytes(), StandardCharsets.UTF_8);
+                }
+            }
+        }
+        throw new AssertionError("No entry " + name);
+    }
+
+    private static Meeting meeting() {
+        Meeting meeting = new Meeting();
+        meeting.setId(3L);
+        meeting.setTitle("Họp giao ban");
+        meeting.setChairman("Nguyễn Văn A");
+        meeting.setSecretary("Trần Thị B");
+        meeting.setRoom("Phòng 1");
+        meeting.setStartTime(LocalDateTime.of(2026, 10, 1, 9, 0));
+        meeting.setEndTime(LocalDateTime.of(2026, 10, 1, 10, 0));
+        return meeting;
+    }
+
+    // Generated on demand, so nothing holds the whole transcript
+    private static final class CountingLines implements Iterator<String> {
+
+        private final int size;
+        private int served;
+
+        CountingLines(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return served < size;
+        }
+
+        @Override
+        public String next() {
+            return "Dòng " + ++served;
+        }
+    }
+}
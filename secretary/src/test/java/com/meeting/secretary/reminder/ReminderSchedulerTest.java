@@ -0,0 +1,135 @@
+package com.meeting.secretary.reminder;
+
+import com.meeting.secretary.dto.MeetingSummaryDTO;
+import com.meeting.secretary.entity.MeetingParticipant;
+import com.meeting.secretary.entity.MeetingReminder;
+import com.meeting.secretary.entity.MeetingStatus;
+import com.meeting.secretary.entity.ParticipantRole;
+import com.meeting.secretary.entity.ReminderStatus;
+import com.meeting.secretary.entity.RsvpStatus;
+import com.meeting.secretary.repository.MeetingParticipantRepository;
+import com.meeting.secretary.repository.MeetingReminderRepository;
+import com.meeting.secretary.repository.MeetingRepository;
+import com.meeting.secretary.service.MeetingChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReminderSchedulerTest {
+
+    private final MeetingReminderRepository reminderRepository = mock(MeetingReminderRepository.class);
+    private final MeetingRepository meetingRepository = mock(MeetingRepository.class);
+    private final MeetingParticipantRepository participantRepository = mock(MeetingParticipantRepository.class);
+    private final ReminderChannel channel = mock(ReminderChannel.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ReminderScheduler scheduler = new ReminderScheduler(reminderRepository, meetingRepository,
+            participantRepository, channel, mock(PlatformTransactionManager.class), registry,
+            true, List.of(60, 15), 1000, 64, 60, 100, 2, 30_000, 600_000);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rearmsRemindersWhenAMeetingMovesAndDropsThemOnceItIsNoLongerScheduled() {
+        LocalDateTime start = LocalDateTime.now().plusMinutes(30);
+        MeetingReminder old = reminder(1L, start.minusMinutes(15));
+        when(reminderRepository.findByMeetingIdAndStatus(7L, ReminderStatus.PENDING)).thenReturn(List.of(old));
+        when(reminderRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        scheduler.onMeetingChanged(new MeetingChangedEvent(7L, meeting(start.minusHours(1), MeetingStatus.SCHEDULED),
+                meeting(start, MeetingStatus.SCHEDULED)));
+
+        verify(reminderRepository).deleteAllByIdInBatch(List.of(1L));
+        ArgumentCaptor<List<MeetingReminder>> saved = ArgumentCaptor.forClass(List.class);
+        verify(reminderRepository).saveAll(saved.capture());
+        // 60 minutes before is already past
+        assertThat(saved.getValue()).extracting(MeetingReminder::getMinutesBefore).containsExactly(15);
+        assertThat(saved.getValue().get(0).getDueAt()).isEqualTo(start.minusMinutes(15));
+
+        scheduler.onMeetingChanged(new MeetingChangedEvent(7L, meeting(start, MeetingStatus.SCHEDULED),
+                meeting(start, MeetingStatus.ONGOING)));
+        verify(reminderRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void sendsToParticipantsAndRetriesFailedBatchesWithBackoffUntilTheLastAttempt() throws Exception {
+        LocalDateTime start = LocalDateTime.now().plusMinutes(15);
+        MeetingReminder reminder = reminder(1L, LocalDateTime.now());
+        when(reminderRepository.findByIdInAndClaimedBy(anyCollection(), anyString())).thenReturn(List.of(reminder));
+        when(meetingRepository.findSummariesByIdIn(anyCollection()))
+                .thenReturn(List.of(meeting(start, MeetingStatus.SCHEDULED)));
+        when(participantRepository.findByMeetingIdIn(anyCollection())).thenReturn(List.of(
+                participant("Hoa", ParticipantRole.REQUIRED, RsvpStatus.ACCEPTED),
+                participant("Lan", ParticipantRole.CHAIRMAN, RsvpStatus.ACCEPTED),
+                participant("Nam", ParticipantRole.OPTIONAL, RsvpStatus.DECLINED)));
+        List<List<ReminderMessage>> batches = new ArrayList<>();
+        doAnswer(invocation -> {
+            batches.add(invocation.getArgument(0));
+            throw new IOException("down");
+        }).when(channel).deliver(any());
+
+        scheduler.deliver(List.of(1L));
+
+        verify(reminderRepository).claim(eq(List.of(1L)), eq(ReminderStatus.PENDING), anyString(), any(), any());
+        assertThat(batches.get(0)).singleElement()
+                .satisfies(message -> assertThat(message.recipients()).containsExactly("Lan", "Hoa"));
+        assertThat(reminder.getStatus()).isEqualTo(ReminderStatus.PENDING);
+        assertThat(reminder.getAttempts()).isEqualTo(1);
+        assertThat(reminder.getDueAt()).isAfter(LocalDateTime.now().plusSeconds(25));
+
+        scheduler.deliver(List.of(1L));
+
+        assertThat(reminder.getStatus()).isEqualTo(ReminderStatus.FAILED);
+        assertThat(reminder.getLastError()).contains("down");
+        assertThat(registry.get("reminders.delivered").tag("result", "retried").counter().count()).isEqualTo(1);
+        assertThat(registry.get("reminders.delivered").tag("result", "failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void cancelsRemindersOfMeetingsThatAlreadyStarted() throws Exception {
+        MeetingReminder reminder = reminder(1L, LocalDateTime.now().minusHours(2));
+        when(reminderRepository.findByIdInAndClaimedBy(anyCollection(), anyString())).thenReturn(List.of(reminder));
+        when(meetingRepository.findSummariesByIdIn(anyCollection()))
+                .thenReturn(List.of(meeting(LocalDateTime.now().minusHours(1), MeetingStatus.SCHEDULED)));
+
+        scheduler.deliver(List.of(1L));
+
+        assertThat(reminder.getStatus()).isEqualTo(ReminderStatus.CANCELLED);
+        verify(channel, never()).deliver(any());
+    }
+
+    private static MeetingReminder reminder(Long id, LocalDateTime dueAt) {
+        MeetingReminder reminder = new MeetingReminder();
+        reminder.setId(id);
+        reminder.setMeetingId(7L);
+        reminder.setMinutesBefore(15);
+        reminder.setDueAt(dueAt);
+        return reminder;
+    }
+
+    private static MeetingParticipant participant(String person, ParticipantRole role, RsvpStatus rsvp) {
+        return new MeetingParticipant(null, 7L, person, role, rsvp, null, null);
+    }
+
+    private static MeetingSummaryDTO meeting(LocalDateTime start, MeetingStatus status) {
+        return new MeetingSummaryDTO(7L, "Giao ban", start, start.plusHours(1), status, "Phòng IT", "Phòng 1",
+                "Lan", "Minh");
+    }
+}
@@ -0,0 +1,50 @@
+package com.meeting.secretary.reminder;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    @Test
+    void firesIdsOnTheirTickIncludingLaterTurns() {
+        TimingWheel wheel = new TimingWheel(100, 8, 0);
+        wheel.schedule(1, 250);
+        // Same slot as 1, one turn later
+        wheel.schedule(2, 250 + 800);
+        wheel.schedule(3, 5_000);
+
+        assertThat(wheel.advance(200)).isEmpty();
+        assertThat(wheel.advance(300)).containsExactly(1L);
+        assertThat(wheel.advance(1_000)).isEmpty();
+        assertThat(wheel.advance(1_100)).containsExactly(2L);
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    void cancelsAndReschedules() {
+        TimingWheel wheel = new TimingWheel(100, 8, 0);
+        wheel.schedule(1, 300);
+        wheel.schedule(2, 300);
+        assertThat(wheel.cancel(2)).isTrue();
+        wheel.schedule(1, 700);
+
+        assertThat(wheel.advance(500)).isEmpty();
+        assertThat(wheel.advance(700)).containsExactly(1L);
+        assertThat(wheel.cancel(1)).isFalse();
+    }
+
+    @Test
+    void firesEverythingDueAfterALongPauseAndPastTimesOnTheNextTick() {
+        TimingWheel wheel = new TimingWheel(100, 8, 0);
+        for (long id = 1; id <= 20; id++) {
+            wheel.schedule(id, id * 150);
+        }
+
+        assertThat(wheel.advance(10_000)).hasSize(20);
+
+        wheel.schedule(99, 0);
+        assertThat(wheel.advance(10_050)).isEmpty();
+        assertThat(wheel.advance(10_100)).containsExactly(99L);
+    }
+}
@@ -0,0 +1,83 @@
+package com.meeting.secretary.service;
+
+import com.meeting.secretary.dto.DashboardDTO;
+import com.meeting.secretary.dto.MeetingStatisticsDTO;
+import com.meeting.secretary.entity.MeetingStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DashboardServiceTest {
+
+    private final MeetingService meetingService = mock(MeetingService.class);
+    private final RoomService roomService = mock(RoomService.class);
+    private final DepartmentService departmentService = mock(DepartmentService.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void leavesOutPartsThatMissTheDeadlineOrFail() throws Exception {
+        DashboardService service = new DashboardService(meetingService, roomService, departmentService,
+                mock(ObjectProvider.class), transactionManager, registry, 300);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(meetingService.getStatistics()).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return new MeetingStatisticsDTO();
+        });
+        when(meetingService.getMeetingsByDate(any(LocalDate.class))).thenReturn(List.of());
+        when(meetingService.getMeetingsByStatus(MeetingStatus.ONGOING)).thenReturn(List.of());
+        when(roomService.getAllRooms()).thenThrow(new IllegalStateException("down"));
+        when(departmentService.getAllDepartments()).thenReturn(List.of());
+
+        long start = System.nanoTime();
+        DashboardDTO dashboard = service.getDashboard();
+
+        assertThat(System.nanoTime() - start).isLessThan(2_000_000_000L);
+        assertThat(dashboard.isPartial()).isTrue();
+        assertThat(dashboard.getMissing()).containsExactly("statistics", "rooms");
+        assertThat(dashboard.getTodayMeetings()).isEmpty();
+        assertThat(dashboard.getDepartments()).isEmpty();
+        assertThat(registry.get("dashboard.parts.missed").tag("part", "statistics").counter().count()).isEqualTo(1);
+        // The late part is cancelled rather than left running
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        service.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void runsEachPartInAReadOnlyTransactionTimedOutWithTheDeadline() {
+        DashboardService service = new DashboardService(meetingService, roomService, departmentService,
+                mock(ObjectProvider.class), transactionManager, registry, 1500);
+
+        service.getDashboard();
+
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, atLeastOnce()).getTransaction(definitions.capture());
+        assertThat(definitions.getAllValues()).hasSize(5).allSatisfy(definition -> {
+            assertThat(definition.isReadOnly()).isTrue();
+            assertThat(definition.getTimeout()).isEqualTo(2);
+        });
+        service.shutdown();
+    }
+}
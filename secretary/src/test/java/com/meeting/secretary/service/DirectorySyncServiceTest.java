@@ -0,0 +1,126 @@
+package com.meeting.secretary.service;
+
+import com.meeting.secretary.cache.CacheCoherence;
+import com.meeting.secretary.changes.ChangeFeedService;
+import com.meeting.secretary.dto.RoomDTO;
+import com.meeting.secretary.dto.SyncResultDTO;
+import com.meeting.secretary.repository.DepartmentRepository;
+import com.meeting.secretary.repository.RoomRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DirectorySyncServiceTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    @Test
+    void countsInsertsUpdatesAndUnchangedRowsByTheCollationKey() throws Exception {
+        existingRooms(new Object[]{"phong a", "Cũ", 10, "Tầng 1"}, new Object[]{"Phòng B", "Mô tả", 20, "Tầng 2"});
+        DirectorySyncService service = service(500);
+
+        SyncResultDTO result = service.syncRooms(List.of(
+                room("Phòng A", "Cũ", 10, "Tầng 1"),
+                room("Phòng B", "Mô tả", 20, "Tầng 2"),
+                room("Phòng C", null, 5, null),
+                room(" PHÒNG C ", "Mới", 6, null)));
+
+        assertThat(result.getInserted()).isEqualTo(1);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getUnchanged()).isEqualTo(1);
+        assertThat(result.getSkipped()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement().asString().contains("trùng tên với 'Phòng C'");
+        List<Object[]> writes = captureWrites(1).get(0);
+        // "phong a" is respelled, the later "PHÒNG C" replaces the earlier one
+        assertThat(writes).extracting(write -> write[0]).containsExactly("Phòng A", "PHÒNG C");
+        assertThat(writes.get(1)[1]).isEqualTo("Mới");
+    }
+
+    @Test
+    void upsertsWithTheRowAliasForm() throws Exception {
+        existingRooms();
+
+        service(500).syncRooms(List.of(room("Phòng D", null, null, null)));
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).batchUpdate(sql.capture(), anyList());
+        assertThat(sql.getValue()).contains(") AS new ON DUPLICATE KEY UPDATE")
+                .contains("description = new.description")
+                .doesNotContain("VALUES(");
+    }
+
+    @Test
+    void rejectsOversizedEntriesBeforeWritingAnyBatch() throws Exception {
+        existingRooms();
+
+        SyncResultDTO result = service(1).syncRooms(List.of(
+                room("Phòng E", null, 4, null),
+                room("Phòng F", "x".repeat(501), 4, null),
+                room("P".repeat(256), null, 4, null)));
+
+        assertThat(result.getSkipped()).isEqualTo(2);
+        assertThat(result.getErrors()).hasSize(2);
+        assertThat(result.getErrors().get(0)).contains("description");
+        assertThat(captureWrites(1).get(0)).extracting(write -> write[0]).containsExactly("Phòng E");
+    }
+
+    @Test
+    void keysIgnoreCaseAccentsAndTheStrokedD() {
+        assertThat(DirectorySyncService.key("Phòng Đào tạo")).isEqualTo(DirectorySyncService.key("phong dao tao"));
+        assertThat(DirectorySyncService.key("Phòng A")).isNotEqualTo(DirectorySyncService.key("Phòng B"));
+    }
+
+    private DirectorySyncService service(int batchSize) {
+        return new DirectorySyncService(jdbcTemplate, mock(PlatformTransactionManager.class),
+                mock(CacheCoherence.class), mock(ChangeFeedService.class), mock(RoomRepository.class),
+                mock(DepartmentRepository.class), batchSize, 1000);
+    }
+
+    // Rows returned by every SELECT ... WHERE name IN (...)
+    private void existingRooms(Object[]... rows) throws Exception {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (Object[] row : rows) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getString(1)).thenReturn((String) row[0]);
+                for (int i = 1; i < row.length; i++) {
+                    when(rs.getObject(i + 1)).thenReturn(row[i]);
+                }
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Object[]>> captureWrites(int batches) {
+        ArgumentCaptor<List<Object[]>> writes = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(batches)).batchUpdate(anyString(), writes.capture());
+        return writes.getAllValues();
+    }
+
+    private static RoomDTO room(String name, String description, Integer capacity, String location) {
+        RoomDTO room = new RoomDTO();
+        room.setName(name);
+        room.setDescription(description);
+        room.setCapacity(capacity);
+        room.setLocation(location);
+        return room;
+    }
+}
@@ -0,0 +1,100 @@
+package com.meeting.secretary.service;
+
+import com.meeting.secretary.dto.BulkMeetingRequestDTO;
+import com.meeting.secretary.dto.BulkOutcome;
+import com.meeting.secretary.dto.BulkResultDTO;
+import com.meeting.secretary.dto.MeetingSearchCriteria;
+import com.meeting.secretary.dto.MeetingSummaryDTO;
+import com.meeting.secretary.entity.MeetingStatus;
+import com.meeting.secretary.repository.ArchivedMeetingRepository;
+import com.meeting.secretary.repository.MeetingRepository;
+import com.meeting.secretary.status.MeetingStatusWriteBehind;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MeetingBulkServiceTest {
+
+    private static final LocalDateTime NINE = LocalDateTime.of(2026, 10, 20, 9, 0);
+
+    private final MeetingRepository meetingRepository = mock(MeetingRepository.class);
+    private final ArchivedMeetingRepository archivedMeetingRepository = mock(ArchivedMeetingRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final MeetingStatusWriteBehind statusWriteBehind = mock(MeetingStatusWriteBehind.class);
+    private final MeetingBulkService service = new MeetingBulkService(meetingRepository, archivedMeetingRepository,
+            eventPublisher, statusWriteBehind, 100);
+
+    @Test
+    void changesStatusInOneStatementAndReportsEachId() {
+        when(meetingRepository.findSummariesByIdIn(any())).thenReturn(List.of(
+                summary(1L, 60, MeetingStatus.SCHEDULED), summary(2L, 60, MeetingStatus.FINISHED)));
+
+        BulkResultDTO result = service.updateStatus(request(List.of(1L, 2L, 3L), MeetingStatus.FINISHED));
+
+        assertThat(result.getItems()).extracting("meetingId", "outcome").containsExactlyInAnyOrder(
+                tuple(1L, BulkOutcome.UPDATED),
+                tuple(2L, BulkOutcome.UNCHANGED),
+                tuple(3L, BulkOutcome.NOT_FOUND));
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(1);
+        verify(meetingRepository).updateStatusIn(eq(List.of(1L)), eq(MeetingStatus.FINISHED), any());
+        verify(eventPublisher, times(1)).publishEvent(any(MeetingChangedEvent.class));
+        // Unchanged meetings too, or a buffered update would move them off the bulk status
+        verify(statusWriteBehind).discard(argThat(ids ->
+                ids.size() == 2 && ids.containsAll(List.of(1L, 2L))));
+    }
+
+    @Test
+    void rescheduleSkipsMeetingsThatWouldEndBeforeTheyStart() {
+        when(meetingRepository.searchSummaries(any(), any())).thenReturn(List.of(
+                summary(1L, 30, MeetingStatus.SCHEDULED), summary(2L, 120, MeetingStatus.SCHEDULED)));
+        BulkMeetingRequestDTO request = new BulkMeetingRequestDTO();
+        request.setFilter(MeetingSearchCriteria.builder().room("P1").build());
+        request.setShiftMinutes(60L);
+        request.setEndShiftMinutes(0L);
+
+        BulkResultDTO result = service.reschedule(request);
+
+        assertThat(result.getItems()).extracting("outcome").containsExactly(BulkOutcome.INVALID, BulkOutcome.UPDATED);
+        verify(meetingRepository).shiftTimesIn(eq(List.of(2L)), eq(60L), eq(0L), any());
+    }
+
+    @Test
+    void rejectsAnEmptyFilterAndTooManyIds() {
+        BulkMeetingRequestDTO empty = new BulkMeetingRequestDTO();
+        empty.setFilter(new MeetingSearchCriteria());
+        assertThatThrownBy(() -> service.delete(empty)).isInstanceOf(IllegalArgumentException.class);
+
+        List<Long> ids = LongStream.rangeClosed(1, 101).boxed().toList();
+        assertThatThrownBy(() -> service.delete(request(ids, null))).isInstanceOf(IllegalArgumentException.class);
+        verify(meetingRepository, never()).shiftTimesIn(any(), anyLong(), anyLong(), any());
+    }
+
+    private static BulkMeetingRequestDTO request(List<Long> ids, MeetingStatus status) {
+        BulkMeetingRequestDTO request = new BulkMeetingRequestDTO();
+        request.setIds(ids);
+        request.setStatus(status);
+        return request;
+    }
+
+    private static MeetingSummaryDTO summary(Long id, int minutes, MeetingStatus status) {
+        return new MeetingSummaryDTO(id, "Họp " + id, NINE, NINE.plusMinutes(minutes), status,
+                "IT", "P1", "An", "Bình");
+    }
+}
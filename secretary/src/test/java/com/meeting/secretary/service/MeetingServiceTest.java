@@ -0,0 +1,94 @@
+package com.meeting.secretary.service;
+
+import com.meeting.secretary.archive.MeetingArchive;
+import com.meeting.secretary.dto.MeetingSearchCriteria;
+import com.meeting.secretary.dto.MeetingSummaryDTO;
+import com.meeting.secretary.dto.PagedResultDTO;
+import com.meeting.secretary.entity.Meeting;
+import com.meeting.secretary.entity.MeetingStatus;
+import com.meeting.secretary.index.MeetingCalendarIndex;
+import com.meeting.secretary.repository.ArchivedMeetingRepository;
+import com.meeting.secretary.repository.MeetingRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MeetingServiceTest {
+
+    private final MeetingRepository meetingRepository = mock(MeetingRepository.class);
+    private final MeetingArchive meetingArchive = mock(MeetingArchive.class);
+    private final MeetingService service = new MeetingService(meetingRepository, mock(ArchivedMeetingRepository.class),
+            meetingArchive, mock(MeetingCalendarIndex.class), mock(ApplicationEventPublisher.class));
+
+    @Test
+    void takesTheTotalFromALastPageButCountsForAPagePastTheEnd() {
+        MeetingSearchCriteria criteria = MeetingSearchCriteria.builder().build();
+        when(meetingRepository.searchSummaries(any(), any())).thenReturn(summaries(3));
+        when(meetingRepository.countMatching(any())).thenReturn(23L);
+
+        PagedResultDTO<MeetingSummaryDTO> last = search(criteria, 2);
+        assertThat(last.getTotalElements()).isEqualTo(23L);
+        verify(meetingRepository, never()).countMatching(any());
+
+        when(meetingRepository.searchSummaries(any(), any())).thenReturn(List.of());
+        PagedResultDTO<MeetingSummaryDTO> pastTheEnd = search(criteria, 9);
+        assertThat(pastTheEnd.getContent()).isEmpty();
+        assertThat(pastTheEnd.getTotalElements()).isEqualTo(23L);
+        assertThat(pastTheEnd.getTotalPages()).isEqualTo(3);
+    }
+
+    @Test
+    void countsBothTiersForAMergedPagePastTheEnd() {
+        MeetingSearchCriteria criteria = MeetingSearchCriteria.builder().status(MeetingStatus.FINISHED).build();
+        when(meetingArchive.reaches(null, MeetingStatus.FINISHED)).thenReturn(true);
+        when(meetingRepository.searchSummaries(any(), any())).thenReturn(summaries(3));
+        when(meetingArchive.searchSummaries(any(), any(), anyInt())).thenReturn(summaries(5).subList(3, 5));
+        when(meetingRepository.countMatching(any())).thenReturn(3L);
+        when(meetingArchive.countMatching(criteria)).thenReturn(2L);
+
+        PagedResultDTO<MeetingSummaryDTO> first = search(criteria, 0);
+        assertThat(first.getContent()).extracting(MeetingSummaryDTO::getId).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(first.getTotalElements()).isEqualTo(5L);
+        verify(meetingArchive, never()).countMatching(any());
+
+        PagedResultDTO<MeetingSummaryDTO> pastTheEnd = search(criteria, 4);
+        assertThat(pastTheEnd.getContent()).isEmpty();
+        assertThat(pastTheEnd.getTotalElements()).isEqualTo(5L);
+        assertThat(pastTheEnd.getTotalPages()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsMeetingsLongerThanTheMaximumDuration() {
+        LocalDateTime start = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+        MeetingService.validateMeetingTime(start, start.plus(Meeting.MAX_DURATION));
+        assertThatThrownBy(() -> MeetingService.validateMeetingTime(start, start.plus(Meeting.MAX_DURATION)
+                .plusMinutes(1))).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("24 giờ");
+    }
+
+    private PagedResultDTO<MeetingSummaryDTO> search(MeetingSearchCriteria criteria, int page) {
+        return service.searchMeetings(criteria, page, 10, "startTime", Sort.Direction.ASC, true);
+    }
+
+    private static List<MeetingSummaryDTO> summaries(int count) {
+        LocalDateTime start = LocalDateTime.of(2026, 3, 2, 9, 0);
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> new MeetingSummaryDTO(id, "Họp " + id, start.plusDays(id),
+                        start.plusDays(id).plusHours(1), MeetingStatus.FINISHED, "Phòng IT", "Phòng 1", "Chủ tọa",
+                        "Thư ký"))
+                .toList();
+    }
+}
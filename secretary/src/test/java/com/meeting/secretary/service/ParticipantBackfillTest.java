@@ -0,0 +1,91 @@
+package com.meeting.secretary.service;
+
+import com.meeting.secretary.archive.MeetingArchive;
+import com.meeting.secretary.dto.MeetingSummaryDTO;
+import com.meeting.secretary.entity.MeetingParticipant;
+import com.meeting.secretary.entity.MeetingStatus;
+import com.meeting.secretary.repository.MeetingParticipantRepository;
+import com.meeting.secretary.repository.MeetingRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ParticipantBackfillTest {
+
+    private final MeetingRepository meetingRepository = mock(MeetingRepository.class);
+    private final MeetingArchive meetingArchive = mock(MeetingArchive.class);
+    private final MeetingParticipantRepository participantRepository = mock(MeetingParticipantRepository.class);
+    private final ParticipantService participantService = mock(ParticipantService.class);
+    private final ParticipantBackfill backfill = new ParticipantBackfill(meetingRepository, meetingArchive,
+            participantRepository, participantService, mock(PlatformTransactionManager.class), true, 2);
+
+    @Test
+    void fillsLiveAndArchivedMeetingsWithoutParticipantsInIdBatches() {
+        when(meetingRepository.findSummariesAfter(anyLong(), any(Limit.class))).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            return afterId == 0 ? List.of(meeting(1L), meeting(2L)) : afterId == 2 ? List.of(meeting(3L)) : List.of();
+        });
+        when(meetingArchive.findSummariesAfter(0L, 2)).thenReturn(List.of(meeting(7L)));
+        // 2 already has its rows
+        when(participantRepository.findByMeetingIdIn(anyList())).thenAnswer(invocation ->
+                invocation.<List<Long>>getArgument(0).contains(2L) ? List.of(row(2L)) : List.of());
+        when(participantRepository.findByMeetingId(anyLong())).thenReturn(List.of());
+        when(meetingRepository.findSummariesByIdIn(anyList())).thenAnswer(invocation ->
+                List.of(meeting(invocation.<List<Long>>getArgument(0).get(0))));
+        when(meetingArchive.findSummariesByIdIn(List.of(7L), null)).thenReturn(List.of(meeting(7L)));
+
+        assertThat(backfill.run()).isEqualTo(3);
+
+        verify(participantService).sync(argThat(meeting -> meeting.getId() == 1L), isNull());
+        verify(participantService).sync(argThat(meeting -> meeting.getId() == 3L), isNull());
+        verify(participantService).sync(argThat(meeting -> meeting.getId() == 7L), isNull());
+        verify(participantService, never()).sync(argThat(meeting -> meeting.getId() == 2L), any());
+        // The second live batch was short, so there is no third query
+        verify(meetingRepository, never()).findSummariesAfter(eq(3L), any(Limit.class));
+    }
+
+    @Test
+    void skipsMeetingsGivenParticipantsOrDeletedSinceTheBatchWasRead() {
+        when(meetingRepository.findSummariesAfter(anyLong(), any(Limit.class))).thenAnswer(invocation ->
+                invocation.<Long>getArgument(0) == 0 ? List.of(meeting(1L), meeting(2L), meeting(3L)) : List.of());
+        when(participantRepository.findByMeetingIdIn(anyList())).thenReturn(List.of());
+        when(participantRepository.findByMeetingId(1L)).thenReturn(List.of(row(1L)));
+        when(participantRepository.findByMeetingId(2L)).thenReturn(List.of());
+        when(participantRepository.findByMeetingId(3L)).thenReturn(List.of());
+        when(meetingRepository.findSummariesByIdIn(List.of(2L))).thenReturn(List.of());
+        when(meetingRepository.findSummariesByIdIn(List.of(3L))).thenReturn(List.of(meeting(3L)));
+        when(participantService.sync(argThat(meeting -> meeting.getId() == 3L), isNull()))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+
+        assertThat(backfill.run()).isZero();
+    }
+
+    private static MeetingSummaryDTO meeting(Long id) {
+        LocalDateTime start = LocalDateTime.of(2024, 5, 6, 9, 0);
+        return new MeetingSummaryDTO(id, "Họp " + id, start, start.plusHours(1),
+                MeetingStatus.FINISHED, "IT", "P1", "An", "Bình");
+    }
+
+    private static MeetingParticipant row(Long meetingId) {
+        MeetingParticipant row = new MeetingParticipant();
+        row.setMeetingId(meetingId);
+        row.setPerson("An");
+        return row;
+    }
+}
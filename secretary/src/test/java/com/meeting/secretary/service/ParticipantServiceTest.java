@@ -0,0 +1,141 @@
+package com.meeting.secretary.service;
+
+import com.meeting.secretary.archive.MeetingArchive;
+import com.meeting.secretary.dto.AgendaDTO;
+import com.meeting.secretary.dto.AgendaItemDTO;
+import com.meeting.secretary.dto.MeetingSummaryDTO;
+import com.meeting.secretary.dto.ParticipantDTO;
+import com.meeting.secretary.entity.MeetingParticipant;
+import com.meeting.secretary.entity.MeetingStatus;
+import com.meeting.secretary.entity.ParticipantRole;
+import com.meeting.secretary.entity.RsvpStatus;
+import com.meeting.secretary.repository.MeetingParticipantRepository;
+import com.meeting.secretary.repository.MeetingRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ParticipantServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 2);
+
+    private final MeetingParticipantRepository participantRepository = mock(MeetingParticipantRepository.class);
+    private final MeetingRepository meetingRepository = mock(MeetingRepository.class);
+    private final MeetingArchive meetingArchive = mock(MeetingArchive.class);
+    private final ParticipantService service =
+            new ParticipantService(participantRepository, meetingRepository, meetingArchive);
+
+    @Test
+    void loadsAnAgendaWithBatchedQueriesAndMarksDoubleBookings() {
+        // 1 and 2 overlap; 3 overlaps 2 but was declined; 4 is archived
+        List<MeetingParticipant> entries = List.of(
+                entry(1L, 9, 11, RsvpStatus.ACCEPTED),
+                entry(2L, 10, 12, RsvpStatus.PENDING),
+                entry(3L, 11, 13, RsvpStatus.DECLINED),
+                entry(4L, 14, 15, RsvpStatus.ACCEPTED));
+        // Meetings started up to the longest meeting length before the day may still run into it
+        when(participantRepository.findAgenda("An", DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay(),
+                DAY.minusDays(1).atStartOfDay())).thenReturn(entries);
+        when(meetingRepository.findSummariesByIdIn(List.of(1L, 2L, 3L, 4L)))
+                .thenReturn(List.of(meeting(1L, 9, 11), meeting(2L, 10, 12), meeting(3L, 11, 13)));
+        when(meetingArchive.findSummariesByIdIn(List.of(4L), DAY.atStartOfDay()))
+                .thenReturn(List.of(meeting(4L, 14, 15)));
+        when(participantRepository.findByMeetingIdIn(List.of(1L, 2L, 3L, 4L))).thenReturn(List.of(
+                participant(1L, "Bình", ParticipantRole.CHAIRMAN), participant(1L, "An", ParticipantRole.REQUIRED)));
+
+        AgendaDTO agenda = service.getAgenda(" An ", DAY, DAY, true);
+
+        assertThat(agenda.getPerson()).isEqualTo("An");
+        assertThat(agenda.getItems()).extracting(item -> item.getMeeting().getId()).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(agenda.getItems()).extracting(AgendaItemDTO::getConflictsWith)
+                .containsExactly(List.of(2L), List.of(1L), List.of(), List.of());
+        assertThat(agenda.getDoubleBooked()).isEqualTo(2);
+        assertThat(agenda.getItems().get(0).getParticipants()).extracting(ParticipantDTO::getPerson)
+                .containsExactly("Bình", "An");
+        verify(meetingRepository, times(1)).findSummariesByIdIn(anyList());
+        verify(participantRepository, times(1)).findByMeetingIdIn(anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void keepsOrganizersWithTheirRolesAndDiffsAttendees() {
+        MeetingSummaryDTO meeting = meeting(7L, 9, 10);
+        MeetingParticipant stays = participant(7L, "Cường", ParticipantRole.OPTIONAL);
+        stays.setRsvp(RsvpStatus.ACCEPTED);
+        MeetingParticipant leaves = participant(7L, "Dũng", ParticipantRole.REQUIRED);
+        when(participantRepository.findByMeetingId(7L)).thenReturn(List.of(stays, leaves));
+        when(participantRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<ParticipantDTO> result = service.sync(meeting, List.of(
+                new ParticipantDTO("Cường", ParticipantRole.REQUIRED, null),
+                new ParticipantDTO("Chủ tọa", ParticipantRole.REQUIRED, RsvpStatus.TENTATIVE),
+                new ParticipantDTO("Em", null, null)));
+
+        assertThat(result).containsExactly(
+                new ParticipantDTO("Chủ tọa", ParticipantRole.CHAIRMAN, RsvpStatus.TENTATIVE),
+                new ParticipantDTO("Thư ký", ParticipantRole.SECRETARY, RsvpStatus.ACCEPTED),
+                new ParticipantDTO("Cường", ParticipantRole.REQUIRED, RsvpStatus.ACCEPTED),
+                new ParticipantDTO("Em", ParticipantRole.REQUIRED, RsvpStatus.PENDING));
+        verify(participantRepository).deleteAllInBatch(List.of(leaves));
+
+        assertThatThrownBy(() -> service.sync(meeting,
+                List.of(new ParticipantDTO("Em", ParticipantRole.SECRETARY, null))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void followsMeetingChanges() {
+        MeetingSummaryDTO before = meeting(5L, 9, 10);
+        MeetingSummaryDTO moved = meeting(5L, 13, 14);
+
+        service.onMeetingChanged(new MeetingChangedEvent(5L, before, moved));
+        service.onMeetingChanged(new MeetingChangedEvent(5L, moved, null));
+
+        verify(participantRepository).updateTimes(5L, moved.getStartTime(), moved.getEndTime());
+        verify(participantRepository).deleteByMeetingId(5L);
+        verify(participantRepository, never()).findByMeetingId(5L);
+    }
+
+    @Test
+    void syncsTheParticipantsGivenWithAWriteOnce() {
+        MeetingSummaryDTO created = meeting(6L, 9, 10);
+        when(participantRepository.findByMeetingId(6L)).thenReturn(List.of());
+        when(participantRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.onMeetingChanged(new MeetingChangedEvent(6L, null, created,
+                List.of(new ParticipantDTO("Em", null, null))));
+
+        verify(participantRepository, times(1)).findByMeetingId(6L);
+        verify(participantRepository).saveAll(argThat(rows -> rows.spliterator().getExactSizeIfKnown() == 3));
+    }
+
+    private static MeetingParticipant entry(Long meetingId, int fromHour, int toHour, RsvpStatus rsvp) {
+        return new MeetingParticipant(null, meetingId, "An", ParticipantRole.REQUIRED, rsvp,
+                at(fromHour), at(toHour));
+    }
+
+    private static MeetingParticipant participant(Long meetingId, String person, ParticipantRole role) {
+        return new MeetingParticipant(null, meetingId, person, role, RsvpStatus.PENDING, at(9), at(10));
+    }
+
+    private static MeetingSummaryDTO meeting(Long id, int fromHour, int toHour) {
+        return new MeetingSummaryDTO(id, "Họp " + id, at(fromHour), at(toHour), MeetingStatus.SCHEDULED,
+                "Phòng IT", "Phòng 1", "Chủ tọa", "Thư ký");
+    }
+
+    private static LocalDateTime at(int hour) {
+        return DAY.atTime(hour, 0);
+    }
+}
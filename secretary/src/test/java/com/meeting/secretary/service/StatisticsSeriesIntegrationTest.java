@@ -0,0 +1,95 @@
+package com.meeting.secretary.service;
+
+import com.meeting.secretary.dto.StatisticsBucket;
+import com.meeting.secretary.dto.StatisticsGroupBy;
+import com.meeting.secretary.dto.StatisticsSeriesDTO;
+import com.meeting.secretary.entity.Meeting;
+import com.meeting.secretary.entity.MeetingStatus;
+import com.meeting.secretary.repository.MeetingRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The hourly GROUP BY queries behind the statistics series, on a real in-memory database
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statistics;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "meetings.archive.enabled=false"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StatisticsSeriesIntegrationTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 6, 2);
+    private static final LocalDate TO = LocalDate.of(2025, 6, 4);
+
+    @Autowired
+    private StatisticsSeriesService service;
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @BeforeAll
+    void storeMeetings() {
+        meetingRepository.saveAll(List.of(
+                meeting(LocalDateTime.of(2025, 6, 2, 9, 0), MeetingStatus.FINISHED, "Kế toán", "Phòng 1"),
+                meeting(LocalDateTime.of(2025, 6, 2, 9, 30), MeetingStatus.FINISHED, "Kế toán", "Phòng 2"),
+                meeting(LocalDateTime.of(2025, 6, 3, 23, 0), MeetingStatus.SCHEDULED, "Nhân sự", "Phòng 1"),
+                meeting(LocalDateTime.of(2025, 6, 5, 0, 0), MeetingStatus.SCHEDULED, "Nhân sự", "Phòng 1")));
+    }
+
+    @Test
+    void countsPerDayInTheStorageZone() {
+        StatisticsSeriesDTO series = series(StatisticsGroupBy.NONE, null);
+
+        assertThat(series.getTotals()).containsExactly(2L, 1L, 0L);
+    }
+
+    @Test
+    void shiftsStoredHoursIntoTheRequestedZone() {
+        // 23:00 in Ho Chi Minh City is 16:00 UTC the same day; midnight on 5 June is 4 June 17:00 UTC
+        StatisticsSeriesDTO series = series(StatisticsGroupBy.NONE, "UTC");
+
+        assertThat(series.getTotals()).containsExactly(2L, 1L, 1L);
+    }
+
+    @Test
+    void groupsByStatusDepartmentAndRoom() {
+        assertThat(series(StatisticsGroupBy.STATUS, null).getSeries())
+                .containsEntry("FINISHED", List.of(2L, 0L, 0L))
+                .containsEntry("SCHEDULED", List.of(0L, 1L, 0L));
+        assertThat(series(StatisticsGroupBy.DEPARTMENT, null).getSeries())
+                .containsEntry("Kế toán", List.of(2L, 0L, 0L))
+                .containsEntry("Nhân sự", List.of(0L, 1L, 0L));
+        assertThat(series(StatisticsGroupBy.ROOM, null).getSeries())
+                .containsEntry("Phòng 1", List.of(1L, 1L, 0L))
+                .containsEntry("Phòng 2", List.of(1L, 0L, 0L));
+    }
+
+    private StatisticsSeriesDTO series(StatisticsGroupBy groupBy, String timeZone) {
+        return service.getSeries(FROM, TO, StatisticsBucket.DAY, groupBy, timeZone);
+    }
+
+    private static Meeting meeting(LocalDateTime start, MeetingStatus status, String department, String room) {
+        Meeting meeting = new Meeting();
+        meeting.setTitle("Họp " + department);
+        meeting.setStartTime(start);
+        meeting.setEndTime(start.plusHours(1));
+        meeting.setStatus(status);
+        meeting.setDepartment(department);
+        meeting.setRoom(room);
+        meeting.setChairman("Chủ tọa");
+        meeting.setSecretary("Thư ký");
+        return meeting;
+    }
+}
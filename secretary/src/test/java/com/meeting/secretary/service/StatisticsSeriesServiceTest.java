@@ -0,0 +1,167 @@
+package com.meeting.secretary.service;
+
+import com.meeting.secretary.archive.MeetingArchive;
+import com.meeting.secretary.cache.CacheCoherence;
+import com.meeting.secretary.cache.CacheRegion;
+import com.meeting.secretary.dto.MeetingSummaryDTO;
+import com.meeting.secretary.dto.StatisticsBucket;
+import com.meeting.secretary.dto.StatisticsGroupBy;
+import com.meeting.secretary.dto.StatisticsSeriesDTO;
+import com.meeting.secretary.entity.MeetingStatus;
+import com.meeting.secretary.repository.ArchivedMeetingRepository;
+import com.meeting.secretary.repository.MeetingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StatisticsSeriesServiceTest {
+
+    private static final LocalDate MARCH_1 = LocalDate.of(2025, 3, 1);
+    private static final LocalDate MARCH_3 = LocalDate.of(2025, 3, 3);
+
+    private final MeetingRepository meetingRepository = mock(MeetingRepository.class);
+    private final MeetingArchive meetingArchive = mock(MeetingArchive.class);
+    private final CacheCoherence cacheCoherence = mock(CacheCoherence.class);
+    private StatisticsSeriesService service;
+
+    @BeforeEach
+    void setUp() {
+        when(cacheCoherence.isFresh()).thenReturn(true);
+        when(meetingArchive.rows(any(), any())).thenReturn(List.of());
+        service = new StatisticsSeriesService(meetingRepository, mock(ArchivedMeetingRepository.class),
+                meetingArchive, cacheCoherence, "Asia/Ho_Chi_Minh", 8);
+    }
+
+    @Test
+    void bucketsStoredHoursIntoDaysOfTheRequestedZoneAcrossADstChange() {
+        // New York falls back on 2 November 2025, so that day has 25 hours
+        when(meetingRepository.countHourly(any(), any())).thenReturn(rows(
+                row(LocalDate.of(2025, 11, 2), 10, 1),       // 1 Nov 23:00 EDT
+                row(Date.valueOf("2025-11-02"), 11, 2),      // 2 Nov 00:00 EDT
+                row(LocalDate.of(2025, 11, 3), 11, 3),       // 2 Nov 23:00 EST
+                row(LocalDate.of(2025, 11, 3), 12, 4)));     // 3 Nov 00:00 EST
+
+        StatisticsSeriesDTO series = service.getSeries(LocalDate.of(2025, 11, 1), LocalDate.of(2025, 11, 3),
+                StatisticsBucket.DAY, StatisticsGroupBy.NONE, "America/New_York");
+
+        verify(meetingRepository).countHourly(
+                LocalDateTime.of(2025, 11, 1, 11, 0), LocalDateTime.of(2025, 11, 4, 12, 0));
+        assertThat(series.getTimeZone()).isEqualTo("America/New_York");
+        assertThat(series.getBuckets()).containsExactly(
+                LocalDate.of(2025, 11, 1), LocalDate.of(2025, 11, 2), LocalDate.of(2025, 11, 3));
+        assertThat(series.getTotals()).containsExactly(1L, 5L, 4L);
+    }
+
+    @Test
+    void alignsWeeksOnMondaysOfTheRequestedZone() {
+        when(meetingRepository.countHourlyByStatus(any(), any())).thenReturn(rows(
+                row(LocalDate.of(2025, 11, 3), 10, MeetingStatus.FINISHED, 2),   // Sunday 2 Nov 22:00 EST
+                row(LocalDate.of(2025, 11, 3), 14, MeetingStatus.SCHEDULED, 1))); // Monday 3 Nov 02:00 EST
+
+        StatisticsSeriesDTO series = service.getSeries(LocalDate.of(2025, 10, 30), LocalDate.of(2025, 11, 5),
+                StatisticsBucket.WEEK, StatisticsGroupBy.STATUS, "America/New_York");
+
+        assertThat(series.getBuckets()).containsExactly(LocalDate.of(2025, 10, 27), LocalDate.of(2025, 11, 3));
+        assertThat(series.getTotals()).containsExactly(2L, 1L);
+        assertThat(series.getSeries()).containsEntry("FINISHED", List.of(2L, 0L))
+                .containsEntry("SCHEDULED", List.of(0L, 1L));
+    }
+
+    @Test
+    void servesClosedDaysFromTheCacheUntilAMeetingOnThemChanges() {
+        when(meetingRepository.countHourly(any(), any())).thenReturn(rows(row(LocalDate.of(2025, 3, 2), 9, 3)));
+
+        assertThat(series().getTotals()).containsExactly(0L, 3L, 0L);
+        assertThat(series().getTotals()).containsExactly(0L, 3L, 0L);
+        verify(meetingRepository, times(1)).countHourly(any(), any());
+
+        service.onMeetingChanged(new MeetingChangedEvent(1L, null, meeting(LocalDateTime.of(2025, 3, 2, 15, 0))));
+        series();
+
+        // Only the changed day is counted again
+        verify(meetingRepository).countHourly(LocalDateTime.of(2025, 3, 2, 0, 0), LocalDateTime.of(2025, 3, 3, 0, 0));
+        verify(meetingRepository, times(2)).countHourly(any(), any());
+    }
+
+    @Test
+    void doesNotCacheDaysCountedWhileAnInvalidationArrived() {
+        AtomicBoolean changeDuringQuery = new AtomicBoolean(true);
+        when(meetingRepository.countHourly(any(), any())).thenAnswer(invocation -> {
+            if (changeDuringQuery.getAndSet(false)) {
+                // A meeting on another day changes while this query runs
+                MeetingSummaryDTO other = meeting(LocalDateTime.of(2024, 1, 1, 9, 0));
+                service.onMeetingChanged(new MeetingChangedEvent(2L, other, null));
+            }
+            return rows(row(LocalDate.of(2025, 3, 1), 9, 1));
+        });
+
+        series();
+        series();
+        series();
+
+        // The first result may predate the change, so the second call counts again and only then caches
+        verify(meetingRepository, times(2)).countHourly(any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void evictsDaysInvalidatedByOtherInstances() {
+        ArgumentCaptor<Consumer<String>> evictor = ArgumentCaptor.forClass(Consumer.class);
+        verify(cacheCoherence).register(eq(CacheRegion.STATISTICS), evictor.capture(), any());
+        when(meetingRepository.countHourly(any(), any())).thenReturn(rows());
+        series();
+
+        evictor.getValue().accept(LocalDateTime.of(2025, 3, 3, 8, 0).toString());
+        series();
+        evictor.getValue().accept(null);
+        series();
+
+        verify(meetingRepository).countHourly(LocalDateTime.of(2025, 3, 3, 0, 0), LocalDateTime.of(2025, 3, 4, 0, 0));
+        verify(meetingRepository, times(2))
+                .countHourly(LocalDateTime.of(2025, 3, 1, 0, 0), LocalDateTime.of(2025, 3, 4, 0, 0));
+    }
+
+    @Test
+    void bypassesTheCacheWhileCoherenceIsStale() {
+        when(meetingRepository.countHourly(any(), any())).thenReturn(rows());
+        when(cacheCoherence.isFresh()).thenReturn(false);
+
+        series();
+        series();
+
+        verify(meetingRepository, times(2)).countHourly(any(), any());
+    }
+
+    private StatisticsSeriesDTO series() {
+        return service.getSeries(MARCH_1, MARCH_3, StatisticsBucket.DAY, StatisticsGroupBy.NONE, null);
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return List.of(rows);
+    }
+
+    private static Object[] row(Object... values) {
+        return values;
+    }
+
+    private static MeetingSummaryDTO meeting(LocalDateTime startTime) {
+        MeetingSummaryDTO meeting = new MeetingSummaryDTO();
+        meeting.setStartTime(startTime);
+        return meeting;
+    }
+}
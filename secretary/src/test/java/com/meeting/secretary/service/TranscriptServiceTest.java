@@ -0,0 +1,82 @@
+package com.meeting.secretary.service;
+
+import com.meeting.secretary.entity.TranscriptSegment;
+import com.meeting.secretary.repository.TranscriptSegmentRepository;
+import com.meeting.secretary.transcript.LocalTranscriptSource;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TranscriptServiceTest {
+
+    private final TranscriptSegmentRepository repository = mock(TranscriptSegmentRepository.class);
+    private final LocalTranscriptSource liveSource = mock(LocalTranscriptSource.class);
+    private final TranscriptService service = new TranscriptService(repository, liveSource);
+
+    @Test
+    void storesLongTextAsSegmentsThatFitTheColumn() {
+        // A surrogate pair straddles the first cut
+        String text = "a".repeat(TranscriptSegment.MAX_TEXT_LENGTH - 1) + "😀" + "b".repeat(5000);
+
+        service.append(7L, text);
+
+        ArgumentCaptor<TranscriptSegment> saved = ArgumentCaptor.forClass(TranscriptSegment.class);
+        verify(repository, times(3)).save(saved.capture());
+        List<String> pieces = saved.getAllValues().stream().map(TranscriptSegment::getText).toList();
+        assertThat(pieces).allSatisfy(piece -> assertThat(piece.length()).isLessThanOrEqualTo(4000));
+        assertThat(pieces.get(0)).hasSize(TranscriptSegment.MAX_TEXT_LENGTH - 1);
+        assertThat(String.join("", pieces)).isEqualTo(text);
+        assertThat(saved.getAllValues()).extracting(TranscriptSegment::getMeetingId).containsOnly(7L);
+        verify(liveSource).publish(7L, text);
+    }
+
+    @Test
+    void ignoresBlankText() {
+        service.append(7L, "  ");
+
+        verify(repository, never()).save(any());
+        verify(liveSource, never()).publish(anyLong(), any());
+    }
+
+    @Test
+    void iteratesTheTranscriptInKeysetPages() {
+        List<TranscriptSegment> all = LongStream.rangeClosed(1, 501).mapToObj(id -> segment(id, "dòng " + id)).toList();
+        when(repository.findByMeetingIdAndIdGreaterThanOrderByIdAsc(eq(7L), anyLong(), any(Limit.class)))
+                .thenAnswer(invocation -> {
+                    long after = invocation.getArgument(1);
+                    int limit = invocation.<Limit>getArgument(2).max();
+                    return all.stream().filter(segment -> segment.getId() > after).limit(limit).toList();
+                });
+
+        List<String> lines = new ArrayList<>();
+        Iterator<String> iterator = service.iterateLines(7L);
+        iterator.forEachRemaining(lines::add);
+
+        assertThat(lines).hasSize(501).startsWith("dòng 1").endsWith("dòng 501");
+        verify(repository).findByMeetingIdAndIdGreaterThanOrderByIdAsc(7L, 0L, Limit.of(500));
+        verify(repository).findByMeetingIdAndIdGreaterThanOrderByIdAsc(7L, 500L, Limit.of(500));
+    }
+
+    private static TranscriptSegment segment(long id, String text) {
+        TranscriptSegment segment = new TranscriptSegment();
+        segment.setId(id);
+        segment.setMeetingId(7L);
+        segment.setText(text);
+        return segment;
+    }
+}
@@ -0,0 +1,147 @@
+package com.meeting.secretary.sharding;
+
+import com.meeting.secretary.archive.MeetingArchiver;
+import com.meeting.secretary.dto.MeetingDTO;
+import com.meeting.secretary.entity.Meeting;
+import com.meeting.secretary.entity.MeetingStatus;
+import com.meeting.secretary.repository.MeetingRepository;
+import com.meeting.secretary.service.MeetingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Sharding against three real in-memory databases: the primary and two shards
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sharded0;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "datasource.shards.urls=jdbc:h2:mem:sharded1;MODE=MySQL;DB_CLOSE_DELAY=-1,"
+                + "jdbc:h2:mem:sharded2;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "meetings.archive.enabled=false"})
+class MeetingShardsIntegrationTest {
+
+    private static final String FIRST = "Kế toán";
+    private static final String SECOND = "Nhân sự";
+
+    @Autowired
+    private MeetingService meetingService;
+    @Autowired
+    private MeetingRepository meetingRepository;
+    @Autowired
+    private MeetingArchiver meetingArchiver;
+    @Autowired
+    private MeetingShards shards;
+    @Autowired
+    private ShardDirectory directory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void placeDepartments() {
+        directory.reassign(FIRST, 1);
+        directory.reassign(SECOND, 2);
+    }
+
+    @Test
+    void storesAMeetingOnItsShardAndItsChangeLogOnThePrimary() {
+        MeetingDTO dto = new MeetingDTO();
+        dto.setTitle(uniqueTitle());
+        dto.setStartTime(LocalDateTime.now().plusDays(3).withNano(0));
+        dto.setEndTime(dto.getStartTime().plusHours(1));
+        dto.setDepartment(FIRST);
+        dto.setRoom("Phòng 1");
+        dto.setChairman("Chủ tọa");
+        dto.setSecretary("Thư ký");
+
+        Meeting created = meetingService.createMeeting(dto);
+
+        assertThat(countOnEachShard("SELECT COUNT(*) FROM meetings WHERE id = ?", created.getId()))
+                .containsExactly(0L, 1L, 0L);
+        assertThat(count(0, "SELECT COUNT(*) FROM change_log WHERE entity_id = ?", created.getId())).isPositive();
+        assertThat(count(0, "SELECT COUNT(*) FROM meeting_participants WHERE meeting_id = ?", created.getId()))
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void rollsBackEveryShardWithTheCallersTransaction() {
+        String title = uniqueTitle();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        assertThatThrownBy(() -> transaction.executeWithoutResult(status -> {
+            meetingRepository.save(meeting(title, FIRST, LocalDateTime.now().plusDays(1)));
+            meetingRepository.save(meeting(title, SECOND, LocalDateTime.now().plusDays(1)));
+            throw new IllegalStateException("Lỗi giữa giao dịch");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(countOnEachShard("SELECT COUNT(*) FROM meetings WHERE title = ?", title))
+                .containsExactly(0L, 0L, 0L);
+    }
+
+    @Test
+    void seesItsOwnShardWritesAndCommitsThemWithThePrimary() {
+        String title = uniqueTitle();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        Long id = transaction.execute(status -> {
+            Meeting saved = meetingRepository.save(meeting(title, SECOND, LocalDateTime.now().plusDays(2)));
+            // Not committed yet, so only visible through the transaction's own connection to the shard
+            assertThat(count(2, "SELECT COUNT(*) FROM meetings WHERE title = ?", title)).isZero();
+            assertThat(meetingRepository.findById(saved.getId())).isPresent();
+            assertThat(meetingRepository.findByDepartment(SECOND)).extracting(Meeting::getTitle).contains(title);
+            return saved.getId();
+        });
+
+        assertThat(countOnEachShard("SELECT COUNT(*) FROM meetings WHERE id = ?", id)).containsExactly(0L, 0L, 1L);
+    }
+
+    @Test
+    void archivesAMeetingOnItsOwnShard() {
+        Meeting old = meetingRepository.save(meeting(uniqueTitle(), FIRST, LocalDateTime.now().minusYears(2)));
+
+        assertThat(meetingArchiver.archiveDue()).isPositive();
+
+        assertThat(count(1, "SELECT COUNT(*) FROM meetings WHERE id = ?", old.getId())).isZero();
+        assertThat(countOnEachShard("SELECT COUNT(*) FROM meetings_archive WHERE id = ?", old.getId()))
+                .containsExactly(0L, 1L, 0L);
+    }
+
+    private List<Long> countOnEachShard(String sql, Object argument) {
+        return List.of(count(0, sql, argument), count(1, sql, argument), count(2, sql, argument));
+    }
+
+    private long count(int shard, String sql, Object argument) {
+        return new JdbcTemplate(shards.dataSource(shard)).queryForObject(sql, Long.class, argument);
+    }
+
+    private static Meeting meeting(String title, String department, LocalDateTime start) {
+        Meeting meeting = new Meeting();
+        meeting.setTitle(title);
+        meeting.setStartTime(start.withNano(0));
+        meeting.setEndTime(meeting.getStartTime().plusHours(1));
+        meeting.setStatus(start.isBefore(LocalDateTime.now()) ? MeetingStatus.FINISHED : MeetingStatus.SCHEDULED);
+        meeting.setDepartment(department);
+        meeting.setRoom("Phòng " + department);
+        meeting.setChairman("Chủ tọa");
+        meeting.setSecretary("Thư ký");
+        return meeting;
+    }
+
+    private static String uniqueTitle() {
+        return "Họp " + UUID.randomUUID();
+    }
+}
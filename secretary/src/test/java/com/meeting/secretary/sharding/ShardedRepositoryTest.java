@@ -0,0 +1,145 @@
+package com.meeting.secretary.sharding;
+
+import com.meeting.secretary.cache.CacheCoherence;
+import com.meeting.secretary.cache.LocalInvalidationTransport;
+import com.meeting.secretary.dto.MeetingSummaryDTO;
+import com.meeting.secretary.entity.Meeting;
+import com.meeting.secretary.entity.MeetingStatus;
+import com.meeting.secretary.repository.MeetingRepository;
+import com.meeting.secretary.repository.ShardAssignmentRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ShardedRepositoryTest {
+
+    private final MeetingRepository target = mock(MeetingRepository.class);
+    private final ShardAssignmentRepository assignments = mock(ShardAssignmentRepository.class);
+    private final MeetingShards shards = new MeetingShards(
+            new ShardRoutingDataSource(List.of(mock(HikariDataSource.class), mock(HikariDataSource.class))),
+            mock(PlatformTransactionManager.class), mock(EntityManagerFactory.class));
+    private final ShardDirectory directory = new ShardDirectory(assignments, shards,
+            new CacheCoherence(new LocalInvalidationTransport(), new SimpleMeterRegistry(), "test", 5000, 1000, 1000),
+            60_000);
+    private final MeetingRepository repository = ShardedRepository.create(MeetingRepository.class, target,
+            ShardMover.MEETINGS, shards, directory, new ShardMover(shards, directory, 100));
+
+    @AfterEach
+    void close() {
+        directory.close();
+        shards.close();
+    }
+
+    @Test
+    void mergesCountsAndLookupsOfAllShards() {
+        when(target.count()).thenAnswer(invocation -> ShardContext.current() == 0 ? 3L : 4L);
+        when(target.findById(anyLong())).thenAnswer(invocation ->
+                ShardContext.current() == 1 ? Optional.of(meeting(7L, "IT", 9)) : Optional.empty());
+        when(target.countByDepartmentGrouped()).thenAnswer(invocation -> List.<Object[]>of(
+                new Object[]{ShardContext.current() == 0 ? "HR" : "IT", 2L}));
+
+        assertThat(repository.count()).isEqualTo(7L);
+        assertThat(repository.findById(7L)).map(Meeting::getId).contains(7L);
+        assertThat(repository.countByDepartmentGrouped()).extracting(row -> row[0]).containsExactly("HR", "IT");
+    }
+
+    @Test
+    void sendsDepartmentQueriesToTheDepartmentShardOnly() {
+        int shard = directory.shardOf("IT");
+        when(target.findByDepartment("IT")).thenAnswer(invocation -> ShardContext.current() == shard
+                ? List.of(meeting(1L, "IT", 9)) : List.of(meeting(2L, "IT", 9)));
+
+        assertThat(repository.findByDepartment("IT")).extracting(Meeting::getId).containsExactly(1L);
+    }
+
+    @Test
+    void placesADepartmentOnItsFirstSaveButNotOnReads() {
+        when(target.findByDepartment("Phòng lạ")).thenReturn(List.of());
+        when(target.save(any(Meeting.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertThat(repository.findByDepartment("Phòng lạ")).isEmpty();
+        verify(assignments, never()).saveAndFlush(any());
+        assertThat(directory.getAssignments()).doesNotContainKey("Phòng lạ");
+
+        repository.save(meeting(null, "Phòng lạ", 9));
+        verify(assignments).saveAndFlush(argThat(assignment -> assignment.getDepartment().equals("Phòng lạ")
+                && assignment.getShard() == directory.shardOf("Phòng lạ")));
+        assertThat(directory.getAssignments()).containsKey("Phòng lạ");
+    }
+
+    @Test
+    void cutsSearchPagesFromTheMergedRowsOfEveryShard() {
+        // Shard 0 holds meetings at 8, 10, 12 o'clock, shard 1 at 9, 11, 13
+        when(target.searchSummaries(any(), any())).thenAnswer(invocation -> {
+            Pageable window = invocation.getArgument(1);
+            assertThat(window.getOffset()).isZero();
+            int first = 8 + ShardContext.current();
+            return List.of(summary(first), summary(first + 2), summary(first + 4)).subList(0,
+                    Math.min(3, window.getPageSize() + 1));
+        });
+
+        Specification<Meeting> everything = (root, query, builder) -> null;
+        List<MeetingSummaryDTO> page = repository.searchSummaries(everything,
+                PageRequest.of(1, 2, Sort.by("startTime")));
+
+        // Hours 10 and 11, plus 12 telling the caller there is a next page
+        assertThat(page).extracting(summary -> summary.getStartTime().getHour()).containsExactly(10, 11, 12);
+    }
+
+    @Test
+    void cutsLimitedBatchesInIdOrderFromEveryShard() {
+        // Shard 0 holds ids 8, 10, 12, shard 1 holds 9, 11, 13
+        when(target.findSummariesAfter(anyLong(), any(Limit.class))).thenAnswer(invocation -> {
+            int first = 8 + ShardContext.current();
+            return List.of(summary(first + 4), summary(first), summary(first + 2)).stream()
+                    .filter(summary -> summary.getId() > (Long) invocation.getArgument(0)).toList();
+        });
+
+        assertThat(repository.findSummariesAfter(8L, Limit.of(3))).extracting(MeetingSummaryDTO::getId)
+                .containsExactly(9L, 10L, 11L);
+    }
+
+    @Test
+    void startsEachShardAboveTheLargestIdInItsOwnSeries() {
+        assertThat(ShardSchemaInitializer.nextId(0, 0, 3)).isEqualTo(1);
+        assertThat(ShardSchemaInitializer.nextId(0, 2, 3)).isEqualTo(3);
+        assertThat(ShardSchemaInitializer.nextId(10, 0, 3)).isEqualTo(13);
+        assertThat(ShardSchemaInitializer.nextId(10, 1, 3)).isEqualTo(11);
+        assertThat(ShardSchemaInitializer.nextId(10, 2, 3)).isEqualTo(12);
+    }
+
+    private static Meeting meeting(Long id, String department, int hour) {
+        Meeting meeting = new Meeting();
+        meeting.setId(id);
+        meeting.setDepartment(department);
+        meeting.setStartTime(LocalDateTime.of(2026, 11, 2, hour, 0));
+        return meeting;
+    }
+
+    private static MeetingSummaryDTO summary(int hour) {
+        LocalDateTime start = LocalDateTime.of(2026, 11, 2, hour, 0);
+        return new MeetingSummaryDTO((long) hour, "Họp " + hour, start, start.plusHours(1),
+                MeetingStatus.SCHEDULED, "IT", "P1", "An", "Bình");
+    }
+}
@@ -0,0 +1,198 @@
+package com.meeting.secretary.status;
+
+import com.meeting.secretary.archive.MeetingArchive;
+import com.meeting.secretary.dto.MeetingSummaryDTO;
+import com.meeting.secretary.dto.MeetingStatusUpdateDTO;
+import com.meeting.secretary.entity.MeetingStatus;
+import com.meeting.secretary.exception.ResourceNotFoundException;
+import com.meeting.secretary.repository.MeetingRepository;
+import com.meeting.secretary.service.MeetingChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MeetingStatusWriteBehindTest {
+
+    private final MeetingRepository meetingRepository = mock(MeetingRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final MeetingArchive meetingArchive = mock(MeetingArchive.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void unknownMeetingsAreNotArchived() {
+        when(meetingArchive.writeRejected(anyLong()))
+                .thenAnswer(invocation -> new ResourceNotFoundException("Cuộc họp", invocation.getArgument(0)));
+    }
+
+    @Test
+    void coalescesUpdatesIntoOneStatementPerStatus() {
+        // SYNC mode starts no flusher thread, flush() is driven by the test
+        MeetingStatusWriteBehind writeBehind = new MeetingStatusWriteBehind(meetingRepository, eventPublisher,
+                meetingArchive, mock(PlatformTransactionManager.class), registry, "SYNC", StatusDurability.MEMORY, 10, 100, 500, 1000);
+        when(meetingRepository.findSummariesByIdIn(anyCollection())).thenReturn(List.of(
+                summary(1L, MeetingStatus.SCHEDULED), summary(2L, MeetingStatus.SCHEDULED)));
+        when(meetingRepository.updateStatusIn(anyCollection(), any(), any())).thenReturn(2);
+
+        writeBehind.submit(1L, MeetingStatus.FINISHED);
+        writeBehind.submit(2L, MeetingStatus.ONGOING);
+        writeBehind.submit(1L, MeetingStatus.ONGOING);
+        writeBehind.submit(3L, MeetingStatus.ONGOING);
+        assertThat(writeBehind.getPendingCount()).isEqualTo(3);
+
+        writeBehind.flush();
+
+        assertThat(writeBehind.getPendingCount()).isZero();
+        verify(meetingRepository, times(1)).updateStatusIn(eq(List.of(1L, 2L)), eq(MeetingStatus.ONGOING), any());
+        verify(eventPublisher, times(2)).publishEvent(any(MeetingChangedEvent.class));
+        assertThat(registry.get("meetings.status.writebehind.coalesced").counter().count()).isEqualTo(1);
+        assertThat(registry.get("meetings.status.writebehind.unknown").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void flushedDurabilityAnswersOnlyOnceTheUpdateIsCommitted() throws Exception {
+        MeetingStatusWriteBehind writeBehind = writeBehind(StatusDurability.FLUSHED);
+        when(meetingRepository.findSummariesByIdIn(anyCollection()))
+                .thenReturn(List.of(summary(1L, MeetingStatus.SCHEDULED)));
+        when(meetingRepository.updateStatusIn(anyCollection(), any(), any())).thenReturn(1);
+
+        CompletableFuture<MeetingStatusUpdateDTO> known = submitAsync(writeBehind, 1L, MeetingStatus.ONGOING);
+        CompletableFuture<MeetingStatusUpdateDTO> unknown = submitAsync(writeBehind, 9L, MeetingStatus.ONGOING);
+        awaitPending(writeBehind, 2);
+        assertThat(known).isNotDone();
+
+        writeBehind.flush();
+
+        assertThat(known.get().isPersisted()).isTrue();
+        assertThat(known.get().getDurability()).isEqualTo(StatusDurability.FLUSHED);
+        assertThatThrownBy(unknown::get).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void flushedDurabilityRejectsAnArchivedMeetingLikeASynchronousUpdate() {
+        MeetingStatusWriteBehind writeBehind = writeBehind(StatusDurability.FLUSHED);
+        when(meetingRepository.findSummariesByIdIn(anyCollection())).thenReturn(List.of());
+        when(meetingArchive.writeRejected(8L))
+                .thenReturn(new IllegalArgumentException("Cuộc họp đã được lưu trữ, không thể chỉnh sửa"));
+
+        CompletableFuture<MeetingStatusUpdateDTO> archived = submitAsync(writeBehind, 8L, MeetingStatus.ONGOING);
+        awaitPending(writeBehind, 1);
+        writeBehind.flush();
+
+        assertThatThrownBy(archived::get).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void flushedDurabilityReportsAFailedFlushAndDoesNotRetryIt() throws Exception {
+        MeetingStatusWriteBehind writeBehind = writeBehind(StatusDurability.FLUSHED);
+        when(meetingRepository.findSummariesByIdIn(anyCollection()))
+                .thenReturn(List.of(summary(1L, MeetingStatus.SCHEDULED)));
+        when(meetingRepository.updateStatusIn(anyCollection(), any(), any()))
+                .thenThrow(new IllegalStateException("deadlock"));
+
+        CompletableFuture<MeetingStatusUpdateDTO> update = submitAsync(writeBehind, 1L, MeetingStatus.ONGOING);
+        awaitPending(writeBehind, 1);
+        writeBehind.flush();
+
+        assertThatThrownBy(update::get).hasCauseInstanceOf(IllegalStateException.class);
+        // The caller got the error, so nothing stays buffered
+        assertThat(writeBehind.getPendingCount()).isZero();
+        assertThat(registry.get("meetings.status.writebehind.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void aBulkStatusChangeDiscardsBufferedUpdatesOfItsMeetings() {
+        MeetingStatusWriteBehind writeBehind = writeBehind(StatusDurability.MEMORY);
+        when(meetingRepository.findSummariesByIdIn(anyCollection()))
+                .thenReturn(List.of(summary(2L, MeetingStatus.SCHEDULED)));
+        writeBehind.submit(1L, MeetingStatus.FINISHED);
+        writeBehind.submit(2L, MeetingStatus.ONGOING);
+
+        writeBehind.discard(List.of(1L, 3L));
+        writeBehind.flush();
+
+        verify(meetingRepository).findSummariesByIdIn(List.of(2L));
+        verify(meetingRepository, never()).updateStatusIn(eq(List.of(1L)), any(), any());
+        assertThat(registry.get("meetings.status.writebehind.discarded").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void discardedUpdatesAcknowledgeWaitingFlushedSubmitters() throws Exception {
+        MeetingStatusWriteBehind writeBehind = writeBehind(StatusDurability.FLUSHED);
+
+        CompletableFuture<MeetingStatusUpdateDTO> update = submitAsync(writeBehind, 1L, MeetingStatus.ONGOING);
+        awaitPending(writeBehind, 1);
+        writeBehind.discard(List.of(1L));
+        writeBehind.flush();
+
+        assertThat(update.get().getMeetingId()).isEqualTo(1L);
+        verify(meetingRepository, never()).findSummariesByIdIn(anyCollection());
+    }
+
+    @Test
+    void discardedUpdatesComeBackWhenTheBulkChangeRollsBack() {
+        MeetingStatusWriteBehind writeBehind = writeBehind(StatusDurability.MEMORY);
+        writeBehind.submit(1L, MeetingStatus.FINISHED);
+        writeBehind.submit(2L, MeetingStatus.ONGOING);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            writeBehind.discard(List.of(1L, 2L));
+            writeBehind.submit(2L, MeetingStatus.SCHEDULED);
+            assertThat(writeBehind.getPendingCount()).isEqualTo(1);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        when(meetingRepository.findSummariesByIdIn(anyCollection())).thenReturn(List.of(
+                summary(1L, MeetingStatus.SCHEDULED), summary(2L, MeetingStatus.ONGOING)));
+        writeBehind.flush();
+        // 1 is back; 2 keeps the newer update
+        verify(meetingRepository).updateStatusIn(eq(List.of(1L)), eq(MeetingStatus.FINISHED), any());
+        verify(meetingRepository).updateStatusIn(eq(List.of(2L)), eq(MeetingStatus.SCHEDULED), any());
+    }
+
+    // SYNC mode starts no flusher thread, flush() is driven by the test
+    private MeetingStatusWriteBehind writeBehind(StatusDurability durability) {
+        return new MeetingStatusWriteBehind(meetingRepository, eventPublisher, meetingArchive,
+                mock(PlatformTransactionManager.class), registry, "SYNC", durability, 10, 100, 500, 5000);
+    }
+
+    private static CompletableFuture<MeetingStatusUpdateDTO> submitAsync(MeetingStatusWriteBehind writeBehind,
+                                                                         Long id, MeetingStatus status) {
+        return CompletableFuture.supplyAsync(() -> writeBehind.submit(id, status));
+    }
+
+    private static void awaitPending(MeetingStatusWriteBehind writeBehind, int count) {
+        while (writeBehind.getPendingCount() < count) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static MeetingSummaryDTO summary(Long id, MeetingStatus status) {
+        return new MeetingSummaryDTO(id, "Họp " + id, null, null, status, "IT", "P" + id, "An", "Bình");
+    }
+}
@@ -0,0 +1,79 @@
+package com.meeting.secretary.transcript;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TranscriptHubTest {
+
+    @Test
+    void slowViewerDoesNotDelayFastViewer() throws Exception {
+        LocalTranscriptSource source = new LocalTranscriptSource();
+        TranscriptHub hub = new TranscriptHub(source, 4, OverflowPolicy.DROP_OLDEST);
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch fastDone = new CountDownLatch(10);
+        List<String> fastLines = new CopyOnWriteArrayList<>();
+
+        hub.join(1L, new RecordingSink(fastLines, fastDone, null));
+        ViewerChannel slow = hub.join(1L, new RecordingSink(new CopyOnWriteArrayList<>(), null, release));
+
+        for (int i = 0; i < 10; i++) {
+            source.publish(1L, "line " + i);
+            // Let the fast viewer keep up with its small buffer
+            Thread.sleep(5);
+        }
+
+        assertThat(fastDone.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(fastLines).hasSize(10);
+        assertThat(slow.getDropped()).isPositive();
+        release.countDown();
+    }
+
+    @Test
+    void disconnectPolicyRemovesViewerAndClosesSubscription() {
+        LocalTranscriptSource source = new LocalTranscriptSource();
+        TranscriptHub hub = new TranscriptHub(source, 2, OverflowPolicy.DISCONNECT);
+
+        CountDownLatch never = new CountDownLatch(1);
+        ViewerChannel viewer = hub.join(7L, new RecordingSink(new CopyOnWriteArrayList<>(), null, never));
+        assertThat(source.hasSubscribers(7L)).isTrue();
+
+        for (int i = 0; i < 5; i++) {
+            source.publish(7L, "line " + i);
+        }
+
+        assertThat(viewer.isClosed()).isTrue();
+        assertThat(hub.getViewerCount(7L)).isZero();
+        assertThat(source.hasSubscribers(7L)).isFalse();
+        never.countDown();
+    }
+
+    private record RecordingSink(List<String> lines, CountDownLatch received, CountDownLatch gate)
+            implements ViewerSink {
+
+        @Override
+        public void send(String line) {
+            if (gate != null) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            lines.add(line);
+            if (received != null) {
+                received.countDown();
+            }
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}